@@ -0,0 +1,145 @@
+package net.coderodde.graph.benchmark;
+
+import net.coderodde.graph.pathfinding.AbstractPathfinder;
+import net.coderodde.graph.pathfinding.HeuristicFunction;
+import net.coderodde.graph.pathfinding.support.AStarPathfinder;
+import net.coderodde.graph.pathfinding.support.BidirectionalDijkstraPathfinder;
+import net.coderodde.graph.pathfinding.support.DenseEuclideanHeuristicFunction;
+import net.coderodde.graph.pathfinding.support.DijkstraPathfinder;
+import net.coderodde.graph.pathfinding.support.EuclideanHeuristicFunction;
+import net.coderodde.graph.pathfinding.support.NBAStarPathfinder;
+import net.coderodde.graph.pathfinding.support.ParallelNBAStarPathfinder;
+import net.coderodde.graph.pathfinding.support.RandomThunderboltPathfinder;
+
+/**
+ * This enumeration lists the benchmarked pathfinders. Each constant builds 
+ * its pathfinder either on the hash-based graph with the default search 
+ * state and heap ({@code compact == false}), or on the compact graph with a
+ * dense search state, an indexed heap and a heuristic reading dense
+ * coordinates ({@code compact == true}).
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public enum Algorithm {
+
+    ASTAR {
+        @Override
+        public AbstractPathfinder create(BenchmarkGraph graph, 
+                                         boolean compact) {
+            HeuristicFunction hf = heuristicFunction(graph, compact);
+
+            if (!compact) {
+                return new AStarPathfinder(graph.getGraph(), 
+                                           graph.getWeightFunction(), 
+                                           hf);
+            }
+
+            AStarPathfinder finder = 
+                    new AStarPathfinder(graph.getCompactGraph(), hf);
+            finder.setDenseSearchState(true);
+            finder.setIndexedHeap(true);
+            return finder;
+        }
+    },
+
+    DIJKSTRA {
+        @Override
+        public AbstractPathfinder create(BenchmarkGraph graph, 
+                                         boolean compact) {
+            if (!compact) {
+                return new DijkstraPathfinder(graph.getGraph(), 
+                                              graph.getWeightFunction());
+            }
+
+            DijkstraPathfinder finder = 
+                    new DijkstraPathfinder(graph.getCompactGraph());
+            finder.setDenseSearchState(true);
+            finder.setIndexedHeap(true);
+            return finder;
+        }
+    },
+
+    BIDIRECTIONAL_DIJKSTRA {
+        @Override
+        public AbstractPathfinder create(BenchmarkGraph graph, 
+                                         boolean compact) {
+            if (!compact) {
+                return new BidirectionalDijkstraPathfinder(
+                        graph.getGraph(), 
+                        graph.getWeightFunction());
+            }
+
+            BidirectionalDijkstraPathfinder finder = 
+                    new BidirectionalDijkstraPathfinder(
+                            graph.getCompactGraph());
+            finder.setDenseSearchState(true);
+            finder.setIndexedHeap(true);
+            return finder;
+        }
+    },
+
+    NBASTAR {
+        @Override
+        public AbstractPathfinder create(BenchmarkGraph graph, 
+                                         boolean compact) {
+            HeuristicFunction hf = heuristicFunction(graph, compact);
+
+            if (!compact) {
+                return new NBAStarPathfinder(graph.getGraph(), 
+                                             graph.getWeightFunction(), 
+                                             hf);
+            }
+
+            NBAStarPathfinder finder = 
+                    new NBAStarPathfinder(graph.getCompactGraph(), hf);
+            finder.setDenseSearchState(true);
+            finder.setIndexedHeap(true);
+            return finder;
+        }
+    },
+
+    PARALLEL_NBASTAR {
+        @Override
+        public AbstractPathfinder create(BenchmarkGraph graph, 
+                                         boolean compact) {
+            HeuristicFunction hf = heuristicFunction(graph, compact);
+            return compact ?
+                    new ParallelNBAStarPathfinder(graph.getCompactGraph(), hf) :
+                    new ParallelNBAStarPathfinder(graph.getGraph(),
+                                                  graph.getWeightFunction(),
+                                                  hf);
+        }
+    },
+
+    THUNDERBOLT {
+        @Override
+        public AbstractPathfinder create(BenchmarkGraph graph, 
+                                         boolean compact) {
+            HeuristicFunction hf = heuristicFunction(graph, compact);
+            return compact ? 
+                    new RandomThunderboltPathfinder(graph.getCompactGraph(),
+                                                    hf) :
+                    new RandomThunderboltPathfinder(graph.getGraph(), hf);
+        }
+    };
+
+    /**
+     * Creates the pathfinder of this constant.
+     * 
+     * @param graph   the graph to search.
+     * @param compact whether to run on the compact, primitive backend.
+     * @return a pathfinder.
+     */
+    public abstract AbstractPathfinder create(BenchmarkGraph graph,
+                                              boolean compact);
+
+    private static HeuristicFunction heuristicFunction(BenchmarkGraph graph,
+                                                       boolean compact) {
+        return compact ?
+               new DenseEuclideanHeuristicFunction(
+                       graph.getDenseCoordinates()) :
+               new EuclideanHeuristicFunction(graph.getCoordinates());
+    }
+}
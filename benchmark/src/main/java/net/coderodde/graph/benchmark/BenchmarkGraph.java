@@ -0,0 +1,75 @@
+package net.coderodde.graph.benchmark;
+
+import java.awt.geom.Point2D;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.DirectedGraph;
+import net.coderodde.graph.DirectedGraphWeightFunction;
+import net.coderodde.graph.pathfinding.DenseNodeCoordinates;
+import net.coderodde.graph.pathfinding.DirectedGraphNodeCoordinates;
+
+/**
+ * This class bundles a benchmark graph with its weights, node coordinates and
+ * compact copies of both.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class BenchmarkGraph {
+
+    private final DirectedGraph graph = new DirectedGraph();
+    private final DirectedGraphWeightFunction weightFunction = 
+            new DirectedGraphWeightFunction();
+    private final DirectedGraphNodeCoordinates coordinates = 
+            new DirectedGraphNodeCoordinates();
+    private CompactDirectedGraph compactGraph;
+    private DenseNodeCoordinates denseCoordinates;
+
+    void addNode(int nodeId, double x, double y) {
+        graph.addNode(nodeId);
+        coordinates.put(nodeId, new Point2D.Double(x, y));
+    }
+
+    /**
+     * Adds the arc <tt>(tailNodeId, headNodeId)</tt> weighing 
+     * {@code stretch} times the Euclidean distance of its end nodes. Keeping
+     * {@code stretch >= 1.0} keeps the Euclidean heuristic admissible.
+     */
+    void addArc(int tailNodeId, int headNodeId, double stretch) {
+        graph.addArc(tailNodeId, headNodeId);
+        weightFunction.put(tailNodeId, 
+                           headNodeId,
+                           stretch * coordinates.get(tailNodeId)
+                                                .distance(coordinates.get(
+                                                        headNodeId)));
+    }
+
+    void freeze() {
+        compactGraph = CompactDirectedGraph.freeze(graph, weightFunction);
+        denseCoordinates = DenseNodeCoordinates.copyOf(graph, coordinates);
+    }
+
+    public DirectedGraph getGraph() {
+        return graph;
+    }
+
+    public DirectedGraphWeightFunction getWeightFunction() {
+        return weightFunction;
+    }
+
+    public DirectedGraphNodeCoordinates getCoordinates() {
+        return coordinates;
+    }
+
+    public CompactDirectedGraph getCompactGraph() {
+        return compactGraph;
+    }
+
+    public DenseNodeCoordinates getDenseCoordinates() {
+        return denseCoordinates;
+    }
+
+    public int getNumberOfNodes() {
+        return graph.getNodeList().size();
+    }
+}
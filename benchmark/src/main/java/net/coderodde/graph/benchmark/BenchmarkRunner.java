@@ -0,0 +1,33 @@
+package net.coderodde.graph.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * This class runs the benchmarks with the GC profiler attached, so that the
+ * allocation rate is reported next to throughput and average latency. Any 
+ * regular JMH command line options are honored, for example
+ * <tt>-p graphFamily=GRID -p nodes=10000 -rf json</tt>.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class BenchmarkRunner {
+
+    public static void main(String[] args) 
+            throws CommandLineOptionException, RunnerException {
+        Options options = 
+                new OptionsBuilder()
+                        .parent(new CommandLineOptions(args))
+                        .addProfiler(GCProfiler.class)
+                        .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,181 @@
+package net.coderodde.graph.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * This enumeration lists the graph families the benchmarks run on.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public enum GraphFamily {
+
+    /**
+     * The random graph of {@code Demo}: uniformly random points and 3.5 
+     * uniformly random arcs per node weighing 1.1 times their length.
+     */
+    RANDOM {
+        @Override
+        public BenchmarkGraph create(int nodes, Random random) {
+            BenchmarkGraph graph = new BenchmarkGraph();
+
+            for (int id = 0; id < nodes; ++id) {
+                graph.addNode(id,
+                              WIDTH * random.nextDouble(), 
+                              WIDTH * random.nextDouble());
+            }
+
+            for (int i = 0; i < 7 * nodes / 2; ++i) {
+                graph.addArc(random.nextInt(nodes), 
+                             random.nextInt(nodes),
+                             1.1);
+            }
+
+            graph.freeze();
+            return graph;
+        }
+    },
+
+    /**
+     * A square 4-connected grid with arcs in both directions, each arc 
+     * weighing between 1.0 and 1.2 times its length.
+     */
+    GRID {
+        @Override
+        public BenchmarkGraph create(int nodes, Random random) {
+            BenchmarkGraph graph = new BenchmarkGraph();
+            int width = Math.max(1, (int) Math.sqrt(nodes));
+
+            for (int y = 0; y < width; ++y) {
+                for (int x = 0; x < width; ++x) {
+                    graph.addNode(y * width + x, x, y);
+                }
+            }
+
+            for (int y = 0; y < width; ++y) {
+                for (int x = 0; x < width; ++x) {
+                    int nodeId = y * width + x;
+
+                    if (x + 1 < width) {
+                        addEdge(graph, nodeId, nodeId + 1, random);
+                    }
+
+                    if (y + 1 < width) {
+                        addEdge(graph, nodeId, nodeId + width, random);
+                    }
+                }
+            }
+
+            graph.freeze();
+            return graph;
+        }
+    },
+
+    /**
+     * A road-like random geometric graph: each node is connected in both
+     * directions to its nearest neighbors, found via a bucket grid.
+     */
+    GEOMETRIC {
+        @Override
+        public BenchmarkGraph create(int nodes, Random random) {
+            BenchmarkGraph graph = new BenchmarkGraph();
+            double[] xs = new double[nodes];
+            double[] ys = new double[nodes];
+            int buckets = Math.max(1, (int) Math.sqrt(nodes / 2));
+            List<List<Integer>> bucketGrid = new ArrayList<>();
+
+            for (int i = 0; i < buckets * buckets; ++i) {
+                bucketGrid.add(new ArrayList<>());
+            }
+
+            for (int id = 0; id < nodes; ++id) {
+                xs[id] = WIDTH * random.nextDouble();
+                ys[id] = WIDTH * random.nextDouble();
+                graph.addNode(id, xs[id], ys[id]);
+                bucketGrid.get(bucketOf(xs[id], buckets) * buckets + 
+                               bucketOf(ys[id], buckets)).add(id);
+            }
+
+            for (int id = 0; id < nodes; ++id) {
+                int bx = bucketOf(xs[id], buckets);
+                int by = bucketOf(ys[id], buckets);
+                int[] nearest = new int[NEIGHBORS];
+                double[] nearestDistance = new double[NEIGHBORS];
+                int found = 0;
+
+                for (int i = 0; i < NEIGHBORS; ++i) {
+                    nearestDistance[i] = Double.POSITIVE_INFINITY;
+                }
+
+                for (int x = Math.max(0, bx - 1); 
+                        x <= Math.min(buckets - 1, bx + 1); 
+                        ++x) {
+                    for (int y = Math.max(0, by - 1); 
+                            y <= Math.min(buckets - 1, by + 1);
+                            ++y) {
+                        for (Integer otherId : bucketGrid.get(x * buckets + y)) {
+                            if (otherId == id) {
+                                continue;
+                            }
+
+                            double dx = xs[id] - xs[otherId];
+                            double dy = ys[id] - ys[otherId];
+                            double distance = dx * dx + dy * dy;
+                            int slot = NEIGHBORS - 1;
+
+                            if (distance >= nearestDistance[slot]) {
+                                continue;
+                            }
+
+                            while (slot > 0 && 
+                                    nearestDistance[slot - 1] > distance) {
+                                nearestDistance[slot] = 
+                                        nearestDistance[slot - 1];
+                                nearest[slot] = nearest[slot - 1];
+                                slot--;
+                            }
+
+                            nearestDistance[slot] = distance;
+                            nearest[slot] = otherId;
+                            found = Math.min(NEIGHBORS, found + 1);
+                        }
+                    }
+                }
+
+                for (int i = 0; i < found; ++i) {
+                    addEdge(graph, id, nearest[i], random);
+                }
+            }
+
+            graph.freeze();
+            return graph;
+        }
+    };
+
+    private static final double WIDTH = 1000.0;
+    private static final int NEIGHBORS = 3;
+
+    /**
+     * Creates a graph of this family with about {@code nodes} nodes.
+     * 
+     * @param nodes  the requested number of nodes.
+     * @param random the random number generator.
+     * @return a benchmark graph.
+     */
+    public abstract BenchmarkGraph create(int nodes, Random random);
+
+    private static void addEdge(BenchmarkGraph graph,
+                                int nodeId1,
+                                int nodeId2,
+                                Random random) {
+        graph.addArc(nodeId1, nodeId2, 1.0 + 0.2 * random.nextDouble());
+        graph.addArc(nodeId2, nodeId1, 1.0 + 0.2 * random.nextDouble());
+    }
+
+    private static int bucketOf(double coordinate, int buckets) {
+        return Math.min(buckets - 1, (int) (coordinate / WIDTH * buckets));
+    }
+}
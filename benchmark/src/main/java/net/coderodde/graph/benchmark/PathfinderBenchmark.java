@@ -0,0 +1,84 @@
+package net.coderodde.graph.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.coderodde.graph.pathfinding.AbstractPathfinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks a single point-to-point query of every pathfinder on
+ * every graph family. Each invocation answers the next query from a fixed, 
+ * seeded set of random source/target pairs.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PathfinderBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({"RANDOM", "GRID", "GEOMETRIC"})
+    private GraphFamily graphFamily;
+
+    @Param({"10000", "100000"})
+    private int nodes;
+
+    @Param({"ASTAR", 
+            "DIJKSTRA", 
+            "BIDIRECTIONAL_DIJKSTRA", 
+            "NBASTAR", 
+            "PARALLEL_NBASTAR",
+            "THUNDERBOLT"})
+    private Algorithm algorithm;
+
+    @Param({"false", "true"})
+    private boolean compact;
+
+    @Param({"13"})
+    private long seed;
+
+    private AbstractPathfinder pathfinder;
+    private int[] sourceNodeIds;
+    private int[] targetNodeIds;
+    private int queryIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(seed);
+        BenchmarkGraph graph = graphFamily.create(nodes, random);
+        int graphNodes = graph.getNumberOfNodes();
+        pathfinder = algorithm.create(graph, compact);
+        sourceNodeIds = new int[QUERIES];
+        targetNodeIds = new int[QUERIES];
+
+        for (int i = 0; i < QUERIES; ++i) {
+            sourceNodeIds[i] = random.nextInt(graphNodes);
+            targetNodeIds[i] = random.nextInt(graphNodes);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> search() {
+        int i = queryIndex++ & (QUERIES - 1);
+        return pathfinder.search(sourceNodeIds[i], targetNodeIds[i]);
+    }
+}
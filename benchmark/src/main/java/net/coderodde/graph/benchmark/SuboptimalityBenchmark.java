@@ -0,0 +1,187 @@
+package net.coderodde.graph.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.coderodde.graph.pathfinding.AbstractPathfinder;
+import net.coderodde.graph.pathfinding.SearchResult;
+import net.coderodde.graph.pathfinding.support.AStarPathfinder;
+import net.coderodde.graph.pathfinding.support.BidirectionalDijkstraPathfinder;
+import net.coderodde.graph.pathfinding.support.DijkstraPathfinder;
+import net.coderodde.graph.pathfinding.support.NBAStarPathfinder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks the {@code epsilon}-suboptimal modes. Next to the
+ * latency, each run reports the expanded nodes and the cost of the returned
+ * paths relative to the optimum as auxiliary counters, so that the expansions
+ * saved at each {@code epsilon} can be read off against the run with 
+ * <tt>epsilon=0.0</tt>.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SuboptimalityBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({"RANDOM", "GRID", "GEOMETRIC"})
+    private GraphFamily graphFamily;
+
+    @Param({"100000"})
+    private int nodes;
+
+    @Param({"ASTAR", "BIDIRECTIONAL_DIJKSTRA", "NBASTAR"})
+    private SuboptimalAlgorithm algorithm;
+
+    @Param({"0.0", "0.05", "0.1", "0.25", "0.5", "1.0"})
+    private double epsilon;
+
+    @Param({"13"})
+    private long seed;
+
+    /**
+     * This enumeration lists the benchmarked pathfinders that have an 
+     * {@code epsilon}-suboptimal mode.
+     */
+    public enum SuboptimalAlgorithm {
+
+        ASTAR {
+            @Override
+            AbstractPathfinder create(BenchmarkGraph graph, double epsilon) {
+                AStarPathfinder finder = 
+                        (AStarPathfinder) Algorithm.ASTAR.create(graph, true);
+                finder.setSuboptimality(epsilon);
+                return finder;
+            }
+        },
+
+        BIDIRECTIONAL_DIJKSTRA {
+            @Override
+            AbstractPathfinder create(BenchmarkGraph graph, double epsilon) {
+                BidirectionalDijkstraPathfinder finder = 
+                        (BidirectionalDijkstraPathfinder) 
+                        Algorithm.BIDIRECTIONAL_DIJKSTRA.create(graph, true);
+                finder.setSuboptimality(epsilon);
+                return finder;
+            }
+        },
+
+        NBASTAR {
+            @Override
+            AbstractPathfinder create(BenchmarkGraph graph, double epsilon) {
+                NBAStarPathfinder finder = 
+                        (NBAStarPathfinder) Algorithm.NBASTAR.create(graph, 
+                                                                     true);
+                finder.setSuboptimality(epsilon);
+                return finder;
+            }
+        };
+
+        /**
+         * Creates the pathfinder of this constant on the compact graph in its
+         * {@code epsilon}-suboptimal mode.
+         * 
+         * @param graph   the graph to search.
+         * @param epsilon the suboptimality bound.
+         * @return a pathfinder.
+         */
+        abstract AbstractPathfinder create(BenchmarkGraph graph, 
+                                           double epsilon);
+    }
+
+    private AbstractPathfinder pathfinder;
+    private int[] sourceNodeIds;
+    private int[] targetNodeIds;
+    private double[] optimalCosts;
+    private int queryIndex;
+
+    /**
+     * The counters of each iteration. JMH reports the total of each public 
+     * field; divide by {@link #queries} for the per-query averages.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+
+        /**
+         * The number of answered queries.
+         */
+        public long queries;
+
+        /**
+         * The number of expanded nodes.
+         */
+        public long expandedNodes;
+
+        /**
+         * The cost of the returned path divided by the optimum.
+         */
+        public double costRatio;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            queries = 0L;
+            expandedNodes = 0L;
+            costRatio = 0.0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(seed);
+        BenchmarkGraph graph = graphFamily.create(nodes, random);
+        int graphNodes = graph.getNumberOfNodes();
+        pathfinder = algorithm.create(graph, epsilon);
+        pathfinder.setStatisticsEnabled(true);
+        DijkstraPathfinder dijkstra = 
+                (DijkstraPathfinder) Algorithm.DIJKSTRA.create(graph, true);
+        sourceNodeIds = new int[QUERIES];
+        targetNodeIds = new int[QUERIES];
+        optimalCosts = new double[QUERIES];
+
+        for (int i = 0; i < QUERIES; ++i) {
+            sourceNodeIds[i] = random.nextInt(graphNodes);
+            targetNodeIds[i] = random.nextInt(graphNodes);
+            optimalCosts[i] = 
+                    dijkstra.searchWithResult(sourceNodeIds[i], 
+                                              targetNodeIds[i]).getCost();
+        }
+    }
+
+    @Benchmark
+    public SearchResult search(Counters counters) {
+        int i = queryIndex++ & (QUERIES - 1);
+        SearchResult result = 
+                pathfinder.searchWithResult(sourceNodeIds[i], 
+                                            targetNodeIds[i]);
+        counters.queries++;
+        counters.expandedNodes += result.getStatistics().getExpandedNodes();
+
+        // A query without a path, or with a zero-cost path, is answered 
+        // optimally:
+        counters.costRatio += result.hasPath() && optimalCosts[i] > 0.0 ?
+                              result.getCost() / optimalCosts[i] :
+                              1.0;
+
+        return result;
+    }
+}
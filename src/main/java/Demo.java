@@ -2,6 +2,7 @@ import java.awt.geom.Point2D;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 //import javafx.application.Application;
 //import javafx.stage.Stage;
 import net.coderodde.graph.DirectedGraph;
@@ -9,12 +10,14 @@ import net.coderodde.graph.DirectedGraphWeightFunction;
 import net.coderodde.graph.pathfinding.AbstractPathfinder;
 import net.coderodde.graph.pathfinding.DirectedGraphNodeCoordinates;
 import net.coderodde.graph.pathfinding.HeuristicFunction;
+import net.coderodde.graph.pathfinding.SearchResult;
 import net.coderodde.graph.pathfinding.support.AStarPathfinder;
 import net.coderodde.graph.pathfinding.support.BidirectionalDijkstraPathfinder;
 import net.coderodde.graph.pathfinding.support.DijkstraPathfinder;
 import net.coderodde.graph.pathfinding.support.EuclideanHeuristicFunction;
 import net.coderodde.graph.pathfinding.support.NBAStarPathfinder;
 import net.coderodde.graph.pathfinding.support.RandomThunderboltPathfinder;
+import net.coderodde.graph.pathfinding.support.ThunderboltPortfolioPathfinder;
 
 public final class Demo /*extends Application*/ {
 
@@ -72,9 +75,16 @@ public final class Demo /*extends Application*/ {
         
         AbstractPathfinder finder5 = new RandomThunderboltPathfinder(graph, hf);
         
+        ThunderboltPortfolioPathfinder finder6 = 
+                new ThunderboltPortfolioPathfinder(graph, weightFunction, hf);
+        
+        finder6.setTimeBudget(50L, TimeUnit.MILLISECONDS);
+        
         start = System.currentTimeMillis();
-        List<Integer> path1 = finder1.search(sourceNodeId, targetNodeId);
+        SearchResult result1 = finder1.searchWithResult(sourceNodeId,
+                                                        targetNodeId);
         end = System.currentTimeMillis();
+        List<Integer> path1 = result1.getPath();
 
         System.out.println("A* in " + (end - start) + " milliseconds.");
 
@@ -82,16 +92,20 @@ public final class Demo /*extends Application*/ {
         System.out.println();
 
         start = System.currentTimeMillis();
-        List<Integer> path2 = finder2.search(sourceNodeId, targetNodeId);
+        SearchResult result2 = finder2.searchWithResult(sourceNodeId,
+                                                        targetNodeId);
         end = System.currentTimeMillis();
+        List<Integer> path2 = result2.getPath();
 
         System.out.println("Dijkstra in " + (end - start) + " milliseconds.");
         path2.forEach(System.out::println);
         System.out.println();
 
         start = System.currentTimeMillis();
-        List<Integer> path3 = finder3.search(sourceNodeId, targetNodeId);
+        SearchResult result3 = finder3.searchWithResult(sourceNodeId,
+                                                        targetNodeId);
         end = System.currentTimeMillis();
+        List<Integer> path3 = result3.getPath();
 
         System.out.println("Bidirectional Dijkstra in " 
                 + (end - start)
@@ -101,8 +115,10 @@ public final class Demo /*extends Application*/ {
         System.out.println();
         
         start = System.currentTimeMillis();
-        List<Integer> path4 = finder4.search(sourceNodeId, targetNodeId);
+        SearchResult result4 = finder4.searchWithResult(sourceNodeId,
+                                                        targetNodeId);
         end = System.currentTimeMillis();
+        List<Integer> path4 = result4.getPath();
 
         System.out.println("NBA* in " 
                 + (end - start)
@@ -135,10 +151,11 @@ public final class Demo /*extends Application*/ {
             return;
         }
         
-        double optimalPathLength = getPathLength(path1, weightFunction);
+        double optimalPathLength = result1.getCost();
         
         System.out.println("Optimal path length: " + optimalPathLength);
         
+        // Thunderbolt does not see the arc weights, so compute its cost here:
         double thunderboltPathLength = getPathLength(path5, weightFunction);
         
         System.out.println("Thunderbolt path length: " + thunderboltPathLength);
@@ -146,6 +163,22 @@ public final class Demo /*extends Application*/ {
         double pathLengthRatio = thunderboltPathLength / optimalPathLength;
         
         System.out.println("Path length ratio: " + pathLengthRatio);
+        
+        start = System.currentTimeMillis();
+        SearchResult result6 = finder6.searchWithResult(sourceNodeId, 
+                                                        targetNodeId);
+        end = System.currentTimeMillis();
+        
+        System.out.println("Thunderbolt portfolio in " 
+                + (end - start)
+                + " milliseconds.");
+        
+        if (!result6.hasPath()) {
+            System.out.println("Thunderbolt portfolio did not find a path.");
+        } else {
+            System.out.println("Thunderbolt portfolio path length ratio: " + 
+                               result6.getCost() / optimalPathLength);
+        }
     }
 
     private static DirectedGraph getRandomGraph(int nodes, 
@@ -5,8 +5,16 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import net.coderodde.graph.ArcCursor;
 import net.coderodde.graph.DirectedGraph;
+import net.coderodde.graph.DirectedGraphView;
 import net.coderodde.graph.DirectedGraphWeightFunction;
+import net.coderodde.graph.WeightedDirectedGraph;
 
 /**
  * This abstract class defines some facilities shared by pathfinding algorithms
@@ -41,6 +49,63 @@ public abstract class AbstractPathfinder {
         }
     }
 
+    /**
+     * The number of expansions between two checks for cancellation and 
+     * deadline expiration of an asynchronous search.
+     */
+    public static final int ABORT_CHECK_INTERVAL = 256;
+
+    /**
+     * The asynchronous search the current thread runs, or {@code null}. Kept
+     * in a thread-local variable so that the checks reach the pathfinders a
+     * decorator delegates to.
+     */
+    private static final ThreadLocal<AsyncSearch> CURRENT_ASYNC_SEARCH = 
+            new ThreadLocal<>();
+
+    /**
+     * This class holds the cancellation flag and the deadline of an 
+     * asynchronous search.
+     */
+    private static final class AsyncSearch {
+
+        private final long deadlineNanos;
+        private final boolean hasDeadline;
+        private volatile boolean cancelled;
+
+        AsyncSearch(long deadlineNanos, boolean hasDeadline) {
+            this.deadlineNanos = deadlineNanos;
+            this.hasDeadline = hasDeadline;
+        }
+
+        void check() {
+            if (cancelled) {
+                throw new SearchAbortedException(false);
+            }
+
+            if (hasDeadline && System.nanoTime() - deadlineNanos >= 0L) {
+                throw new SearchAbortedException(true);
+            }
+        }
+    }
+
+    /**
+     * Unwinds an aborted search. Carries no stack trace, since it is thrown
+     * as a means of control flow.
+     */
+    private static final class SearchAbortedException 
+            extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final boolean timedOut;
+
+        SearchAbortedException(boolean timedOut) {
+            super(null, null, false, false);
+            this.timedOut = timedOut;
+        }
+    }
+
     /**
      * The graph to search in.
      */
@@ -51,17 +116,83 @@ public abstract class AbstractPathfinder {
      */
     protected final DirectedGraphWeightFunction weightFunction;
 
+    /**
+     * The graph view the search loops read arcs and weights from. When this
+     * pathfinder is constructed from a {@link DirectedGraph}, this is a view
+     * of {@code graph} and {@code weightFunction}.
+     */
+    protected final WeightedDirectedGraph weightedGraph;
+
+    /**
+     * The cursor over outgoing arcs of {@code weightedGraph}.
+     */
+    protected final ArcCursor childCursor;
+
+    /**
+     * The cursor over incoming arcs of {@code weightedGraph}.
+     */
+    protected final ArcCursor parentCursor;
+
+    /**
+     * The statistics of the current search, or {@code null} if statistics 
+     * are disabled. Subclasses update it as 
+     * {@code if (statistics != null) statistics.incrementHeapPops();}.
+     */
+    protected SearchStatistics statistics;
+
+    /**
+     * The cost of the path the last call to {@link #search(int, int)} 
+     * returned. Subclasses that know the cost set it before returning; 
+     * otherwise it stays {@code NaN} and the cost is recomputed from the 
+     * path.
+     */
+    protected double pathCost = Double.NaN;
+
+    /**
+     * A proven lower bound on the cost of a shortest path of the last call to
+     * {@link #search(int, int)}. Subclasses that may return a suboptimal path
+     * or give up early set it before returning; otherwise it stays 
+     * {@code NaN}, which means that the returned path is optimal.
+     */
+    protected double pathLowerBound = Double.NaN;
+
+    /**
+     * The number of expansions left until the next abort check.
+     */
+    private int expansionsUntilAbortCheck = ABORT_CHECK_INTERVAL;
+
+    /**
+     * The reachability index of {@code weightedGraph}, or {@code null}.
+     */
+    private ReachabilityIndex reachabilityIndex;
+
     protected AbstractPathfinder(DirectedGraph graph,
                                  DirectedGraphWeightFunction weightFunction) {
         this.graph = Objects.requireNonNull(graph, "The input graph is null.");
         this.weightFunction =
                 Objects.requireNonNull(weightFunction,
                                        "The input weight function is null.");
+        this.weightedGraph = new DirectedGraphView(graph, weightFunction);
+        this.childCursor = weightedGraph.newChildCursor();
+        this.parentCursor = weightedGraph.newParentCursor();
+    }
+
+    protected AbstractPathfinder(WeightedDirectedGraph weightedGraph) {
+        this.graph = null;
+        this.weightFunction = null;
+        this.weightedGraph = 
+                Objects.requireNonNull(weightedGraph, 
+                                       "The input graph is null.");
+        this.childCursor = weightedGraph.newChildCursor();
+        this.parentCursor = weightedGraph.newParentCursor();
     }
 
     protected AbstractPathfinder() {
         this.graph = null;
         this.weightFunction = null; // Compiler requires this initialization.
+        this.weightedGraph = null;
+        this.childCursor = null;
+        this.parentCursor = null;
     }
 
     /**
@@ -76,6 +207,270 @@ public abstract class AbstractPathfinder {
      */
     public abstract List<Integer> search(int sourceNodeId, int targetNodeId);
 
+    /**
+     * Searches a shortest path like {@link #search(int, int)} and returns it 
+     * together with its cost and, if enabled, the search statistics.
+     * 
+     * @param sourceNodeId the source node.
+     * @param targetNodeId the target node.
+     * @return the search result.
+     */
+    public SearchResult searchWithResult(int sourceNodeId, int targetNodeId) {
+        SearchStatistics currentStatistics = statistics;
+        long startTime = 0L;
+
+        if (currentStatistics != null) {
+            currentStatistics.reset();
+            startTime = System.nanoTime();
+        }
+
+        pathCost = Double.NaN;
+        pathLowerBound = Double.NaN;
+        List<Integer> path = search(sourceNodeId, targetNodeId);
+        double cost;
+
+        if (path.isEmpty()) {
+            cost = Double.POSITIVE_INFINITY;
+        } else if (Double.isNaN(pathCost)) {
+            cost = computePathCost(path);
+        } else {
+            cost = pathCost;
+        }
+
+        double lowerBound = Double.isNaN(pathLowerBound) ? 
+                            cost : 
+                            pathLowerBound;
+
+        if (currentStatistics == null) {
+            return new SearchResult(path, cost, lowerBound, null);
+        }
+
+        currentStatistics.setDurationNanos(System.nanoTime() - startTime);
+        return new SearchResult(path, 
+                                cost,
+                                lowerBound,
+                                currentStatistics.copy());
+    }
+
+    /**
+     * Starts searching a shortest path in {@code executor} and returns a 
+     * future of the result. Cancelling the future stops the search within
+     * {@link #ABORT_CHECK_INTERVAL} expansions and frees the worker thread.
+     * On JDK 21 and later, a virtual-thread-per-task executor keeps blocked 
+     * searches from pinning platform threads.
+     * <p>
+     * This pathfinder is not thread-safe: do not start another search on it 
+     * before the returned future completes. Use a {@link PathfinderPool} for
+     * serving concurrent queries.
+     * 
+     * @param sourceNodeId the source node.
+     * @param targetNodeId the target node.
+     * @param executor     the executor to search in.
+     * @return the future of the search result.
+     */
+    public CompletableFuture<SearchResult> searchAsync(int sourceNodeId,
+                                                       int targetNodeId,
+                                                       Executor executor) {
+        return runAsync(() -> searchWithResult(sourceNodeId, targetNodeId),
+                        executor,
+                        0L,
+                        null);
+    }
+
+    /**
+     * Starts searching a shortest path like 
+     * {@link #searchAsync(int, int, Executor)}, giving up if the search does 
+     * not finish within {@code timeout} since this call. A search still 
+     * waiting in the executor queue at the deadline gives up as soon as it 
+     * starts. A search that gives up completes the future exceptionally with
+     * a {@link TimeoutException}.
+     * 
+     * @param sourceNodeId the source node.
+     * @param targetNodeId the target node.
+     * @param executor     the executor to search in.
+     * @param timeout      the time limit.
+     * @param unit         the unit of {@code timeout}.
+     * @return the future of the search result.
+     */
+    public CompletableFuture<SearchResult> searchAsync(int sourceNodeId,
+                                                       int targetNodeId,
+                                                       Executor executor,
+                                                       long timeout,
+                                                       TimeUnit unit) {
+        Objects.requireNonNull(unit, "The input time unit is null.");
+        return runAsync(() -> searchWithResult(sourceNodeId, targetNodeId),
+                        executor,
+                        timeout,
+                        unit);
+    }
+
+    /**
+     * Runs {@code search} in {@code executor} as an asynchronous search that
+     * may be cancelled via the returned future and, if {@code unit} is not 
+     * {@code null}, expires after {@code timeout}.
+     */
+    static CompletableFuture<SearchResult> 
+        runAsync(Supplier<SearchResult> search,
+                 Executor executor,
+                 long timeout,
+                 TimeUnit unit) {
+        Objects.requireNonNull(executor, "The input executor is null.");
+        AsyncSearch asyncSearch = 
+                unit == null ?
+                new AsyncSearch(0L, false) :
+                new AsyncSearch(System.nanoTime() + unit.toNanos(timeout), 
+                                true);
+
+        CompletableFuture<SearchResult> future = 
+                new CompletableFuture<SearchResult>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                asyncSearch.cancelled = true;
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+
+        Runnable task = () -> {
+            if (future.isDone()) {
+                return;
+            }
+
+            AsyncSearch previousAsyncSearch = CURRENT_ASYNC_SEARCH.get();
+            CURRENT_ASYNC_SEARCH.set(asyncSearch);
+
+            try {
+                asyncSearch.check();
+                future.complete(search.get());
+            } catch (SearchAbortedException ex) {
+                if (ex.timedOut) {
+                    future.completeExceptionally(
+                            new TimeoutException(
+                                    "The search did not finish in time."));
+                } else {
+                    future.cancel(false);
+                }
+            } catch (Throwable ex) {
+                future.completeExceptionally(ex);
+            } finally {
+                CURRENT_ASYNC_SEARCH.set(previousAsyncSearch);
+            }
+        };
+
+        try {
+            executor.execute(task);
+        } catch (RuntimeException ex) {
+            future.completeExceptionally(ex);
+        }
+
+        return future;
+    }
+
+    /**
+     * Checks whether the asynchronous search running in the current thread, 
+     * if any, is cancelled or past its deadline, and if so, unwinds the 
+     * search. Only every {@link #ABORT_CHECK_INTERVAL}th call actually 
+     * checks, so the search loops call this once per expansion.
+     */
+    protected final void checkAborted() {
+        if (--expansionsUntilAbortCheck > 0) {
+            return;
+        }
+
+        expansionsUntilAbortCheck = ABORT_CHECK_INTERVAL;
+        AsyncSearch asyncSearch = CURRENT_ASYNC_SEARCH.get();
+
+        if (asyncSearch != null) {
+            asyncSearch.check();
+        }
+    }
+
+    /**
+     * Returns the cancellation and deadline check of the asynchronous search
+     * running in the current thread, for the worker threads of a parallel
+     * search to call. Unlike {@link #checkAborted()}, the returned check 
+     * checks on every call, and unwinds the calling thread.
+     * 
+     * @return the check, which does nothing if no asynchronous search runs in
+     *         the current thread.
+     */
+    protected static Runnable captureAbortCheck() {
+        AsyncSearch asyncSearch = CURRENT_ASYNC_SEARCH.get();
+        return asyncSearch == null ? () -> {} : asyncSearch::check;
+    }
+
+    /**
+     * Enables or disables collecting the search statistics returned by 
+     * {@link #searchWithResult(int, int)}.
+     * 
+     * @param enabled whether to collect statistics.
+     */
+    public void setStatisticsEnabled(boolean enabled) {
+        statistics = enabled ? new SearchStatistics() : null;
+    }
+
+    /**
+     * Sets the reachability index the searches consult before exploring the
+     * graph. A search returns an empty path at once if the target is not
+     * reachable from the source, and may skip the nodes lying on no path 
+     * from the source to the target. The index must be built for the graph
+     * of this pathfinder; once the graph is modified, the index is ignored
+     * until a fresh one is set.
+     * 
+     * @param reachabilityIndex the reachability index, or {@code null} for
+     *                          none.
+     */
+    public void setReachabilityIndex(ReachabilityIndex reachabilityIndex) {
+        this.reachabilityIndex = reachabilityIndex;
+    }
+
+    /**
+     * Returns the reachability index set via 
+     * {@link #setReachabilityIndex(ReachabilityIndex)} if it is up to date
+     * with {@code weightedGraph}.
+     * 
+     * @return the reachability index, or {@code null} if there is no 
+     *         up-to-date index.
+     */
+    protected ReachabilityIndex getReachabilityIndex() {
+        ReachabilityIndex index = reachabilityIndex;
+
+        if (index == null ||
+                weightedGraph == null ||
+                index.getModificationCount() != 
+                weightedGraph.getModificationCount()) {
+            return null;
+        }
+
+        return index;
+    }
+
+    /**
+     * Computes the cost of {@code path}, taking the lightest arc between each
+     * two consecutive nodes.
+     * 
+     * @param path the path.
+     * @return the cost of the path.
+     */
+    protected double computePathCost(List<Integer> path) {
+        double cost = 0.0;
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            int headNodeId = path.get(i + 1);
+            double arcWeight = Double.POSITIVE_INFINITY;
+            childCursor.reset(path.get(i));
+
+            while (childCursor.next()) {
+                if (childCursor.getNode() == headNodeId) {
+                    arcWeight = Math.min(arcWeight, childCursor.getWeight());
+                }
+            }
+
+            cost += arcWeight;
+        }
+
+        return cost;
+    }
+
     /**
      * Reconstructs a shortest path from the data structures maintained by a 
      * <b>bidirectional</b> pathfinding algorithm.
@@ -122,4 +517,40 @@ public abstract class AbstractPathfinder {
                                           Map<Integer, Integer> PARENTS) {
         return tracebackPath(targetNodeId, PARENTS, null);
     }
-}
\ No newline at end of file
+
+    /**
+     * Reconstructs a shortest path from the search states of a 
+     * <b>bidirectional</b> pathfinding algorithm.
+     * 
+     * @param touchNodeId the node where the two search frontiers agree.
+     * @param stateA      the search state in the forward direction.
+     * @param stateB      the search state in the backward direction, or 
+     *                    {@code null} for a unidirectional search.
+     * @return the shortest path.
+     */
+    protected List<Integer> tracebackPath(int touchNodeId,
+                                          SearchState stateA,
+                                          SearchState stateB) {
+        List<Integer> path = new ArrayList<>();
+        int currentNodeId = touchNodeId;
+        path.add(currentNodeId);
+
+        while (stateA.hasParent(currentNodeId)) {
+            currentNodeId = stateA.getParent(currentNodeId);
+            path.add(currentNodeId);
+        }
+
+        Collections.<Integer>reverse(path);
+
+        if (stateB != null) {
+            currentNodeId = touchNodeId;
+
+            while (stateB.hasParent(currentNodeId)) {
+                currentNodeId = stateB.getParent(currentNodeId);
+                path.add(currentNodeId);
+            }
+        }
+
+        return path;
+    }
+}
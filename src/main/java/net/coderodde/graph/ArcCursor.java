@@ -0,0 +1,43 @@
+package net.coderodde.graph;
+
+/**
+ * This interface defines the API for iterating over the arcs incident to a 
+ * node without boxing. A cursor is positioned at a node via 
+ * {@link #reset(int)} and is then advanced arc by arc via {@link #next()}.
+ * A cursor is not thread-safe; each search should use its own cursors.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public interface ArcCursor {
+
+    /**
+     * Positions this cursor before the first arc of the node {@code nodeId}.
+     * 
+     * @param nodeId the node whose arcs to iterate.
+     */
+    public void reset(int nodeId);
+
+    /**
+     * Advances this cursor to the next arc.
+     * 
+     * @return {@code true} if there was a next arc, {@code false} otherwise.
+     */
+    public boolean next();
+
+    /**
+     * Returns the node at the opposite end of the current arc. For a child 
+     * cursor this is the head node, for a parent cursor the tail node.
+     * 
+     * @return the opposite node of the current arc.
+     */
+    public int getNode();
+
+    /**
+     * Returns the weight of the current arc.
+     * 
+     * @return the arc weight.
+     */
+    public double getWeight();
+}
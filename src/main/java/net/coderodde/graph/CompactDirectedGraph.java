@@ -0,0 +1,340 @@
+package net.coderodde.graph;
+
+import java.util.Objects;
+
+/**
+ * This class implements an immutable weighted directed graph in compressed 
+ * sparse row (CSR) form. The outgoing arcs of node {@code u} occupy the index
+ * range <tt>[childOffsets[u], childOffsets[u + 1])</tt> of the arrays 
+ * {@code childNodes} and {@code childWeights}; the incoming arcs are stored 
+ * in the same manner. Node IDs are used directly as array indices, so they 
+ * must be non-negative and should be dense.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class CompactDirectedGraph implements WeightedDirectedGraph {
+
+    private final int nodeIdBound;
+    private final long[] nodeBits;
+    private final int[] childOffsets;
+    private final int[] childNodes;
+    private final double[] childWeights;
+    private final int[] parentOffsets;
+    private final int[] parentNodes;
+    private final double[] parentWeights;
+
+    private CompactDirectedGraph(int nodeIdBound,
+                                 long[] nodeBits,
+                                 int[] tails,
+                                 int[] heads,
+                                 double[] weights,
+                                 int arcs) {
+        this.nodeIdBound = nodeIdBound;
+        this.nodeBits = nodeBits;
+        this.childOffsets  = new int[nodeIdBound + 1];
+        this.parentOffsets = new int[nodeIdBound + 1];
+        this.childNodes    = new int[arcs];
+        this.parentNodes   = new int[arcs];
+        this.childWeights  = new double[arcs];
+        this.parentWeights = new double[arcs];
+
+        for (int i = 0; i < arcs; ++i) {
+            childOffsets [tails[i] + 1]++;
+            parentOffsets[heads[i] + 1]++;
+        }
+
+        for (int i = 0; i < nodeIdBound; ++i) {
+            childOffsets [i + 1] += childOffsets [i];
+            parentOffsets[i + 1] += parentOffsets[i];
+        }
+
+        int[] childFill  = new int[nodeIdBound];
+        int[] parentFill = new int[nodeIdBound];
+
+        for (int i = 0; i < arcs; ++i) {
+            int tail = tails[i];
+            int head = heads[i];
+            int childIndex  = childOffsets [tail] + childFill [tail]++;
+            int parentIndex = parentOffsets[head] + parentFill[head]++;
+            childNodes   [childIndex]  = head;
+            childWeights [childIndex]  = weights[i];
+            parentNodes  [parentIndex] = tail;
+            parentWeights[parentIndex] = weights[i];
+        }
+    }
+
+    /**
+     * Freezes the current contents of {@code graph} and 
+     * {@code weightFunction} into a compact graph. Later modifications of the
+     * input structures are not reflected in the returned graph.
+     * 
+     * @param graph          the graph to freeze.
+     * @param weightFunction the weight function of the graph.
+     * @return a compact copy of the input graph.
+     */
+    public static CompactDirectedGraph 
+        freeze(DirectedGraph graph,
+               DirectedGraphWeightFunction weightFunction) {
+        Objects.requireNonNull(graph, "The input graph is null.");
+        Objects.requireNonNull(weightFunction,
+                               "The input weight function is null.");
+
+        int arcs = 0;
+
+        for (Integer nodeId : graph.getNodeList()) {
+            checkNodeId(nodeId);
+            arcs += graph.getChildrenOf(nodeId).size();
+        }
+
+        int nodeIdBound = graph.getNodeIdBound();
+        long[] nodeBits = new long[(nodeIdBound + 63) >>> 6];
+        int[] tails = new int[arcs];
+        int[] heads = new int[arcs];
+        double[] weights = new double[arcs];
+        int index = 0;
+
+        for (Integer nodeId : graph.getNodeList()) {
+            nodeBits[nodeId >>> 6] |= 1L << nodeId;
+
+            for (Integer childNodeId : graph.getChildrenOf(nodeId)) {
+                tails[index] = nodeId;
+                heads[index] = childNodeId;
+                weights[index] = weightFunction.get(nodeId, childNodeId);
+                checkWeight(weights[index]);
+                index++;
+            }
+        }
+
+        return new CompactDirectedGraph(nodeIdBound, 
+                                        nodeBits,
+                                        tails, 
+                                        heads, 
+                                        weights, 
+                                        arcs);
+    }
+
+    /**
+     * Freezes any weighted directed graph into a compact graph.
+     * 
+     * @param graph the graph to freeze.
+     * @return a compact copy of the input graph.
+     */
+    public static CompactDirectedGraph freeze(WeightedDirectedGraph graph) {
+        Objects.requireNonNull(graph, "The input graph is null.");
+
+        if (graph instanceof CompactDirectedGraph) {
+            return (CompactDirectedGraph) graph;
+        }
+
+        int nodeIdBound = graph.getNodeIdBound();
+        long[] nodeBits = new long[(nodeIdBound + 63) >>> 6];
+        ArcCursor cursor = graph.newChildCursor();
+        int arcs = 0;
+
+        for (int nodeId = 0; nodeId < nodeIdBound; ++nodeId) {
+            if (graph.containsNode(nodeId)) {
+                nodeBits[nodeId >>> 6] |= 1L << nodeId;
+                cursor.reset(nodeId);
+
+                while (cursor.next()) {
+                    arcs++;
+                }
+            }
+        }
+
+        int[] tails = new int[arcs];
+        int[] heads = new int[arcs];
+        double[] weights = new double[arcs];
+        int index = 0;
+
+        for (int nodeId = 0; nodeId < nodeIdBound; ++nodeId) {
+            if ((nodeBits[nodeId >>> 6] & (1L << nodeId)) != 0) {
+                cursor.reset(nodeId);
+
+                while (cursor.next()) {
+                    tails[index] = nodeId;
+                    heads[index] = cursor.getNode();
+                    weights[index] = cursor.getWeight();
+                    checkWeight(weights[index]);
+                    index++;
+                }
+            }
+        }
+
+        return new CompactDirectedGraph(nodeIdBound,
+                                        nodeBits,
+                                        tails,
+                                        heads,
+                                        weights,
+                                        arcs);
+    }
+
+    /**
+     * Builds a compact graph directly from parallel arc arrays. Every node ID 
+     * in <tt>[0, nodeIdBound)</tt> is considered present in the graph.
+     * 
+     * @param nodeIdBound the exclusive upper bound on the node IDs.
+     * @param tails       the tail nodes of the arcs.
+     * @param heads       the head nodes of the arcs.
+     * @param weights     the arc weights.
+     * @param arcs        the number of arcs to read from the arrays.
+     * @return a compact graph.
+     */
+    public static CompactDirectedGraph fromArcs(int nodeIdBound,
+                                                int[] tails,
+                                                int[] heads,
+                                                double[] weights,
+                                                int arcs) {
+        if (nodeIdBound < 0) {
+            throw new IllegalArgumentException(
+                    "The node ID bound is negative: " + nodeIdBound + ".");
+        }
+
+        for (int i = 0; i < arcs; ++i) {
+            checkArcNode(tails[i], nodeIdBound);
+            checkArcNode(heads[i], nodeIdBound);
+            checkWeight(weights[i]);
+        }
+
+        long[] nodeBits = new long[(nodeIdBound + 63) >>> 6];
+
+        for (int i = 0; i < nodeBits.length; ++i) {
+            nodeBits[i] = -1L;
+        }
+
+        return new CompactDirectedGraph(nodeIdBound,
+                                        nodeBits,
+                                        tails,
+                                        heads,
+                                        weights,
+                                        arcs);
+    }
+
+    @Override
+    public int getNodeIdBound() {
+        return nodeIdBound;
+    }
+
+    @Override
+    public boolean containsNode(int nodeId) {
+        return nodeId >= 0 
+                && nodeId < nodeIdBound 
+                && (nodeBits[nodeId >>> 6] & (1L << nodeId)) != 0;
+    }
+
+    /**
+     * Returns the total number of arcs in this graph.
+     * 
+     * @return the number of arcs.
+     */
+    public int getNumberOfArcs() {
+        return childNodes.length;
+    }
+
+    public int getChildArcBegin(int nodeId) {
+        return childOffsets[nodeId];
+    }
+
+    public int getChildArcEnd(int nodeId) {
+        return childOffsets[nodeId + 1];
+    }
+
+    public int getChildArcHead(int arcIndex) {
+        return childNodes[arcIndex];
+    }
+
+    public double getChildArcWeight(int arcIndex) {
+        return childWeights[arcIndex];
+    }
+
+    public int getParentArcBegin(int nodeId) {
+        return parentOffsets[nodeId];
+    }
+
+    public int getParentArcEnd(int nodeId) {
+        return parentOffsets[nodeId + 1];
+    }
+
+    public int getParentArcTail(int arcIndex) {
+        return parentNodes[arcIndex];
+    }
+
+    public double getParentArcWeight(int arcIndex) {
+        return parentWeights[arcIndex];
+    }
+
+    @Override
+    public ArcCursor newChildCursor() {
+        return new CompactArcCursor(childOffsets, childNodes, childWeights);
+    }
+
+    @Override
+    public ArcCursor newParentCursor() {
+        return new CompactArcCursor(parentOffsets, parentNodes, parentWeights);
+    }
+
+    private static void checkNodeId(int nodeId) {
+        if (nodeId < 0) {
+            throw new IllegalArgumentException(
+                    "Cannot freeze a graph with a negative node ID: " + 
+                    nodeId + ".");
+        }
+    }
+
+    private static void checkArcNode(int nodeId, int nodeIdBound) {
+        if (nodeId < 0 || nodeId >= nodeIdBound) {
+            throw new IllegalArgumentException(
+                    "The arc node " + nodeId + " is not within [0, " + 
+                    nodeIdBound + ").");
+        }
+    }
+
+    private static void checkWeight(double weight) {
+        if (Double.isNaN(weight)) {
+            throw new IllegalArgumentException("The input weight is NaN.");
+        }
+
+        if (weight < 0.0) {
+            throw new IllegalArgumentException(
+                    "The input weight is negative: " + weight + ".");
+        }
+    }
+
+    private static final class CompactArcCursor implements ArcCursor {
+
+        private final int[] offsets;
+        private final int[] nodes;
+        private final double[] weights;
+        private int arcIndex;
+        private int arcEnd;
+
+        CompactArcCursor(int[] offsets, int[] nodes, double[] weights) {
+            this.offsets = offsets;
+            this.nodes = nodes;
+            this.weights = weights;
+        }
+
+        @Override
+        public void reset(int nodeId) {
+            arcIndex = offsets[nodeId] - 1;
+            arcEnd = offsets[nodeId + 1];
+        }
+
+        @Override
+        public boolean next() {
+            return ++arcIndex < arcEnd;
+        }
+
+        @Override
+        public int getNode() {
+            return nodes[arcIndex];
+        }
+
+        @Override
+        public double getWeight() {
+            return weights[arcIndex];
+        }
+    }
+}
@@ -25,6 +25,16 @@ public class DirectedGraph {
      */
     private final Map<Integer, Set<Integer>> parentMap = new HashMap<>();
 
+    /**
+     * One plus the largest non-negative node ID ever added to this graph.
+     */
+    private int nodeIdBound;
+
+    /**
+     * The number of nodes and arcs added to this graph so far.
+     */
+    private volatile long modificationCount;
+
     /**
      * Adds a new node represented by integer {@code nodeId} to this graph if
      * it is not yet present in it.
@@ -32,8 +42,17 @@ public class DirectedGraph {
      * @param nodeId the node to add.
      */
     public void addNode(int nodeId) {
-        childMap .putIfAbsent(nodeId, new HashSet<>());
-        parentMap.putIfAbsent(nodeId, new HashSet<>());
+        if (childMap.containsKey(nodeId)) {
+            return;
+        }
+
+        childMap .put(nodeId, new HashSet<>());
+        parentMap.put(nodeId, new HashSet<>());
+        modificationCount++;
+
+        if (nodeId >= nodeIdBound) {
+            nodeIdBound = nodeId + 1;
+        }
     }
 
     /**
@@ -44,8 +63,41 @@ public class DirectedGraph {
      * @param headNodeId the head node of the arc.
      */
     public void addArc(int tailNodeId, int headNodeId) {
-        childMap .get(tailNodeId).add(headNodeId);
-        parentMap.get(headNodeId).add(tailNodeId);
+        if (childMap.get(tailNodeId).add(headNodeId)) {
+            parentMap.get(headNodeId).add(tailNodeId);
+            modificationCount++;
+        }
+    }
+
+    /**
+     * Returns an exclusive upper bound on the non-negative node IDs in this 
+     * graph.
+     * 
+     * @return the node ID bound.
+     */
+    public int getNodeIdBound() {
+        return nodeIdBound;
+    }
+
+    /**
+     * Returns the number of nodes and arcs added to this graph so far. The 
+     * count grows on each call to {@link #addNode(int)} or 
+     * {@link #addArc(int, int)} that changes this graph.
+     * 
+     * @return the modification count.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Checks whether the node {@code nodeId} is in this graph.
+     * 
+     * @param nodeId the node to query.
+     * @return {@code true} if the node is present.
+     */
+    public boolean containsNode(int nodeId) {
+        return childMap.containsKey(nodeId);
     }
 
     /**
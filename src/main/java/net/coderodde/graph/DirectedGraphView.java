@@ -0,0 +1,121 @@
+package net.coderodde.graph;
+
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * This class adapts a {@link DirectedGraph} and a 
+ * {@link DirectedGraphWeightFunction} to the {@link WeightedDirectedGraph} 
+ * API. The view is live: changes to the underlying graph are visible through
+ * it.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class DirectedGraphView implements WeightedDirectedGraph {
+
+    private final DirectedGraph graph;
+    private final DirectedGraphWeightFunction weightFunction;
+
+    public DirectedGraphView(DirectedGraph graph,
+                             DirectedGraphWeightFunction weightFunction) {
+        this.graph = Objects.requireNonNull(graph, "The input graph is null.");
+        this.weightFunction =
+                Objects.requireNonNull(weightFunction,
+                                       "The input weight function is null.");
+    }
+
+    /**
+     * Constructs an unweighted view. The cursors of an unweighted view report
+     * <tt>NaN</tt> as the weight of every arc.
+     * 
+     * @param graph the graph to view.
+     */
+    public DirectedGraphView(DirectedGraph graph) {
+        this.graph = Objects.requireNonNull(graph, "The input graph is null.");
+        this.weightFunction = null;
+    }
+
+    public DirectedGraph getGraph() {
+        return graph;
+    }
+
+    public DirectedGraphWeightFunction getWeightFunction() {
+        return weightFunction;
+    }
+
+    @Override
+    public int getNodeIdBound() {
+        return graph.getNodeIdBound();
+    }
+
+    @Override
+    public boolean containsNode(int nodeId) {
+        return graph.containsNode(nodeId);
+    }
+
+    @Override
+    public long getModificationCount() {
+        return weightFunction == null ? 
+               graph.getModificationCount() :
+               graph.getModificationCount() + 
+               weightFunction.getModificationCount();
+    }
+
+    @Override
+    public ArcCursor newChildCursor() {
+        return new MapArcCursor(true);
+    }
+
+    @Override
+    public ArcCursor newParentCursor() {
+        return new MapArcCursor(false);
+    }
+
+    private final class MapArcCursor implements ArcCursor {
+
+        private final boolean forward;
+        private Iterator<Integer> iterator;
+        private int nodeId;
+        private int currentNodeId;
+
+        MapArcCursor(boolean forward) {
+            this.forward = forward;
+        }
+
+        @Override
+        public void reset(int nodeId) {
+            this.nodeId = nodeId;
+            this.iterator = forward ? 
+                    graph.getChildrenOf(nodeId).iterator() :
+                    graph.getParentsOf(nodeId).iterator();
+        }
+
+        @Override
+        public boolean next() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+
+            currentNodeId = iterator.next();
+            return true;
+        }
+
+        @Override
+        public int getNode() {
+            return currentNodeId;
+        }
+
+        @Override
+        public double getWeight() {
+            if (weightFunction == null) {
+                return Double.NaN;
+            }
+
+            return forward ? 
+                    weightFunction.get(nodeId, currentNodeId) :
+                    weightFunction.get(currentNodeId, nodeId);
+        }
+    }
+}
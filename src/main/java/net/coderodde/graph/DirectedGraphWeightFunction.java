@@ -17,6 +17,11 @@ public class DirectedGraphWeightFunction {
      */
     private final Map<Integer, Map<Integer, Double>> map = new HashMap<>();
 
+    /**
+     * The number of weights set or changed so far.
+     */
+    private volatile long modificationCount;
+
     /**
      * Associates the weight {@code weight} with the arc 
      * <tt>(tailNodeId, headNodeId)</tt>.
@@ -28,7 +33,11 @@ public class DirectedGraphWeightFunction {
     public void put(int tailNodeId, int headNodeId, double weight) {
         checkWeight(weight);
         map.putIfAbsent(tailNodeId, new HashMap<>());
-        map.get(tailNodeId).put(headNodeId, weight);
+        Double previousWeight = map.get(tailNodeId).put(headNodeId, weight);
+
+        if (previousWeight == null || previousWeight != weight) {
+            modificationCount++;
+        }
     }
 
     /**
@@ -42,6 +51,16 @@ public class DirectedGraphWeightFunction {
         return map.get(tailNodeId).get(headNodeId);
     }
 
+    /**
+     * Returns the number of weights set or changed so far. Putting the same 
+     * weight again does not count.
+     * 
+     * @return the modification count.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     private void checkWeight(double weight) {
         if (Double.isNaN(weight)) {
             throw new IllegalArgumentException("The input weight is NaN.");
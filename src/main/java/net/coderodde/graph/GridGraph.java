@@ -0,0 +1,199 @@
+package net.coderodde.graph;
+
+/**
+ * This class implements an implicit, 8-connected grid graph. The cell
+ * <tt>(x, y)</tt> is the node <tt>y * width + x</tt>; the only stored data
+ * is a bitmap of the blocked cells, one bit per cell, and the arcs are
+ * computed on the fly. Each open cell has an arc of weight 1 to each open
+ * horizontal and vertical neighbor, and an arc of weight
+ * {@link #DIAGONAL_WEIGHT} to each open diagonal neighbor whose two adjacent
+ * straight neighbors are open too, so that no path cuts a corner of a
+ * blocked cell. Since all the arcs run both ways, the parent arcs of a cell
+ * coincide with its child arcs.
+ * <p>
+ * All the cells are open initially.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class GridGraph implements WeightedDirectedGraph {
+
+    /**
+     * The weight of a diagonal arc.
+     */
+    public static final double DIAGONAL_WEIGHT = Math.sqrt(2.0);
+
+    // The eight directions: the straight ones first.
+    private static final int[] DX = { 1, 0, -1, 0, 1, -1, -1, 1 };
+    private static final int[] DY = { 0, 1, 0, -1, 1, 1, -1, -1 };
+
+    private final int width;
+    private final int height;
+    private final long[] blockedBits;
+    private volatile long modificationCount;
+
+    public GridGraph(int width, int height) {
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException(
+                    "The grid dimensions are not positive: " + width +
+                    " x " + height + ".");
+        }
+
+        if ((long) width * height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "The grid has too many cells: " + width + " x " +
+                    height + ".");
+        }
+
+        this.width = width;
+        this.height = height;
+        this.blockedBits = new long[(width * height + 63) >>> 6];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getNodeId(int x, int y) {
+        checkCell(x, y);
+        return y * width + x;
+    }
+
+    public int getX(int nodeId) {
+        return nodeId % width;
+    }
+
+    public int getY(int nodeId) {
+        return nodeId / width;
+    }
+
+    /**
+     * Blocks or opens the cell <tt>(x, y)</tt>.
+     *
+     * @param x       the column of the cell.
+     * @param y       the row of the cell.
+     * @param blocked whether to block the cell.
+     */
+    public void setBlocked(int x, int y, boolean blocked) {
+        checkCell(x, y);
+        int cell = y * width + x;
+        long mask = 1L << cell;
+        long bits = blockedBits[cell >>> 6];
+        long newBits = blocked ? bits | mask : bits & ~mask;
+
+        if (newBits != bits) {
+            blockedBits[cell >>> 6] = newBits;
+            modificationCount++;
+        }
+    }
+
+    public boolean isBlocked(int x, int y) {
+        checkCell(x, y);
+        return isBlockedCell(y * width + x);
+    }
+
+    /**
+     * Checks whether <tt>(x, y)</tt> is an open cell of this grid. Unlike
+     * {@link #isBlocked(int, int)}, this method accepts the cells outside of
+     * the grid and reports them as not walkable.
+     *
+     * @param x the column.
+     * @param y the row.
+     * @return {@code true} if the cell is within the grid and open.
+     */
+    public boolean isWalkable(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height &&
+               !isBlockedCell(y * width + x);
+    }
+
+    @Override
+    public int getNodeIdBound() {
+        return width * height;
+    }
+
+    @Override
+    public boolean containsNode(int nodeId) {
+        return nodeId >= 0 &&
+               nodeId < width * height &&
+               !isBlockedCell(nodeId);
+    }
+
+    @Override
+    public ArcCursor newChildCursor() {
+        return new GridArcCursor();
+    }
+
+    @Override
+    public ArcCursor newParentCursor() {
+        return new GridArcCursor();
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    private boolean isBlockedCell(int cell) {
+        return (blockedBits[cell >>> 6] & (1L << cell)) != 0L;
+    }
+
+    private void checkCell(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            throw new IndexOutOfBoundsException(
+                    "The cell (" + x + ", " + y + ") is outside of the " +
+                    width + " x " + height + " grid.");
+        }
+    }
+
+    private final class GridArcCursor implements ArcCursor {
+
+        private int x;
+        private int y;
+        private int direction;
+        private int node;
+
+        @Override
+        public void reset(int nodeId) {
+            x = nodeId % width;
+            y = nodeId / width;
+            direction = containsNode(nodeId) ? -1 : DX.length;
+        }
+
+        @Override
+        public boolean next() {
+            while (++direction < DX.length) {
+                int dx = DX[direction];
+                int dy = DY[direction];
+
+                if (!isWalkable(x + dx, y + dy)) {
+                    continue;
+                }
+
+                if (dx != 0 && dy != 0 &&
+                        (!isWalkable(x + dx, y) || !isWalkable(x, y + dy))) {
+                    continue;
+                }
+
+                node = (y + dy) * width + x + dx;
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        public int getNode() {
+            return node;
+        }
+
+        @Override
+        public double getWeight() {
+            return direction < 4 ? 1.0 : DIAGONAL_WEIGHT;
+        }
+    }
+}
@@ -0,0 +1,721 @@
+package net.coderodde.graph;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * This class implements a weighted directed graph that may be modified while
+ * other threads search it. Every modification batch produces a new immutable
+ * {@link Snapshot}; a search that runs on a snapshot is never affected by
+ * later batches.
+ * <p>
+ * The snapshots share all the structure a batch does not touch. The adjacency
+ * lists are kept in pages of {@value #PAGE_SIZE} nodes. A batch copies only
+ * the page table and the pages holding the nodes whose arcs it changes, and
+ * within those pages it copies only the changed adjacency lists, each at most
+ * once per batch; further changes to a copied list are made in place.
+ * Snapshots that no thread refers to any longer are reclaimed by the garbage
+ * collector together with the pages no newer snapshot shares.
+ * <p>
+ * Modification batches are serialized; searches never wait for them.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class VersionedDirectedGraph {
+
+    static final int PAGE_SHIFT = 8;
+    static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private static final int[] NO_NODES = new int[0];
+    private static final double[] NO_WEIGHTS = new double[0];
+
+    /**
+     * This class holds the adjacency lists of {@value #PAGE_SIZE}
+     * consecutive nodes in one direction. A {@code null} list means that the
+     * node is not in the graph. A page is never modified once the snapshot
+     * it belongs to is published.
+     */
+    static final class Page {
+
+        final int[][] nodes;
+        final double[][] weights;
+
+        Page() {
+            this.nodes = new int[PAGE_SIZE][];
+            this.weights = new double[PAGE_SIZE][];
+        }
+
+        Page(Page other) {
+            this.nodes = other.nodes.clone();
+            this.weights = other.weights.clone();
+        }
+    }
+
+    /**
+     * This class implements an immutable version of the graph.
+     */
+    public static final class Snapshot implements WeightedDirectedGraph {
+
+        private final long version;
+        private final int nodeIdBound;
+        private final int numberOfNodes;
+        private final int numberOfArcs;
+        final Page[] childPages;
+        final Page[] parentPages;
+
+        Snapshot(long version,
+                 int nodeIdBound,
+                 int numberOfNodes,
+                 int numberOfArcs,
+                 Page[] childPages,
+                 Page[] parentPages) {
+            this.version = version;
+            this.nodeIdBound = nodeIdBound;
+            this.numberOfNodes = numberOfNodes;
+            this.numberOfArcs = numberOfArcs;
+            this.childPages = childPages;
+            this.parentPages = parentPages;
+        }
+
+        /**
+         * Returns the version of this snapshot. The initial, empty snapshot
+         * has version zero, and each batch increments the version by one.
+         *
+         * @return the version.
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        public int getNumberOfNodes() {
+            return numberOfNodes;
+        }
+
+        public int getNumberOfArcs() {
+            return numberOfArcs;
+        }
+
+        /**
+         * Returns the weight of the arc <tt>(tailNodeId, headNodeId)</tt>, or
+         * <tt>NaN</tt> if there is no such arc.
+         *
+         * @param tailNodeId the tail node of the arc.
+         * @param headNodeId the head node of the arc.
+         * @return the arc weight or <tt>NaN</tt>.
+         */
+        public double getWeight(int tailNodeId, int headNodeId) {
+            if (!containsNode(tailNodeId)) {
+                return Double.NaN;
+            }
+
+            Page page = childPages[tailNodeId >>> PAGE_SHIFT];
+            int[] heads = page.nodes[tailNodeId & PAGE_MASK];
+            int index = indexOf(heads, headNodeId);
+            return index < 0 ?
+                   Double.NaN :
+                   page.weights[tailNodeId & PAGE_MASK][index];
+        }
+
+        @Override
+        public int getNodeIdBound() {
+            return nodeIdBound;
+        }
+
+        @Override
+        public boolean containsNode(int nodeId) {
+            if (nodeId < 0 || nodeId >= nodeIdBound) {
+                return false;
+            }
+
+            Page page = childPages[nodeId >>> PAGE_SHIFT];
+            return page != null && page.nodes[nodeId & PAGE_MASK] != null;
+        }
+
+        @Override
+        public ArcCursor newChildCursor() {
+            return new PageArcCursor(childPages);
+        }
+
+        @Override
+        public ArcCursor newParentCursor() {
+            return new PageArcCursor(parentPages);
+        }
+
+        /**
+         * Returns the version of this snapshot, so that path caches keyed by
+         * the modification count tell the snapshots apart.
+         *
+         * @return the version.
+         */
+        @Override
+        public long getModificationCount() {
+            return version;
+        }
+    }
+
+    /**
+     * This class implements a graph view that stays on one snapshot until it
+     * is explicitly advanced via {@link #pin()}. Pathfinders constructed on a
+     * reader search the snapshot pinned last; pinning right before each
+     * search gives each search a consistent graph while the writers proceed.
+     * A reader is meant to be used by a single thread.
+     */
+    public final class Reader implements WeightedDirectedGraph {
+
+        private Snapshot snapshot = VersionedDirectedGraph.this.snapshot;
+
+        /**
+         * Advances this reader to the latest snapshot.
+         *
+         * @return the pinned snapshot.
+         */
+        public Snapshot pin() {
+            return snapshot = VersionedDirectedGraph.this.snapshot;
+        }
+
+        /**
+         * Returns the snapshot this reader is pinned to.
+         *
+         * @return the pinned snapshot.
+         */
+        public Snapshot getSnapshot() {
+            return snapshot;
+        }
+
+        @Override
+        public int getNodeIdBound() {
+            return snapshot.getNodeIdBound();
+        }
+
+        @Override
+        public boolean containsNode(int nodeId) {
+            return snapshot.containsNode(nodeId);
+        }
+
+        @Override
+        public ArcCursor newChildCursor() {
+            return new ReaderArcCursor(true);
+        }
+
+        @Override
+        public ArcCursor newParentCursor() {
+            return new ReaderArcCursor(false);
+        }
+
+        @Override
+        public long getModificationCount() {
+            return snapshot.getVersion();
+        }
+
+        /**
+         * Reads the snapshot pinned at the time of each {@code reset}.
+         */
+        private final class ReaderArcCursor implements ArcCursor {
+
+            private final boolean forward;
+            private final PageArcCursor cursor = new PageArcCursor(null);
+
+            ReaderArcCursor(boolean forward) {
+                this.forward = forward;
+            }
+
+            @Override
+            public void reset(int nodeId) {
+                cursor.pages = forward ?
+                               snapshot.childPages :
+                               snapshot.parentPages;
+                cursor.reset(nodeId);
+            }
+
+            @Override
+            public boolean next() {
+                return cursor.next();
+            }
+
+            @Override
+            public int getNode() {
+                return cursor.getNode();
+            }
+
+            @Override
+            public double getWeight() {
+                return cursor.getWeight();
+            }
+        }
+    }
+
+    /**
+     * This class collects the modifications of one batch. Its methods may be
+     * called only within the batch callback passed to
+     * {@link VersionedDirectedGraph#update(Consumer)}.
+     */
+    public final class Batch {
+
+        private Page[] childPages;
+        private Page[] parentPages;
+
+        // 'childListSizes[p]' is 'null' if this batch has not copied the
+        // child page 'p' yet; otherwise, 'childListSizes[p][i]' is the length
+        // of the 'i'th list of the page if this batch has copied the list,
+        // and -1 if not. The copied lists may have spare capacity, which is
+        // trimmed when the batch is published.
+        private int[][] childListSizes;
+        private int[][] parentListSizes;
+        private int nodeIdBound;
+        private int numberOfNodes;
+        private int numberOfArcs;
+        private boolean closed;
+
+        Batch(Snapshot base) {
+            this.childPages = base.childPages.clone();
+            this.parentPages = base.parentPages.clone();
+            this.childListSizes = new int[childPages.length][];
+            this.parentListSizes = new int[parentPages.length][];
+            this.nodeIdBound = base.getNodeIdBound();
+            this.numberOfNodes = base.getNumberOfNodes();
+            this.numberOfArcs = base.getNumberOfArcs();
+        }
+
+        /**
+         * Adds the node {@code nodeId} if it is not yet present.
+         *
+         * @param nodeId the node to add.
+         */
+        public void addNode(int nodeId) {
+            checkOpen();
+
+            if (nodeId < 0) {
+                throw new IllegalArgumentException(
+                        "The node ID is negative: " + nodeId + ".");
+            }
+
+            if (containsNode(nodeId)) {
+                return;
+            }
+
+            if (nodeId >= nodeIdBound) {
+                nodeIdBound = nodeId + 1;
+                int pages = ((nodeIdBound - 1) >>> PAGE_SHIFT) + 1;
+
+                if (pages > childPages.length) {
+                    int capacity = Math.max(pages, 2 * childPages.length);
+                    childPages = Arrays.copyOf(childPages, capacity);
+                    parentPages = Arrays.copyOf(parentPages, capacity);
+                    childListSizes = Arrays.copyOf(childListSizes, capacity);
+                    parentListSizes =
+                            Arrays.copyOf(parentListSizes, capacity);
+                }
+            }
+
+            int pageIndex = nodeId >>> PAGE_SHIFT;
+            Page childPage = ownChildPage(pageIndex);
+            Page parentPage = ownParentPage(pageIndex);
+            childListSizes [pageIndex][nodeId & PAGE_MASK] = -1;
+            parentListSizes[pageIndex][nodeId & PAGE_MASK] = -1;
+            childPage .nodes  [nodeId & PAGE_MASK] = NO_NODES;
+            childPage .weights[nodeId & PAGE_MASK] = NO_WEIGHTS;
+            parentPage.nodes  [nodeId & PAGE_MASK] = NO_NODES;
+            parentPage.weights[nodeId & PAGE_MASK] = NO_WEIGHTS;
+            numberOfNodes++;
+        }
+
+        /**
+         * Adds the arc <tt>(tailNodeId, headNodeId)</tt> with the weight
+         * {@code weight}, or changes the weight of the arc if it is already
+         * present. Both nodes must be present.
+         *
+         * @param tailNodeId the tail node of the arc.
+         * @param headNodeId the head node of the arc.
+         * @param weight     the arc weight.
+         */
+        public void putArc(int tailNodeId, int headNodeId, double weight) {
+            checkOpen();
+            checkNode(tailNodeId, "tail");
+            checkNode(headNodeId, "head");
+            checkWeight(weight);
+
+            int tailPageIndex = tailNodeId >>> PAGE_SHIFT;
+            int headPageIndex = headNodeId >>> PAGE_SHIFT;
+
+            if (putEntry(ownChildPage(tailPageIndex),
+                         childListSizes[tailPageIndex],
+                         tailNodeId,
+                         headNodeId,
+                         weight)) {
+                numberOfArcs++;
+            }
+
+            putEntry(ownParentPage(headPageIndex),
+                     parentListSizes[headPageIndex],
+                     headNodeId,
+                     tailNodeId,
+                     weight);
+        }
+
+        /**
+         * Removes the arc <tt>(tailNodeId, headNodeId)</tt> if it is present.
+         *
+         * @param tailNodeId the tail node of the arc.
+         * @param headNodeId the head node of the arc.
+         * @return {@code true} if the arc was present.
+         */
+        public boolean removeArc(int tailNodeId, int headNodeId) {
+            checkOpen();
+
+            if (!containsNode(tailNodeId) || !containsNode(headNodeId)) {
+                return false;
+            }
+
+            int tailPageIndex = tailNodeId >>> PAGE_SHIFT;
+            int headPageIndex = headNodeId >>> PAGE_SHIFT;
+            int tailOffset = tailNodeId & PAGE_MASK;
+            int[] heads = childPages[tailPageIndex].nodes[tailOffset];
+            int[] sizes = childListSizes[tailPageIndex];
+            int size = sizes == null || sizes[tailOffset] < 0 ?
+                       heads.length :
+                       sizes[tailOffset];
+
+            if (indexOf(heads, size, headNodeId) < 0) {
+                return false;
+            }
+
+            removeEntry(ownChildPage(tailPageIndex),
+                        childListSizes[tailPageIndex],
+                        tailNodeId,
+                        headNodeId);
+            removeEntry(ownParentPage(headPageIndex),
+                        parentListSizes[headPageIndex],
+                        headNodeId,
+                        tailNodeId);
+            numberOfArcs--;
+            return true;
+        }
+
+        /**
+         * Checks whether the node {@code nodeId} is present in this batch.
+         *
+         * @param nodeId the node to query.
+         * @return {@code true} if the node is present.
+         */
+        public boolean containsNode(int nodeId) {
+            if (nodeId < 0 || nodeId >= nodeIdBound) {
+                return false;
+            }
+
+            Page page = childPages[nodeId >>> PAGE_SHIFT];
+            return page != null && page.nodes[nodeId & PAGE_MASK] != null;
+        }
+
+        Snapshot build(long version) {
+            closed = true;
+            trimLists(childPages, childListSizes);
+            trimLists(parentPages, parentListSizes);
+            return new Snapshot(version,
+                                nodeIdBound,
+                                numberOfNodes,
+                                numberOfArcs,
+                                childPages,
+                                parentPages);
+        }
+
+        private Page ownChildPage(int pageIndex) {
+            if (childListSizes[pageIndex] == null) {
+                Page page = childPages[pageIndex];
+                childPages[pageIndex] = page == null ? new Page() :
+                                                       new Page(page);
+                childListSizes[pageIndex] = newListSizes();
+            }
+
+            return childPages[pageIndex];
+        }
+
+        private Page ownParentPage(int pageIndex) {
+            if (parentListSizes[pageIndex] == null) {
+                Page page = parentPages[pageIndex];
+                parentPages[pageIndex] = page == null ? new Page() :
+                                                        new Page(page);
+                parentListSizes[pageIndex] = newListSizes();
+            }
+
+            return parentPages[pageIndex];
+        }
+
+        private void checkOpen() {
+            if (closed) {
+                throw new IllegalStateException(
+                        "The batch is already published.");
+            }
+        }
+
+        private void checkNode(int nodeId, String role) {
+            if (!containsNode(nodeId)) {
+                throw new IllegalArgumentException(
+                        "The " + role + " node " + nodeId +
+                        " is not in the graph.");
+            }
+        }
+    }
+
+    /**
+     * This cursor iterates over one adjacency list of a page table.
+     */
+    private static final class PageArcCursor implements ArcCursor {
+
+        private Page[] pages;
+        private int[] nodes = NO_NODES;
+        private double[] weights = NO_WEIGHTS;
+        private int index;
+
+        PageArcCursor(Page[] pages) {
+            this.pages = pages;
+        }
+
+        @Override
+        public void reset(int nodeId) {
+            int pageIndex = nodeId >>> PAGE_SHIFT;
+            Page page = pageIndex < pages.length ? pages[pageIndex] : null;
+            int[] list = page == null ? null : page.nodes[nodeId & PAGE_MASK];
+
+            if (list == null) {
+                nodes = NO_NODES;
+                weights = NO_WEIGHTS;
+            } else {
+                nodes = list;
+                weights = page.weights[nodeId & PAGE_MASK];
+            }
+
+            index = -1;
+        }
+
+        @Override
+        public boolean next() {
+            return ++index < nodes.length;
+        }
+
+        @Override
+        public int getNode() {
+            return nodes[index];
+        }
+
+        @Override
+        public double getWeight() {
+            return weights[index];
+        }
+    }
+
+    /**
+     * The latest published snapshot.
+     */
+    private volatile Snapshot snapshot =
+            new Snapshot(0L, 0, 0, 0, new Page[0], new Page[0]);
+
+    /**
+     * Serializes the modification batches.
+     */
+    private final Object writeLock = new Object();
+
+    /**
+     * Constructs an empty graph.
+     */
+    public VersionedDirectedGraph() {
+    }
+
+    /**
+     * Constructs a graph holding the current contents of {@code graph} and
+     * {@code weightFunction} as its first version.
+     *
+     * @param graph          the graph to copy.
+     * @param weightFunction the weight function of the graph.
+     */
+    public VersionedDirectedGraph(DirectedGraph graph,
+                                  DirectedGraphWeightFunction weightFunction) {
+        Objects.requireNonNull(graph, "The input graph is null.");
+        Objects.requireNonNull(weightFunction,
+                               "The input weight function is null.");
+        update(batch -> {
+            for (Integer nodeId : graph.getNodeList()) {
+                batch.addNode(nodeId);
+            }
+
+            for (Integer tailNodeId : graph.getNodeList()) {
+                for (Integer headNodeId : graph.getChildrenOf(tailNodeId)) {
+                    batch.putArc(tailNodeId,
+                                 headNodeId,
+                                 weightFunction.get(tailNodeId, headNodeId));
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the latest snapshot.
+     *
+     * @return the latest snapshot.
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Creates a new reader pinned to the latest snapshot.
+     *
+     * @return a new reader.
+     */
+    public Reader newReader() {
+        return new Reader();
+    }
+
+    /**
+     * Applies a batch of modifications and publishes the result as a new
+     * snapshot. The searches running on older snapshots are not affected. If
+     * {@code updates} throws, nothing is published.
+     *
+     * @param updates the callback making the modifications.
+     * @return the new snapshot.
+     */
+    public Snapshot update(Consumer<Batch> updates) {
+        Objects.requireNonNull(updates, "The input update callback is null.");
+
+        synchronized (writeLock) {
+            Snapshot base = snapshot;
+            Batch batch = new Batch(base);
+            updates.accept(batch);
+            Snapshot next = batch.build(base.getVersion() + 1);
+            snapshot = next;
+            return next;
+        }
+    }
+
+    /**
+     * Sets the weight of the entry {@code nodeId} in the adjacency list of
+     * {@code ownerNodeId}, appending it if not present. The list is copied
+     * if the batch does not own it yet; otherwise it is changed in place.
+     *
+     * @return {@code true} if the entry was appended.
+     */
+    private static boolean putEntry(Page page,
+                                    int[] sizes,
+                                    int ownerNodeId,
+                                    int nodeId,
+                                    double weight) {
+        int offset = ownerNodeId & PAGE_MASK;
+        int size = ownList(page, sizes, offset);
+        int[] nodes = page.nodes[offset];
+        double[] weights = page.weights[offset];
+        int index = indexOf(nodes, size, nodeId);
+
+        if (index >= 0) {
+            weights[index] = weight;
+            return false;
+        }
+
+        if (size == nodes.length) {
+            int capacity = Math.max(4, 2 * size);
+            nodes = Arrays.copyOf(nodes, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+            page.nodes[offset] = nodes;
+            page.weights[offset] = weights;
+        }
+
+        nodes[size] = nodeId;
+        weights[size] = weight;
+        sizes[offset] = size + 1;
+        return true;
+    }
+
+    private static void removeEntry(Page page,
+                                    int[] sizes,
+                                    int ownerNodeId,
+                                    int nodeId) {
+        int offset = ownerNodeId & PAGE_MASK;
+        int size = ownList(page, sizes, offset);
+        int[] nodes = page.nodes[offset];
+        double[] weights = page.weights[offset];
+        int index = indexOf(nodes, size, nodeId);
+        System.arraycopy(nodes, index + 1, nodes, index, size - index - 1);
+        System.arraycopy(weights, index + 1, weights, index, size - index - 1);
+        sizes[offset] = size - 1;
+    }
+
+    /**
+     * Copies the list at {@code offset} of the batch-owned {@code page}
+     * unless the batch has copied it already.
+     *
+     * @return the length of the list.
+     */
+    private static int ownList(Page page, int[] sizes, int offset) {
+        if (sizes[offset] < 0) {
+            page.nodes[offset] = page.nodes[offset].clone();
+            page.weights[offset] = page.weights[offset].clone();
+            sizes[offset] = page.nodes[offset].length;
+        }
+
+        return sizes[offset];
+    }
+
+    /**
+     * Cuts the spare capacity off the lists a batch has copied, so that the
+     * length of each published list is its size.
+     */
+    private static void trimLists(Page[] pages, int[][] listSizes) {
+        for (int pageIndex = 0; pageIndex < listSizes.length; ++pageIndex) {
+            int[] sizes = listSizes[pageIndex];
+
+            if (sizes == null) {
+                continue;
+            }
+
+            Page page = pages[pageIndex];
+
+            for (int offset = 0; offset < PAGE_SIZE; ++offset) {
+                int size = sizes[offset];
+
+                if (size >= 0 && size != page.nodes[offset].length) {
+                    page.nodes[offset] = size == 0 ?
+                                         NO_NODES :
+                                         Arrays.copyOf(page.nodes[offset],
+                                                       size);
+                    page.weights[offset] = size == 0 ?
+                                           NO_WEIGHTS :
+                                           Arrays.copyOf(page.weights[offset],
+                                                         size);
+                }
+            }
+        }
+    }
+
+    private static int[] newListSizes() {
+        int[] sizes = new int[PAGE_SIZE];
+        Arrays.fill(sizes, -1);
+        return sizes;
+    }
+
+    private static int indexOf(int[] nodes, int nodeId) {
+        return indexOf(nodes, nodes.length, nodeId);
+    }
+
+    private static int indexOf(int[] nodes, int size, int nodeId) {
+        for (int i = 0; i < size; ++i) {
+            if (nodes[i] == nodeId) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static void checkWeight(double weight) {
+        if (Double.isNaN(weight)) {
+            throw new IllegalArgumentException("The input weight is NaN.");
+        }
+
+        if (weight < 0.0) {
+            throw new IllegalArgumentException(
+                    "The input weight is negative: " + weight + ".");
+        }
+    }
+}
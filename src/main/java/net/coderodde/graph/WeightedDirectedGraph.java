@@ -0,0 +1,55 @@
+package net.coderodde.graph;
+
+/**
+ * This interface defines the API the pathfinders use for reading a weighted
+ * directed graph. Implementations may be backed by hash maps, by primitive 
+ * arrays or by any other storage.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public interface WeightedDirectedGraph {
+
+    /**
+     * Returns an exclusive upper bound on the non-negative node IDs of this 
+     * graph. Algorithms that index arrays by node IDs size them by this value.
+     * 
+     * @return the node ID bound.
+     */
+    public int getNodeIdBound();
+
+    /**
+     * Checks whether the node {@code nodeId} is present in this graph.
+     * 
+     * @param nodeId the node to query.
+     * @return {@code true} if the node is in this graph.
+     */
+    public boolean containsNode(int nodeId);
+
+    /**
+     * Creates a new cursor iterating over outgoing arcs.
+     * 
+     * @return a child arc cursor.
+     */
+    public ArcCursor newChildCursor();
+
+    /**
+     * Creates a new cursor iterating over incoming arcs.
+     * 
+     * @return a parent arc cursor.
+     */
+    public ArcCursor newParentCursor();
+
+    /**
+     * Returns the number of structural or weight modifications made to this
+     * graph so far. Caches of search results compare this value to detect
+     * stale entries. Immutable graphs keep the default, which always returns
+     * zero.
+     * 
+     * @return the modification count.
+     */
+    public default long getModificationCount() {
+        return 0L;
+    }
+}
@@ -0,0 +1,92 @@
+package net.coderodde.graph.io;
+
+/**
+ * This class describes the binary graph file format. All values are little
+ * endian. The file starts with a header of {@code HEADER_SIZE} bytes:
+ * <pre>
+ *   offset  size  field
+ *        0     4  magic number "NBAG"
+ *        4     4  format version
+ *        8     4  flags (bit 0: the file has node coordinates)
+ *       12     4  node ID bound n
+ *       16     8  number of arcs m
+ *       24     8  CRC32 of all the bytes after the header
+ *       32    32  reserved, zero
+ * </pre>
+ * followed by the sections below, each starting at a multiple of eight:
+ * <pre>
+ *   long[(n + 63) / 64]  node presence bits
+ *   int[n + 1]           child arc offsets
+ *   int[m]               child arc heads
+ *   double[m]            child arc weights
+ *   int[n + 1]           parent arc offsets
+ *   int[m]               parent arc tails
+ *   double[m]            parent arc weights
+ *   double[n]            x-coordinates (only if flagged)
+ *   double[n]            y-coordinates (only if flagged)
+ * </pre>
+ * The arc sections are the CSR arrays of 
+ * {@link net.coderodde.graph.CompactDirectedGraph}.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+final class BinaryGraphFormat {
+
+    static final int MAGIC = 0x4741424E; // "NBAG" in little endian.
+    static final int VERSION = 1;
+    static final int FLAG_COORDINATES = 1;
+    static final int HEADER_SIZE = 64;
+    static final int CHECKSUM_OFFSET = 24;
+
+    static final int NODE_BITS = 0;
+    static final int CHILD_OFFSETS = 1;
+    static final int CHILD_NODES = 2;
+    static final int CHILD_WEIGHTS = 3;
+    static final int PARENT_OFFSETS = 4;
+    static final int PARENT_NODES = 5;
+    static final int PARENT_WEIGHTS = 6;
+    static final int X_COORDINATES = 7;
+    static final int Y_COORDINATES = 8;
+    static final int SECTIONS = 9;
+
+    private BinaryGraphFormat() {}
+
+    /**
+     * Computes the byte offsets of the sections. The component 
+     * {@code SECTIONS} of the returned array is the file size.
+     * 
+     * @param nodeIdBound    the node ID bound.
+     * @param arcs           the number of arcs.
+     * @param hasCoordinates whether the file has coordinates.
+     * @return the section offsets.
+     */
+    static long[] computeSectionOffsets(int nodeIdBound, 
+                                        long arcs,
+                                        boolean hasCoordinates) {
+        long[] sizes = new long[SECTIONS];
+        sizes[NODE_BITS]      = 8L * ((nodeIdBound + 63L) >>> 6);
+        sizes[CHILD_OFFSETS]  = 4L * (nodeIdBound + 1L);
+        sizes[CHILD_NODES]    = 4L * arcs;
+        sizes[CHILD_WEIGHTS]  = 8L * arcs;
+        sizes[PARENT_OFFSETS] = 4L * (nodeIdBound + 1L);
+        sizes[PARENT_NODES]   = 4L * arcs;
+        sizes[PARENT_WEIGHTS] = 8L * arcs;
+        sizes[X_COORDINATES]  = hasCoordinates ? 8L * nodeIdBound : 0L;
+        sizes[Y_COORDINATES]  = hasCoordinates ? 8L * nodeIdBound : 0L;
+
+        long[] offsets = new long[SECTIONS + 1];
+        offsets[0] = HEADER_SIZE;
+
+        for (int i = 0; i < SECTIONS; ++i) {
+            offsets[i + 1] = align(offsets[i] + sizes[i]);
+        }
+
+        return offsets;
+    }
+
+    private static long align(long offset) {
+        return (offset + 7L) & ~7L;
+    }
+}
@@ -0,0 +1,260 @@
+package net.coderodde.graph.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.DirectedGraph;
+import net.coderodde.graph.DirectedGraphWeightFunction;
+import net.coderodde.graph.pathfinding.DirectedGraphNodeCoordinates;
+
+/**
+ * This class writes graphs in the binary format read by 
+ * {@link MappedDirectedGraph}.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ * @see BinaryGraphFormat
+ */
+public final class BinaryGraphWriter {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = 
+            ByteBuffer.allocateDirect(BUFFER_SIZE)
+                      .order(ByteOrder.LITTLE_ENDIAN);
+    private final CRC32 checksum = new CRC32();
+    private long position = BinaryGraphFormat.HEADER_SIZE;
+
+    private BinaryGraphWriter(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Writes a graph with coordinates to {@code file}.
+     * 
+     * @param graph          the graph.
+     * @param weightFunction the weight function of the graph.
+     * @param coordinates    the node coordinates, or {@code null}.
+     * @param file           the file to write.
+     * @throws IOException if writing fails.
+     */
+    public static void write(DirectedGraph graph,
+                             DirectedGraphWeightFunction weightFunction,
+                             DirectedGraphNodeCoordinates coordinates,
+                             Path file) throws IOException {
+        CompactDirectedGraph compactGraph = 
+                CompactDirectedGraph.freeze(graph, weightFunction);
+
+        if (coordinates == null) {
+            write(compactGraph, null, null, file);
+            return;
+        }
+
+        int nodeIdBound = compactGraph.getNodeIdBound();
+        double[] xs = new double[nodeIdBound];
+        double[] ys = new double[nodeIdBound];
+
+        for (int nodeId = 0; nodeId < nodeIdBound; ++nodeId) {
+            if (compactGraph.containsNode(nodeId) 
+                    && coordinates.get(nodeId) != null) {
+                xs[nodeId] = coordinates.get(nodeId).x;
+                ys[nodeId] = coordinates.get(nodeId).y;
+            } else {
+                xs[nodeId] = Double.NaN;
+                ys[nodeId] = Double.NaN;
+            }
+        }
+
+        write(compactGraph, xs, ys, file);
+    }
+
+    /**
+     * Writes a compact graph to {@code file}. The coordinate arrays are 
+     * indexed by node IDs; pass {@code null} for both if there are no 
+     * coordinates.
+     * 
+     * @param graph the graph.
+     * @param xs    the x-coordinates, or {@code null}.
+     * @param ys    the y-coordinates, or {@code null}.
+     * @param file  the file to write.
+     * @throws IOException if writing fails.
+     */
+    public static void write(CompactDirectedGraph graph,
+                             double[] xs,
+                             double[] ys,
+                             Path file) throws IOException {
+        Objects.requireNonNull(graph, "The input graph is null.");
+        Objects.requireNonNull(file, "The input file is null.");
+
+        if ((xs == null) != (ys == null)) {
+            throw new IllegalArgumentException(
+                    "Only one of the coordinate arrays is null.");
+        }
+
+        int nodeIdBound = graph.getNodeIdBound();
+
+        if (xs != null && (xs.length < nodeIdBound 
+                        || ys.length < nodeIdBound)) {
+            throw new IllegalArgumentException(
+                    "The coordinate arrays are shorter than the node ID " +
+                    "bound " + nodeIdBound + ".");
+        }
+
+        try (FileChannel channel = 
+                FileChannel.open(file, 
+                                 StandardOpenOption.CREATE,
+                                 StandardOpenOption.TRUNCATE_EXISTING,
+                                 StandardOpenOption.WRITE)) {
+            new BinaryGraphWriter(channel).writeGraph(graph, xs, ys);
+        }
+    }
+
+    private void writeGraph(CompactDirectedGraph graph,
+                            double[] xs,
+                            double[] ys) throws IOException {
+        int nodeIdBound = graph.getNodeIdBound();
+        int arcs = graph.getNumberOfArcs();
+        long[] offsets = 
+                BinaryGraphFormat.computeSectionOffsets(nodeIdBound,
+                                                        arcs, 
+                                                        xs != null);
+        long bits = 0L;
+
+        for (int nodeId = 0; nodeId < nodeIdBound; ++nodeId) {
+            if (graph.containsNode(nodeId)) {
+                bits |= 1L << nodeId;
+            }
+
+            if ((nodeId & 63) == 63) {
+                putLong(bits);
+                bits = 0L;
+            }
+        }
+
+        if ((nodeIdBound & 63) != 0) {
+            putLong(bits);
+        }
+
+        pad(offsets[BinaryGraphFormat.CHILD_OFFSETS]);
+
+        for (int nodeId = 0; nodeId < nodeIdBound; ++nodeId) {
+            putInt(graph.getChildArcBegin(nodeId));
+        }
+
+        putInt(arcs);
+        pad(offsets[BinaryGraphFormat.CHILD_NODES]);
+
+        for (int i = 0; i < arcs; ++i) {
+            putInt(graph.getChildArcHead(i));
+        }
+
+        pad(offsets[BinaryGraphFormat.CHILD_WEIGHTS]);
+
+        for (int i = 0; i < arcs; ++i) {
+            putDouble(graph.getChildArcWeight(i));
+        }
+
+        pad(offsets[BinaryGraphFormat.PARENT_OFFSETS]);
+
+        for (int nodeId = 0; nodeId < nodeIdBound; ++nodeId) {
+            putInt(graph.getParentArcBegin(nodeId));
+        }
+
+        putInt(arcs);
+        pad(offsets[BinaryGraphFormat.PARENT_NODES]);
+
+        for (int i = 0; i < arcs; ++i) {
+            putInt(graph.getParentArcTail(i));
+        }
+
+        pad(offsets[BinaryGraphFormat.PARENT_WEIGHTS]);
+
+        for (int i = 0; i < arcs; ++i) {
+            putDouble(graph.getParentArcWeight(i));
+        }
+
+        pad(offsets[BinaryGraphFormat.X_COORDINATES]);
+
+        if (xs != null) {
+            for (int nodeId = 0; nodeId < nodeIdBound; ++nodeId) {
+                putDouble(xs[nodeId]);
+            }
+
+            pad(offsets[BinaryGraphFormat.Y_COORDINATES]);
+
+            for (int nodeId = 0; nodeId < nodeIdBound; ++nodeId) {
+                putDouble(ys[nodeId]);
+            }
+        }
+
+        pad(offsets[BinaryGraphFormat.SECTIONS]);
+        flush();
+
+        ByteBuffer header = ByteBuffer.allocate(BinaryGraphFormat.HEADER_SIZE)
+                                      .order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(BinaryGraphFormat.MAGIC);
+        header.putInt(BinaryGraphFormat.VERSION);
+        header.putInt(xs != null ? BinaryGraphFormat.FLAG_COORDINATES : 0);
+        header.putInt(nodeIdBound);
+        header.putLong(arcs);
+        header.putLong(checksum.getValue());
+        header.clear();
+
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+
+        channel.force(false);
+    }
+
+    private void putInt(int value) throws IOException {
+        ensureRemaining(4);
+        buffer.putInt(value);
+    }
+
+    private void putLong(long value) throws IOException {
+        ensureRemaining(8);
+        buffer.putLong(value);
+    }
+
+    private void putDouble(double value) throws IOException {
+        ensureRemaining(8);
+        buffer.putDouble(value);
+    }
+
+    /**
+     * Writes zero bytes up to the file offset {@code offset}.
+     */
+    private void pad(long offset) throws IOException {
+        while (position + buffer.position() < offset) {
+            ensureRemaining(1);
+            buffer.put((byte) 0);
+        }
+    }
+
+    private void ensureRemaining(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        ByteBuffer checksumView = buffer.duplicate();
+        checksum.update(checksumView);
+
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+
+        buffer.clear();
+    }
+}
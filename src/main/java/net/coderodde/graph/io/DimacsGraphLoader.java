@@ -0,0 +1,614 @@
+package net.coderodde.graph.io;
+
+import java.awt.geom.Point2D;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.DirectedGraph;
+import net.coderodde.graph.DirectedGraphWeightFunction;
+import net.coderodde.graph.pathfinding.DirectedGraphNodeCoordinates;
+
+/**
+ * This class loads road networks in the formats of the 9th DIMACS 
+ * implementation challenge: {@code .gr} files with lines 
+ * <tt>a &lt;tail&gt; &lt;head&gt; &lt;weight&gt;</tt> and {@code .co} files
+ * with lines <tt>v &lt;node&gt; &lt;x&gt; &lt;y&gt;</tt>. The files are 
+ * split into chunks at line boundaries; the chunks are memory mapped and 
+ * parsed byte by byte in parallel, without creating a {@code String} per 
+ * line.
+ * <p>
+ * The node IDs are kept as they are in the file, so the DIMACS node 
+ * {@code i} is the node {@code i} of the loaded graph. Since DIMACS numbers
+ * the nodes from one, the node 0 of a compact graph has no arcs.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class DimacsGraphLoader {
+
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final long MAXIMUM_CHUNK_SIZE = 1L << 30;
+
+    /**
+     * The largest mantissa every smaller one of which is exact as a double.
+     */
+    private static final long MAXIMUM_EXACT_MANTISSA = 1L << 53;
+
+    /**
+     * The powers of ten that are exact as doubles.
+     */
+    private static final double[] POWERS_OF_TEN = new double[23];
+
+    static {
+        POWERS_OF_TEN[0] = 1.0;
+
+        for (int i = 1; i < POWERS_OF_TEN.length; ++i) {
+            POWERS_OF_TEN[i] = 10.0 * POWERS_OF_TEN[i - 1];
+        }
+    }
+
+    private final Executor executor;
+    private final int parallelism;
+
+    public DimacsGraphLoader() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public DimacsGraphLoader(ForkJoinPool pool) {
+        this(pool, pool.getParallelism());
+    }
+
+    /**
+     * Constructs a loader parsing the chunks in {@code executor}.
+     * 
+     * @param executor    the executor to run the parsers in.
+     * @param parallelism the number of threads of {@code executor}.
+     */
+    public DimacsGraphLoader(Executor executor, int parallelism) {
+        this.executor = Objects.requireNonNull(executor, 
+                                               "The input executor is null.");
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "The parallelism is less than 1: " + parallelism + ".");
+        }
+
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Loads a {@code .gr} file into a compact graph.
+     * 
+     * @param grFile the arc file.
+     * @return the loaded graph.
+     * @throws IOException if the file cannot be read or is malformed.
+     */
+    public CompactDirectedGraph loadGraph(Path grFile) throws IOException {
+        ArcArrays arcs = loadArcs(grFile);
+        return CompactDirectedGraph.fromArcs(arcs.nodes + 1,
+                                             arcs.tails,
+                                             arcs.heads,
+                                             arcs.weights,
+                                             arcs.tails.length);
+    }
+
+    /**
+     * Loads a {@code .gr} file into {@code graph} and {@code weightFunction}.
+     * Of parallel arcs, the lightest one is kept.
+     * 
+     * @param grFile         the arc file.
+     * @param graph          the graph to add the nodes and arcs to.
+     * @param weightFunction the weight function to add the weights to.
+     * @throws IOException if the file cannot be read or is malformed.
+     */
+    public void loadGraph(Path grFile, 
+                          DirectedGraph graph,
+                          DirectedGraphWeightFunction weightFunction) 
+            throws IOException {
+        Objects.requireNonNull(graph, "The input graph is null.");
+        Objects.requireNonNull(weightFunction, 
+                               "The input weight function is null.");
+        ArcArrays arcs = loadArcs(grFile);
+
+        for (int nodeId = 1; nodeId <= arcs.nodes; ++nodeId) {
+            graph.addNode(nodeId);
+        }
+
+        for (int i = 0; i < arcs.tails.length; ++i) {
+            int tail = arcs.tails[i];
+            int head = arcs.heads[i];
+
+            if (graph.getChildrenOf(tail).contains(head)
+                    && weightFunction.get(tail, head) <= arcs.weights[i]) {
+                continue;
+            }
+
+            graph.addArc(tail, head);
+            weightFunction.put(tail, head, arcs.weights[i]);
+        }
+    }
+
+    /**
+     * Loads a {@code .co} file into coordinate arrays indexed by node IDs.
+     * 
+     * @param coFile the coordinate file.
+     * @param xs     the array for the x-coordinates.
+     * @param ys     the array for the y-coordinates.
+     * @throws IOException if the file cannot be read, is malformed or 
+     *                     contains a node not fitting in the arrays.
+     */
+    public void loadCoordinates(Path coFile, double[] xs, double[] ys) 
+            throws IOException {
+        Objects.requireNonNull(xs, "The x-coordinate array is null.");
+        Objects.requireNonNull(ys, "The y-coordinate array is null.");
+        int capacity = Math.min(xs.length, ys.length);
+
+        parseInParallel(coFile, (parser, chunkIndex) -> {
+            while (parser.nextLine()) {
+                if (parser.lineType() == 'v') {
+                    long nodeId = parser.parseLong();
+
+                    if (nodeId < 0 || nodeId >= capacity) {
+                        throw parser.error("The node " + nodeId + 
+                                           " does not fit the arrays");
+                    }
+
+                    xs[(int) nodeId] = parser.parseDouble();
+                    ys[(int) nodeId] = parser.parseDouble();
+                }
+            }
+        });
+    }
+
+    /**
+     * Loads a {@code .co} file into {@code coordinates}.
+     * 
+     * @param coFile      the coordinate file.
+     * @param nodes       the number of nodes of the graph.
+     * @param coordinates the coordinates to add to.
+     * @throws IOException if the file cannot be read or is malformed.
+     */
+    public void loadCoordinates(Path coFile, 
+                                int nodes,
+                                DirectedGraphNodeCoordinates coordinates) 
+            throws IOException {
+        Objects.requireNonNull(coordinates, 
+                               "The input coordinates are null.");
+        double[] xs = new double[nodes + 1];
+        double[] ys = new double[nodes + 1];
+        Arrays.fill(xs, Double.NaN);
+        loadCoordinates(coFile, xs, ys);
+
+        for (int nodeId = 0; nodeId <= nodes; ++nodeId) {
+            if (!Double.isNaN(xs[nodeId])) {
+                coordinates.put(nodeId, 
+                                new Point2D.Double(xs[nodeId], ys[nodeId]));
+            }
+        }
+    }
+
+    /**
+     * Parses the arc file in two parallel passes: the first one counts the 
+     * arcs of each chunk, the second one parses each chunk into its range of 
+     * the arc arrays.
+     */
+    private ArcArrays loadArcs(Path grFile) throws IOException {
+        Objects.requireNonNull(grFile, "The input file is null.");
+        long[] boundaries = computeChunkBoundaries(grFile);
+        int chunks = boundaries.length - 1;
+        int[] chunkArcs = new int[chunks];
+        long[] nodes = { -1L };
+
+        parseInParallel(grFile, boundaries, (parser, chunkIndex) -> {
+            int arcs = 0;
+
+            while (parser.nextLine()) {
+                if (parser.lineType() == 'a') {
+                    arcs++;
+                } else if (parser.lineType() == 'p') {
+                    // "p sp <nodes> <arcs>"
+                    parser.skipWord();
+                    nodes[0] = parser.parseLong();
+                }
+            }
+
+            chunkArcs[chunkIndex] = arcs;
+        });
+
+        if (nodes[0] < 0L || nodes[0] >= Integer.MAX_VALUE) {
+            throw new IOException("The file " + grFile + " has no valid " + 
+                                  "problem line.");
+        }
+
+        int[] chunkOffsets = new int[chunks + 1];
+
+        for (int i = 0; i < chunks; ++i) {
+            long offset = (long) chunkOffsets[i] + chunkArcs[i];
+
+            if (offset > Integer.MAX_VALUE - 8) {
+                throw new IOException("Too many arcs in " + grFile + ".");
+            }
+
+            chunkOffsets[i + 1] = (int) offset;
+        }
+
+        ArcArrays arcs = new ArcArrays((int) nodes[0], chunkOffsets[chunks]);
+
+        parseInParallel(grFile, boundaries, (parser, chunkIndex) -> {
+            int index = chunkOffsets[chunkIndex];
+
+            while (parser.nextLine()) {
+                if (parser.lineType() == 'a') {
+                    long tail = parser.parseLong();
+                    long head = parser.parseLong();
+
+                    if (tail < 1 || tail > arcs.nodes 
+                            || head < 1 || head > arcs.nodes) {
+                        throw parser.error("Invalid arc (" + tail + ", " + 
+                                           head + ")");
+                    }
+
+                    arcs.tails[index] = (int) tail;
+                    arcs.heads[index] = (int) head;
+                    arcs.weights[index] = parser.parseDouble();
+                    index++;
+                }
+            }
+        });
+
+        return arcs;
+    }
+
+    private void parseInParallel(Path file, ChunkTask task) 
+            throws IOException {
+        parseInParallel(file, computeChunkBoundaries(file), task);
+    }
+
+    private void parseInParallel(Path file, long[] boundaries, ChunkTask task)
+            throws IOException {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        try (FileChannel channel = 
+                FileChannel.open(file, StandardOpenOption.READ)) {
+            for (int i = 0; i < boundaries.length - 1; ++i) {
+                MappedByteBuffer chunk = 
+                        channel.map(FileChannel.MapMode.READ_ONLY,
+                                    boundaries[i],
+                                    boundaries[i + 1] - boundaries[i]);
+                long chunkBegin = boundaries[i];
+                int chunkIndex = i;
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        task.parse(new ChunkParser(chunk, chunkBegin), 
+                                   chunkIndex);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                }, executor));
+            }
+
+            CompletableFuture.allOf(
+                    futures.toArray(new CompletableFuture<?>[futures.size()]))
+                    .join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) ex.getCause()).getCause();
+            }
+
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+
+            throw ex;
+        }
+    }
+
+    /**
+     * Splits the file into chunks such that each chunk starts at the 
+     * beginning of a line.
+     */
+    private long[] computeChunkBoundaries(Path file) throws IOException {
+        try (FileChannel channel = 
+                FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long chunkSize = 
+                    Math.min(MAXIMUM_CHUNK_SIZE, 
+                             fileSize / (parallelism * CHUNKS_PER_THREAD) + 1);
+            List<Long> boundaries = new ArrayList<>();
+            ByteBuffer buffer = ByteBuffer.allocate(4096);
+            boundaries.add(0L);
+
+            for (long nominal = chunkSize; 
+                    nominal < fileSize; 
+                    nominal += chunkSize) {
+                long boundary = 
+                        findLineStart(channel, 
+                                      Math.max(nominal, 
+                                               boundaries.get(
+                                                   boundaries.size() - 1)),
+                                      buffer);
+
+                if (boundary >= fileSize) {
+                    break;
+                }
+
+                if (boundary > boundaries.get(boundaries.size() - 1)) {
+                    boundaries.add(boundary);
+                }
+            }
+
+            boundaries.add(fileSize);
+            long[] result = new long[boundaries.size()];
+
+            for (int i = 0; i < result.length; ++i) {
+                result[i] = boundaries.get(i);
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * Returns the position following the first line feed at or after 
+     * {@code position - 1}, or the file size if there is no such line feed.
+     */
+    private static long findLineStart(FileChannel channel,
+                                      long position,
+                                      ByteBuffer buffer) throws IOException {
+        long current = position - 1;
+
+        while (true) {
+            buffer.clear();
+            int read = channel.read(buffer, current);
+
+            if (read <= 0) {
+                return channel.size();
+            }
+
+            for (int i = 0; i < read; ++i) {
+                if (buffer.get(i) == '\n') {
+                    return current + i + 1;
+                }
+            }
+
+            current += read;
+        }
+    }
+
+    /**
+     * Parses one chunk.
+     */
+    private interface ChunkTask {
+        void parse(ChunkParser parser, int chunkIndex) throws IOException;
+    }
+
+    /**
+     * Holds the parsed arcs.
+     */
+    private static final class ArcArrays {
+
+        final int nodes;
+        final int[] tails;
+        final int[] heads;
+        final double[] weights;
+
+        ArcArrays(int nodes, int arcs) {
+            this.nodes = nodes;
+            this.tails = new int[arcs];
+            this.heads = new int[arcs];
+            this.weights = new double[arcs];
+        }
+    }
+
+    /**
+     * Tokenizes the lines of a chunk directly from its bytes.
+     */
+    private static final class ChunkParser {
+
+        private final ByteBuffer buffer;
+        private final long chunkBegin;
+        private final int limit;
+        private int position;
+        private int nextLine;
+        private byte lineType;
+
+        ChunkParser(ByteBuffer buffer, long chunkBegin) {
+            this.buffer = buffer;
+            this.chunkBegin = chunkBegin;
+            this.limit = buffer.limit();
+        }
+
+        /**
+         * Moves to the next line.
+         * 
+         * @return {@code false} if there are no more lines.
+         */
+        boolean nextLine() {
+            position = nextLine;
+
+            while (position < limit) {
+                int lineEnd = position;
+
+                while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+
+                nextLine = lineEnd + 1;
+                lineType = buffer.get(position);
+
+                if (lineType != '\n' && lineType != '\r') {
+                    position++;
+                    return true;
+                }
+
+                position = nextLine;
+            }
+
+            return false;
+        }
+
+        byte lineType() {
+            return lineType;
+        }
+
+        void skipWord() {
+            skipBlanks();
+
+            while (position < limit && !isBlank(buffer.get(position))) {
+                position++;
+            }
+        }
+
+        long parseLong() throws IOException {
+            skipBlanks();
+            boolean negative = false;
+
+            if (position < limit && buffer.get(position) == '-') {
+                negative = true;
+                position++;
+            }
+
+            int digitsBegin = position;
+            long value = 0L;
+
+            while (position < limit) {
+                int digit = buffer.get(position) - '0';
+
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+
+                value = 10L * value + digit;
+                position++;
+            }
+
+            if (position == digitsBegin) {
+                throw error("A number expected");
+            }
+
+            return negative ? -value : value;
+        }
+
+        /**
+         * Parses a decimal number like {@link Double#parseDouble(String)}.
+         * A mantissa of at most 2^53 with at most 22 fraction digits and no
+         * exponent is divided once by an exact power of ten, which rounds
+         * correctly; any other number is handed to 
+         * {@link Double#parseDouble(String)}.
+         */
+        double parseDouble() throws IOException {
+            skipBlanks();
+            int begin = position;
+            boolean negative = 
+                    position < limit && buffer.get(position) == '-';
+
+            if (negative) {
+                position++;
+            }
+
+            long mantissa = 0L;
+            int digits = 0;
+            int fractionDigits = 0;
+            boolean exact = true;
+            boolean fraction = false;
+
+            while (position < limit) {
+                byte b = buffer.get(position);
+
+                if (b == '.' && !fraction) {
+                    fraction = true;
+                    position++;
+                    continue;
+                }
+
+                int digit = b - '0';
+
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+
+                if (mantissa > (MAXIMUM_EXACT_MANTISSA - digit) / 10L) {
+                    exact = false;
+                } else {
+                    mantissa = 10L * mantissa + digit;
+                }
+
+                digits++;
+
+                if (fraction) {
+                    fractionDigits++;
+                }
+
+                position++;
+            }
+
+            if (digits == 0) {
+                throw error("A number expected");
+            }
+
+            if (position < limit && (buffer.get(position) == 'e' ||
+                                     buffer.get(position) == 'E')) {
+                exact = false;
+                position++;
+
+                if (position < limit && (buffer.get(position) == '-' ||
+                                         buffer.get(position) == '+')) {
+                    position++;
+                }
+
+                int exponentBegin = position;
+
+                while (position < limit && buffer.get(position) >= '0' 
+                                        && buffer.get(position) <= '9') {
+                    position++;
+                }
+
+                if (position == exponentBegin) {
+                    throw error("An exponent expected");
+                }
+            }
+
+            if (exact && fractionDigits < POWERS_OF_TEN.length) {
+                double value = mantissa / POWERS_OF_TEN[fractionDigits];
+                return negative ? -value : value;
+            }
+
+            char[] chars = new char[position - begin];
+
+            for (int k = 0; k < chars.length; ++k) {
+                chars[k] = (char) buffer.get(begin + k);
+            }
+
+            return Double.parseDouble(new String(chars));
+        }
+
+        IOException error(String message) {
+            return new IOException(message + " at byte " + 
+                                   (chunkBegin + position) + ".");
+        }
+
+        private void skipBlanks() {
+            while (position < limit && isBlank(buffer.get(position))) {
+                position++;
+            }
+        }
+
+        private static boolean isBlank(byte b) {
+            return b == ' ' || b == '\t' || b == '\r';
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package net.coderodde.graph.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import net.coderodde.graph.ArcCursor;
+import net.coderodde.graph.WeightedDirectedGraph;
+
+/**
+ * This class implements a read-only weighted directed graph over a memory 
+ * mapped file written by {@link BinaryGraphWriter}. Opening a file maps its 
+ * sections and reads nothing else, so it takes constant time; the arcs are 
+ * read from the mapped buffers on demand. Since the mapping is shared, all
+ * the processes mapping the same file share one copy in the page cache.
+ * <p>
+ * Each section is mapped on its own, so a single section may take at most
+ * 2 GiB. The file must not be modified while it is mapped. This class is 
+ * thread-safe; the cursors are not.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ * @see BinaryGraphFormat
+ */
+public final class MappedDirectedGraph implements WeightedDirectedGraph {
+
+    private static final int CHECKSUM_CHUNK_SIZE = 1 << 30;
+
+    private final int nodeIdBound;
+    private final int arcs;
+    private final LongBuffer nodeBits;
+    private final IntBuffer childOffsets;
+    private final IntBuffer childNodes;
+    private final DoubleBuffer childWeights;
+    private final IntBuffer parentOffsets;
+    private final IntBuffer parentNodes;
+    private final DoubleBuffer parentWeights;
+    private final DoubleBuffer xs;
+    private final DoubleBuffer ys;
+
+    private MappedDirectedGraph(FileChannel channel,
+                                int nodeIdBound,
+                                int arcs,
+                                boolean hasCoordinates) throws IOException {
+        long[] offsets = 
+                BinaryGraphFormat.computeSectionOffsets(nodeIdBound,
+                                                        arcs, 
+                                                        hasCoordinates);
+        this.nodeIdBound = nodeIdBound;
+        this.arcs = arcs;
+        this.nodeBits = map(channel, offsets, BinaryGraphFormat.NODE_BITS)
+                        .asLongBuffer();
+        this.childOffsets = 
+                map(channel, offsets, BinaryGraphFormat.CHILD_OFFSETS)
+                .asIntBuffer();
+        this.childNodes = 
+                map(channel, offsets, BinaryGraphFormat.CHILD_NODES)
+                .asIntBuffer();
+        this.childWeights = 
+                map(channel, offsets, BinaryGraphFormat.CHILD_WEIGHTS)
+                .asDoubleBuffer();
+        this.parentOffsets = 
+                map(channel, offsets, BinaryGraphFormat.PARENT_OFFSETS)
+                .asIntBuffer();
+        this.parentNodes = 
+                map(channel, offsets, BinaryGraphFormat.PARENT_NODES)
+                .asIntBuffer();
+        this.parentWeights = 
+                map(channel, offsets, BinaryGraphFormat.PARENT_WEIGHTS)
+                .asDoubleBuffer();
+
+        if (hasCoordinates) {
+            this.xs = map(channel, offsets, BinaryGraphFormat.X_COORDINATES)
+                      .asDoubleBuffer();
+            this.ys = map(channel, offsets, BinaryGraphFormat.Y_COORDINATES)
+                      .asDoubleBuffer();
+        } else {
+            this.xs = null;
+            this.ys = null;
+        }
+    }
+
+    /**
+     * Maps the graph file {@code file} without verifying its checksum.
+     * 
+     * @param file the file to map.
+     * @return the mapped graph.
+     * @throws IOException if the file cannot be read or is not a valid graph
+     *                     file.
+     */
+    public static MappedDirectedGraph open(Path file) throws IOException {
+        return open(file, false);
+    }
+
+    /**
+     * Maps the graph file {@code file}. Verifying the checksum reads the 
+     * entire file once.
+     * 
+     * @param file           the file to map.
+     * @param verifyChecksum whether to verify the checksum.
+     * @return the mapped graph.
+     * @throws IOException if the file cannot be read or is not a valid graph
+     *                     file.
+     */
+    public static MappedDirectedGraph open(Path file, boolean verifyChecksum) 
+            throws IOException {
+        Objects.requireNonNull(file, "The input file is null.");
+
+        // The mappings stay valid after the channel is closed.
+        try (FileChannel channel = 
+                FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = 
+                    ByteBuffer.allocate(BinaryGraphFormat.HEADER_SIZE)
+                              .order(ByteOrder.LITTLE_ENDIAN);
+
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException(
+                            "The file " + file + " is too short.");
+                }
+            }
+
+            header.flip();
+
+            if (header.getInt() != BinaryGraphFormat.MAGIC) {
+                throw new IOException(
+                        "The file " + file + " is not a graph file.");
+            }
+
+            int version = header.getInt();
+
+            if (version != BinaryGraphFormat.VERSION) {
+                throw new IOException(
+                        "Unsupported graph file version " + version + ".");
+            }
+
+            int flags = header.getInt();
+            int nodeIdBound = header.getInt();
+            long arcs = header.getLong();
+            long checksum = header.getLong();
+            boolean hasCoordinates = 
+                    (flags & BinaryGraphFormat.FLAG_COORDINATES) != 0;
+
+            if (nodeIdBound < 0 || arcs < 0L || arcs > Integer.MAX_VALUE) {
+                throw new IOException("Corrupted graph file header.");
+            }
+
+            long[] offsets = 
+                    BinaryGraphFormat.computeSectionOffsets(nodeIdBound,
+                                                            arcs, 
+                                                            hasCoordinates);
+
+            if (channel.size() != offsets[BinaryGraphFormat.SECTIONS]) {
+                throw new IOException(
+                        "The file size " + channel.size() + " does not " + 
+                        "match the expected size " + 
+                        offsets[BinaryGraphFormat.SECTIONS] + ".");
+            }
+
+            if (verifyChecksum 
+                    && computeChecksum(channel, 
+                                       offsets[BinaryGraphFormat.SECTIONS]) 
+                       != checksum) {
+                throw new IOException(
+                        "The checksum of the file " + file + " does not " + 
+                        "match.");
+            }
+
+            return new MappedDirectedGraph(channel, 
+                                           nodeIdBound, 
+                                           (int) arcs,
+                                           hasCoordinates);
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int getNodeIdBound() {
+        return nodeIdBound;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public boolean containsNode(int nodeId) {
+        return nodeId >= 0 
+                && nodeId < nodeIdBound
+                && (nodeBits.get(nodeId >>> 6) & (1L << nodeId)) != 0;
+    }
+
+    /**
+     * Returns the number of arcs.
+     * 
+     * @return the number of arcs.
+     */
+    public int getNumberOfArcs() {
+        return arcs;
+    }
+
+    /**
+     * Returns whether the file has node coordinates.
+     * 
+     * @return {@code true} if the coordinates are available.
+     */
+    public boolean hasCoordinates() {
+        return xs != null;
+    }
+
+    /**
+     * Returns the x-coordinate of the given node.
+     * 
+     * @param nodeId the node.
+     * @return the x-coordinate.
+     */
+    public double getX(int nodeId) {
+        checkCoordinates();
+        return xs.get(nodeId);
+    }
+
+    /**
+     * Returns the y-coordinate of the given node.
+     * 
+     * @param nodeId the node.
+     * @return the y-coordinate.
+     */
+    public double getY(int nodeId) {
+        checkCoordinates();
+        return ys.get(nodeId);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public ArcCursor newChildCursor() {
+        return new MappedArcCursor(childOffsets, childNodes, childWeights);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public ArcCursor newParentCursor() {
+        return new MappedArcCursor(parentOffsets, parentNodes, parentWeights);
+    }
+
+    private void checkCoordinates() {
+        if (xs == null) {
+            throw new IllegalStateException(
+                    "The graph file has no coordinates.");
+        }
+    }
+
+    private static ByteBuffer map(FileChannel channel,
+                                  long[] offsets,
+                                  int section) throws IOException {
+        long size = offsets[section + 1] - offsets[section];
+
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("The section " + section + " is too " + 
+                                  "large to be mapped.");
+        }
+
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+                                              offsets[section],
+                                              size);
+        return buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static long computeChecksum(FileChannel channel, long fileSize) 
+            throws IOException {
+        CRC32 checksum = new CRC32();
+        long position = BinaryGraphFormat.HEADER_SIZE;
+
+        while (position < fileSize) {
+            long size = Math.min(CHECKSUM_CHUNK_SIZE, fileSize - position);
+            checksum.update(channel.map(FileChannel.MapMode.READ_ONLY,
+                                        position, 
+                                        size));
+            position += size;
+        }
+
+        return checksum.getValue();
+    }
+
+    /**
+     * Iterates over the arcs of a CSR structure stored in buffers. The 
+     * buffers are read with absolute gets, so the cursors of a graph do not
+     * interfere.
+     */
+    private static final class MappedArcCursor implements ArcCursor {
+
+        private final IntBuffer offsets;
+        private final IntBuffer nodes;
+        private final DoubleBuffer weights;
+        private int arcIndex;
+        private int arcEnd;
+
+        MappedArcCursor(IntBuffer offsets,
+                        IntBuffer nodes, 
+                        DoubleBuffer weights) {
+            this.offsets = offsets;
+            this.nodes = nodes;
+            this.weights = weights;
+        }
+
+        @Override
+        public void reset(int nodeId) {
+            arcIndex = offsets.get(nodeId) - 1;
+            arcEnd = offsets.get(nodeId + 1);
+        }
+
+        @Override
+        public boolean next() {
+            return ++arcIndex < arcEnd;
+        }
+
+        @Override
+        public int getNode() {
+            return nodes.get(arcIndex);
+        }
+
+        @Override
+        public double getWeight() {
+            return weights.get(arcIndex);
+        }
+    }
+}
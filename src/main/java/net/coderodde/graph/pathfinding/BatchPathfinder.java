@@ -0,0 +1,213 @@
+package net.coderodde.graph.pathfinding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * This class answers batches of shortest path queries in parallel. A batch is 
+ * split into chunks of consecutive queries, and the chunks are run in an
+ * executor. Since pathfinders are not thread-safe, each running chunk borrows
+ * a pathfinder of its own from a {@link PathfinderPool}; pathfinders are 
+ * created on demand via the supplied factory and are kept (together with 
+ * their grown internal buffers) for later chunks and batches.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class BatchPathfinder {
+
+    /**
+     * This interface defines the API for receiving the results of a batch as 
+     * soon as they are computed.
+     */
+    @FunctionalInterface
+    public interface PathConsumer {
+
+        /**
+         * Receives the path of the query at index {@code queryIndex}. This
+         * method is called concurrently from the worker threads.
+         * 
+         * @param queryIndex the index of the query in the input arrays.
+         * @param path       the shortest path or an empty list.
+         */
+        public void accept(int queryIndex, List<Integer> path);
+    }
+
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int MINIMUM_CHUNK_SIZE = 16;
+
+    private final PathfinderPool pathfinderPool;
+    private final Executor executor;
+    private final int parallelism;
+
+    /**
+     * Constructs a batch pathfinder running in the common fork/join pool.
+     * 
+     * @param pathfinderFactory the factory for pathfinders.
+     */
+    public BatchPathfinder(
+            Supplier<? extends AbstractPathfinder> pathfinderFactory) {
+        this(pathfinderFactory, ForkJoinPool.commonPool());
+    }
+
+    public BatchPathfinder(
+            Supplier<? extends AbstractPathfinder> pathfinderFactory,
+            ForkJoinPool pool) {
+        this(pathfinderFactory, pool, pool.getParallelism());
+    }
+
+    /**
+     * Constructs a batch pathfinder running in {@code executor}.
+     * 
+     * @param pathfinderFactory the factory for pathfinders.
+     * @param executor          the executor to run the chunks in.
+     * @param parallelism       the number of threads of {@code executor}; 
+     *                          used for choosing the chunk size.
+     */
+    public BatchPathfinder(
+            Supplier<? extends AbstractPathfinder> pathfinderFactory,
+            Executor executor,
+            int parallelism) {
+        this(new PathfinderPool(pathfinderFactory), executor, parallelism);
+    }
+
+    /**
+     * Constructs a batch pathfinder borrowing its pathfinders from 
+     * {@code pathfinderPool}, which may be shared with other users. If the 
+     * pool is smaller than the number of threads of {@code executor}, the 
+     * surplus chunks wait for a pathfinder.
+     * 
+     * @param pathfinderPool the pool of pathfinders.
+     * @param executor       the executor to run the chunks in.
+     * @param parallelism    the number of threads of {@code executor}; used 
+     *                       for choosing the chunk size.
+     */
+    public BatchPathfinder(PathfinderPool pathfinderPool,
+                           Executor executor,
+                           int parallelism) {
+        this.pathfinderPool = 
+                Objects.requireNonNull(pathfinderPool, 
+                                       "The input pathfinder pool is null.");
+        this.executor = Objects.requireNonNull(executor, 
+                                               "The input executor is null.");
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "The parallelism is less than 1: " + parallelism + ".");
+        }
+
+        this.parallelism = parallelism;
+    }
+
+    public PathfinderPool getPathfinderPool() {
+        return pathfinderPool;
+    }
+
+    /**
+     * Searches a shortest path for each pair 
+     * <tt>(sourceNodeIds[i], targetNodeIds[i])</tt>.
+     * 
+     * @param sourceNodeIds the source nodes.
+     * @param targetNodeIds the target nodes.
+     * @return the paths in the order of the input queries.
+     */
+    public List<List<Integer>> searchAll(int[] sourceNodeIds, 
+                                         int[] targetNodeIds) {
+        checkQueries(sourceNodeIds, targetNodeIds);
+        AtomicReferenceArray<List<Integer>> paths = 
+                new AtomicReferenceArray<>(sourceNodeIds.length);
+        searchAll(sourceNodeIds, targetNodeIds, paths::set);
+        List<List<Integer>> result = new ArrayList<>(paths.length());
+
+        for (int i = 0; i < paths.length(); ++i) {
+            result.add(paths.get(i));
+        }
+
+        return result;
+    }
+
+    /**
+     * Searches a shortest path for each pair 
+     * <tt>(sourceNodeIds[i], targetNodeIds[i])</tt> and hands each path to
+     * {@code consumer} as soon as it is found, instead of collecting all the
+     * paths in memory. Returns when all the queries are answered.
+     * 
+     * @param sourceNodeIds the source nodes.
+     * @param targetNodeIds the target nodes.
+     * @param consumer      the thread-safe consumer of the paths.
+     */
+    public void searchAll(int[] sourceNodeIds,
+                          int[] targetNodeIds,
+                          PathConsumer consumer) {
+        checkQueries(sourceNodeIds, targetNodeIds);
+        Objects.requireNonNull(consumer, "The input consumer is null.");
+
+        int queries = sourceNodeIds.length;
+        int chunkSize = 
+                Math.max(MINIMUM_CHUNK_SIZE, 
+                         queries / (parallelism * CHUNKS_PER_THREAD) + 1);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int begin = 0; begin < queries; begin += chunkSize) {
+            int chunkBegin = begin;
+            int chunkEnd = Math.min(queries, begin + chunkSize);
+            futures.add(CompletableFuture.runAsync(
+                    () -> searchChunk(sourceNodeIds,
+                                      targetNodeIds, 
+                                      chunkBegin, 
+                                      chunkEnd,
+                                      consumer),
+                    executor));
+        }
+
+        try {
+            CompletableFuture.allOf(
+                    futures.toArray(new CompletableFuture<?>[futures.size()]))
+                    .join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+
+            throw ex;
+        }
+    }
+
+    private void searchChunk(int[] sourceNodeIds,
+                             int[] targetNodeIds,
+                             int chunkBegin,
+                             int chunkEnd,
+                             PathConsumer consumer) {
+        AbstractPathfinder pathfinder = pathfinderPool.borrow();
+
+        try {
+            for (int i = chunkBegin; i < chunkEnd; ++i) {
+                consumer.accept(i, pathfinder.search(sourceNodeIds[i], 
+                                                     targetNodeIds[i]));
+            }
+        } finally {
+            pathfinderPool.release(pathfinder);
+        }
+    }
+
+    private static void checkQueries(int[] sourceNodeIds, 
+                                     int[] targetNodeIds) {
+        Objects.requireNonNull(sourceNodeIds, "The source node array is null.");
+        Objects.requireNonNull(targetNodeIds, "The target node array is null.");
+
+        if (sourceNodeIds.length != targetNodeIds.length) {
+            throw new IllegalArgumentException(
+                    "The number of sources (" + sourceNodeIds.length + 
+                    ") does not match the number of targets (" + 
+                    targetNodeIds.length + ").");
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package net.coderodde.graph.pathfinding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.coderodde.graph.DirectedGraph;
+import net.coderodde.graph.DirectedGraphView;
+import net.coderodde.graph.DirectedGraphWeightFunction;
+import net.coderodde.graph.WeightedDirectedGraph;
+
+/**
+ * This class decorates a pathfinder with a {@link PathCache}. A query whose
+ * <tt>(source, target)</tt> pair is cached for the current modification
+ * count of the graph is answered without searching; any other query is
+ * delegated and its result is cached if it is proven optimal. A result cut
+ * off by a budget or a suboptimality bound of the delegate is not cached, so
+ * that it is not replayed once the delegate is allowed to search further.
+ * <p>
+ * Like the pathfinder it decorates, this class is not thread-safe. In order
+ * to share cached paths between threads, give each thread its own caching
+ * pathfinder over its own delegate and the same cache.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class CachingPathfinder extends AbstractPathfinder {
+
+    private final AbstractPathfinder delegate;
+    private final WeightedDirectedGraph watchedGraph;
+    private final PathCache cache;
+
+    /**
+     * Constructs a caching pathfinder.
+     *
+     * @param delegate the pathfinder answering the cache misses.
+     * @param graph    the graph {@code delegate} searches. Its modification
+     *                 count invalidates the cached paths.
+     * @param cache    the path cache.
+     */
+    public CachingPathfinder(AbstractPathfinder delegate,
+                             WeightedDirectedGraph graph,
+                             PathCache cache) {
+        this.delegate = Objects.requireNonNull(delegate,
+                                               "The input pathfinder is null.");
+        this.watchedGraph = Objects.requireNonNull(graph,
+                                                   "The input graph is null.");
+        this.cache = Objects.requireNonNull(cache, "The input cache is null.");
+    }
+
+    public CachingPathfinder(AbstractPathfinder delegate,
+                             DirectedGraph graph,
+                             DirectedGraphWeightFunction weightFunction,
+                             PathCache cache) {
+        this(delegate, new DirectedGraphView(graph, weightFunction), cache);
+    }
+
+    public PathCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public List<Integer> search(int sourceNodeId, int targetNodeId) {
+        // Read the count before searching: if the graph changes during the
+        // search, the result is cached under the older count and dropped.
+        long modificationCount = watchedGraph.getModificationCount();
+        PathCache.Entry entry = cache.get(sourceNodeId,
+                                          targetNodeId,
+                                          modificationCount);
+
+        if (entry != null) {
+            pathCost = entry.getCost();
+            pathLowerBound = entry.getLowerBound();
+            return new ArrayList<>(entry.getPath());
+        }
+
+        SearchResult result = delegate.searchWithResult(sourceNodeId,
+                                                        targetNodeId);
+
+        if (statistics != null && result.getStatistics() != null) {
+            statistics.add(result.getStatistics());
+        }
+
+        if (result.isOptimal()) {
+            cache.put(sourceNodeId,
+                      targetNodeId,
+                      result.getPath(),
+                      result.getCost(),
+                      result.getLowerBound(),
+                      modificationCount);
+        }
+
+        pathCost = result.getCost();
+        pathLowerBound = result.getLowerBound();
+        return result.getPath();
+    }
+
+    /**
+     * Enables or disables the statistics of both this pathfinder and its
+     * delegate. A cache hit reports zero work.
+     *
+     * @param enabled whether to collect statistics.
+     */
+    @Override
+    public void setStatisticsEnabled(boolean enabled) {
+        super.setStatisticsEnabled(enabled);
+        delegate.setStatisticsEnabled(enabled);
+    }
+}
@@ -0,0 +1,167 @@
+package net.coderodde.graph.pathfinding;
+
+import java.awt.geom.Point2D;
+import java.util.Arrays;
+import java.util.Objects;
+import net.coderodde.graph.DirectedGraph;
+
+/**
+ * This class maps each node of a graph with dense node IDs to its coordinates
+ * on a two-dimensional plane. Unlike {@link DirectedGraphNodeCoordinates}, the
+ * coordinates are stored in a single interleaved array of primitive doubles so
+ * that reading both coordinates of a node takes two adjacent loads and no
+ * boxing or hashing.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class DenseNodeCoordinates {
+
+    private static final int MINIMUM_CAPACITY = 16;
+
+    /**
+     * The x-coordinate of node {@code i} is at index {@code 2 * i}, and its
+     * y-coordinate is at index {@code 2 * i + 1}.
+     */
+    private double[] xy;
+
+    /**
+     * One plus the largest node ID ever stored.
+     */
+    private int nodeIdBound;
+
+    /**
+     * Constructs an empty coordinate store with room for the nodes
+     * {@code 0, 1, ..., capacity - 1}.
+     *
+     * @param capacity the initial capacity.
+     */
+    public DenseNodeCoordinates(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(
+                    "The capacity is negative: " + capacity + ".");
+        }
+
+        this.xy = new double[2 * Math.max(capacity, MINIMUM_CAPACITY)];
+    }
+
+    /**
+     * Constructs an empty coordinate store.
+     */
+    public DenseNodeCoordinates() {
+        this(MINIMUM_CAPACITY);
+    }
+
+    /**
+     * Copies the coordinates of all the nodes of {@code graph} from the
+     * hash-based map {@code coordinates}.
+     *
+     * @param graph       the graph whose nodes to copy.
+     * @param coordinates the source coordinates.
+     * @return the dense coordinates.
+     */
+    public static DenseNodeCoordinates
+        copyOf(DirectedGraph graph, DirectedGraphNodeCoordinates coordinates) {
+        Objects.requireNonNull(graph, "The input graph is null.");
+        Objects.requireNonNull(coordinates, "The input coordinates are null.");
+        DenseNodeCoordinates dense =
+                new DenseNodeCoordinates(graph.getNodeIdBound());
+
+        for (Integer nodeId : graph.getNodeList()) {
+            Point2D.Double point = coordinates.get(nodeId);
+
+            if (point == null) {
+                throw new IllegalArgumentException(
+                        "The node " + nodeId + " has no coordinates.");
+            }
+
+            dense.put(nodeId, point.x, point.y);
+        }
+
+        return dense;
+    }
+
+    /**
+     * Copies the coordinates from two parallel arrays. The node {@code i}
+     * gets the coordinates {@code (xs[i], ys[i])}.
+     *
+     * @param xs the x-coordinates.
+     * @param ys the y-coordinates.
+     * @return the dense coordinates.
+     */
+    public static DenseNodeCoordinates fromArrays(double[] xs, double[] ys) {
+        Objects.requireNonNull(xs, "The input x-coordinate array is null.");
+        Objects.requireNonNull(ys, "The input y-coordinate array is null.");
+
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException(
+                    "The coordinate arrays differ in length: " + xs.length +
+                    " vs. " + ys.length + ".");
+        }
+
+        DenseNodeCoordinates dense = new DenseNodeCoordinates(xs.length);
+
+        for (int i = 0; i < xs.length; ++i) {
+            dense.xy[2 * i]     = xs[i];
+            dense.xy[2 * i + 1] = ys[i];
+        }
+
+        dense.nodeIdBound = xs.length;
+        return dense;
+    }
+
+    /**
+     * Associates the coordinates {@code (x, y)} to the node {@code nodeId}.
+     *
+     * @param nodeId the node to map.
+     * @param x      the x-coordinate.
+     * @param y      the y-coordinate.
+     */
+    public void put(int nodeId, double x, double y) {
+        if (nodeId < 0) {
+            throw new IllegalArgumentException(
+                    "The node ID is negative: " + nodeId + ".");
+        }
+
+        if (2 * nodeId + 1 >= xy.length) {
+            xy = Arrays.copyOf(xy, 2 * Math.max(nodeId + 1,
+                                                xy.length));
+        }
+
+        xy[2 * nodeId]     = x;
+        xy[2 * nodeId + 1] = y;
+        nodeIdBound = Math.max(nodeIdBound, nodeId + 1);
+    }
+
+    /**
+     * Returns the x-coordinate of the input node. The result is unspecified
+     * for nodes that were never put into this store.
+     *
+     * @param nodeId the node whose x-coordinate to return.
+     * @return the x-coordinate.
+     */
+    public double getX(int nodeId) {
+        return xy[2 * nodeId];
+    }
+
+    /**
+     * Returns the y-coordinate of the input node. The result is unspecified
+     * for nodes that were never put into this store.
+     *
+     * @param nodeId the node whose y-coordinate to return.
+     * @return the y-coordinate.
+     */
+    public double getY(int nodeId) {
+        return xy[2 * nodeId + 1];
+    }
+
+    /**
+     * Returns one plus the largest node ID stored.
+     *
+     * @return the node ID bound.
+     */
+    public int getNodeIdBound() {
+        return nodeIdBound;
+    }
+}
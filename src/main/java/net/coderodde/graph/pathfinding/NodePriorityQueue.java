@@ -0,0 +1,45 @@
+package net.coderodde.graph.pathfinding;
+
+/**
+ * This interface defines the API for the open lists of pathfinding 
+ * algorithms: a min-priority queue over node IDs.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public interface NodePriorityQueue {
+
+    /**
+     * Removes all the nodes from this queue.
+     * 
+     * @param nodeIdBound the exclusive upper bound on the node IDs the next
+     *                    query may insert.
+     */
+    public void clear(int nodeIdBound);
+
+    public boolean isEmpty();
+
+    public int size();
+
+    /**
+     * Inserts {@code nodeId} with the priority {@code priority}, or lowers 
+     * its priority if it is already in this queue. Implementations that do 
+     * not support decreasing keys may hold the same node several times.
+     * 
+     * @param nodeId   the node to insert.
+     * @param priority the priority of the node.
+     */
+    public void insertOrDecreaseKey(int nodeId, double priority);
+
+    /**
+     * Removes and returns the node with the lowest priority.
+     * 
+     * @return the node with the lowest priority.
+     */
+    public int extractMinimum();
+
+    public int getMinimumNode();
+
+    public double getMinimumPriority();
+}
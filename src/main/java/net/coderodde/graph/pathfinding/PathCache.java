@@ -0,0 +1,352 @@
+package net.coderodde.graph.pathfinding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class implements a bounded cache of shortest paths keyed by
+ * <tt>(source, target)</tt> pairs. The cache is split into segments, each of
+ * which is a least-recently-used map guarded by its own lock, so that threads
+ * looking up different pairs rarely contend.
+ * <p>
+ * Each lookup and each insertion carries the modification count of the graph
+ * (see {@link net.coderodde.graph.WeightedDirectedGraph#getModificationCount()}).
+ * A segment that sees a count greater than the one its entries were computed
+ * for drops all of them, so a cached path is never returned after the graph
+ * has changed.
+ * <p>
+ * A single cache may be shared by many {@link CachingPathfinder}s running in
+ * different threads, as long as they all search the same graph.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class PathCache {
+
+    /**
+     * This class holds a cached path together with its cost and the lower 
+     * bound on the cost of a shortest path.
+     */
+    public static final class Entry {
+
+        private final List<Integer> path;
+        private final double cost;
+        private final double lowerBound;
+
+        Entry(List<Integer> path, double cost, double lowerBound) {
+            this.path = Collections.unmodifiableList(new ArrayList<>(path));
+            this.cost = cost;
+            this.lowerBound = lowerBound;
+        }
+
+        /**
+         * Returns the unmodifiable cached path. The path is empty if the
+         * target is unreachable from the source.
+         *
+         * @return the path.
+         */
+        public List<Integer> getPath() {
+            return path;
+        }
+
+        /**
+         * Returns the cost of the cached path, or
+         * {@link Double#POSITIVE_INFINITY} if there is no path.
+         *
+         * @return the path cost.
+         */
+        public double getCost() {
+            return cost;
+        }
+
+        /**
+         * Returns the lower bound on the cost of a shortest path. Equals 
+         * {@link #getCost()} if the cached path is optimal.
+         *
+         * @return the lower bound.
+         */
+        public double getLowerBound() {
+            return lowerBound;
+        }
+    }
+
+    private static final int SEGMENTS_PER_THREAD = 4;
+
+    private final Segment[] segments;
+    private final int capacity;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Constructs a cache holding at most {@code capacity} paths, with a
+     * number of segments suited to the number of available processors.
+     *
+     * @param capacity the maximum number of cached paths.
+     */
+    public PathCache(int capacity) {
+        this(capacity,
+             SEGMENTS_PER_THREAD * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a cache holding at most {@code capacity} paths in
+     * {@code segments} segments. The number of segments is rounded up to a
+     * power of two and reduced if needed so that each segment has room for
+     * at least one path.
+     *
+     * @param capacity the maximum number of cached paths.
+     * @param segments the requested number of segments.
+     */
+    public PathCache(int capacity, int segments) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                    "The capacity is less than 1: " + capacity + ".");
+        }
+
+        if (segments < 1) {
+            throw new IllegalArgumentException(
+                    "The number of segments is less than 1: " +
+                    segments + ".");
+        }
+
+        int segmentCount = 1;
+
+        while (segmentCount < segments && 2 * segmentCount <= capacity) {
+            segmentCount *= 2;
+        }
+
+        this.capacity = capacity;
+        this.segments = new Segment[segmentCount];
+
+        for (int i = 0; i < segmentCount; ++i) {
+            // Spread the capacity so that the segment capacities sum to
+            // 'capacity':
+            int segmentCapacity = capacity / segmentCount +
+                                  (i < capacity % segmentCount ? 1 : 0);
+            this.segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    /**
+     * Returns the cached path from {@code sourceNodeId} to
+     * {@code targetNodeId}, or {@code null} if there is no such path
+     * computed for the graph modification count
+     * {@code modificationCount}.
+     *
+     * @param sourceNodeId      the source node.
+     * @param targetNodeId      the target node.
+     * @param modificationCount the current modification count of the graph.
+     * @return the cached entry or {@code null}.
+     */
+    public Entry get(int sourceNodeId,
+                     int targetNodeId,
+                     long modificationCount) {
+        long key = key(sourceNodeId, targetNodeId);
+        Segment segment = segmentFor(key);
+        Entry entry;
+
+        synchronized (segment) {
+            segment.synchronize(modificationCount);
+            entry = segment.get(key);
+        }
+
+        if (entry == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+
+        return entry;
+    }
+
+    /**
+     * Caches the path from {@code sourceNodeId} to {@code targetNodeId}
+     * computed for the graph modification count {@code modificationCount}.
+     * The path is copied.
+     *
+     * @param sourceNodeId      the source node.
+     * @param targetNodeId      the target node.
+     * @param path              the path to cache.
+     * @param cost              the cost of the path.
+     * @param modificationCount the modification count of the graph the path
+     *                          was computed for.
+     * @return the new cache entry.
+     */
+    public Entry put(int sourceNodeId,
+                     int targetNodeId,
+                     List<Integer> path,
+                     double cost,
+                     long modificationCount) {
+        return put(sourceNodeId,
+                   targetNodeId,
+                   path,
+                   cost,
+                   cost,
+                   modificationCount);
+    }
+
+    /**
+     * Caches a possibly suboptimal path from {@code sourceNodeId} to
+     * {@code targetNodeId} computed for the graph modification count
+     * {@code modificationCount}. The path is copied.
+     *
+     * @param sourceNodeId      the source node.
+     * @param targetNodeId      the target node.
+     * @param path              the path to cache.
+     * @param cost              the cost of the path.
+     * @param lowerBound        the lower bound on the cost of a shortest
+     *                          path.
+     * @param modificationCount the modification count of the graph the path
+     *                          was computed for.
+     * @return the new cache entry.
+     */
+    public Entry put(int sourceNodeId,
+                     int targetNodeId,
+                     List<Integer> path,
+                     double cost,
+                     double lowerBound,
+                     long modificationCount) {
+        Entry entry = new Entry(path, cost, lowerBound);
+        long key = key(sourceNodeId, targetNodeId);
+        Segment segment = segmentFor(key);
+
+        synchronized (segment) {
+            segment.synchronize(modificationCount);
+
+            // A path computed for an older graph must not replace the
+            // entries of a newer one:
+            if (segment.modificationCount == modificationCount) {
+                segment.put(key, entry);
+            }
+        }
+
+        return entry;
+    }
+
+    /**
+     * Removes all the cached paths. The counters are kept.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cached paths.
+     *
+     * @return the size of this cache.
+     */
+    public int size() {
+        int size = 0;
+
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of paths dropped to make room for newer ones.
+     *
+     * @return the number of evictions.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the number of paths dropped because the graph changed.
+     *
+     * @return the number of invalidations.
+     */
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    private Segment segmentFor(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return segments[(int)(hash >>> 32) & (segments.length - 1)];
+    }
+
+    private static long key(int sourceNodeId, int targetNodeId) {
+        return ((long) sourceNodeId << 32) | (targetNodeId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * An access-ordered map that evicts its least recently used entry once it
+     * grows past its capacity.
+     */
+    private final class Segment {
+
+        private final Map<Long, Entry> map =
+                new LinkedHashMap<>(16, 0.75f, true);
+        private final int capacity;
+        private long modificationCount;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * Drops all the entries if the graph has changed since they were
+         * computed. Older modification counts are ignored; they belong to
+         * lookups that raced with a modification.
+         */
+        void synchronize(long modificationCount) {
+            if (modificationCount > this.modificationCount) {
+                invalidations.add(map.size());
+                map.clear();
+                this.modificationCount = modificationCount;
+            }
+        }
+
+        Entry get(long key) {
+            return map.get(key);
+        }
+
+        void put(long key, Entry entry) {
+            map.put(key, entry);
+
+            if (map.size() > capacity) {
+                Iterator<Long> iterator = map.keySet().iterator();
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+
+        void clear() {
+            map.clear();
+        }
+
+        int size() {
+            return map.size();
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package net.coderodde.graph.pathfinding;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * This class keeps a bounded set of pathfinders for serving queries from many
+ * threads. Since a pathfinder keeps the state of the current query in its
+ * fields, a pathfinder may be used by only one thread at a time: a thread
+ * borrows a pathfinder, searches with it and returns it to the pool. The
+ * pathfinders are created on demand via the supplied factory, up to the
+ * maximum size of the pool, and are kept together with their grown internal
+ * buffers. A thread borrowing from a pool whose all pathfinders are borrowed
+ * waits until one is returned.
+ * <p>
+ * Idle pathfinders are handed out in last-in, first-out order, so that the
+ * most recently used pathfinder, whose buffers are most likely still cached,
+ * is reused first.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class PathfinderPool {
+
+    private final Supplier<? extends AbstractPathfinder> pathfinderFactory;
+    private final int maximumSize;
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<AbstractPathfinder> idlePathfinders =
+            new ConcurrentLinkedDeque<>();
+    private final AtomicInteger createdPathfinders = new AtomicInteger();
+    private final AtomicInteger borrowedPathfinders = new AtomicInteger();
+    private final AtomicInteger peakBorrowedPathfinders = new AtomicInteger();
+    private final LongAdder borrows = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+
+    /**
+     * Constructs a pool that creates as many pathfinders as there are
+     * threads using it at the same time.
+     *
+     * @param pathfinderFactory the factory for pathfinders.
+     */
+    public PathfinderPool(
+            Supplier<? extends AbstractPathfinder> pathfinderFactory) {
+        this(pathfinderFactory, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a pool holding at most {@code maximumSize} pathfinders.
+     *
+     * @param pathfinderFactory the factory for pathfinders.
+     * @param maximumSize       the maximum number of pathfinders.
+     */
+    public PathfinderPool(
+            Supplier<? extends AbstractPathfinder> pathfinderFactory,
+            int maximumSize) {
+        this.pathfinderFactory =
+                Objects.requireNonNull(pathfinderFactory,
+                                       "The input pathfinder factory is null.");
+
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException(
+                    "The maximum size is less than 1: " + maximumSize + ".");
+        }
+
+        this.maximumSize = maximumSize;
+        this.permits = new Semaphore(maximumSize);
+    }
+
+    /**
+     * Borrows a pathfinder, waiting uninterruptibly if all the pathfinders
+     * are borrowed. The pathfinder must be returned via
+     * {@link #release(AbstractPathfinder)} exactly once.
+     *
+     * @return a pathfinder for the exclusive use of the calling thread.
+     */
+    public AbstractPathfinder borrow() {
+        if (!permits.tryAcquire()) {
+            waits.increment();
+            permits.acquireUninterruptibly();
+        }
+
+        return take();
+    }
+
+    /**
+     * Borrows a pathfinder, waiting at most {@code timeout} if all the
+     * pathfinders are borrowed.
+     *
+     * @param timeout the maximum time to wait.
+     * @param unit    the unit of {@code timeout}.
+     * @return a pathfinder, or {@code null} if none became available in
+     *         time.
+     * @throws InterruptedException if the calling thread is interrupted
+     *                              while waiting.
+     */
+    public AbstractPathfinder tryBorrow(long timeout, TimeUnit unit)
+            throws InterruptedException {
+        if (!permits.tryAcquire()) {
+            waits.increment();
+
+            if (!permits.tryAcquire(timeout, unit)) {
+                return null;
+            }
+        }
+
+        return take();
+    }
+
+    /**
+     * Returns a borrowed pathfinder to this pool.
+     *
+     * @param pathfinder the pathfinder to return.
+     */
+    public void release(AbstractPathfinder pathfinder) {
+        Objects.requireNonNull(pathfinder, "The input pathfinder is null.");
+        idlePathfinders.push(pathfinder);
+        borrowedPathfinders.decrementAndGet();
+        permits.release();
+    }
+
+    /**
+     * Searches a shortest path with a borrowed pathfinder.
+     *
+     * @param sourceNodeId the source node.
+     * @param targetNodeId the target node.
+     * @return the shortest path or an empty list.
+     * @see AbstractPathfinder#search(int, int)
+     */
+    public List<Integer> search(int sourceNodeId, int targetNodeId) {
+        AbstractPathfinder pathfinder = borrow();
+
+        try {
+            return pathfinder.search(sourceNodeId, targetNodeId);
+        } finally {
+            release(pathfinder);
+        }
+    }
+
+    /**
+     * Searches a shortest path with a borrowed pathfinder.
+     *
+     * @param sourceNodeId the source node.
+     * @param targetNodeId the target node.
+     * @return the search result.
+     * @see AbstractPathfinder#searchWithResult(int, int)
+     */
+    public SearchResult searchWithResult(int sourceNodeId, int targetNodeId) {
+        AbstractPathfinder pathfinder = borrow();
+
+        try {
+            return pathfinder.searchWithResult(sourceNodeId, targetNodeId);
+        } finally {
+            release(pathfinder);
+        }
+    }
+
+    /**
+     * Searches a shortest path in {@code executor} with a pathfinder 
+     * borrowed by the worker thread. Cancelling the returned future stops 
+     * the search and returns the pathfinder to this pool.
+     * 
+     * @param sourceNodeId the source node.
+     * @param targetNodeId the target node.
+     * @param executor     the executor to search in.
+     * @return the future of the search result.
+     * @see AbstractPathfinder#searchAsync(int, int, Executor)
+     */
+    public CompletableFuture<SearchResult> searchAsync(int sourceNodeId,
+                                                       int targetNodeId,
+                                                       Executor executor) {
+        return AbstractPathfinder.runAsync(
+                () -> searchWithResult(sourceNodeId, targetNodeId),
+                executor,
+                0L,
+                null);
+    }
+
+    /**
+     * Searches a shortest path in {@code executor} with a pathfinder 
+     * borrowed by the worker thread, giving up if the search does not finish
+     * within {@code timeout} since this call.
+     * 
+     * @param sourceNodeId the source node.
+     * @param targetNodeId the target node.
+     * @param executor     the executor to search in.
+     * @param timeout      the time limit.
+     * @param unit         the unit of {@code timeout}.
+     * @return the future of the search result.
+     * @see AbstractPathfinder#searchAsync(int, int, Executor, long, TimeUnit)
+     */
+    public CompletableFuture<SearchResult> searchAsync(int sourceNodeId,
+                                                       int targetNodeId,
+                                                       Executor executor,
+                                                       long timeout,
+                                                       TimeUnit unit) {
+        Objects.requireNonNull(unit, "The input time unit is null.");
+        return AbstractPathfinder.runAsync(
+                () -> searchWithResult(sourceNodeId, targetNodeId),
+                executor,
+                timeout,
+                unit);
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the number of pathfinders created so far.
+     *
+     * @return the number of created pathfinders.
+     */
+    public int getCreatedPathfinders() {
+        return createdPathfinders.get();
+    }
+
+    /**
+     * Returns the number of pathfinders currently borrowed.
+     *
+     * @return the number of borrowed pathfinders.
+     */
+    public int getBorrowedPathfinders() {
+        return borrowedPathfinders.get();
+    }
+
+    /**
+     * Returns the largest number of pathfinders borrowed at the same time.
+     *
+     * @return the peak number of borrowed pathfinders.
+     */
+    public int getPeakBorrowedPathfinders() {
+        return peakBorrowedPathfinders.get();
+    }
+
+    /**
+     * Returns the number of borrows so far.
+     *
+     * @return the number of borrows.
+     */
+    public long getBorrows() {
+        return borrows.sum();
+    }
+
+    /**
+     * Returns the number of borrows that had to wait for a pathfinder to be
+     * returned.
+     *
+     * @return the number of waiting borrows.
+     */
+    public long getWaits() {
+        return waits.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "[created: " + getCreatedPathfinders() +
+               ", borrowed: " + getBorrowedPathfinders() +
+               ", peak borrowed: " + getPeakBorrowedPathfinders() +
+               ", maximum: " + maximumSize +
+               ", borrows: " + getBorrows() +
+               ", waits: " + getWaits() + "]";
+    }
+
+    private AbstractPathfinder take() {
+        AbstractPathfinder pathfinder = idlePathfinders.poll();
+
+        if (pathfinder == null) {
+            try {
+                pathfinder = pathfinderFactory.get();
+            } catch (RuntimeException | Error ex) {
+                permits.release();
+                throw ex;
+            }
+
+            if (pathfinder == null) {
+                permits.release();
+                throw new IllegalStateException(
+                        "The pathfinder factory returned null.");
+            }
+
+            createdPathfinders.incrementAndGet();
+        }
+
+        borrows.increment();
+        int borrowed = borrowedPathfinders.incrementAndGet();
+        peakBorrowedPathfinders.accumulateAndGet(borrowed, Math::max);
+        return pathfinder;
+    }
+}
@@ -0,0 +1,510 @@
+package net.coderodde.graph.pathfinding;
+
+import java.util.Arrays;
+import java.util.Objects;
+import net.coderodde.graph.ArcCursor;
+import net.coderodde.graph.WeightedDirectedGraph;
+
+/**
+ * This class indexes the reachability between the nodes of a graph. It
+ * computes the strongly connected components of the graph with an iterative
+ * version of Tarjan's algorithm, so that deep graphs do not overflow the
+ * call stack, and condenses them into a directed acyclic graph. Tarjan's
+ * algorithm completes the components in reverse topological order, so each
+ * arc of the condensation leads from a greater component ID to a smaller
+ * one.
+ * <p>
+ * If the condensation has at most {@link #CLOSURE_LIMIT} components, its
+ * transitive closure is stored as bit sets and every reachability query
+ * takes constant time. Otherwise, each component is labeled with its
+ * topological order and two post-order intervals, which refute most
+ * unreachable pairs in constant time; the remaining pairs are decided by a
+ * depth-first search over the condensation pruned by the same labels.
+ * <p>
+ * The index describes the graph as it was when the index was built; see
+ * {@link #getModificationCount()}. It is immutable, and thus may be shared
+ * by pathfinders running in different threads.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class ReachabilityIndex {
+
+    /**
+     * The maximum number of components whose transitive closure is stored.
+     * The closure takes {@code CLOSURE_LIMIT^2 / 8} bytes, or 8 MB.
+     */
+    public static final int CLOSURE_LIMIT = 8192;
+
+    private static final int NO_COMPONENT = -1;
+
+    private final long modificationCount;
+    private final int[] componentOf;
+    private final int numberOfComponents;
+
+    // The condensation in compressed sparse row form.
+    private final int[] dagOffsets;
+    private final int[] dagHeads;
+
+    // 'closure[c]' is the bit set of the components reachable from 'c', or
+    // 'closure' is 'null' if there are too many components.
+    private final long[][] closure;
+
+    // The post-order intervals of two depth-first traversals.
+    private final int[] low1;
+    private final int[] post1;
+    private final int[] low2;
+    private final int[] post2;
+
+    // The visited marks of the pruned searches, per thread.
+    private final ThreadLocal<int[]> visitedStamps;
+    private final ThreadLocal<int[]> generations =
+            ThreadLocal.withInitial(() -> new int[1]);
+
+    private ReachabilityIndex(long modificationCount,
+                              int[] componentOf,
+                              int numberOfComponents,
+                              int[] dagOffsets,
+                              int[] dagHeads,
+                              int closureLimit) {
+        this.modificationCount = modificationCount;
+        this.componentOf = componentOf;
+        this.numberOfComponents = numberOfComponents;
+        this.dagOffsets = dagOffsets;
+        this.dagHeads = dagHeads;
+
+        if (numberOfComponents <= closureLimit) {
+            this.closure = computeClosure();
+            this.low1 = null;
+            this.post1 = null;
+            this.low2 = null;
+            this.post2 = null;
+            this.visitedStamps = null;
+        } else {
+            this.closure = null;
+            this.low1 = new int[numberOfComponents];
+            this.post1 = new int[numberOfComponents];
+            this.low2 = new int[numberOfComponents];
+            this.post2 = new int[numberOfComponents];
+            computeIntervals(low1, post1, false);
+            computeIntervals(low2, post2, true);
+            this.visitedStamps =
+                    ThreadLocal.withInitial(() -> new int[numberOfComponents]);
+        }
+    }
+
+    /**
+     * Builds the reachability index of {@code graph}.
+     *
+     * @param graph the graph to index.
+     * @return the reachability index.
+     */
+    public static ReachabilityIndex build(WeightedDirectedGraph graph) {
+        return build(graph, CLOSURE_LIMIT);
+    }
+
+    static ReachabilityIndex build(WeightedDirectedGraph graph,
+                                   int closureLimit) {
+        Objects.requireNonNull(graph, "The input graph is null.");
+        long modificationCount = graph.getModificationCount();
+        int nodeIdBound = graph.getNodeIdBound();
+
+        // Copy the arcs into compressed sparse row form, so that the
+        // traversal can resume the arc scan of each node:
+        ArcCursor cursor = graph.newChildCursor();
+        int[] offsets = new int[nodeIdBound + 1];
+        int arcs = 0;
+
+        for (int node = 0; node < nodeIdBound; ++node) {
+            offsets[node] = arcs;
+
+            if (graph.containsNode(node)) {
+                cursor.reset(node);
+
+                while (cursor.next()) {
+                    arcs++;
+                }
+            }
+        }
+
+        offsets[nodeIdBound] = arcs;
+        int[] heads = new int[arcs];
+
+        for (int node = 0, arc = 0; node < nodeIdBound; ++node) {
+            if (graph.containsNode(node)) {
+                cursor.reset(node);
+
+                while (cursor.next()) {
+                    heads[arc++] = cursor.getNode();
+                }
+            }
+        }
+
+        int[] componentOf = new int[nodeIdBound];
+        int components = computeComponents(graph, offsets, heads, componentOf);
+
+        // Condense, skipping the arcs within a component and the duplicate
+        // arcs between two components:
+        int[] dagOffsets = new int[components + 1];
+        int[] dagHeads = new int[arcs];
+        int[] lastTail = new int[components];
+        Arrays.fill(lastTail, NO_COMPONENT);
+        int[][] members = groupByComponent(componentOf, components);
+        int dagArcs = 0;
+
+        for (int c = 0; c < components; ++c) {
+            dagOffsets[c] = dagArcs;
+
+            for (int node : members[c]) {
+                for (int arc = offsets[node]; arc < offsets[node + 1]; ++arc) {
+                    int d = componentOf[heads[arc]];
+
+                    if (d != c && lastTail[d] != c) {
+                        lastTail[d] = c;
+                        dagHeads[dagArcs++] = d;
+                    }
+                }
+            }
+        }
+
+        dagOffsets[components] = dagArcs;
+        return new ReachabilityIndex(modificationCount,
+                                     componentOf,
+                                     components,
+                                     dagOffsets,
+                                     Arrays.copyOf(dagHeads, dagArcs),
+                                     closureLimit);
+    }
+
+    /**
+     * Returns the modification count of the graph at the time this index
+     * was built. Pathfinders ignore an index whose count differs from the
+     * current count of their graph.
+     *
+     * @return the modification count of the indexed graph.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    public int getNumberOfComponents() {
+        return numberOfComponents;
+    }
+
+    /**
+     * Returns the strongly connected component of {@code nodeId}.
+     *
+     * @param nodeId the node.
+     * @return the component ID, or {@code -1} if the node was not in the
+     *         graph.
+     */
+    public int getComponent(int nodeId) {
+        return nodeId >= 0 && nodeId < componentOf.length ?
+               componentOf[nodeId] :
+               NO_COMPONENT;
+    }
+
+    /**
+     * Checks whether there is a path from {@code sourceNodeId} to
+     * {@code targetNodeId}.
+     *
+     * @param sourceNodeId the source node.
+     * @param targetNodeId the target node.
+     * @return {@code true} if the target is reachable from the source.
+     */
+    public boolean isReachable(int sourceNodeId, int targetNodeId) {
+        int source = getComponent(sourceNodeId);
+        int target = getComponent(targetNodeId);
+
+        if (source == NO_COMPONENT || target == NO_COMPONENT) {
+            return false;
+        }
+
+        if (!mayReach(source, target)) {
+            return false;
+        }
+
+        return closure != null || source == target || search(source, target);
+    }
+
+    /**
+     * Checks whether {@code nodeId} may lie on a path from
+     * {@code sourceNodeId} to {@code targetNodeId}, that is, whether the node
+     * is reachable from the source and the target is reachable from the
+     * node. This test runs in constant time; it is exact if the transitive
+     * closure is stored, and may return false positives otherwise.
+     *
+     * @param sourceNodeId the source node.
+     * @param nodeId       the node to test.
+     * @param targetNodeId the target node.
+     * @return {@code false} if the node lies on no such path.
+     */
+    public boolean mayLieOnPath(int sourceNodeId,
+                                int nodeId,
+                                int targetNodeId) {
+        int source = getComponent(sourceNodeId);
+        int node = getComponent(nodeId);
+        int target = getComponent(targetNodeId);
+
+        if (source == NO_COMPONENT ||
+                node == NO_COMPONENT ||
+                target == NO_COMPONENT) {
+            return false;
+        }
+
+        return mayReach(source, node) && mayReach(node, target);
+    }
+
+    /**
+     * The constant-time test: exact with the closure, a necessary condition
+     * without it.
+     */
+    private boolean mayReach(int source, int target) {
+        if (closure != null) {
+            return (closure[source][target >>> 6] & (1L << target)) != 0L;
+        }
+
+        // Arcs lead from greater to smaller IDs, and the post-order interval
+        // of a component contains those of its descendants:
+        return source >= target &&
+               low1[source] <= low1[target] && post1[target] <= post1[source] &&
+               low2[source] <= low2[target] && post2[target] <= post2[source];
+    }
+
+    /**
+     * Searches the condensation depth-first from {@code source}, skipping
+     * the components the labels prove not to reach {@code target}.
+     */
+    private boolean search(int source, int target) {
+        int[] stamps = visitedStamps.get();
+        int[] generation = generations.get();
+
+        if (++generation[0] == 0) {
+            Arrays.fill(stamps, 0);
+            generation[0] = 1;
+        }
+
+        int stamp = generation[0];
+        int[] stack = new int[16];
+        int size = 0;
+        stack[size++] = source;
+        stamps[source] = stamp;
+
+        while (size > 0) {
+            int c = stack[--size];
+
+            for (int arc = dagOffsets[c]; arc < dagOffsets[c + 1]; ++arc) {
+                int d = dagHeads[arc];
+
+                if (d == target) {
+                    return true;
+                }
+
+                if (stamps[d] != stamp && mayReach(d, target)) {
+                    stamps[d] = stamp;
+
+                    if (size == stack.length) {
+                        stack = Arrays.copyOf(stack, 2 * size);
+                    }
+
+                    stack[size++] = d;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private long[][] computeClosure() {
+        int words = (numberOfComponents + 63) >>> 6;
+        long[][] result = new long[numberOfComponents][];
+
+        // The successors of a component have smaller IDs, so they are done
+        // before the component itself:
+        for (int c = 0; c < numberOfComponents; ++c) {
+            long[] bits = new long[words];
+            bits[c >>> 6] |= 1L << c;
+
+            for (int arc = dagOffsets[c]; arc < dagOffsets[c + 1]; ++arc) {
+                long[] successorBits = result[dagHeads[arc]];
+
+                for (int i = 0; i < words; ++i) {
+                    bits[i] |= successorBits[i];
+                }
+            }
+
+            result[c] = bits;
+        }
+
+        return result;
+    }
+
+    /**
+     * Labels each component with its post-order number {@code post} and the
+     * smallest post-order number {@code low} among its descendants, by
+     * depth-first traversals from the sources of the condensation.
+     */
+    private void computeIntervals(int[] low, int[] post, boolean reversed) {
+        boolean[] hasParent = new boolean[numberOfComponents];
+
+        for (int head : dagHeads) {
+            hasParent[head] = true;
+        }
+
+        boolean[] visited = new boolean[numberOfComponents];
+        int[] stack = new int[numberOfComponents];
+        int[] nextArc = new int[numberOfComponents];
+        int counter = 0;
+
+        for (int i = 0; i < numberOfComponents; ++i) {
+            int root = reversed ? i : numberOfComponents - 1 - i;
+
+            if (hasParent[root] || visited[root]) {
+                continue;
+            }
+
+            int size = 0;
+            stack[size++] = root;
+            visited[root] = true;
+            nextArc[root] = 0;
+            low[root] = Integer.MAX_VALUE;
+
+            while (size > 0) {
+                int c = stack[size - 1];
+                int degree = dagOffsets[c + 1] - dagOffsets[c];
+
+                if (nextArc[c] < degree) {
+                    int k = nextArc[c]++;
+                    int d = dagHeads[reversed ?
+                                     dagOffsets[c + 1] - 1 - k :
+                                     dagOffsets[c] + k];
+
+                    if (!visited[d]) {
+                        visited[d] = true;
+                        nextArc[d] = 0;
+                        low[d] = Integer.MAX_VALUE;
+                        stack[size++] = d;
+                    } else {
+                        low[c] = Math.min(low[c], low[d]);
+                    }
+                } else {
+                    post[c] = counter++;
+                    low[c] = Math.min(low[c], post[c]);
+                    size--;
+
+                    if (size > 0) {
+                        int parent = stack[size - 1];
+                        low[parent] = Math.min(low[parent], low[c]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs Tarjan's algorithm iteratively and fills {@code componentOf}.
+     *
+     * @return the number of components.
+     */
+    private static int computeComponents(WeightedDirectedGraph graph,
+                                         int[] offsets,
+                                         int[] heads,
+                                         int[] componentOf) {
+        int nodeIdBound = componentOf.length;
+        int[] index = new int[nodeIdBound];
+        int[] lowLink = new int[nodeIdBound];
+        int[] nextArc = new int[nodeIdBound];
+        boolean[] onStack = new boolean[nodeIdBound];
+        int[] callStack = new int[nodeIdBound];
+        int[] componentStack = new int[nodeIdBound];
+        Arrays.fill(index, -1);
+        Arrays.fill(componentOf, NO_COMPONENT);
+        int counter = 0;
+        int components = 0;
+
+        for (int root = 0; root < nodeIdBound; ++root) {
+            if (index[root] != -1 || !graph.containsNode(root)) {
+                continue;
+            }
+
+            int callSize = 0;
+            int componentSize = 0;
+            index[root] = lowLink[root] = counter++;
+            nextArc[root] = offsets[root];
+            callStack[callSize++] = root;
+            componentStack[componentSize++] = root;
+            onStack[root] = true;
+
+            while (callSize > 0) {
+                int node = callStack[callSize - 1];
+
+                if (nextArc[node] < offsets[node + 1]) {
+                    int child = heads[nextArc[node]++];
+
+                    if (index[child] == -1) {
+                        index[child] = lowLink[child] = counter++;
+                        nextArc[child] = offsets[child];
+                        callStack[callSize++] = child;
+                        componentStack[componentSize++] = child;
+                        onStack[child] = true;
+                    } else if (onStack[child]) {
+                        lowLink[node] = Math.min(lowLink[node], index[child]);
+                    }
+
+                    continue;
+                }
+
+                callSize--;
+
+                if (callSize > 0) {
+                    int parent = callStack[callSize - 1];
+                    lowLink[parent] = Math.min(lowLink[parent],
+                                               lowLink[node]);
+                }
+
+                if (lowLink[node] == index[node]) {
+                    int member;
+
+                    do {
+                        member = componentStack[--componentSize];
+                        onStack[member] = false;
+                        componentOf[member] = components;
+                    } while (member != node);
+
+                    components++;
+                }
+            }
+        }
+
+        return components;
+    }
+
+    private static int[][] groupByComponent(int[] componentOf,
+                                            int components) {
+        int[] sizes = new int[components];
+
+        for (int c : componentOf) {
+            if (c != NO_COMPONENT) {
+                sizes[c]++;
+            }
+        }
+
+        int[][] members = new int[components][];
+
+        for (int c = 0; c < components; ++c) {
+            members[c] = new int[sizes[c]];
+            sizes[c] = 0;
+        }
+
+        for (int node = 0; node < componentOf.length; ++node) {
+            int c = componentOf[node];
+
+            if (c != NO_COMPONENT) {
+                members[c][sizes[c]++] = node;
+            }
+        }
+
+        return members;
+    }
+}
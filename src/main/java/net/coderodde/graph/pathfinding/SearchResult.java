@@ -0,0 +1,127 @@
+package net.coderodde.graph.pathfinding;
+
+import java.util.List;
+
+/**
+ * This class holds the result of a single search: the path, its cost, a 
+ * proven lower bound on the cost of a shortest path and, if enabled, the 
+ * search statistics.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class SearchResult {
+
+    private final List<Integer> path;
+    private final double cost;
+    private final double lowerBound;
+    private final SearchStatistics statistics;
+
+    /**
+     * Constructs the result of a search that returns shortest paths.
+     * 
+     * @param path       the path.
+     * @param cost       the cost of the path.
+     * @param statistics the search statistics or {@code null}.
+     */
+    public SearchResult(List<Integer> path, 
+                        double cost, 
+                        SearchStatistics statistics) {
+        this(path, cost, cost, statistics);
+    }
+
+    /**
+     * Constructs the result of a search that may return a suboptimal path.
+     * 
+     * @param path       the path.
+     * @param cost       the cost of the path.
+     * @param lowerBound a lower bound on the cost of a shortest path.
+     * @param statistics the search statistics or {@code null}.
+     */
+    public SearchResult(List<Integer> path,
+                        double cost,
+                        double lowerBound,
+                        SearchStatistics statistics) {
+        this.path = path;
+        this.cost = cost;
+        this.lowerBound = Math.min(lowerBound, cost);
+        this.statistics = statistics;
+    }
+
+    /**
+     * Returns the path from the source node to the target node, or an empty
+     * list if there is no such path.
+     * 
+     * @return the path.
+     */
+    public List<Integer> getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the cost of the path, or {@link Double#POSITIVE_INFINITY} if 
+     * there is no path.
+     * 
+     * @return the cost of the path.
+     */
+    public double getCost() {
+        return cost;
+    }
+
+    /**
+     * Returns a lower bound on the cost of a shortest path from the source 
+     * node to the target node. Equals {@link #getCost()} if the path is known
+     * to be optimal.
+     * 
+     * @return the lower bound.
+     */
+    public double getLowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Returns whether the path is known to be a shortest path, or, if no 
+     * path was found, whether the target is known to be unreachable.
+     * 
+     * @return {@code true} if this result is proven optimal.
+     */
+    public boolean isOptimal() {
+        return lowerBound == cost;
+    }
+
+    /**
+     * Returns the proven relative optimality gap 
+     * <tt>cost / lowerBound - 1</tt>: the cost of the path exceeds the cost 
+     * of a shortest path by at most this fraction. Returns zero for an 
+     * optimal result.
+     * 
+     * @return the relative optimality gap.
+     */
+    public double getOptimalityGap() {
+        if (lowerBound == cost) {
+            return 0.0;
+        }
+
+        return cost / lowerBound - 1.0;
+    }
+
+    /**
+     * Returns whether a path was found.
+     * 
+     * @return {@code true} if a path was found.
+     */
+    public boolean hasPath() {
+        return !path.isEmpty();
+    }
+
+    /**
+     * Returns the statistics of the search, or {@code null} if statistics 
+     * were disabled.
+     * 
+     * @return the search statistics.
+     */
+    public SearchStatistics getStatistics() {
+        return statistics;
+    }
+}
@@ -0,0 +1,58 @@
+package net.coderodde.graph.pathfinding;
+
+/**
+ * This interface defines the per-query bookkeeping of a search direction: 
+ * the tentative distances, the parent pointers and the closed set. 
+ * Implementations are meant to be reused across queries; 
+ * {@link #reset(int)} prepares a state for the next query.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public interface SearchState {
+
+    /**
+     * Forgets everything recorded for the previous query.
+     * 
+     * @param nodeIdBound the exclusive upper bound on the node IDs the next
+     *                    query may touch.
+     */
+    public void reset(int nodeIdBound);
+
+    /**
+     * Checks whether {@code nodeId} has a tentative distance.
+     * 
+     * @param nodeId the node to query.
+     * @return {@code true} if the node has been reached.
+     */
+    public boolean hasDistance(int nodeId);
+
+    /**
+     * Returns the tentative distance of {@code nodeId}, or 
+     * {@link Double#POSITIVE_INFINITY} if the node is not reached yet.
+     * 
+     * @param nodeId the node to query.
+     * @return the tentative distance.
+     */
+    public double getDistance(int nodeId);
+
+    public void setDistance(int nodeId, double distance);
+
+    /**
+     * Checks whether {@code nodeId} has a parent. The root of a search has no
+     * parent.
+     * 
+     * @param nodeId the node to query.
+     * @return {@code true} if the node has a parent.
+     */
+    public boolean hasParent(int nodeId);
+
+    public int getParent(int nodeId);
+
+    public void setParent(int nodeId, int parentNodeId);
+
+    public boolean isClosed(int nodeId);
+
+    public void close(int nodeId);
+}
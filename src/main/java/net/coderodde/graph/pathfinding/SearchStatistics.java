@@ -0,0 +1,146 @@
+package net.coderodde.graph.pathfinding;
+
+/**
+ * This class holds the counters of a single search. A pathfinder collects 
+ * them only when statistics are enabled via 
+ * {@link AbstractPathfinder#setStatisticsEnabled(boolean)}; otherwise the 
+ * counting code is skipped by a single {@code null} check.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class SearchStatistics {
+
+    private long expandedNodes;
+    private long rejectedNodes;
+    private long heapPushes;
+    private long heapPops;
+    private long stalePops;
+    private long durationNanos;
+
+    /**
+     * Returns the number of nodes whose arcs were scanned.
+     * 
+     * @return the number of expanded nodes.
+     */
+    public long getExpandedNodes() {
+        return expandedNodes;
+    }
+
+    /**
+     * Returns the number of nodes closed without scanning their arcs, such as
+     * the nodes rejected by the pruning test of NBA* or the nodes stalled by
+     * a contraction hierarchy query.
+     * 
+     * @return the number of rejected nodes.
+     */
+    public long getRejectedNodes() {
+        return rejectedNodes;
+    }
+
+    /**
+     * Returns the number of insertions and decrease-key operations on the open
+     * lists.
+     * 
+     * @return the number of heap pushes.
+     */
+    public long getHeapPushes() {
+        return heapPushes;
+    }
+
+    /**
+     * Returns the number of nodes removed from the open lists.
+     * 
+     * @return the number of heap pops.
+     */
+    public long getHeapPops() {
+        return heapPops;
+    }
+
+    /**
+     * Returns the number of popped nodes that were already closed. Only lazy
+     * open lists produce them.
+     * 
+     * @return the number of stale pops.
+     */
+    public long getStalePops() {
+        return stalePops;
+    }
+
+    /**
+     * Returns the wall time of the search in nanoseconds.
+     * 
+     * @return the duration of the search.
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public void incrementExpandedNodes() {
+        expandedNodes++;
+    }
+
+    public void incrementRejectedNodes() {
+        rejectedNodes++;
+    }
+
+    public void incrementHeapPushes() {
+        heapPushes++;
+    }
+
+    public void incrementHeapPops() {
+        heapPops++;
+    }
+
+    public void incrementStalePops() {
+        stalePops++;
+    }
+
+    /**
+     * Adds the counters of {@code other} to this statistics. Used for 
+     * merging the counters of searches running in several threads.
+     * 
+     * @param other the statistics to add.
+     */
+    public void add(SearchStatistics other) {
+        expandedNodes += other.expandedNodes;
+        rejectedNodes += other.rejectedNodes;
+        heapPushes    += other.heapPushes;
+        heapPops      += other.heapPops;
+        stalePops     += other.stalePops;
+    }
+
+    void setDurationNanos(long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * Resets all the counters to zero.
+     */
+    public void reset() {
+        expandedNodes = 0L;
+        rejectedNodes = 0L;
+        heapPushes    = 0L;
+        heapPops      = 0L;
+        stalePops     = 0L;
+        durationNanos = 0L;
+    }
+
+    SearchStatistics copy() {
+        SearchStatistics copy = new SearchStatistics();
+        copy.add(this);
+        copy.durationNanos = durationNanos;
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return "[expanded: " + expandedNodes + 
+               ", rejected: " + rejectedNodes +
+               ", pushes: " + heapPushes + 
+               ", pops: " + heapPops +
+               ", stale pops: " + stalePops + 
+               ", time: " + durationNanos + " ns]";
+    }
+}
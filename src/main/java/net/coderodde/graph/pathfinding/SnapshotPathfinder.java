@@ -0,0 +1,68 @@
+package net.coderodde.graph.pathfinding;
+
+import java.util.List;
+import java.util.Objects;
+import net.coderodde.graph.VersionedDirectedGraph;
+
+/**
+ * This class decorates a pathfinder constructed on a
+ * {@link VersionedDirectedGraph.Reader}. Before each search it pins the
+ * reader to the latest snapshot, so that each search sees one consistent
+ * version of the graph no matter how many batches are published meanwhile.
+ * <p>
+ * Like the pathfinder it decorates, this class is not thread-safe. Give each
+ * searching thread its own reader, delegate and decorator.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class SnapshotPathfinder extends AbstractPathfinder {
+
+    private final AbstractPathfinder delegate;
+    private final VersionedDirectedGraph.Reader reader;
+
+    /**
+     * Constructs a snapshot pathfinder.
+     *
+     * @param delegate the pathfinder searching {@code reader}.
+     * @param reader   the reader to pin before each search.
+     */
+    public SnapshotPathfinder(AbstractPathfinder delegate,
+                              VersionedDirectedGraph.Reader reader) {
+        this.delegate = Objects.requireNonNull(delegate,
+                                               "The input pathfinder is null.");
+        this.reader = Objects.requireNonNull(reader,
+                                             "The input reader is null.");
+    }
+
+    /**
+     * Returns the snapshot the last search ran on.
+     *
+     * @return the pinned snapshot.
+     */
+    public VersionedDirectedGraph.Snapshot getSnapshot() {
+        return reader.getSnapshot();
+    }
+
+    @Override
+    public List<Integer> search(int sourceNodeId, int targetNodeId) {
+        reader.pin();
+        SearchResult result = delegate.searchWithResult(sourceNodeId,
+                                                        targetNodeId);
+
+        if (statistics != null && result.getStatistics() != null) {
+            statistics.add(result.getStatistics());
+        }
+
+        pathCost = result.getCost();
+        pathLowerBound = result.getLowerBound();
+        return result.getPath();
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean enabled) {
+        super.setStatisticsEnabled(enabled);
+        delegate.setStatisticsEnabled(enabled);
+    }
+}
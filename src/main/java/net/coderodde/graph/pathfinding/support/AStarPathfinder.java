@@ -1,25 +1,25 @@
 package net.coderodde.graph.pathfinding.support;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.PriorityQueue;
-import java.util.Set;
 import net.coderodde.graph.DirectedGraph;
 import net.coderodde.graph.DirectedGraphWeightFunction;
+import net.coderodde.graph.WeightedDirectedGraph;
 import net.coderodde.graph.pathfinding.AbstractPathfinder;
 import net.coderodde.graph.pathfinding.HeuristicFunction;
+import net.coderodde.graph.pathfinding.NodePriorityQueue;
+import net.coderodde.graph.pathfinding.ReachabilityIndex;
+import net.coderodde.graph.pathfinding.SearchState;
 
 public final class AStarPathfinder extends AbstractPathfinder {
 
     private final HeuristicFunction heuristicFunction;
-    private final PriorityQueue<HeapEntry> OPEN = new PriorityQueue<>();
-    private final Set<Integer> CLOSED = new HashSet<>();
-    private final Map<Integer, Double> DISTANCE = new HashMap<>();
-    private final Map<Integer, Integer> PARENTS = new HashMap<>();
+    private NodePriorityQueue OPEN = new LazyBinaryHeap();
+    private SearchState state = new HashSearchState();
+
+    // The factor '1 + epsilon' the heuristic estimates are multiplied by.
+    private double heuristicWeight = 1.0;
 
     public AStarPathfinder(DirectedGraph graph,
                            DirectedGraphWeightFunction weightFunction,
@@ -30,43 +30,132 @@ public final class AStarPathfinder extends AbstractPathfinder {
                                        "The input heuristic function is null.");
     }
 
+    public AStarPathfinder(WeightedDirectedGraph graph,
+                           HeuristicFunction heuristicFunction) {
+        super(graph);
+        this.heuristicFunction = 
+                Objects.requireNonNull(heuristicFunction,
+                                       "The input heuristic function is null.");
+    }
+
+    /**
+     * Selects the search state implementation. A dense search state keeps the
+     * distances, the parents and the closed set in primitive arrays indexed 
+     * by node IDs and resets them in constant time between queries. It 
+     * requires non-negative and dense node IDs.
+     * 
+     * @param dense whether to use a dense search state.
+     */
+    public void setDenseSearchState(boolean dense) {
+        state = dense ? 
+                new ArraySearchState(weightedGraph.getNodeIdBound()) :
+                new HashSearchState();
+    }
+
+    /**
+     * Selects the open list implementation. An indexed heap supports 
+     * decrease-key, holds each node at most once and does not allocate per 
+     * insertion. It requires non-negative and dense node IDs.
+     * 
+     * @param indexed whether to use an indexed d-ary heap.
+     */
+    public void setIndexedHeap(boolean indexed) {
+        OPEN = indexed ?
+               new IndexedDaryHeap(weightedGraph.getNodeIdBound()) :
+               new LazyBinaryHeap();
+    }
+
+    /**
+     * Selects the suboptimality bound {@code epsilon}. With a positive 
+     * {@code epsilon}, the heuristic estimates are multiplied by 
+     * {@code 1 + epsilon} (weighted A*), which trades path quality for fewer
+     * expansions: given a consistent heuristic function, the returned path 
+     * costs at most {@code 1 + epsilon} times the optimum, and
+     * {@link #searchWithResult(int, int)} reports the cost divided by 
+     * {@code 1 + epsilon} as the lower bound. Zero selects exact search.
+     * 
+     * @param epsilon the non-negative suboptimality bound.
+     */
+    public void setSuboptimality(double epsilon) {
+        heuristicWeight = toWeight(epsilon);
+    }
+
     @Override
     public List<Integer> search(int sourceNodeId, int targetNodeId) {
+        ReachabilityIndex index = getReachabilityIndex();
+
+        if (index != null && !index.isReachable(sourceNodeId, targetNodeId)) {
+            return new ArrayList<>();
+        }
+
         init(sourceNodeId);
 
         while (!OPEN.isEmpty()) {
-            Integer currentNodeId = OPEN.remove().getNode();
+            checkAborted();
+            int currentNodeId = OPEN.extractMinimum();
 
-            if (currentNodeId.equals(targetNodeId)) {
-                return tracebackPath(currentNodeId, PARENTS);
+            if (statistics != null) {
+                statistics.incrementHeapPops();
             }
 
-            if (CLOSED.contains(currentNodeId)) {
+            if (currentNodeId == targetNodeId) {
+                pathCost = state.getDistance(currentNodeId);
+
+                if (heuristicWeight > 1.0) {
+                    pathLowerBound = pathCost / heuristicWeight;
+                }
+
+                return tracebackPath(currentNodeId, state, null);
+            }
+
+            if (state.isClosed(currentNodeId)) {
+                if (statistics != null) {
+                    statistics.incrementStalePops();
+                }
+
                 continue;
             }
 
-            CLOSED.add(currentNodeId);
+            state.close(currentNodeId);
+            childCursor.reset(currentNodeId);
+
+            if (statistics != null) {
+                statistics.incrementExpandedNodes();
+            }
+
+            while (childCursor.next()) {
+                int childNodeId = childCursor.getNode();
 
-            for (Integer childNodeId : graph.getChildrenOf(currentNodeId)) {
-                if (CLOSED.contains(childNodeId)) {
+                if (state.isClosed(childNodeId)) {
+                    continue;
+                }
+
+                if (index != null && 
+                        !index.mayLieOnPath(sourceNodeId, 
+                                            childNodeId, 
+                                            targetNodeId)) {
                     continue;
                 }
 
                 double tentativeDistance = 
-                        DISTANCE.get(currentNodeId) +
-                        weightFunction.get(currentNodeId, childNodeId);
-
-                if (!DISTANCE.containsKey(childNodeId)
-                        || DISTANCE.get(childNodeId) > tentativeDistance) {
-                    DISTANCE.put(childNodeId, tentativeDistance);
-                    PARENTS.put(childNodeId, currentNodeId);
-                    OPEN.add(
-                        new HeapEntry(
+                        state.getDistance(currentNodeId) +
+                        childCursor.getWeight();
+
+                if (state.getDistance(childNodeId) > tentativeDistance) {
+                    state.setDistance(childNodeId, tentativeDistance);
+                    state.setParent(childNodeId, currentNodeId);
+
+                    if (statistics != null) {
+                        statistics.incrementHeapPushes();
+                    }
+
+                    OPEN.insertOrDecreaseKey(
                             childNodeId, 
                             tentativeDistance +
+                            heuristicWeight *
                             heuristicFunction
                                     .estimateDistanceBetween(childNodeId, 
-                                                             targetNodeId)));
+                                                             targetNodeId));
                 }
             }
         }
@@ -74,14 +163,33 @@ public final class AStarPathfinder extends AbstractPathfinder {
         return new ArrayList<>();
     }
 
+    /**
+     * Validates the suboptimality bound {@code epsilon} and returns the 
+     * factor {@code 1 + epsilon}.
+     * 
+     * @param epsilon the suboptimality bound.
+     * @return the weight {@code 1 + epsilon}.
+     */
+    static double toWeight(double epsilon) {
+        if (Double.isNaN(epsilon) || Double.isInfinite(epsilon)
+                || epsilon < 0.0) {
+            throw new IllegalArgumentException(
+                    "The suboptimality bound is not a non-negative finite " +
+                    "number: " + epsilon + ".");
+        }
+
+        return 1.0 + epsilon;
+    }
+
     private void init(int sourceNodeId) {
-        OPEN.clear();
-        CLOSED.clear();
-        PARENTS.clear();
-        DISTANCE.clear();
-
-        OPEN.add(new HeapEntry(sourceNodeId, 0.0));
-        PARENTS.put(sourceNodeId, null);
-        DISTANCE.put(sourceNodeId, 0.0);
+        OPEN.clear(weightedGraph.getNodeIdBound());
+        state.reset(weightedGraph.getNodeIdBound());
+
+        OPEN.insertOrDecreaseKey(sourceNodeId, 0.0);
+        state.setDistance(sourceNodeId, 0.0);
+
+        if (statistics != null) {
+            statistics.incrementHeapPushes();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.Arrays;
+import net.coderodde.graph.pathfinding.SearchState;
+
+/**
+ * This class implements a search state for dense, non-negative node IDs via 
+ * primitive arrays. Instead of clearing the arrays, each query gets a new 
+ * generation number; an array slot is valid only if its stamp matches the 
+ * current generation. The closed flag is folded into the same stamp word 
+ * (<tt>generation + 1</tt> means "closed"), so that {@link #reset(int)} runs
+ * in constant time unless the arrays have to grow. A node that was touched
+ * but never given a distance, say closed or given a parent only, holds a NaN
+ * distance, so that it has no distance just like in {@link HashSearchState}.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class ArraySearchState implements SearchState {
+
+    private static final int NO_PARENT = -1;
+    private static final double NO_DISTANCE = Double.NaN;
+
+    private double[] distance;
+    private int[] parent;
+    private int[] stamp;
+    private int generation;
+
+    public ArraySearchState(int nodeIdBound) {
+        distance = new double[nodeIdBound];
+        parent = new int[nodeIdBound];
+        stamp = new int[nodeIdBound];
+        generation = 2;
+    }
+
+    @Override
+    public void reset(int nodeIdBound) {
+        if (nodeIdBound > stamp.length) {
+            int capacity = Math.max(nodeIdBound, 
+                                    stamp.length + (stamp.length >>> 1));
+            distance = Arrays.copyOf(distance, capacity);
+            parent = Arrays.copyOf(parent, capacity);
+            stamp = Arrays.copyOf(stamp, capacity);
+        }
+
+        if (generation >= Integer.MAX_VALUE - 2) {
+            Arrays.fill(stamp, 0);
+            generation = 2;
+        } else {
+            generation += 2;
+        }
+    }
+
+    @Override
+    public boolean hasDistance(int nodeId) {
+        return stamp[nodeId] >= generation && !Double.isNaN(distance[nodeId]);
+    }
+
+    @Override
+    public double getDistance(int nodeId) {
+        return hasDistance(nodeId) ? 
+               distance[nodeId] : 
+               Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public void setDistance(int nodeId, double distance) {
+        touch(nodeId);
+        this.distance[nodeId] = distance;
+    }
+
+    @Override
+    public boolean hasParent(int nodeId) {
+        return stamp[nodeId] >= generation && parent[nodeId] != NO_PARENT;
+    }
+
+    @Override
+    public int getParent(int nodeId) {
+        return parent[nodeId];
+    }
+
+    @Override
+    public void setParent(int nodeId, int parentNodeId) {
+        touch(nodeId);
+        parent[nodeId] = parentNodeId;
+    }
+
+    @Override
+    public boolean isClosed(int nodeId) {
+        return stamp[nodeId] == generation + 1;
+    }
+
+    @Override
+    public void close(int nodeId) {
+        touch(nodeId);
+        stamp[nodeId] = generation + 1;
+    }
+
+    private void touch(int nodeId) {
+        if (stamp[nodeId] < generation) {
+            stamp[nodeId] = generation;
+            distance[nodeId] = NO_DISTANCE;
+            parent[nodeId] = NO_PARENT;
+        }
+    }
+}
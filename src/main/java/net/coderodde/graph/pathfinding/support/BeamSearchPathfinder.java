@@ -0,0 +1,466 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import net.coderodde.graph.DirectedGraph;
+import net.coderodde.graph.DirectedGraphWeightFunction;
+import net.coderodde.graph.WeightedDirectedGraph;
+import net.coderodde.graph.pathfinding.AbstractPathfinder;
+import net.coderodde.graph.pathfinding.HeuristicFunction;
+
+/**
+ * This class implements beam search. The search proceeds in layers: the
+ * children of the nodes of the current layer are ranked by {@code g + h}, and
+ * only the best {@code W} of them form the next layer. A node reached before
+ * via a path no longer than the current one is skipped. The search stops at
+ * the end of the first layer that reaches the target, and returns the
+ * shortest path to the target found in that layer.
+ * <p>
+ * If the beam dies out after having dropped candidates, the search restarts
+ * with the width doubled, up to the maximum width. If the beam dies out
+ * without having dropped any candidate, the target is unreachable.
+ * <p>
+ * All the buffers are primitive arrays allocated up front: the peak memory
+ * of a query is at most <tt>80 * nodeBudget + 24 * maximumBeamWidth</tt> bytes
+ * no matter how large the graph is. A search that would keep more than
+ * {@code nodeBudget} nodes gives up and returns an empty path. The returned
+ * path carries no optimality guarantee.
+ * <p>
+ * <b>This class is not thread-safe.</b> If you need it in different threads,
+ * make sure each thread has its own object of this class.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class BeamSearchPathfinder extends AbstractPathfinder {
+
+    private static final int DEFAULT_WIDENING_FACTOR = 16;
+    private static final int DEFAULT_NODE_BUDGET = 1 << 16;
+    private static final int NO_PARENT = -1;
+
+    // The negative outcomes of 'searchWithWidth':
+    private static final int BEAM_DIED_OUT = -1;
+    private static final int UNREACHABLE = -2;
+    private static final int OUT_OF_BUDGET = -3;
+
+    private final HeuristicFunction heuristicFunction;
+    private final int beamWidth;
+    private int maximumBeamWidth;
+
+    // The nodes kept so far, layer after layer: the node, the index of its
+    // parent entry and the distance from the source.
+    private int[] trailNodes;
+    private int[] trailParents;
+    private double[] trailDistances;
+
+    // The candidates of the next layer, kept as a binary max-heap on 'f'.
+    private int[] candidateNodes;
+    private int[] candidateParents;
+    private double[] candidateDistances;
+    private double[] candidateKeys;
+
+    // The open addressing map from a node to the shortest distance it was
+    // kept with; an entry is valid if its stamp equals 'generation'.
+    private int[] visitedNodes;
+    private double[] visitedDistances;
+    private int[] visitedStamps;
+    private int generation;
+
+    private int targetNodeId;
+
+    public BeamSearchPathfinder(DirectedGraph graph,
+                                DirectedGraphWeightFunction weightFunction,
+                                HeuristicFunction heuristicFunction,
+                                int beamWidth) {
+        super(graph, weightFunction);
+        this.heuristicFunction =
+                Objects.requireNonNull(heuristicFunction,
+                                       "The input heuristic function is null.");
+        this.beamWidth = checkBeamWidth(beamWidth);
+        setMaximumBeamWidth(DEFAULT_WIDENING_FACTOR * beamWidth);
+        setNodeBudget(DEFAULT_NODE_BUDGET);
+    }
+
+    /**
+     * Constructs a beam search pathfinder.
+     *
+     * @param graph             the graph to search.
+     * @param heuristicFunction the heuristic function ranking the candidates.
+     * @param beamWidth         the initial number of nodes per layer.
+     */
+    public BeamSearchPathfinder(WeightedDirectedGraph graph,
+                                HeuristicFunction heuristicFunction,
+                                int beamWidth) {
+        super(graph);
+        this.heuristicFunction =
+                Objects.requireNonNull(heuristicFunction,
+                                       "The input heuristic function is null.");
+        this.beamWidth = checkBeamWidth(beamWidth);
+        setMaximumBeamWidth(DEFAULT_WIDENING_FACTOR * beamWidth);
+        setNodeBudget(DEFAULT_NODE_BUDGET);
+    }
+
+    /**
+     * Sets the width the beam may grow to when it dies out. Defaults to 16
+     * times the initial width. Setting it to the initial width disables the
+     * widening.
+     *
+     * @param maximumBeamWidth the maximum number of nodes per layer.
+     */
+    public void setMaximumBeamWidth(int maximumBeamWidth) {
+        if (maximumBeamWidth < beamWidth) {
+            throw new IllegalArgumentException(
+                    "The maximum beam width " + maximumBeamWidth +
+                    " is less than the beam width " + beamWidth + ".");
+        }
+
+        this.maximumBeamWidth = maximumBeamWidth;
+        candidateNodes = new int[maximumBeamWidth];
+        candidateParents = new int[maximumBeamWidth];
+        candidateDistances = new double[maximumBeamWidth];
+        candidateKeys = new double[maximumBeamWidth];
+    }
+
+    /**
+     * Sets the maximum number of nodes a search may keep over all of its
+     * layers. Defaults to 65536.
+     *
+     * @param nodeBudget the maximum number of kept nodes.
+     */
+    public void setNodeBudget(int nodeBudget) {
+        if (nodeBudget < 1 || nodeBudget > (1 << 29)) {
+            throw new IllegalArgumentException(
+                    "The node budget is not within [1, 2^29]: " +
+                    nodeBudget + ".");
+        }
+
+        trailNodes = new int[nodeBudget];
+        trailParents = new int[nodeBudget];
+        trailDistances = new double[nodeBudget];
+
+        // A load factor of at most one half:
+        int capacity = Integer.highestOneBit(2 * nodeBudget - 1) << 1;
+        visitedNodes = new int[capacity];
+        visitedDistances = new double[capacity];
+        visitedStamps = new int[capacity];
+        generation = 0;
+    }
+
+    public int getBeamWidth() {
+        return beamWidth;
+    }
+
+    public int getMaximumBeamWidth() {
+        return maximumBeamWidth;
+    }
+
+    @Override
+    public List<Integer> search(int sourceNodeId, int targetNodeId) {
+        if (sourceNodeId == targetNodeId) {
+            pathCost = 0.0;
+            return new ArrayList<>(Arrays.asList(sourceNodeId));
+        }
+
+        this.targetNodeId = targetNodeId;
+        int width = beamWidth;
+
+        while (true) {
+            int outcome = searchWithWidth(sourceNodeId, width);
+
+            if (outcome >= 0) {
+                // Each layer dropped all but the 'width' candidates with the
+                // lowest 'g + h', and the search stopped at the first layer
+                // reaching the target, so a cheaper path through a dropped
+                // candidate or a deeper layer may exist; no lower bound is
+                // known:
+                pathLowerBound = 0.0;
+                return tracebackTrail(outcome);
+            }
+
+            if (outcome != BEAM_DIED_OUT || width == maximumBeamWidth) {
+                return new ArrayList<>();
+            }
+
+            width = (int) Math.min(2L * width, maximumBeamWidth);
+        }
+    }
+
+    /**
+     * Runs one beam search of width {@code width}.
+     *
+     * @return the trail index of the target, or one of the negative outcomes.
+     */
+    private int searchWithWidth(int sourceNodeId, int width) {
+        newGeneration();
+        trailNodes[0] = sourceNodeId;
+        trailParents[0] = NO_PARENT;
+        trailDistances[0] = 0.0;
+        putVisited(sourceNodeId, 0.0);
+
+        int layerBegin = 0;
+        int layerEnd = 1;
+        boolean droppedCandidates = false;
+
+        while (layerBegin < layerEnd) {
+            int candidates = 0;
+            int goalParent = NO_PARENT;
+            double goalDistance = Double.POSITIVE_INFINITY;
+
+            for (int i = layerBegin; i < layerEnd; ++i) {
+                checkAborted();
+                int currentNodeId = trailNodes[i];
+                double currentDistance = trailDistances[i];
+                childCursor.reset(currentNodeId);
+
+                if (statistics != null) {
+                    statistics.incrementExpandedNodes();
+                }
+
+                while (childCursor.next()) {
+                    int childNodeId = childCursor.getNode();
+                    double distance = currentDistance + childCursor.getWeight();
+
+                    if (childNodeId == targetNodeId) {
+                        if (goalDistance > distance) {
+                            goalDistance = distance;
+                            goalParent = i;
+                        }
+
+                        continue;
+                    }
+
+                    if (getVisited(childNodeId) <= distance) {
+                        continue;
+                    }
+
+                    double key =
+                            distance +
+                            heuristicFunction.estimateDistanceBetween(
+                                    childNodeId,
+                                    targetNodeId);
+
+                    if (candidates < width) {
+                        pushCandidate(candidates++,
+                                      childNodeId,
+                                      i,
+                                      distance,
+                                      key);
+                    } else {
+                        droppedCandidates = true;
+
+                        if (key < candidateKeys[0]) {
+                            replaceMaximumCandidate(candidates,
+                                                    childNodeId,
+                                                    i,
+                                                    distance,
+                                                    key);
+                        }
+                    }
+
+                    if (statistics != null) {
+                        statistics.incrementHeapPushes();
+                    }
+                }
+            }
+
+            if (goalParent != NO_PARENT) {
+                if (layerEnd == trailNodes.length) {
+                    return OUT_OF_BUDGET;
+                }
+
+                trailNodes[layerEnd] = targetNodeId;
+                trailParents[layerEnd] = goalParent;
+                trailDistances[layerEnd] = goalDistance;
+                pathCost = goalDistance;
+                return layerEnd;
+            }
+
+            // Commit the candidates in ascending order of their keys, so
+            // that only the shortest duplicate of each node is kept:
+            sortCandidates(candidates);
+            int nextLayerEnd = layerEnd;
+
+            for (int j = 0; j < candidates; ++j) {
+                int nodeId = candidateNodes[j];
+                double distance = candidateDistances[j];
+
+                if (getVisited(nodeId) <= distance) {
+                    continue;
+                }
+
+                if (nextLayerEnd == trailNodes.length) {
+                    return OUT_OF_BUDGET;
+                }
+
+                trailNodes[nextLayerEnd] = nodeId;
+                trailParents[nextLayerEnd] = candidateParents[j];
+                trailDistances[nextLayerEnd] = distance;
+                nextLayerEnd++;
+                putVisited(nodeId, distance);
+            }
+
+            layerBegin = layerEnd;
+            layerEnd = nextLayerEnd;
+        }
+
+        return droppedCandidates ? BEAM_DIED_OUT : UNREACHABLE;
+    }
+
+    private List<Integer> tracebackTrail(int trailIndex) {
+        List<Integer> path = new ArrayList<>();
+
+        for (int i = trailIndex; i != NO_PARENT; i = trailParents[i]) {
+            path.add(trailNodes[i]);
+        }
+
+        Collections.reverse(path);
+        return path;
+    }
+
+    private void pushCandidate(int index,
+                               int nodeId,
+                               int parent,
+                               double distance,
+                               double key) {
+        // Sift up:
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+
+            if (candidateKeys[parentIndex] >= key) {
+                break;
+            }
+
+            moveCandidate(parentIndex, index);
+            index = parentIndex;
+        }
+
+        setCandidate(index, nodeId, parent, distance, key);
+    }
+
+    private void replaceMaximumCandidate(int size,
+                                         int nodeId,
+                                         int parent,
+                                         double distance,
+                                         double key) {
+        siftDown(0, size, nodeId, parent, distance, key);
+    }
+
+    private void siftDown(int index,
+                          int size,
+                          int nodeId,
+                          int parent,
+                          double distance,
+                          double key) {
+        while (true) {
+            int child = 2 * index + 1;
+
+            if (child >= size) {
+                break;
+            }
+
+            if (child + 1 < size &&
+                    candidateKeys[child + 1] > candidateKeys[child]) {
+                child++;
+            }
+
+            if (candidateKeys[child] <= key) {
+                break;
+            }
+
+            moveCandidate(child, index);
+            index = child;
+        }
+
+        setCandidate(index, nodeId, parent, distance, key);
+    }
+
+    /**
+     * Heap-sorts the candidates into ascending order of their keys.
+     */
+    private void sortCandidates(int size) {
+        for (int end = size - 1; end > 0; --end) {
+            int nodeId = candidateNodes[end];
+            int parent = candidateParents[end];
+            double distance = candidateDistances[end];
+            double key = candidateKeys[end];
+            moveCandidate(0, end);
+            siftDown(0, end, nodeId, parent, distance, key);
+        }
+    }
+
+    private void moveCandidate(int from, int to) {
+        candidateNodes[to] = candidateNodes[from];
+        candidateParents[to] = candidateParents[from];
+        candidateDistances[to] = candidateDistances[from];
+        candidateKeys[to] = candidateKeys[from];
+    }
+
+    private void setCandidate(int index,
+                              int nodeId,
+                              int parent,
+                              double distance,
+                              double key) {
+        candidateNodes[index] = nodeId;
+        candidateParents[index] = parent;
+        candidateDistances[index] = distance;
+        candidateKeys[index] = key;
+    }
+
+    private void newGeneration() {
+        if (++generation == 0) {
+            // The stamps wrapped around:
+            Arrays.fill(visitedStamps, 0);
+            generation = 1;
+        }
+    }
+
+    private double getVisited(int nodeId) {
+        int mask = visitedNodes.length - 1;
+
+        for (int i = hash(nodeId) & mask;
+                visitedStamps[i] == generation;
+                i = (i + 1) & mask) {
+            if (visitedNodes[i] == nodeId) {
+                return visitedDistances[i];
+            }
+        }
+
+        return Double.POSITIVE_INFINITY;
+    }
+
+    private void putVisited(int nodeId, double distance) {
+        int mask = visitedNodes.length - 1;
+        int i = hash(nodeId) & mask;
+
+        while (visitedStamps[i] == generation) {
+            if (visitedNodes[i] == nodeId) {
+                visitedDistances[i] = distance;
+                return;
+            }
+
+            i = (i + 1) & mask;
+        }
+
+        visitedStamps[i] = generation;
+        visitedNodes[i] = nodeId;
+        visitedDistances[i] = distance;
+    }
+
+    private static int hash(int nodeId) {
+        int h = nodeId * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int checkBeamWidth(int beamWidth) {
+        if (beamWidth < 1) {
+            throw new IllegalArgumentException(
+                    "The beam width is less than 1: " + beamWidth + ".");
+        }
+
+        return beamWidth;
+    }
+}
@@ -2,91 +2,193 @@ package net.coderodde.graph.pathfinding.support;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.Queue;
-import java.util.Set;
 import net.coderodde.graph.DirectedGraph;
 import net.coderodde.graph.DirectedGraphWeightFunction;
+import net.coderodde.graph.WeightedDirectedGraph;
 import net.coderodde.graph.pathfinding.AbstractPathfinder;
-import net.coderodde.graph.pathfinding.AbstractPathfinder.HeapEntry;
+import net.coderodde.graph.pathfinding.NodePriorityQueue;
+import net.coderodde.graph.pathfinding.ReachabilityIndex;
+import net.coderodde.graph.pathfinding.SearchState;
 
 public class BidirectionalDijkstraPathfinder extends AbstractPathfinder {
     
+    private NodePriorityQueue openForward  = new LazyBinaryHeap();
+    private NodePriorityQueue openBackward = new LazyBinaryHeap();
+    private SearchState stateForward  = new HashSearchState();
+    private SearchState stateBackward = new HashSearchState();
+
+    // The factor '1 + epsilon' of the suboptimality bound.
+    private double suboptimalityWeight = 1.0;
     
     public BidirectionalDijkstraPathfinder(DirectedGraph graph, 
                                            DirectedGraphWeightFunction weightFunction) {
         super(graph, weightFunction);
     }
 
+    public BidirectionalDijkstraPathfinder(WeightedDirectedGraph graph) {
+        super(graph);
+    }
+
+    /**
+     * Selects the search state implementation.
+     * 
+     * @param dense whether to use a dense search state.
+     * @see AStarPathfinder#setDenseSearchState(boolean)
+     */
+    public void setDenseSearchState(boolean dense) {
+        if (dense) {
+            stateForward  = new ArraySearchState(weightedGraph.getNodeIdBound());
+            stateBackward = new ArraySearchState(weightedGraph.getNodeIdBound());
+        } else {
+            stateForward  = new HashSearchState();
+            stateBackward = new HashSearchState();
+        }
+    }
+
+    /**
+     * Selects the open list implementation.
+     * 
+     * @param indexed whether to use an indexed d-ary heap.
+     * @see AStarPathfinder#setIndexedHeap(boolean)
+     */
+    public void setIndexedHeap(boolean indexed) {
+        if (indexed) {
+            openForward  = new IndexedDaryHeap(weightedGraph.getNodeIdBound());
+            openBackward = new IndexedDaryHeap(weightedGraph.getNodeIdBound());
+        } else {
+            openForward  = new LazyBinaryHeap();
+            openBackward = new LazyBinaryHeap();
+        }
+    }
+
+    /**
+     * Selects the suboptimality bound {@code epsilon}. With a positive 
+     * {@code epsilon}, the search stops as soon as the sum of the two 
+     * frontier distances times {@code 1 + epsilon} exceeds the best path 
+     * found so far. The returned path costs at most {@code 1 + epsilon} times
+     * the optimum, and {@link #searchWithResult(int, int)} reports the sum of
+     * the frontier distances as the lower bound. Zero selects exact search.
+     * 
+     * @param epsilon the non-negative suboptimality bound.
+     * @see AStarPathfinder#setSuboptimality(double)
+     */
+    public void setSuboptimality(double epsilon) {
+        suboptimalityWeight = AStarPathfinder.toWeight(epsilon);
+    }
+
     @Override
     public List<Integer> search(int sourceNodeId, int targetNodeId) {
         if (sourceNodeId == targetNodeId) {
             List<Integer> path = new ArrayList<>(1);
             path.add(sourceNodeId);
+            pathCost = 0.0;
             return path;
         }
-        
-        Queue<HeapEntry> openForward  = new PriorityQueue<>();
-        Queue<HeapEntry> openBackward = new PriorityQueue<>();
-        Set<Integer> closedForward   = new HashSet<>();
-        Set<Integer> closedBackward  = new HashSet<>();
-        Map<Integer, Double> distanceForward  = new HashMap<>();
-        Map<Integer, Double> distanceBackward = new HashMap<>();
-        Map<Integer, Integer> parentForward  = new HashMap<>();
-        Map<Integer, Integer> parentBackward = new HashMap<>(); 
+
+        ReachabilityIndex index = getReachabilityIndex();
+
+        if (index != null && !index.isReachable(sourceNodeId, targetNodeId)) {
+            return Collections.<Integer>emptyList();
+        }
         
         // Initializing state:
         double bestPathLength = Double.MAX_VALUE;
-        Integer touchNode = null;
+        int touchNode = -1;
+        int closedForward  = 0;
+        int closedBackward = 0;
         
-        openForward .add(new HeapEntry(sourceNodeId, 0.0));
-        openBackward.add(new HeapEntry(targetNodeId, 0.0));
+        openForward .clear(weightedGraph.getNodeIdBound());
+        openBackward.clear(weightedGraph.getNodeIdBound());
+        stateForward .reset(weightedGraph.getNodeIdBound());
+        stateBackward.reset(weightedGraph.getNodeIdBound());
         
-        distanceForward .put(sourceNodeId, 0.0);
-        distanceBackward.put(targetNodeId, 0.0);
+        openForward .insertOrDecreaseKey(sourceNodeId, 0.0);
+        openBackward.insertOrDecreaseKey(targetNodeId, 0.0);
+
+        if (statistics != null) {
+            statistics.incrementHeapPushes();
+            statistics.incrementHeapPushes();
+        }
         
-        parentForward .put(sourceNodeId, null);
-        parentBackward.put(targetNodeId, null);
+        stateForward .setDistance(sourceNodeId, 0.0);
+        stateBackward.setDistance(targetNodeId, 0.0);
         
         while (!openForward.isEmpty() && !openBackward.isEmpty()) {
+            checkAborted();
+
             double temporaryPathLength =
-                    distanceForward .get(openForward .peek().getNode()) + 
-                    distanceBackward.get(openBackward.peek().getNode());
+                    stateForward .getDistance(openForward .getMinimumNode()) + 
+                    stateBackward.getDistance(openBackward.getMinimumNode());
             
-            if (temporaryPathLength > bestPathLength) {
-                return tracebackPath(touchNode, parentForward, parentBackward);
+            if (temporaryPathLength * suboptimalityWeight > bestPathLength) {
+                pathCost = bestPathLength;
+
+                if (suboptimalityWeight > 1.0) {
+                    pathLowerBound = Math.min(bestPathLength, 
+                                              temporaryPathLength);
+                }
+
+                return tracebackPath(touchNode, stateForward, stateBackward);
             }
             
-            if (openForward.size() + closedForward.size() < 
-                openBackward.size() + closedBackward.size()) {
-                Integer currentNode = openForward.remove().getNode();
-                closedForward.add(currentNode);
+            if (openForward.size() + closedForward < 
+                openBackward.size() + closedBackward) {
+                int currentNode = openForward.extractMinimum();
+
+                if (statistics != null) {
+                    statistics.incrementHeapPops();
+                }
+
+                if (stateForward.isClosed(currentNode)) {
+                    if (statistics != null) {
+                        statistics.incrementStalePops();
+                    }
+
+                    continue;
+                }
+
+                if (statistics != null) {
+                    statistics.incrementExpandedNodes();
+                }
+
+                stateForward.close(currentNode);
+                closedForward++;
+                childCursor.reset(currentNode);
                 
-                for (Integer childNode : graph.getChildrenOf(currentNode)) {
-                    if (closedForward.contains(childNode)) {
+                while (childCursor.next()) {
+                    int childNode = childCursor.getNode();
+
+                    if (stateForward.isClosed(childNode)) {
+                        continue;
+                    }
+
+                    if (index != null && 
+                            !index.mayLieOnPath(sourceNodeId, 
+                                                childNode, 
+                                                targetNodeId)) {
                         continue;
                     }
                     
                     double tentativeScore = 
-                            distanceForward.get(currentNode) +
-                            weightFunction.get(currentNode, childNode);
+                            stateForward.getDistance(currentNode) +
+                            childCursor.getWeight();
                     
-                    if (!distanceForward.containsKey(childNode) ||
-                             distanceForward.get(childNode) > tentativeScore) {
-                        distanceForward.put(childNode, tentativeScore);
-                        parentForward.put(childNode, currentNode);
-                        openForward.add(
-                                new HeapEntry(childNode, 
-                                              tentativeScore));
+                    if (stateForward.getDistance(childNode) > tentativeScore) {
+                        stateForward.setDistance(childNode, tentativeScore);
+                        stateForward.setParent(childNode, currentNode);
+
+                        if (statistics != null) {
+                            statistics.incrementHeapPushes();
+                        }
+
+                        openForward.insertOrDecreaseKey(childNode, 
+                                                     tentativeScore);
                         
-                        if (closedBackward.contains(childNode)) {
+                        if (stateBackward.isClosed(childNode)) {
                             double pathLength = 
                                     tentativeScore +
-                                    distanceBackward.get(childNode);
+                                    stateBackward.getDistance(childNode);
                             
                             if (bestPathLength > pathLength) {
                                 bestPathLength = pathLength;
@@ -96,30 +198,61 @@ public class BidirectionalDijkstraPathfinder extends AbstractPathfinder {
                     }
                 }
             } else {
-                Integer currentNode = openBackward.remove().getNode();
-                closedBackward.add(currentNode);
+                int currentNode = openBackward.extractMinimum();
+
+                if (statistics != null) {
+                    statistics.incrementHeapPops();
+                }
+
+                if (stateBackward.isClosed(currentNode)) {
+                    if (statistics != null) {
+                        statistics.incrementStalePops();
+                    }
+
+                    continue;
+                }
+
+                if (statistics != null) {
+                    statistics.incrementExpandedNodes();
+                }
+
+                stateBackward.close(currentNode);
+                closedBackward++;
+                parentCursor.reset(currentNode);
                 
-                for (Integer parentNode : graph.getParentsOf(currentNode)) {
-                    if (closedBackward.contains(parentNode)) {
+                while (parentCursor.next()) {
+                    int parentNode = parentCursor.getNode();
+
+                    if (stateBackward.isClosed(parentNode)) {
+                        continue;
+                    }
+
+                    if (index != null && 
+                            !index.mayLieOnPath(sourceNodeId, 
+                                                parentNode, 
+                                                targetNodeId)) {
                         continue;
                     }
 
                     double tentativeScore = 
-                            distanceBackward.get(currentNode) +
-                            weightFunction.get(parentNode, currentNode);
-
-                    if (!distanceBackward.containsKey(parentNode) ||
-                             distanceBackward.get(parentNode) > tentativeScore) {
-                        distanceBackward.put(parentNode, tentativeScore);
-                        parentBackward.put(parentNode, currentNode);
-                        openBackward.add(
-                                new HeapEntry(parentNode, 
-                                              tentativeScore));
-
-                        if (closedForward.contains(parentNode)) {
+                            stateBackward.getDistance(currentNode) +
+                            parentCursor.getWeight();
+
+                    if (stateBackward.getDistance(parentNode) > tentativeScore) {
+                        stateBackward.setDistance(parentNode, tentativeScore);
+                        stateBackward.setParent(parentNode, currentNode);
+
+                        if (statistics != null) {
+                            statistics.incrementHeapPushes();
+                        }
+
+                        openBackward.insertOrDecreaseKey(parentNode, 
+                                                     tentativeScore);
+
+                        if (stateForward.isClosed(parentNode)) {
                             double pathLength = 
                                     tentativeScore +
-                                    distanceForward.get(parentNode);
+                                    stateForward.getDistance(parentNode);
 
                             if (bestPathLength > pathLength) {
                                 bestPathLength = pathLength;
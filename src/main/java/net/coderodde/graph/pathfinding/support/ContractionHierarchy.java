@@ -0,0 +1,214 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.Arrays;
+import java.util.List;
+import net.coderodde.graph.CompactDirectedGraph;
+
+/**
+ * This class holds an immutable contraction hierarchy: a rank for each node 
+ * and the input graph augmented with shortcut arcs. Each arc, original or 
+ * shortcut, has an ID; a shortcut <tt>(u, w)</tt> created while contracting 
+ * {@code v} refers to the IDs of the arcs <tt>(u, v)</tt> and 
+ * <tt>(v, w)</tt> it replaces.
+ * <p>
+ * The arcs are split in two CSR structures: the <b>upward</b> arcs of a node
+ * lead to nodes of higher rank and are scanned by the forward search; the 
+ * <b>downward</b> arcs of a node come from nodes of higher rank and are 
+ * scanned, in reverse, by the backward search.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ * @see ContractionHierarchyBuilder
+ */
+public final class ContractionHierarchy {
+
+    static final int ORIGINAL_ARC = -1;
+
+    private final CompactDirectedGraph graph;
+    private final int[] rank;
+    private final int originalArcs;
+
+    // The arc table:
+    final int[] arcTail;
+    final int[] arcHead;
+    final double[] arcWeight;
+    final int[] arcFirst;
+    final int[] arcSecond;
+
+    // The upward arcs by tail:
+    final int[] upOffsets;
+    final int[] upHeads;
+    final double[] upWeights;
+    final int[] upArcIds;
+
+    // The downward arcs by head:
+    final int[] downOffsets;
+    final int[] downTails;
+    final double[] downWeights;
+    final int[] downArcIds;
+
+    ContractionHierarchy(CompactDirectedGraph graph,
+                         int[] rank,
+                         int originalArcs,
+                         int[] arcTail,
+                         int[] arcHead,
+                         double[] arcWeight,
+                         int[] arcFirst,
+                         int[] arcSecond) {
+        int nodeIdBound = graph.getNodeIdBound();
+        int arcs = arcTail.length;
+        this.graph = graph;
+        this.rank = rank;
+        this.originalArcs = originalArcs;
+        this.arcTail = arcTail;
+        this.arcHead = arcHead;
+        this.arcWeight = arcWeight;
+        this.arcFirst = arcFirst;
+        this.arcSecond = arcSecond;
+        this.upOffsets = new int[nodeIdBound + 1];
+        this.downOffsets = new int[nodeIdBound + 1];
+
+        int upArcs = 0;
+
+        for (int arcId = 0; arcId < arcs; ++arcId) {
+            if (rank[arcTail[arcId]] < rank[arcHead[arcId]]) {
+                upOffsets[arcTail[arcId] + 1]++;
+                upArcs++;
+            } else {
+                downOffsets[arcHead[arcId] + 1]++;
+            }
+        }
+
+        for (int i = 0; i < nodeIdBound; ++i) {
+            upOffsets[i + 1] += upOffsets[i];
+            downOffsets[i + 1] += downOffsets[i];
+        }
+
+        this.upHeads = new int[upArcs];
+        this.upWeights = new double[upArcs];
+        this.upArcIds = new int[upArcs];
+        this.downTails = new int[arcs - upArcs];
+        this.downWeights = new double[arcs - upArcs];
+        this.downArcIds = new int[arcs - upArcs];
+
+        int[] upFill = new int[nodeIdBound];
+        int[] downFill = new int[nodeIdBound];
+
+        for (int arcId = 0; arcId < arcs; ++arcId) {
+            int tail = arcTail[arcId];
+            int head = arcHead[arcId];
+
+            if (rank[tail] < rank[head]) {
+                int index = upOffsets[tail] + upFill[tail]++;
+                upHeads[index] = head;
+                upWeights[index] = arcWeight[arcId];
+                upArcIds[index] = arcId;
+            } else {
+                int index = downOffsets[head] + downFill[head]++;
+                downTails[index] = tail;
+                downWeights[index] = arcWeight[arcId];
+                downArcIds[index] = arcId;
+            }
+        }
+    }
+
+    /**
+     * Returns the input graph without shortcuts.
+     * 
+     * @return the original graph.
+     */
+    public CompactDirectedGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Returns the rank of the given node, that is, the position of the node in
+     * the contraction order. Nodes not in the graph have rank -1.
+     * 
+     * @param nodeId the node.
+     * @return the rank of the node.
+     */
+    public int getRank(int nodeId) {
+        return rank[nodeId];
+    }
+
+    /**
+     * Returns the number of arcs, including shortcuts.
+     * 
+     * @return the number of arcs.
+     */
+    public int getNumberOfArcs() {
+        return arcTail.length;
+    }
+
+    /**
+     * Returns the number of shortcut arcs.
+     * 
+     * @return the number of shortcuts.
+     */
+    public int getNumberOfShortcuts() {
+        return arcTail.length - originalArcs;
+    }
+
+    /**
+     * Appends the heads of the original arcs represented by the arc 
+     * {@code arcId} to {@code path}. Shortcuts are unpacked with an explicit
+     * stack, since hierarchies may nest deeper than the call stack allows.
+     * 
+     * @param arcId the arc to unpack.
+     * @param path  the list to append the nodes to.
+     * @param stack the stack to use; must be empty.
+     */
+    void unpackArc(int arcId, List<Integer> path, IntStack stack) {
+        stack.push(arcId);
+
+        while (!stack.isEmpty()) {
+            int currentArcId = stack.pop();
+
+            if (arcFirst[currentArcId] == ORIGINAL_ARC) {
+                path.add(arcHead[currentArcId]);
+            } else {
+                stack.push(arcSecond[currentArcId]);
+                stack.push(arcFirst[currentArcId]);
+            }
+        }
+    }
+
+    /**
+     * A growable stack of {@code int} values.
+     */
+    static final class IntStack {
+
+        private int[] storage = new int[16];
+        private int size;
+
+        void push(int value) {
+            if (size == storage.length) {
+                storage = Arrays.copyOf(storage, 2 * size);
+            }
+
+            storage[size++] = value;
+        }
+
+        int pop() {
+            return storage[--size];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int get(int index) {
+            return storage[index];
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
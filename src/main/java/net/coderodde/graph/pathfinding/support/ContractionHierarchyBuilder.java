@@ -0,0 +1,743 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import net.coderodde.graph.ArcCursor;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.DirectedGraph;
+import net.coderodde.graph.DirectedGraphWeightFunction;
+import net.coderodde.graph.WeightedDirectedGraph;
+
+/**
+ * This class preprocesses a graph into a {@link ContractionHierarchy}. The 
+ * nodes are contracted in rounds. Each round selects an independent set of 
+ * nodes that are local minima of the priority (twice the edge difference 
+ * plus the number of contracted neighbours plus the hierarchy depth) and 
+ * contracts all of them in parallel. 
+ * The witness searches of a round avoid all the nodes of the round, so a 
+ * node never relies on a witness path through a node contracted at the same
+ * time. Only the priorities of the neighbours of the contracted nodes are 
+ * recomputed, again in parallel.
+ * <p>
+ * A witness search settles at most {@code witnessSearchLimit} nodes; if it
+ * gives up, the shortcut is added anyway, which keeps the hierarchy correct
+ * at the cost of some superfluous shortcuts.
+ * <p>
+ * The node IDs must be non-negative and dense.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class ContractionHierarchyBuilder {
+
+    /**
+     * The default maximum number of nodes settled by a witness search.
+     */
+    public static final int DEFAULT_WITNESS_SEARCH_LIMIT = 500;
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final CompactDirectedGraph graph;
+    private final Executor executor;
+    private final int parallelism;
+    private int witnessSearchLimit = DEFAULT_WITNESS_SEARCH_LIMIT;
+
+    public ContractionHierarchyBuilder(
+            DirectedGraph graph,
+            DirectedGraphWeightFunction weightFunction) {
+        this(CompactDirectedGraph.freeze(graph, weightFunction));
+    }
+
+    public ContractionHierarchyBuilder(WeightedDirectedGraph graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    public ContractionHierarchyBuilder(WeightedDirectedGraph graph,
+                                       ForkJoinPool pool) {
+        this(graph, pool, pool.getParallelism());
+    }
+
+    /**
+     * Constructs a builder contracting the nodes in {@code executor}.
+     * 
+     * @param graph       the graph to preprocess.
+     * @param executor    the executor to run the contraction in.
+     * @param parallelism the number of threads of {@code executor}.
+     */
+    public ContractionHierarchyBuilder(WeightedDirectedGraph graph,
+                                       Executor executor,
+                                       int parallelism) {
+        this.graph = CompactDirectedGraph.freeze(graph);
+        this.executor = Objects.requireNonNull(executor, 
+                                               "The input executor is null.");
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "The parallelism is less than 1: " + parallelism + ".");
+        }
+
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Sets the maximum number of nodes a witness search may settle.
+     * 
+     * @param witnessSearchLimit the witness search limit.
+     */
+    public void setWitnessSearchLimit(int witnessSearchLimit) {
+        if (witnessSearchLimit < 1) {
+            throw new IllegalArgumentException(
+                    "The witness search limit is less than 1: " + 
+                    witnessSearchLimit + ".");
+        }
+
+        this.witnessSearchLimit = witnessSearchLimit;
+    }
+
+    /**
+     * Contracts the graph.
+     * 
+     * @return the contraction hierarchy of the graph.
+     */
+    public ContractionHierarchy build() {
+        return new Contraction().run();
+    }
+
+    /**
+     * A task over the {@code index}th element of a node array.
+     */
+    private interface NodeTask {
+        void run(Worker worker, int index);
+    }
+
+    /**
+     * The shortcuts required by contracting one node.
+     */
+    private static final class Shortcuts {
+
+        int[] first = new int[4];
+        int[] second = new int[4];
+        double[] weight = new double[4];
+        int size;
+
+        void add(int firstArcId, int secondArcId, double arcWeight) {
+            if (size == first.length) {
+                first = Arrays.copyOf(first, 2 * size);
+                second = Arrays.copyOf(second, 2 * size);
+                weight = Arrays.copyOf(weight, 2 * size);
+            }
+
+            first[size] = firstArcId;
+            second[size] = secondArcId;
+            weight[size] = arcWeight;
+            size++;
+        }
+    }
+
+    /**
+     * Holds the state of one contraction. The adjacency lists are modified
+     * only between the parallel phases.
+     */
+    private final class Contraction {
+
+        private final int nodeIdBound = graph.getNodeIdBound();
+        private final ConcurrentLinkedQueue<Worker> idleWorkers = 
+                new ConcurrentLinkedQueue<>();
+
+        // The arc table; shortcuts are appended:
+        private int[] arcTail = new int[16];
+        private int[] arcHead = new int[16];
+        private double[] arcWeight = new double[16];
+        private int[] arcFirst = new int[16];
+        private int[] arcSecond = new int[16];
+        private int arcs;
+
+        // The arcs between uncontracted nodes:
+        private final int[][] outArcs = new int[nodeIdBound][];
+        private final int[][] inArcs = new int[nodeIdBound][];
+        private final int[] outSize = new int[nodeIdBound];
+        private final int[] inSize = new int[nodeIdBound];
+
+        private final boolean[] contracted = new boolean[nodeIdBound];
+        private final boolean[] inCurrentSet = new boolean[nodeIdBound];
+        private final int[] rank = new int[nodeIdBound];
+        private final double[] priority = new double[nodeIdBound];
+        private final int[] contractedNeighbours = new int[nodeIdBound];
+        private final int[] level = new int[nodeIdBound];
+
+        ContractionHierarchy run() {
+            int[] remaining = loadGraph();
+            int remainingNodes = remaining.length;
+            int originalArcs = arcs;
+            int nextRank = 0;
+            boolean[] dirty = new boolean[nodeIdBound];
+            int[] dirtyNodes = new int[nodeIdBound];
+
+            computePriorities(remaining, remainingNodes);
+
+            while (remainingNodes > 0) {
+                int[] set = selectIndependentSet(remaining, remainingNodes);
+                Shortcuts[] shortcuts = new Shortcuts[set.length];
+
+                for (int nodeId : set) {
+                    inCurrentSet[nodeId] = true;
+                }
+
+                forEachParallel(set.length, (worker, index) -> {
+                    shortcuts[index] = new Shortcuts();
+                    worker.findShortcuts(set[index], true, shortcuts[index]);
+                });
+
+                int dirtyCount = 0;
+
+                for (int i = 0; i < set.length; ++i) {
+                    int nodeId = set[i];
+                    rank[nodeId] = nextRank++;
+                    contracted[nodeId] = true;
+                    inCurrentSet[nodeId] = false;
+                    Shortcuts s = shortcuts[i];
+
+                    for (int j = 0; j < s.size; ++j) {
+                        addShortcut(arcTail[s.first[j]],
+                                    arcHead[s.second[j]],
+                                    s.weight[j],
+                                    s.first[j], 
+                                    s.second[j]);
+                    }
+                }
+
+                for (int nodeId : set) {
+                    for (int i = 0; i < outSize[nodeId]; ++i) {
+                        dirtyCount = markNeighbour(nodeId,
+                                                   arcHead[outArcs[nodeId][i]],
+                                                   dirty, 
+                                                   dirtyNodes,
+                                                   dirtyCount);
+                    }
+
+                    for (int i = 0; i < inSize[nodeId]; ++i) {
+                        dirtyCount = markNeighbour(nodeId,
+                                                   arcTail[inArcs[nodeId][i]],
+                                                   dirty,
+                                                   dirtyNodes,
+                                                   dirtyCount);
+                    }
+
+                    outArcs[nodeId] = null;
+                    inArcs[nodeId] = null;
+                    outSize[nodeId] = 0;
+                    inSize[nodeId] = 0;
+                }
+
+                for (int i = 0; i < dirtyCount; ++i) {
+                    int nodeId = dirtyNodes[i];
+                    dirty[nodeId] = false;
+                    removeContractedArcs(nodeId);
+                }
+
+                int newRemainingNodes = 0;
+
+                for (int i = 0; i < remainingNodes; ++i) {
+                    if (!contracted[remaining[i]]) {
+                        remaining[newRemainingNodes++] = remaining[i];
+                    }
+                }
+
+                remainingNodes = newRemainingNodes;
+                computePriorities(dirtyNodes, dirtyCount);
+            }
+
+            return new ContractionHierarchy(graph,
+                                            rank,
+                                            originalArcs,
+                                            Arrays.copyOf(arcTail, arcs),
+                                            Arrays.copyOf(arcHead, arcs),
+                                            Arrays.copyOf(arcWeight, arcs),
+                                            Arrays.copyOf(arcFirst, arcs),
+                                            Arrays.copyOf(arcSecond, arcs));
+        }
+
+        /**
+         * Loads the arcs of the input graph and returns the present nodes.
+         * Self-loops are never on a shortest path and are dropped.
+         */
+        private int[] loadGraph() {
+            ArcCursor cursor = graph.newChildCursor();
+            int[] nodeIds = new int[nodeIdBound];
+            int nodes = 0;
+
+            for (int nodeId = 0; nodeId < nodeIdBound; ++nodeId) {
+                outArcs[nodeId] = new int[4];
+                inArcs[nodeId] = new int[4];
+
+                if (graph.containsNode(nodeId)) {
+                    nodeIds[nodes++] = nodeId;
+                    rank[nodeId] = -1;
+                } else {
+                    contracted[nodeId] = true;
+                    rank[nodeId] = -1;
+                }
+            }
+
+            for (int i = 0; i < nodes; ++i) {
+                int nodeId = nodeIds[i];
+                cursor.reset(nodeId);
+
+                while (cursor.next()) {
+                    if (cursor.getNode() != nodeId) {
+                        addArc(nodeId, 
+                               cursor.getNode(), 
+                               cursor.getWeight(),
+                               ContractionHierarchy.ORIGINAL_ARC,
+                               ContractionHierarchy.ORIGINAL_ARC);
+                    }
+                }
+            }
+
+            return Arrays.copyOf(nodeIds, nodes);
+        }
+
+        private void addArc(int tail, 
+                            int head, 
+                            double weight, 
+                            int first, 
+                            int second) {
+            if (arcs == arcTail.length) {
+                int capacity = 2 * arcs;
+                arcTail = Arrays.copyOf(arcTail, capacity);
+                arcHead = Arrays.copyOf(arcHead, capacity);
+                arcWeight = Arrays.copyOf(arcWeight, capacity);
+                arcFirst = Arrays.copyOf(arcFirst, capacity);
+                arcSecond = Arrays.copyOf(arcSecond, capacity);
+            }
+
+            arcTail[arcs] = tail;
+            arcHead[arcs] = head;
+            arcWeight[arcs] = weight;
+            arcFirst[arcs] = first;
+            arcSecond[arcs] = second;
+
+            if (outSize[tail] == outArcs[tail].length) {
+                outArcs[tail] = Arrays.copyOf(outArcs[tail], 2 * outSize[tail]);
+            }
+
+            if (inSize[head] == inArcs[head].length) {
+                inArcs[head] = Arrays.copyOf(inArcs[head], 2 * inSize[head]);
+            }
+
+            outArcs[tail][outSize[tail]++] = arcs;
+            inArcs[head][inSize[head]++] = arcs;
+            arcs++;
+        }
+
+        /**
+         * Adds a shortcut unless an arc between the same nodes is at least as
+         * light; a heavier such arc is unlinked from the adjacency lists, 
+         * since no witness search or contraction needs it anymore.
+         */
+        private void addShortcut(int tail,
+                                 int head,
+                                 double weight,
+                                 int first,
+                                 int second) {
+            for (int i = 0; i < outSize[tail]; ++i) {
+                int arcId = outArcs[tail][i];
+
+                if (arcHead[arcId] != head) {
+                    continue;
+                }
+
+                if (arcWeight[arcId] <= weight) {
+                    return;
+                }
+
+                outArcs[tail][i] = outArcs[tail][--outSize[tail]];
+
+                for (int j = 0; j < inSize[head]; ++j) {
+                    if (inArcs[head][j] == arcId) {
+                        inArcs[head][j] = inArcs[head][--inSize[head]];
+                        break;
+                    }
+                }
+
+                break;
+            }
+
+            addArc(tail, head, weight, first, second);
+        }
+
+        private int markNeighbour(int contractedNodeId,
+                                  int nodeId, 
+                                  boolean[] dirty, 
+                                  int[] dirtyNodes, 
+                                  int dirtyCount) {
+            if (contracted[nodeId]) {
+                return dirtyCount;
+            }
+
+            contractedNeighbours[nodeId]++;
+            level[nodeId] = Math.max(level[nodeId], 
+                                     level[contractedNodeId] + 1);
+
+            if (!dirty[nodeId]) {
+                dirty[nodeId] = true;
+                dirtyNodes[dirtyCount++] = nodeId;
+            }
+
+            return dirtyCount;
+        }
+
+        private void removeContractedArcs(int nodeId) {
+            int size = 0;
+
+            for (int i = 0; i < outSize[nodeId]; ++i) {
+                int arcId = outArcs[nodeId][i];
+
+                if (!contracted[arcHead[arcId]]) {
+                    outArcs[nodeId][size++] = arcId;
+                }
+            }
+
+            outSize[nodeId] = size;
+            size = 0;
+
+            for (int i = 0; i < inSize[nodeId]; ++i) {
+                int arcId = inArcs[nodeId][i];
+
+                if (!contracted[arcTail[arcId]]) {
+                    inArcs[nodeId][size++] = arcId;
+                }
+            }
+
+            inSize[nodeId] = size;
+        }
+
+        private void computePriorities(int[] nodeIds, int count) {
+            forEachParallel(count, (worker, index) -> {
+                int nodeId = nodeIds[index];
+                priority[nodeId] = worker.computePriority(nodeId);
+            });
+        }
+
+        /**
+         * Selects the nodes whose priority is smaller than the priority of 
+         * each uncontracted node within two hops. Ties are broken by node ID,
+         * so the node of the smallest priority is always selected. Since no
+         * two selected nodes share a neighbour, the witness searches rarely
+         * need to pass through another node of the set.
+         */
+        private int[] selectIndependentSet(int[] remaining, 
+                                           int remainingNodes) {
+            int[] set = new int[remainingNodes];
+            int size = 0;
+
+            for (int i = 0; i < remainingNodes; ++i) {
+                int nodeId = remaining[i];
+
+                if (isLocalMinimum(nodeId)) {
+                    set[size++] = nodeId;
+                }
+            }
+
+            return Arrays.copyOf(set, size);
+        }
+
+        private boolean isLocalMinimum(int nodeId) {
+            for (int i = 0; i < outSize[nodeId]; ++i) {
+                int neighbourNodeId = arcHead[outArcs[nodeId][i]];
+
+                if (!precedes(nodeId, neighbourNodeId) 
+                        || !precedesNeighbours(nodeId, neighbourNodeId)) {
+                    return false;
+                }
+            }
+
+            for (int i = 0; i < inSize[nodeId]; ++i) {
+                int neighbourNodeId = arcTail[inArcs[nodeId][i]];
+
+                if (!precedes(nodeId, neighbourNodeId)
+                        || !precedesNeighbours(nodeId, neighbourNodeId)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Checks that {@code nodeId} precedes all the neighbours of 
+         * {@code neighbourNodeId} other than itself.
+         */
+        private boolean precedesNeighbours(int nodeId, int neighbourNodeId) {
+            for (int i = 0; i < outSize[neighbourNodeId]; ++i) {
+                int otherNodeId = arcHead[outArcs[neighbourNodeId][i]];
+
+                if (otherNodeId != nodeId && !precedes(nodeId, otherNodeId)) {
+                    return false;
+                }
+            }
+
+            for (int i = 0; i < inSize[neighbourNodeId]; ++i) {
+                int otherNodeId = arcTail[inArcs[neighbourNodeId][i]];
+
+                if (otherNodeId != nodeId && !precedes(nodeId, otherNodeId)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private boolean precedes(int nodeId1, int nodeId2) {
+            if (priority[nodeId1] != priority[nodeId2]) {
+                return priority[nodeId1] < priority[nodeId2];
+            }
+
+            return nodeId1 < nodeId2;
+        }
+
+        private void forEachParallel(int count, NodeTask task) {
+            int chunkSize = 
+                    Math.max(1, count / (parallelism * CHUNKS_PER_THREAD) + 1);
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+            for (int begin = 0; begin < count; begin += chunkSize) {
+                int chunkBegin = begin;
+                int chunkEnd = Math.min(count, begin + chunkSize);
+                futures.add(CompletableFuture.runAsync(() -> {
+                    Worker worker = idleWorkers.poll();
+
+                    if (worker == null) {
+                        worker = new Worker(this);
+                    }
+
+                    try {
+                        for (int i = chunkBegin; i < chunkEnd; ++i) {
+                            task.run(worker, i);
+                        }
+                    } finally {
+                        idleWorkers.offer(worker);
+                    }
+                }, executor));
+            }
+
+            try {
+                CompletableFuture.allOf(
+                    futures.toArray(new CompletableFuture<?>[futures.size()]))
+                    .join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Holds the reusable state of the witness searches of one thread.
+     */
+    private final class Worker {
+
+        private final Contraction contraction;
+        private final IndexedDaryHeap open;
+        private final double[] distance;
+        private final int[] distanceStamp;
+        private final int[] bestInArc;
+        private final int[] bestOutArc;
+        private final int[] neighbourStamp;
+        private final int[] inNeighbours;
+        private final int[] outNeighbours;
+        private int generation;
+        private final Shortcuts scratch = new Shortcuts();
+
+        Worker(Contraction contraction) {
+            int nodeIdBound = contraction.nodeIdBound;
+            this.contraction = contraction;
+            this.open = new IndexedDaryHeap(nodeIdBound);
+            this.distance = new double[nodeIdBound];
+            this.distanceStamp = new int[nodeIdBound];
+            this.bestInArc = new int[nodeIdBound];
+            this.bestOutArc = new int[nodeIdBound];
+            this.neighbourStamp = new int[nodeIdBound];
+            this.inNeighbours = new int[nodeIdBound];
+            this.outNeighbours = new int[nodeIdBound];
+        }
+
+        /**
+         * Simulates the contraction of {@code nodeId} and returns its 
+         * priority.
+         */
+        double computePriority(int nodeId) {
+            scratch.size = 0;
+            int degree = findShortcuts(nodeId, false, scratch);
+            return 2.0 * (scratch.size - degree) 
+                    + contraction.contractedNeighbours[nodeId]
+                    + contraction.level[nodeId];
+        }
+
+        /**
+         * Adds to {@code shortcuts} the shortcuts needed when contracting 
+         * {@code nodeId}, and returns the number of distinct neighbours.
+         */
+        int findShortcuts(int nodeId, 
+                          boolean avoidCurrentSet, 
+                          Shortcuts shortcuts) {
+            Contraction c = contraction;
+            int inCount = 0;
+            int outCount = 0;
+            int neighbourGeneration = nextGeneration();
+
+            // Keep the lightest arc from each in-neighbour:
+            for (int i = 0; i < c.inSize[nodeId]; ++i) {
+                int arcId = c.inArcs[nodeId][i];
+                int tail = c.arcTail[arcId];
+
+                if (neighbourStamp[tail] != neighbourGeneration) {
+                    neighbourStamp[tail] = neighbourGeneration;
+                    bestInArc[tail] = arcId;
+                    inNeighbours[inCount++] = tail;
+                } else if (c.arcWeight[arcId] < c.arcWeight[bestInArc[tail]]) {
+                    bestInArc[tail] = arcId;
+                }
+            }
+
+            neighbourGeneration = nextGeneration();
+
+            for (int i = 0; i < c.outSize[nodeId]; ++i) {
+                int arcId = c.outArcs[nodeId][i];
+                int head = c.arcHead[arcId];
+
+                if (neighbourStamp[head] != neighbourGeneration) {
+                    neighbourStamp[head] = neighbourGeneration;
+                    bestOutArc[head] = arcId;
+                    outNeighbours[outCount++] = head;
+                } else if (c.arcWeight[arcId] < 
+                           c.arcWeight[bestOutArc[head]]) {
+                    bestOutArc[head] = arcId;
+                }
+            }
+
+            for (int i = 0; i < inCount; ++i) {
+                int tail = inNeighbours[i];
+                double inWeight = c.arcWeight[bestInArc[tail]];
+                double maximumOutWeight = -1.0;
+
+                for (int j = 0; j < outCount; ++j) {
+                    if (outNeighbours[j] != tail) {
+                        maximumOutWeight = 
+                                Math.max(maximumOutWeight, 
+                                         c.arcWeight[bestOutArc[
+                                                 outNeighbours[j]]]);
+                    }
+                }
+
+                if (maximumOutWeight < 0.0) {
+                    continue;
+                }
+
+                runWitnessSearch(tail, 
+                                 nodeId, 
+                                 inWeight + maximumOutWeight,
+                                 avoidCurrentSet);
+
+                for (int j = 0; j < outCount; ++j) {
+                    int head = outNeighbours[j];
+
+                    if (head == tail) {
+                        continue;
+                    }
+
+                    double viaWeight = 
+                            inWeight + c.arcWeight[bestOutArc[head]];
+
+                    if (getDistance(head) > viaWeight) {
+                        shortcuts.add(bestInArc[tail], 
+                                      bestOutArc[head], 
+                                      viaWeight);
+                    }
+                }
+            }
+
+            return inCount + outCount;
+        }
+
+        /**
+         * Runs a bounded Dijkstra search from {@code sourceNodeId} that 
+         * avoids {@code avoidNodeId} and all contracted nodes.
+         */
+        private void runWitnessSearch(int sourceNodeId,
+                                      int avoidNodeId,
+                                      double maximumDistance,
+                                      boolean avoidCurrentSet) {
+            Contraction c = contraction;
+            int searchGeneration = nextGeneration();
+            int settled = 0;
+
+            open.clear(c.nodeIdBound);
+            distance[sourceNodeId] = 0.0;
+            distanceStamp[sourceNodeId] = searchGeneration;
+            open.insertOrDecreaseKey(sourceNodeId, 0.0);
+
+            while (!open.isEmpty() 
+                    && open.getMinimumPriority() <= maximumDistance
+                    && settled < witnessSearchLimit) {
+                int currentNodeId = open.extractMinimum();
+                double currentDistance = distance[currentNodeId];
+                settled++;
+
+                for (int i = 0; i < c.outSize[currentNodeId]; ++i) {
+                    int arcId = c.outArcs[currentNodeId][i];
+                    int head = c.arcHead[arcId];
+
+                    if (head == avoidNodeId 
+                            || c.contracted[head]
+                            || (avoidCurrentSet && c.inCurrentSet[head])) {
+                        continue;
+                    }
+
+                    double tentativeDistance = 
+                            currentDistance + c.arcWeight[arcId];
+
+                    if (distanceStamp[head] != searchGeneration) {
+                        distanceStamp[head] = searchGeneration;
+                        distance[head] = tentativeDistance;
+                        open.insertOrDecreaseKey(head, tentativeDistance);
+                    } else if (distance[head] > tentativeDistance) {
+                        distance[head] = tentativeDistance;
+                        open.insertOrDecreaseKey(head, tentativeDistance);
+                    }
+                }
+            }
+        }
+
+        private double getDistance(int nodeId) {
+            return distanceStamp[nodeId] == generation ?
+                   distance[nodeId] :
+                   Double.POSITIVE_INFINITY;
+        }
+
+        /**
+         * Returns a fresh stamp value shared by {@code distanceStamp} and
+         * {@code neighbourStamp}.
+         */
+        private int nextGeneration() {
+            if (generation == Integer.MAX_VALUE) {
+                Arrays.fill(distanceStamp, 0);
+                Arrays.fill(neighbourStamp, 0);
+                generation = 0;
+            }
+
+            return ++generation;
+        }
+    }
+}
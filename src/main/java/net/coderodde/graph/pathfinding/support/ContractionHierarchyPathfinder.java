@@ -0,0 +1,244 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import net.coderodde.graph.pathfinding.AbstractPathfinder;
+
+/**
+ * This class implements the query of contraction hierarchies: a 
+ * bidirectional Dijkstra search where the forward search follows only the 
+ * upward arcs and the backward search only the downward arcs. Each direction
+ * stops once its minimum key reaches the length of the best path found so 
+ * far. Nodes reached sub-optimally via a higher ranked node are not expanded
+ * ("stall-on-demand"). The shortcuts of the resulting path are finally 
+ * unpacked into the original nodes.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class ContractionHierarchyPathfinder extends AbstractPathfinder {
+
+    private static final int NO_ARC = -1;
+
+    private final ContractionHierarchy hierarchy;
+    private final IndexedDaryHeap openForward;
+    private final IndexedDaryHeap openBackward;
+    private final double[] distanceForward;
+    private final double[] distanceBackward;
+    private final int[] parentArcForward;
+    private final int[] parentArcBackward;
+    private final int[] stampForward;
+    private final int[] stampBackward;
+    private final ContractionHierarchy.IntStack stack = 
+            new ContractionHierarchy.IntStack();
+    private int generation;
+
+    public ContractionHierarchyPathfinder(ContractionHierarchy hierarchy) {
+        super(Objects.requireNonNull(hierarchy, 
+                                     "The input hierarchy is null.")
+                     .getGraph());
+        int nodeIdBound = weightedGraph.getNodeIdBound();
+        this.hierarchy = hierarchy;
+        this.openForward = new IndexedDaryHeap(nodeIdBound);
+        this.openBackward = new IndexedDaryHeap(nodeIdBound);
+        this.distanceForward = new double[nodeIdBound];
+        this.distanceBackward = new double[nodeIdBound];
+        this.parentArcForward = new int[nodeIdBound];
+        this.parentArcBackward = new int[nodeIdBound];
+        this.stampForward = new int[nodeIdBound];
+        this.stampBackward = new int[nodeIdBound];
+    }
+
+    @Override
+    public List<Integer> search(int sourceNodeId, int targetNodeId) {
+        if (sourceNodeId == targetNodeId) {
+            pathCost = 0.0;
+            return new ArrayList<>(Arrays.asList(sourceNodeId));
+        }
+
+        int nodeIdBound = weightedGraph.getNodeIdBound();
+
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(stampForward, 0);
+            Arrays.fill(stampBackward, 0);
+            generation = 0;
+        }
+
+        generation++;
+        openForward.clear(nodeIdBound);
+        openBackward.clear(nodeIdBound);
+        reach(sourceNodeId, 0.0, NO_ARC, true);
+        reach(targetNodeId, 0.0, NO_ARC, false);
+
+        double bestPathLength = Double.POSITIVE_INFINITY;
+        int touchNodeId = -1;
+
+        while (true) {
+            double minimumForward = openForward.isEmpty() ? 
+                                    Double.POSITIVE_INFINITY :
+                                    openForward.getMinimumPriority();
+            double minimumBackward = openBackward.isEmpty() ?
+                                     Double.POSITIVE_INFINITY :
+                                     openBackward.getMinimumPriority();
+
+            if (Math.min(minimumForward, minimumBackward) >= bestPathLength) {
+                break;
+            }
+
+            boolean forward = minimumForward <= minimumBackward;
+            int currentNodeId = forward ? 
+                                openForward.extractMinimum() :
+                                openBackward.extractMinimum();
+
+            if (statistics != null) {
+                statistics.incrementHeapPops();
+            }
+
+            if (isReached(currentNodeId, !forward)) {
+                double pathLength = distanceForward[currentNodeId] + 
+                                    distanceBackward[currentNodeId];
+
+                if (bestPathLength > pathLength) {
+                    bestPathLength = pathLength;
+                    touchNodeId = currentNodeId;
+                }
+            }
+
+            if (forward) {
+                expandForward(currentNodeId);
+            } else {
+                expandBackward(currentNodeId);
+            }
+        }
+
+        if (touchNodeId == -1) {
+            return new ArrayList<>();
+        }
+
+        pathCost = bestPathLength;
+        return tracebackPath(sourceNodeId, touchNodeId);
+    }
+
+    private void expandForward(int nodeId) {
+        ContractionHierarchy h = hierarchy;
+        double distance = distanceForward[nodeId];
+
+        // Stall if a higher ranked node offers a shorter path:
+        for (int i = h.downOffsets[nodeId]; i < h.downOffsets[nodeId + 1]; ++i) {
+            int tail = h.downTails[i];
+
+            if (stampForward[tail] == generation 
+                    && distanceForward[tail] + h.downWeights[i] < distance) {
+                if (statistics != null) {
+                    statistics.incrementRejectedNodes();
+                }
+
+                return;
+            }
+        }
+
+        if (statistics != null) {
+            statistics.incrementExpandedNodes();
+        }
+
+        for (int i = h.upOffsets[nodeId]; i < h.upOffsets[nodeId + 1]; ++i) {
+            int head = h.upHeads[i];
+            double tentativeDistance = distance + h.upWeights[i];
+
+            if (stampForward[head] != generation
+                    || distanceForward[head] > tentativeDistance) {
+                reach(head, tentativeDistance, h.upArcIds[i], true);
+            }
+        }
+    }
+
+    private void expandBackward(int nodeId) {
+        ContractionHierarchy h = hierarchy;
+        double distance = distanceBackward[nodeId];
+
+        for (int i = h.upOffsets[nodeId]; i < h.upOffsets[nodeId + 1]; ++i) {
+            int head = h.upHeads[i];
+
+            if (stampBackward[head] == generation
+                    && distanceBackward[head] + h.upWeights[i] < distance) {
+                if (statistics != null) {
+                    statistics.incrementRejectedNodes();
+                }
+
+                return;
+            }
+        }
+
+        if (statistics != null) {
+            statistics.incrementExpandedNodes();
+        }
+
+        for (int i = h.downOffsets[nodeId]; i < h.downOffsets[nodeId + 1]; ++i) {
+            int tail = h.downTails[i];
+            double tentativeDistance = distance + h.downWeights[i];
+
+            if (stampBackward[tail] != generation
+                    || distanceBackward[tail] > tentativeDistance) {
+                reach(tail, tentativeDistance, h.downArcIds[i], false);
+            }
+        }
+    }
+
+    private void reach(int nodeId, 
+                       double distance, 
+                       int parentArcId, 
+                       boolean forward) {
+        if (statistics != null) {
+            statistics.incrementHeapPushes();
+        }
+
+        if (forward) {
+            stampForward[nodeId] = generation;
+            distanceForward[nodeId] = distance;
+            parentArcForward[nodeId] = parentArcId;
+            openForward.insertOrDecreaseKey(nodeId, distance);
+        } else {
+            stampBackward[nodeId] = generation;
+            distanceBackward[nodeId] = distance;
+            parentArcBackward[nodeId] = parentArcId;
+            openBackward.insertOrDecreaseKey(nodeId, distance);
+        }
+    }
+
+    private boolean isReached(int nodeId, boolean forward) {
+        return (forward ? stampForward : stampBackward)[nodeId] == generation;
+    }
+
+    private List<Integer> tracebackPath(int sourceNodeId, int touchNodeId) {
+        List<Integer> arcIds = new ArrayList<>();
+        List<Integer> path = new ArrayList<>();
+        int currentNodeId = touchNodeId;
+
+        while (parentArcForward[currentNodeId] != NO_ARC) {
+            int arcId = parentArcForward[currentNodeId];
+            arcIds.add(arcId);
+            currentNodeId = hierarchy.arcTail[arcId];
+        }
+
+        Collections.reverse(arcIds);
+        currentNodeId = touchNodeId;
+
+        while (parentArcBackward[currentNodeId] != NO_ARC) {
+            int arcId = parentArcBackward[currentNodeId];
+            arcIds.add(arcId);
+            currentNodeId = hierarchy.arcHead[arcId];
+        }
+
+        path.add(sourceNodeId);
+
+        for (int arcId : arcIds) {
+            hierarchy.unpackArc(arcId, path, stack);
+        }
+
+        return path;
+    }
+}
@@ -0,0 +1,48 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.Objects;
+import net.coderodde.graph.pathfinding.DenseNodeCoordinates;
+import net.coderodde.graph.pathfinding.HeuristicFunction;
+
+/**
+ * This class implements a heuristic function that returns the scaled
+ * Chebyshev distance {@code max(|dx|, |dy|)} between two given nodes. Since
+ * the Chebyshev distance never exceeds the Euclidean distance, this function
+ * is admissible wherever {@link DenseEuclideanHeuristicFunction} with the
+ * same scale is, yet it needs no square root. It trades some guidance for a
+ * cheaper evaluation.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class DenseChebyshevHeuristicFunction
+        implements HeuristicFunction {
+
+    private final DenseNodeCoordinates coordinates;
+    private final double scale;
+
+    public DenseChebyshevHeuristicFunction(DenseNodeCoordinates coordinates,
+                                           double scale) {
+        this.coordinates =
+                Objects.requireNonNull(coordinates,
+                                       "The input coordinates are null.");
+        this.scale = DenseEuclideanHeuristicFunction.checkScale(scale);
+    }
+
+    public DenseChebyshevHeuristicFunction(DenseNodeCoordinates coordinates) {
+        this(coordinates, 1.0);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public double estimateDistanceBetween(int nodeId1, int nodeId2) {
+        double dx = Math.abs(coordinates.getX(nodeId1) -
+                             coordinates.getX(nodeId2));
+        double dy = Math.abs(coordinates.getY(nodeId1) -
+                             coordinates.getY(nodeId2));
+        return scale * Math.max(dx, dy);
+    }
+}
@@ -0,0 +1,55 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.Objects;
+import net.coderodde.graph.pathfinding.DenseNodeCoordinates;
+import net.coderodde.graph.pathfinding.HeuristicFunction;
+
+/**
+ * This class implements a heuristic function that returns the scaled
+ * Euclidean distance between two given nodes, reading their coordinates from
+ * a {@link DenseNodeCoordinates}. The estimate is admissible whenever no arc
+ * weighs less than {@code scale} times the Euclidean distance of its end
+ * nodes.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class DenseEuclideanHeuristicFunction
+        implements HeuristicFunction {
+
+    private final DenseNodeCoordinates coordinates;
+    private final double scale;
+
+    public DenseEuclideanHeuristicFunction(DenseNodeCoordinates coordinates,
+                                           double scale) {
+        this.coordinates =
+                Objects.requireNonNull(coordinates,
+                                       "The input coordinates are null.");
+        this.scale = checkScale(scale);
+    }
+
+    public DenseEuclideanHeuristicFunction(DenseNodeCoordinates coordinates) {
+        this(coordinates, 1.0);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public double estimateDistanceBetween(int nodeId1, int nodeId2) {
+        double dx = coordinates.getX(nodeId1) - coordinates.getX(nodeId2);
+        double dy = coordinates.getY(nodeId1) - coordinates.getY(nodeId2);
+        return scale * Math.sqrt(dx * dx + dy * dy);
+    }
+
+    static double checkScale(double scale) {
+        if (Double.isNaN(scale) || Double.isInfinite(scale) || scale < 0.0) {
+            throw new IllegalArgumentException(
+                    "The scale must be finite and non-negative: " +
+                    scale + ".");
+        }
+
+        return scale;
+    }
+}
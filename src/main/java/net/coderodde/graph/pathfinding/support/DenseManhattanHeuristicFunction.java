@@ -0,0 +1,46 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.Objects;
+import net.coderodde.graph.pathfinding.DenseNodeCoordinates;
+import net.coderodde.graph.pathfinding.HeuristicFunction;
+
+/**
+ * This class implements a heuristic function that returns the scaled
+ * Manhattan distance {@code |dx| + |dy|} between two given nodes. The
+ * Manhattan distance may exceed the Euclidean one, so this function is
+ * admissible only on graphs whose arcs are axis-aligned (such as 4-connected
+ * grids) and weigh at least {@code scale} times their length.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class DenseManhattanHeuristicFunction
+        implements HeuristicFunction {
+
+    private final DenseNodeCoordinates coordinates;
+    private final double scale;
+
+    public DenseManhattanHeuristicFunction(DenseNodeCoordinates coordinates,
+                                           double scale) {
+        this.coordinates =
+                Objects.requireNonNull(coordinates,
+                                       "The input coordinates are null.");
+        this.scale = DenseEuclideanHeuristicFunction.checkScale(scale);
+    }
+
+    public DenseManhattanHeuristicFunction(DenseNodeCoordinates coordinates) {
+        this(coordinates, 1.0);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public double estimateDistanceBetween(int nodeId1, int nodeId2) {
+        return scale * (Math.abs(coordinates.getX(nodeId1) -
+                                 coordinates.getX(nodeId2)) +
+                        Math.abs(coordinates.getY(nodeId1) -
+                                 coordinates.getY(nodeId2)));
+    }
+}
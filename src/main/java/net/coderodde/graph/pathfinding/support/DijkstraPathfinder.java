@@ -3,7 +3,10 @@ package net.coderodde.graph.pathfinding.support;
 import java.util.List;
 import net.coderodde.graph.DirectedGraph;
 import net.coderodde.graph.DirectedGraphWeightFunction;
+import net.coderodde.graph.WeightedDirectedGraph;
 import net.coderodde.graph.pathfinding.AbstractPathfinder;
+import net.coderodde.graph.pathfinding.ReachabilityIndex;
+import net.coderodde.graph.pathfinding.SearchResult;
 
 public final class DijkstraPathfinder extends AbstractPathfinder {
 
@@ -17,8 +20,49 @@ public final class DijkstraPathfinder extends AbstractPathfinder {
                                     new ZeroHeuristicFunction());
     }
 
+    public DijkstraPathfinder(WeightedDirectedGraph graph) {
+        this.finderImplementation = 
+                new AStarPathfinder(graph, new ZeroHeuristicFunction());
+    }
+
+    /**
+     * Selects the search state implementation.
+     * 
+     * @param dense whether to use a dense search state.
+     * @see AStarPathfinder#setDenseSearchState(boolean)
+     */
+    public void setDenseSearchState(boolean dense) {
+        finderImplementation.setDenseSearchState(dense);
+    }
+
+    /**
+     * Selects the open list implementation.
+     * 
+     * @param indexed whether to use an indexed d-ary heap.
+     * @see AStarPathfinder#setIndexedHeap(boolean)
+     */
+    public void setIndexedHeap(boolean indexed) {
+        finderImplementation.setIndexedHeap(indexed);
+    }
+
     @Override
     public List<Integer> search(int sourceNodeId, int targetNodeId) {
         return finderImplementation.search(sourceNodeId, targetNodeId);
     }
+
+    @Override
+    public SearchResult searchWithResult(int sourceNodeId, int targetNodeId) {
+        return finderImplementation.searchWithResult(sourceNodeId, 
+                                                     targetNodeId);
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean enabled) {
+        finderImplementation.setStatisticsEnabled(enabled);
+    }
+
+    @Override
+    public void setReachabilityIndex(ReachabilityIndex reachabilityIndex) {
+        finderImplementation.setReachabilityIndex(reachabilityIndex);
+    }
 }   
\ No newline at end of file
@@ -0,0 +1,269 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import net.coderodde.graph.ArcCursor;
+import net.coderodde.graph.DirectedGraph;
+import net.coderodde.graph.DirectedGraphView;
+import net.coderodde.graph.DirectedGraphWeightFunction;
+import net.coderodde.graph.WeightedDirectedGraph;
+
+/**
+ * This class computes shortest path distance tables. A one-to-many table is
+ * computed by a single Dijkstra search from the source that stops as soon as
+ * all the targets are settled; no paths are reconstructed. A many-to-many 
+ * table runs one such search per source, in parallel over the sources.
+ * Unreachable targets get the distance {@link Double#POSITIVE_INFINITY}.
+ * <p>
+ * The node IDs must be non-negative and dense. This class is thread-safe as
+ * long as the graph is not modified.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class DistanceTableCalculator {
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final WeightedDirectedGraph graph;
+    private final Executor executor;
+    private final int parallelism;
+    private final ConcurrentLinkedQueue<Worker> idleWorkers = 
+            new ConcurrentLinkedQueue<>();
+
+    public DistanceTableCalculator(DirectedGraph graph,
+                                   DirectedGraphWeightFunction weightFunction) {
+        this(new DirectedGraphView(graph, weightFunction));
+    }
+
+    public DistanceTableCalculator(WeightedDirectedGraph graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    public DistanceTableCalculator(WeightedDirectedGraph graph,
+                                   ForkJoinPool pool) {
+        this(graph, pool, pool.getParallelism());
+    }
+
+    /**
+     * Constructs a calculator running many-to-many tables in 
+     * {@code executor}.
+     * 
+     * @param graph       the graph.
+     * @param executor    the executor to run the searches in.
+     * @param parallelism the number of threads of {@code executor}.
+     */
+    public DistanceTableCalculator(WeightedDirectedGraph graph,
+                                   Executor executor,
+                                   int parallelism) {
+        this.graph = Objects.requireNonNull(graph, "The input graph is null.");
+        this.executor = Objects.requireNonNull(executor, 
+                                               "The input executor is null.");
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "The parallelism is less than 1: " + parallelism + ".");
+        }
+
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Computes the distances from {@code sourceNodeId} to each target node.
+     * 
+     * @param sourceNodeId  the source node.
+     * @param targetNodeIds the target nodes.
+     * @return the array whose {@code i}th component is the distance to 
+     *         {@code targetNodeIds[i]}.
+     */
+    public double[] computeOneToMany(int sourceNodeId, int[] targetNodeIds) {
+        Objects.requireNonNull(targetNodeIds, "The target node array is null.");
+        double[] distances = new double[targetNodeIds.length];
+        Worker worker = borrowWorker();
+
+        try {
+            worker.computeRow(sourceNodeId, targetNodeIds, distances, 0);
+        } finally {
+            idleWorkers.offer(worker);
+        }
+
+        return distances;
+    }
+
+    /**
+     * Computes the distance table between the given sources and targets.
+     * 
+     * @param sourceNodeIds the source nodes.
+     * @param targetNodeIds the target nodes.
+     * @return the table whose entry <tt>[i][j]</tt> is the distance from
+     *         {@code sourceNodeIds[i]} to {@code targetNodeIds[j]}.
+     */
+    public double[][] computeManyToMany(int[] sourceNodeIds, 
+                                       int[] targetNodeIds) {
+        double[] flatTable = computeManyToManyFlat(sourceNodeIds, 
+                                                   targetNodeIds);
+        double[][] table = new double[sourceNodeIds.length][];
+
+        for (int i = 0; i < table.length; ++i) {
+            table[i] = new double[targetNodeIds.length];
+            System.arraycopy(flatTable, 
+                             i * targetNodeIds.length,
+                             table[i], 
+                             0, 
+                             targetNodeIds.length);
+        }
+
+        return table;
+    }
+
+    /**
+     * Computes the distance table between the given sources and targets into
+     * a flat row-major array.
+     * 
+     * @param sourceNodeIds the source nodes.
+     * @param targetNodeIds the target nodes.
+     * @return the array whose component 
+     *         <tt>i * targetNodeIds.length + j</tt> is the distance from
+     *         {@code sourceNodeIds[i]} to {@code targetNodeIds[j]}.
+     */
+    public double[] computeManyToManyFlat(int[] sourceNodeIds,
+                                         int[] targetNodeIds) {
+        Objects.requireNonNull(sourceNodeIds, "The source node array is null.");
+        Objects.requireNonNull(targetNodeIds, "The target node array is null.");
+
+        int sources = sourceNodeIds.length;
+        int targets = targetNodeIds.length;
+        double[] table = new double[sources * targets];
+        int chunkSize = 
+                Math.max(1, sources / (parallelism * CHUNKS_PER_THREAD) + 1);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int begin = 0; begin < sources; begin += chunkSize) {
+            int chunkBegin = begin;
+            int chunkEnd = Math.min(sources, begin + chunkSize);
+            futures.add(CompletableFuture.runAsync(() -> {
+                Worker worker = borrowWorker();
+
+                try {
+                    for (int i = chunkBegin; i < chunkEnd; ++i) {
+                        worker.computeRow(sourceNodeIds[i],
+                                          targetNodeIds, 
+                                          table, 
+                                          i * targets);
+                    }
+                } finally {
+                    idleWorkers.offer(worker);
+                }
+            }, executor));
+        }
+
+        try {
+            CompletableFuture.allOf(
+                    futures.toArray(new CompletableFuture<?>[futures.size()]))
+                    .join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+
+            throw ex;
+        }
+
+        return table;
+    }
+
+    private Worker borrowWorker() {
+        Worker worker = idleWorkers.poll();
+        return worker != null ? worker : new Worker();
+    }
+
+    /**
+     * Holds the reusable state of one Dijkstra search.
+     */
+    private final class Worker {
+
+        private final ArcCursor cursor = graph.newChildCursor();
+        private final ArraySearchState state = 
+                new ArraySearchState(graph.getNodeIdBound());
+        private final IndexedDaryHeap open = 
+                new IndexedDaryHeap(graph.getNodeIdBound());
+        private int[] targetStamp = new int[graph.getNodeIdBound()];
+        private int targetGeneration;
+
+        void computeRow(int sourceNodeId, 
+                        int[] targetNodeIds,
+                        double[] row,
+                        int rowOffset) {
+            int nodeIdBound = graph.getNodeIdBound();
+            state.reset(nodeIdBound);
+            open.clear(nodeIdBound);
+            int remainingTargets = markTargets(targetNodeIds, nodeIdBound);
+
+            state.setDistance(sourceNodeId, 0.0);
+            open.insertOrDecreaseKey(sourceNodeId, 0.0);
+
+            while (remainingTargets > 0 && !open.isEmpty()) {
+                int currentNodeId = open.extractMinimum();
+                state.close(currentNodeId);
+
+                if (targetStamp[currentNodeId] == targetGeneration) {
+                    remainingTargets--;
+                }
+
+                double currentDistance = state.getDistance(currentNodeId);
+                cursor.reset(currentNodeId);
+
+                while (cursor.next()) {
+                    int childNodeId = cursor.getNode();
+
+                    if (state.isClosed(childNodeId)) {
+                        continue;
+                    }
+
+                    double tentativeDistance = 
+                            currentDistance + cursor.getWeight();
+
+                    if (state.getDistance(childNodeId) > tentativeDistance) {
+                        state.setDistance(childNodeId, tentativeDistance);
+                        open.insertOrDecreaseKey(childNodeId, 
+                                                 tentativeDistance);
+                    }
+                }
+            }
+
+            for (int i = 0; i < targetNodeIds.length; ++i) {
+                row[rowOffset + i] = state.getDistance(targetNodeIds[i]);
+            }
+        }
+
+        /**
+         * Stamps the targets and returns the number of distinct targets.
+         */
+        private int markTargets(int[] targetNodeIds, int nodeIdBound) {
+            if (targetStamp.length < nodeIdBound 
+                    || targetGeneration == Integer.MAX_VALUE) {
+                targetStamp = new int[nodeIdBound];
+                targetGeneration = 0;
+            }
+
+            targetGeneration++;
+            int distinctTargets = 0;
+
+            for (int targetNodeId : targetNodeIds) {
+                if (targetStamp[targetNodeId] != targetGeneration) {
+                    targetStamp[targetNodeId] = targetGeneration;
+                    distinctTargets++;
+                }
+            }
+
+            return distinctTargets;
+        }
+    }
+}
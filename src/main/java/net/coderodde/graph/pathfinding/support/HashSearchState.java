@@ -0,0 +1,71 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import net.coderodde.graph.pathfinding.SearchState;
+
+/**
+ * This class implements a search state via hash maps. It works with 
+ * arbitrary node IDs, but boxes every entry and has to clear its maps between
+ * queries.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class HashSearchState implements SearchState {
+
+    private final Map<Integer, Double> DISTANCE = new HashMap<>();
+    private final Map<Integer, Integer> PARENTS = new HashMap<>();
+    private final Set<Integer> CLOSED = new HashSet<>();
+
+    @Override
+    public void reset(int nodeIdBound) {
+        DISTANCE.clear();
+        PARENTS.clear();
+        CLOSED.clear();
+    }
+
+    @Override
+    public boolean hasDistance(int nodeId) {
+        return DISTANCE.containsKey(nodeId);
+    }
+
+    @Override
+    public double getDistance(int nodeId) {
+        Double distance = DISTANCE.get(nodeId);
+        return distance == null ? Double.POSITIVE_INFINITY : distance;
+    }
+
+    @Override
+    public void setDistance(int nodeId, double distance) {
+        DISTANCE.put(nodeId, distance);
+    }
+
+    @Override
+    public boolean hasParent(int nodeId) {
+        return PARENTS.containsKey(nodeId);
+    }
+
+    @Override
+    public int getParent(int nodeId) {
+        return PARENTS.get(nodeId);
+    }
+
+    @Override
+    public void setParent(int nodeId, int parentNodeId) {
+        PARENTS.put(nodeId, parentNodeId);
+    }
+
+    @Override
+    public boolean isClosed(int nodeId) {
+        return CLOSED.contains(nodeId);
+    }
+
+    @Override
+    public void close(int nodeId) {
+        CLOSED.add(nodeId);
+    }
+}
@@ -0,0 +1,176 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import net.coderodde.graph.pathfinding.HeuristicFunction;
+
+/**
+ * This class memoizes, for a single query from {@code source} to
+ * {@code target}, the heuristic estimates {@code h(node, target)} and
+ * {@code h(source, node)} of a bidirectional search. Each estimate is
+ * computed at most once per node and per direction between two calls to
+ * {@link #reset(int, int, int)}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+abstract class HeuristicCache {
+
+    final HeuristicFunction heuristicFunction;
+    int sourceNodeId;
+    int targetNodeId;
+
+    HeuristicCache(HeuristicFunction heuristicFunction) {
+        this.heuristicFunction = heuristicFunction;
+    }
+
+    /**
+     * Forgets all the cached estimates and starts a new query.
+     *
+     * @param sourceNodeId the source node of the new query.
+     * @param targetNodeId the target node of the new query.
+     * @param nodeIdBound  the current node ID bound of the graph.
+     */
+    void reset(int sourceNodeId, int targetNodeId, int nodeIdBound) {
+        this.sourceNodeId = sourceNodeId;
+        this.targetNodeId = targetNodeId;
+    }
+
+    /**
+     * Returns {@code h(nodeId, target)}.
+     *
+     * @param nodeId the node to estimate.
+     * @return the estimate towards the target.
+     */
+    abstract double estimateToTarget(int nodeId);
+
+    /**
+     * Returns {@code h(source, nodeId)}.
+     *
+     * @param nodeId the node to estimate.
+     * @return the estimate from the source.
+     */
+    abstract double estimateFromSource(int nodeId);
+
+    /**
+     * Keeps the estimates in primitive arrays indexed by node IDs. A slot is
+     * valid only if its stamp equals the current generation, so that
+     * resetting runs in constant time unless the arrays have to grow.
+     */
+    static final class Array extends HeuristicCache {
+
+        private double[] toTarget;
+        private double[] fromSource;
+        private int[] toTargetStamp;
+        private int[] fromSourceStamp;
+        private int generation;
+
+        Array(HeuristicFunction heuristicFunction, int nodeIdBound) {
+            super(heuristicFunction);
+            toTarget = new double[nodeIdBound];
+            fromSource = new double[nodeIdBound];
+            toTargetStamp = new int[nodeIdBound];
+            fromSourceStamp = new int[nodeIdBound];
+        }
+
+        @Override
+        void reset(int sourceNodeId, int targetNodeId, int nodeIdBound) {
+            super.reset(sourceNodeId, targetNodeId, nodeIdBound);
+
+            if (nodeIdBound > toTargetStamp.length) {
+                int capacity =
+                        Math.max(nodeIdBound,
+                                 toTargetStamp.length +
+                                 (toTargetStamp.length >>> 1));
+                toTarget = Arrays.copyOf(toTarget, capacity);
+                fromSource = Arrays.copyOf(fromSource, capacity);
+                toTargetStamp = Arrays.copyOf(toTargetStamp, capacity);
+                fromSourceStamp = Arrays.copyOf(fromSourceStamp, capacity);
+            }
+
+            if (generation == Integer.MAX_VALUE) {
+                Arrays.fill(toTargetStamp, 0);
+                Arrays.fill(fromSourceStamp, 0);
+                generation = 1;
+            } else {
+                generation++;
+            }
+        }
+
+        @Override
+        double estimateToTarget(int nodeId) {
+            if (toTargetStamp[nodeId] != generation) {
+                toTargetStamp[nodeId] = generation;
+                toTarget[nodeId] =
+                        heuristicFunction.estimateDistanceBetween(
+                                nodeId,
+                                targetNodeId);
+            }
+
+            return toTarget[nodeId];
+        }
+
+        @Override
+        double estimateFromSource(int nodeId) {
+            if (fromSourceStamp[nodeId] != generation) {
+                fromSourceStamp[nodeId] = generation;
+                fromSource[nodeId] =
+                        heuristicFunction.estimateDistanceBetween(
+                                sourceNodeId,
+                                nodeId);
+            }
+
+            return fromSource[nodeId];
+        }
+    }
+
+    /**
+     * Keeps the estimates in hash maps. Works with arbitrary node IDs.
+     */
+    static final class Hash extends HeuristicCache {
+
+        private final Map<Integer, Double> toTarget = new HashMap<>();
+        private final Map<Integer, Double> fromSource = new HashMap<>();
+
+        Hash(HeuristicFunction heuristicFunction) {
+            super(heuristicFunction);
+        }
+
+        @Override
+        void reset(int sourceNodeId, int targetNodeId, int nodeIdBound) {
+            super.reset(sourceNodeId, targetNodeId, nodeIdBound);
+            toTarget.clear();
+            fromSource.clear();
+        }
+
+        @Override
+        double estimateToTarget(int nodeId) {
+            Double estimate = toTarget.get(nodeId);
+
+            if (estimate == null) {
+                estimate = heuristicFunction.estimateDistanceBetween(
+                        nodeId,
+                        targetNodeId);
+                toTarget.put(nodeId, estimate);
+            }
+
+            return estimate;
+        }
+
+        @Override
+        double estimateFromSource(int nodeId) {
+            Double estimate = fromSource.get(nodeId);
+
+            if (estimate == null) {
+                estimate = heuristicFunction.estimateDistanceBetween(
+                        sourceNodeId,
+                        nodeId);
+                fromSource.put(nodeId, estimate);
+            }
+
+            return estimate;
+        }
+    }
+}
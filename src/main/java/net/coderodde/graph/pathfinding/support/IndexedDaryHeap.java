@@ -0,0 +1,190 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import net.coderodde.graph.pathfinding.NodePriorityQueue;
+
+/**
+ * This class implements a position-indexed d-ary min-heap over dense, 
+ * non-negative node IDs. The array {@code slotOf} maps each node to its 
+ * position in the heap, which allows a true decrease-key operation; thus each
+ * node is held at most once, and no operation allocates unless the arrays 
+ * have to grow.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class IndexedDaryHeap implements NodePriorityQueue {
+
+    public static final int DEFAULT_DEGREE = 4;
+
+    private static final int ABSENT = -1;
+
+    private final int degree;
+    private int[] nodes;
+    private double[] priorities;
+    private int[] slotOf;
+    private int size;
+
+    public IndexedDaryHeap(int nodeIdBound) {
+        this(nodeIdBound, DEFAULT_DEGREE);
+    }
+
+    public IndexedDaryHeap(int nodeIdBound, int degree) {
+        if (degree < 2) {
+            throw new IllegalArgumentException(
+                    "The heap degree is less than 2: " + degree + ".");
+        }
+
+        this.degree = degree;
+        this.nodes = new int[Math.max(nodeIdBound, 1)];
+        this.priorities = new double[nodes.length];
+        this.slotOf = new int[nodeIdBound];
+        Arrays.fill(slotOf, ABSENT);
+    }
+
+    @Override
+    public void clear(int nodeIdBound) {
+        for (int i = 0; i < size; ++i) {
+            slotOf[nodes[i]] = ABSENT;
+        }
+
+        size = 0;
+
+        if (nodeIdBound > slotOf.length) {
+            int oldLength = slotOf.length;
+            slotOf = Arrays.copyOf(slotOf, nodeIdBound);
+            Arrays.fill(slotOf, oldLength, nodeIdBound, ABSENT);
+            nodes = new int[nodeIdBound];
+            priorities = new double[nodeIdBound];
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int nodeId) {
+        return slotOf[nodeId] != ABSENT;
+    }
+
+    @Override
+    public void insertOrDecreaseKey(int nodeId, double priority) {
+        int slot = slotOf[nodeId];
+
+        if (slot == ABSENT) {
+            nodes[size] = nodeId;
+            priorities[size] = priority;
+            slotOf[nodeId] = size;
+            siftUp(size++);
+        } else if (priority < priorities[slot]) {
+            priorities[slot] = priority;
+            siftUp(slot);
+        }
+    }
+
+    @Override
+    public int extractMinimum() {
+        if (size == 0) {
+            throw new NoSuchElementException("Extracting from an empty heap.");
+        }
+
+        int minimumNode = nodes[0];
+        slotOf[minimumNode] = ABSENT;
+
+        if (--size > 0) {
+            nodes[0] = nodes[size];
+            priorities[0] = priorities[size];
+            slotOf[nodes[0]] = 0;
+            siftDown(0);
+        }
+
+        return minimumNode;
+    }
+
+    @Override
+    public int getMinimumNode() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Reading the minimum of an empty heap.");
+        }
+
+        return nodes[0];
+    }
+
+    @Override
+    public double getMinimumPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Reading the minimum of an empty heap.");
+        }
+
+        return priorities[0];
+    }
+
+    private void siftUp(int slot) {
+        int node = nodes[slot];
+        double priority = priorities[slot];
+
+        while (slot > 0) {
+            int parentSlot = (slot - 1) / degree;
+
+            if (priorities[parentSlot] <= priority) {
+                break;
+            }
+
+            nodes[slot] = nodes[parentSlot];
+            priorities[slot] = priorities[parentSlot];
+            slotOf[nodes[slot]] = slot;
+            slot = parentSlot;
+        }
+
+        nodes[slot] = node;
+        priorities[slot] = priority;
+        slotOf[node] = slot;
+    }
+
+    private void siftDown(int slot) {
+        int node = nodes[slot];
+        double priority = priorities[slot];
+
+        while (true) {
+            int firstChildSlot = slot * degree + 1;
+
+            if (firstChildSlot >= size) {
+                break;
+            }
+
+            int lastChildSlot = Math.min(firstChildSlot + degree, size);
+            int minimumChildSlot = firstChildSlot;
+            double minimumChildPriority = priorities[firstChildSlot];
+
+            for (int i = firstChildSlot + 1; i < lastChildSlot; ++i) {
+                if (priorities[i] < minimumChildPriority) {
+                    minimumChildPriority = priorities[i];
+                    minimumChildSlot = i;
+                }
+            }
+
+            if (minimumChildPriority >= priority) {
+                break;
+            }
+
+            nodes[slot] = nodes[minimumChildSlot];
+            priorities[slot] = minimumChildPriority;
+            slotOf[nodes[slot]] = slot;
+            slot = minimumChildSlot;
+        }
+
+        nodes[slot] = node;
+        priorities[slot] = priority;
+        slotOf[node] = slot;
+    }
+}
@@ -0,0 +1,437 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import net.coderodde.graph.WeightedDirectedGraph;
+import net.coderodde.graph.pathfinding.HeuristicFunction;
+
+/**
+ * This class implements the ALT heuristic (A*, landmarks and the triangle 
+ * inequality) due to Goldberg and Harrelson. For each landmark {@code L} it 
+ * precomputes the distances <tt>d(L, v)</tt> and <tt>d(v, L)</tt> of every
+ * node {@code v}; then
+ * <pre>
+ *     d(u, v) &gt;= d(L, v) - d(L, u)   and   d(u, v) &gt;= d(u, L) - d(v, L)
+ * </pre>
+ * yield an admissible and consistent estimate without any node coordinates.
+ * The Dijkstra runs of the precomputation are run in parallel.
+ * <p>
+ * The node IDs must be non-negative and dense. This class is thread-safe.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class LandmarkHeuristicFunction implements HeuristicFunction {
+
+    /**
+     * Lists the landmark selection strategies.
+     */
+    public enum Selection {
+
+        /**
+         * Picks the landmarks uniformly at random.
+         */
+        RANDOM,
+
+        /**
+         * Picks each next landmark to be the node farthest from the landmarks
+         * picked so far.
+         */
+        FARTHEST,
+
+        /**
+         * The "avoid" strategy of Goldberg and Werneck: grows a shortest path
+         * tree from a random root and picks a leaf of the subtree whose nodes
+         * are estimated worst by the landmarks picked so far.
+         */
+        AVOID
+    }
+
+    private final int landmarks;
+    private final int nodeIdBound;
+    private final int[] landmarkNodeIds;
+
+    /**
+     * <tt>fromLandmark[v * landmarks + i]</tt> is the distance from the 
+     * {@code i}th landmark to {@code v}. The distances of a node are stored 
+     * next to each other, so one estimate reads two contiguous runs.
+     */
+    private final double[] fromLandmark;
+
+    /**
+     * <tt>toLandmark[v * landmarks + i]</tt> is the distance from {@code v} 
+     * to the {@code i}th landmark.
+     */
+    private final double[] toLandmark;
+
+    /**
+     * Selects {@code landmarks} landmarks in the graph and precomputes the
+     * distances in the common fork/join pool.
+     * 
+     * @param graph     the graph.
+     * @param landmarks the number of landmarks.
+     * @param selection the landmark selection strategy.
+     * @param random    the random number generator.
+     */
+    public LandmarkHeuristicFunction(WeightedDirectedGraph graph,
+                                     int landmarks,
+                                     Selection selection,
+                                     Random random) {
+        this(graph, landmarks, selection, random, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Selects {@code landmarks} landmarks in the graph and precomputes the
+     * distances, running the Dijkstra searches on {@code executor}.
+     *
+     * @param graph     the graph.
+     * @param landmarks the number of landmarks.
+     * @param selection the landmark selection strategy.
+     * @param random    the random number generator.
+     * @param executor  the executor running the precomputation.
+     */
+    public LandmarkHeuristicFunction(WeightedDirectedGraph graph,
+                                     int landmarks,
+                                     Selection selection,
+                                     Random random,
+                                     Executor executor) {
+        Objects.requireNonNull(graph, "The input graph is null.");
+        Objects.requireNonNull(selection, "The input selection is null.");
+        Objects.requireNonNull(random, "The input random is null.");
+        Objects.requireNonNull(executor, "The input executor is null.");
+
+        List<Integer> nodeIds = new ArrayList<>();
+
+        for (int nodeId = 0; nodeId < graph.getNodeIdBound(); ++nodeId) {
+            if (graph.containsNode(nodeId)) {
+                nodeIds.add(nodeId);
+            }
+        }
+
+        if (landmarks < 1 || landmarks > nodeIds.size()) {
+            throw new IllegalArgumentException(
+                    "The number of landmarks (" + landmarks + ") is not " +
+                    "within [1, " + nodeIds.size() + "].");
+        }
+
+        this.landmarks = landmarks;
+        this.nodeIdBound = graph.getNodeIdBound();
+        this.landmarkNodeIds = new int[landmarks];
+        this.fromLandmark = new double[nodeIdBound * landmarks];
+        this.toLandmark = new double[nodeIdBound * landmarks];
+
+        switch (selection) {
+            case RANDOM:
+                selectRandomly(graph, nodeIds, random, executor);
+                break;
+
+            case FARTHEST:
+                selectFarthest(graph, nodeIds, random, executor);
+                break;
+
+            case AVOID:
+                selectAvoid(graph, nodeIds, random, executor);
+                break;
+        }
+    }
+
+    /**
+     * Returns the selected landmarks.
+     * 
+     * @return the landmark nodes.
+     */
+    public int[] getLandmarks() {
+        return landmarkNodeIds.clone();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public double estimateDistanceBetween(int nodeId1, int nodeId2) {
+        if (nodeId1 >= nodeIdBound || nodeId2 >= nodeIdBound) {
+            return 0.0;
+        }
+
+        int offset1 = nodeId1 * landmarks;
+        int offset2 = nodeId2 * landmarks;
+        double estimate = 0.0;
+
+        for (int i = 0; i < landmarks; ++i) {
+            double forwardBound = fromLandmark[offset2 + i] - 
+                                  fromLandmark[offset1 + i];
+            double backwardBound = toLandmark[offset1 + i] - 
+                                   toLandmark[offset2 + i];
+
+            // An infinite minus an infinite distance yields NaN, which never
+            // compares greater and thus is skipped.
+            if (forwardBound > estimate 
+                    && forwardBound != Double.POSITIVE_INFINITY) {
+                estimate = forwardBound;
+            }
+
+            if (backwardBound > estimate 
+                    && backwardBound != Double.POSITIVE_INFINITY) {
+                estimate = backwardBound;
+            }
+        }
+
+        return estimate;
+    }
+
+    private void selectRandomly(WeightedDirectedGraph graph,
+                                List<Integer> nodeIds,
+                                Random random,
+                                Executor executor) {
+        for (int i = 0; i < landmarks; ++i) {
+            int index = i + random.nextInt(nodeIds.size() - i);
+            nodeIds.set(index, nodeIds.set(i, nodeIds.get(index)));
+            landmarkNodeIds[i] = nodeIds.get(i);
+        }
+
+        computeDistances(graph, 0, landmarks, true, true, executor);
+    }
+
+    private void selectFarthest(WeightedDirectedGraph graph,
+                                List<Integer> nodeIds,
+                                Random random,
+                                Executor executor) {
+        double[] minimumDistance = new double[nodeIdBound];
+        int startNodeId = nodeIds.get(random.nextInt(nodeIds.size()));
+
+        // Start from the node farthest from a random node:
+        ShortestPathTree tree = 
+                new ShortestPathTree(graph, startNodeId, true);
+        int currentNodeId = farthest(tree.distance, nodeIds, startNodeId);
+
+        for (int i = 0; i < landmarks; ++i) {
+            landmarkNodeIds[i] = currentNodeId;
+            tree = new ShortestPathTree(graph, currentNodeId, true);
+            storeColumn(fromLandmark, i, tree.distance);
+
+            for (int nodeId : nodeIds) {
+                double distance = tree.distance[nodeId];
+
+                if (i == 0 || minimumDistance[nodeId] > distance) {
+                    minimumDistance[nodeId] = distance;
+                }
+            }
+
+            for (int j = 0; j <= i; ++j) {
+                // Never pick a landmark twice:
+                minimumDistance[landmarkNodeIds[j]] = -1.0;
+            }
+
+            currentNodeId = farthest(minimumDistance, nodeIds, currentNodeId);
+        }
+
+        computeDistances(graph, 0, landmarks, false, true, executor);
+    }
+
+    private void selectAvoid(WeightedDirectedGraph graph,
+                             List<Integer> nodeIds,
+                             Random random,
+                             Executor executor) {
+        for (int i = 0; i < landmarks; ++i) {
+            int rootNodeId = nodeIds.get(random.nextInt(nodeIds.size()));
+            ShortestPathTree tree = 
+                    new ShortestPathTree(graph, rootNodeId, true);
+            double[] size = new double[nodeIdBound];
+            int[] bestChild = new int[nodeIdBound];
+            boolean[] hasLandmark = new boolean[nodeIdBound];
+
+            for (int j = 0; j < i; ++j) {
+                hasLandmark[landmarkNodeIds[j]] = true;
+            }
+
+            for (int j = 0; j < tree.settledNodes; ++j) {
+                bestChild[tree.settleOrder[j]] = ShortestPathTree.NO_PARENT;
+            }
+
+            // Accumulate the subtree sizes bottom-up. The "size" of a node is
+            // how much the current landmarks underestimate its distance from
+            // the root; subtrees containing a landmark are already well 
+            // covered and get size zero.
+            for (int j = tree.settledNodes - 1; j >= 0; --j) {
+                int nodeId = tree.settleOrder[j];
+
+                if (hasLandmark[nodeId]) {
+                    size[nodeId] = 0.0;
+                } else {
+                    size[nodeId] += tree.distance[nodeId] - 
+                                    partialEstimate(rootNodeId, nodeId, i);
+                }
+
+                int parentNodeId = tree.parent[nodeId];
+
+                if (parentNodeId == ShortestPathTree.NO_PARENT) {
+                    continue;
+                }
+
+                if (hasLandmark[nodeId]) {
+                    hasLandmark[parentNodeId] = true;
+                }
+
+                size[parentNodeId] += size[nodeId];
+                int currentBestChild = bestChild[parentNodeId];
+
+                if (currentBestChild == ShortestPathTree.NO_PARENT 
+                        || size[currentBestChild] < size[nodeId]) {
+                    bestChild[parentNodeId] = nodeId;
+                }
+            }
+
+            int nodeId = rootNodeId;
+
+            for (int j = 0; j < tree.settledNodes; ++j) {
+                int candidateNodeId = tree.settleOrder[j];
+
+                if (size[candidateNodeId] > size[nodeId]) {
+                    nodeId = candidateNodeId;
+                }
+            }
+
+            while (bestChild[nodeId] != ShortestPathTree.NO_PARENT) {
+                nodeId = bestChild[nodeId];
+            }
+
+            if (contains(landmarkNodeIds, i, nodeId)) {
+                // The tree is fully covered; fall back to a random node.
+                do {
+                    nodeId = nodeIds.get(random.nextInt(nodeIds.size()));
+                } while (contains(landmarkNodeIds, i, nodeId));
+            }
+
+            landmarkNodeIds[i] = nodeId;
+            computeDistances(graph, i, i + 1, true, true, executor);
+        }
+    }
+
+    /**
+     * Estimates <tt>d(nodeId1, nodeId2)</tt> using only the first 
+     * {@code usedLandmarks} landmarks, whose both distance columns must be 
+     * filled in.
+     */
+    private double partialEstimate(int nodeId1, 
+                                   int nodeId2, 
+                                   int usedLandmarks) {
+        double estimate = 0.0;
+
+        for (int i = 0; i < usedLandmarks; ++i) {
+            double forwardBound = fromLandmark[nodeId2 * landmarks + i] - 
+                                  fromLandmark[nodeId1 * landmarks + i];
+            double backwardBound = toLandmark[nodeId1 * landmarks + i] - 
+                                   toLandmark[nodeId2 * landmarks + i];
+
+            if (forwardBound > estimate 
+                    && forwardBound != Double.POSITIVE_INFINITY) {
+                estimate = forwardBound;
+            }
+
+            if (backwardBound > estimate 
+                    && backwardBound != Double.POSITIVE_INFINITY) {
+                estimate = backwardBound;
+            }
+        }
+
+        return estimate;
+    }
+
+    /**
+     * Computes in parallel the requested distance columns of the landmarks 
+     * <tt>fromIndex, ..., toIndex - 1</tt>.
+     */
+    private void computeDistances(WeightedDirectedGraph graph,
+                                  int fromIndex,
+                                  int toIndex,
+                                  boolean computeFrom,
+                                  boolean computeTo,
+                                  Executor executor) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int i = fromIndex; i < toIndex; ++i) {
+            if (computeFrom) {
+                futures.add(computeColumnAsync(graph, i, true, executor));
+            }
+
+            if (computeTo) {
+                futures.add(computeColumnAsync(graph, i, false, executor));
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(
+                    futures.toArray(new CompletableFuture<?>[futures.size()]))
+                    .join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+
+            throw ex;
+        }
+    }
+
+    private CompletableFuture<Void> computeColumnAsync(
+            WeightedDirectedGraph graph,
+            int landmarkIndex,
+            boolean forward,
+            Executor executor) {
+        return CompletableFuture.runAsync(() -> {
+            ShortestPathTree tree = 
+                    new ShortestPathTree(graph, 
+                                         landmarkNodeIds[landmarkIndex], 
+                                         forward);
+            storeColumn(forward ? fromLandmark : toLandmark,
+                        landmarkIndex,
+                        tree.distance);
+        }, executor);
+    }
+
+    private void storeColumn(double[] table, 
+                             int landmarkIndex, 
+                             double[] distance) {
+        for (int nodeId = 0; nodeId < nodeIdBound; ++nodeId) {
+            table[nodeId * landmarks + landmarkIndex] = distance[nodeId];
+        }
+    }
+
+    /**
+     * Returns the node with the largest finite value in {@code distance}, or
+     * {@code defaultNodeId} if there is none.
+     */
+    private static int farthest(double[] distance, 
+                                List<Integer> nodeIds,
+                                int defaultNodeId) {
+        int farthestNodeId = defaultNodeId;
+        double farthestDistance = -1.0;
+
+        for (int nodeId : nodeIds) {
+            double d = distance[nodeId];
+
+            if (d > farthestDistance && d != Double.POSITIVE_INFINITY) {
+                farthestDistance = d;
+                farthestNodeId = nodeId;
+            }
+        }
+
+        return farthestNodeId;
+    }
+
+    private static boolean contains(int[] array, int length, int value) {
+        for (int i = 0; i < length; ++i) {
+            if (array[i] == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,55 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.PriorityQueue;
+import net.coderodde.graph.pathfinding.AbstractPathfinder.HeapEntry;
+import net.coderodde.graph.pathfinding.NodePriorityQueue;
+
+/**
+ * This class implements a node priority queue on top of 
+ * {@link java.util.PriorityQueue}. Since it does not support decreasing 
+ * keys, every improvement pushes a new entry, and the pathfinders skip the 
+ * stale entries via their closed sets.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class LazyBinaryHeap implements NodePriorityQueue {
+
+    private final PriorityQueue<HeapEntry> queue = new PriorityQueue<>();
+
+    @Override
+    public void clear(int nodeIdBound) {
+        queue.clear();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public void insertOrDecreaseKey(int nodeId, double priority) {
+        queue.add(new HeapEntry(nodeId, priority));
+    }
+
+    @Override
+    public int extractMinimum() {
+        return queue.remove().getNode();
+    }
+
+    @Override
+    public int getMinimumNode() {
+        return queue.peek().getNode();
+    }
+
+    @Override
+    public double getMinimumPriority() {
+        return queue.peek().getDistance();
+    }
+}
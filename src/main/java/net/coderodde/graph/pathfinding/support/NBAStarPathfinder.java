@@ -2,17 +2,17 @@ package net.coderodde.graph.pathfinding.support;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.PriorityQueue;
-import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import net.coderodde.graph.DirectedGraph;
 import net.coderodde.graph.DirectedGraphWeightFunction;
+import net.coderodde.graph.WeightedDirectedGraph;
 import net.coderodde.graph.pathfinding.AbstractPathfinder;
 import net.coderodde.graph.pathfinding.HeuristicFunction;
+import net.coderodde.graph.pathfinding.NodePriorityQueue;
+import net.coderodde.graph.pathfinding.ReachabilityIndex;
+import net.coderodde.graph.pathfinding.SearchState;
 
 /**
  * This pathfinding algorithm is due to Wim Pijls and Henk Post in "Yet another
@@ -27,20 +27,39 @@ import net.coderodde.graph.pathfinding.HeuristicFunction;
 public final class NBAStarPathfinder extends AbstractPathfinder {
 
     private final HeuristicFunction heuristicFunction;
-    private final PriorityQueue<HeapEntry> OPENA = new PriorityQueue<>();
-    private final PriorityQueue<HeapEntry> OPENB = new PriorityQueue<>();
-    private final Map<Integer, Integer> PARENTSA = new HashMap<>();
-    private final Map<Integer, Integer> PARENTSB = new HashMap<>();
-    private final Map<Integer, Double> DISTANCEA = new HashMap<>();
-    private final Map<Integer, Double> DISTANCEB = new HashMap<>();
-    private final Set<Integer> CLOSED = new HashSet<>();
+    private NodePriorityQueue OPENA = new LazyBinaryHeap();
+    private NodePriorityQueue OPENB = new LazyBinaryHeap();
+    
+    // The closed set of 'stateA' serves as the closed set shared by both 
+    // search directions; the closed set of 'stateB' is not used.
+    private SearchState stateA = new HashSearchState();
+    private SearchState stateB = new HashSearchState();
+
+    // Memoizes the heuristic estimates of the current query; 'null' if the
+    // heuristic function is called directly.
+    private HeuristicCache heuristicCache;
+    private boolean denseIds;
+
+    // The anytime budgets; 'Long.MAX_VALUE' means no budget.
+    private long expansionBudget = Long.MAX_VALUE;
+    private long timeBudgetNanos = Long.MAX_VALUE;
+
+    // The factor '1 + epsilon' of the suboptimality bound.
+    private double suboptimalityWeight = 1.0;
+
+    // The reachability index of the current query, or 'null'.
+    private ReachabilityIndex queryIndex;
 
     private double fA;
     private double fB;
     private double bestPathLength;
+
+    // 'bestPathLength' divided by 'suboptimalityWeight': nodes whose paths 
+    // cannot be shorter than this are rejected.
+    private double pruneLength;
     private Integer touchNode;
-    private Integer sourceNodeId;
-    private Integer targetNodeId;
+    private int sourceNodeId;
+    private int targetNodeId;
 
     public NBAStarPathfinder(DirectedGraph graph,
             DirectedGraphWeightFunction weightFunction,
@@ -51,15 +70,175 @@ public final class NBAStarPathfinder extends AbstractPathfinder {
                         "The input heuristic function is null.");
     }
 
+    public NBAStarPathfinder(WeightedDirectedGraph graph,
+            HeuristicFunction heuristicFunction) {
+        super(graph);
+        this.heuristicFunction
+                = Objects.requireNonNull(heuristicFunction,
+                        "The input heuristic function is null.");
+    }
+
+    /**
+     * Selects the search state implementation.
+     * 
+     * @param dense whether to use a dense search state.
+     * @see AStarPathfinder#setDenseSearchState(boolean)
+     */
+    public void setDenseSearchState(boolean dense) {
+        denseIds = dense;
+
+        if (heuristicCache != null) {
+            setHeuristicCache(true);
+        }
+
+        if (dense) {
+            stateA = new ArraySearchState(weightedGraph.getNodeIdBound());
+            stateB = new ArraySearchState(weightedGraph.getNodeIdBound());
+        } else {
+            stateA = new HashSearchState();
+            stateB = new HashSearchState();
+        }
+    }
+
+    /**
+     * Selects the open list implementation.
+     * 
+     * @param indexed whether to use an indexed d-ary heap.
+     * @see AStarPathfinder#setIndexedHeap(boolean)
+     */
+    public void setIndexedHeap(boolean indexed) {
+        if (indexed) {
+            OPENA = new IndexedDaryHeap(weightedGraph.getNodeIdBound());
+            OPENB = new IndexedDaryHeap(weightedGraph.getNodeIdBound());
+        } else {
+            OPENA = new LazyBinaryHeap();
+            OPENB = new LazyBinaryHeap();
+        }
+    }
+
+    /**
+     * Selects whether to memoize the heuristic estimates within each query.
+     * With the cache, the heuristic function is called at most once per node
+     * and per direction, which pays off when the heuristic is expensive
+     * (landmarks, geodesic distances and the like). The cache is array-backed
+     * if a dense search state is selected, and hash-based otherwise.
+     * 
+     * @param enabled whether to cache the heuristic estimates.
+     */
+    public void setHeuristicCache(boolean enabled) {
+        if (!enabled) {
+            heuristicCache = null;
+        } else if (denseIds) {
+            heuristicCache = 
+                    new HeuristicCache.Array(heuristicFunction,
+                                             weightedGraph.getNodeIdBound());
+        } else {
+            heuristicCache = new HeuristicCache.Hash(heuristicFunction);
+        }
+    }
+
+    /**
+     * Limits the number of nodes each search may pop from the open lists. A
+     * search running out of its budget returns the best path found so far,
+     * or an empty path if the two search frontiers have not met yet, and 
+     * reports a proven lower bound on the cost of a shortest path via 
+     * {@link #searchWithResult(int, int)}. The lower bound requires a 
+     * consistent heuristic function.
+     * 
+     * @param maximumExpansions the budget, or {@code Long.MAX_VALUE} for no 
+     *                          budget.
+     */
+    public void setExpansionBudget(long maximumExpansions) {
+        if (maximumExpansions < 1L) {
+            throw new IllegalArgumentException(
+                    "The expansion budget is less than 1: " + 
+                    maximumExpansions + ".");
+        }
+
+        expansionBudget = maximumExpansions;
+    }
+
+    /**
+     * Limits the running time of each search. A search running out of its 
+     * budget behaves as described in {@link #setExpansionBudget(long)}.
+     * 
+     * @param budget the time budget, or {@code Long.MAX_VALUE} for no budget.
+     * @param unit   the unit of {@code budget}.
+     */
+    public void setTimeBudget(long budget, TimeUnit unit) {
+        Objects.requireNonNull(unit, "The input time unit is null.");
+
+        if (budget < 1L) {
+            throw new IllegalArgumentException(
+                    "The time budget is less than 1: " + budget + ".");
+        }
+
+        timeBudgetNanos = budget == Long.MAX_VALUE ? 
+                          Long.MAX_VALUE : 
+                          unit.toNanos(budget);
+    }
+
+    /**
+     * Selects the suboptimality bound {@code epsilon}. With a positive 
+     * {@code epsilon}, a node is rejected as soon as the paths through it 
+     * cannot improve the best path found so far by more than the factor 
+     * {@code 1 + epsilon}, and the search stops as soon as neither open list
+     * can: the returned path costs at most {@code 1 + epsilon} times the 
+     * optimum, and {@link #searchWithResult(int, int)} reports the cost 
+     * divided by {@code 1 + epsilon} as the lower bound. Zero selects exact
+     * search.
+     * 
+     * @param epsilon the non-negative suboptimality bound.
+     * @see AStarPathfinder#setSuboptimality(double)
+     */
+    public void setSuboptimality(double epsilon) {
+        suboptimalityWeight = AStarPathfinder.toWeight(epsilon);
+    }
+
     @Override
     public List<Integer> search(int sourceNodeId, int targetNodeId) {
         if (sourceNodeId == targetNodeId) {
+            pathCost = 0.0;
             return new ArrayList<>(Arrays.asList(sourceNodeId));
         }
 
+        queryIndex = getReachabilityIndex();
+
+        if (queryIndex != null && 
+                !queryIndex.isReachable(sourceNodeId, targetNodeId)) {
+            return new ArrayList<>();
+        }
+
+        long startTime = 
+                timeBudgetNanos == Long.MAX_VALUE ? 0L : System.nanoTime();
+        long expansions = 0L;
+
         init(sourceNodeId, targetNodeId);
 
         while (!OPENA.isEmpty() && !OPENB.isEmpty()) {
+            checkAborted();
+
+            if (expansions == expansionBudget || 
+                    (timeBudgetNanos != Long.MAX_VALUE && 
+                     System.nanoTime() - startTime >= timeBudgetNanos)) {
+                // Any path not found yet passes through a node in each open 
+                // list, and the keys are lower bounds on the cost of such 
+                // paths:
+                pathLowerBound = Math.min(bestPathLength,
+                                          Math.max(OPENA.getMinimumPriority(),
+                                                   OPENB.getMinimumPriority()));
+                break;
+            }
+
+            if (suboptimalityWeight > 1.0 && 
+                    Math.max(OPENA.getMinimumPriority(),
+                             OPENB.getMinimumPriority()) >= pruneLength) {
+                // No path left to discover is short enough to matter:
+                break;
+            }
+
+            expansions++;
+
             if (OPENA.size() < OPENB.size()) {
                 expandInForwardDirection();
             } else {
@@ -71,60 +250,94 @@ public final class NBAStarPathfinder extends AbstractPathfinder {
             return new ArrayList<>();
         }
 
-        return tracebackPath(touchNode, PARENTSA, PARENTSB);
+        pathCost = bestPathLength;
+
+        if (suboptimalityWeight > 1.0) {
+            // The paths through the rejected nodes are only known to be no
+            // shorter than 'pruneLength':
+            pathLowerBound = Double.isNaN(pathLowerBound) ?
+                             pruneLength :
+                             Math.min(pathLowerBound, pruneLength);
+        }
+
+        return tracebackPath(touchNode, stateA, stateB);
     }
 
     private void expandInForwardDirection() {
-        Integer currentNode = OPENA.remove().getNode();
+        int currentNode = OPENA.extractMinimum();
+
+        if (statistics != null) {
+            statistics.incrementHeapPops();
+        }
+
+        if (stateA.isClosed(currentNode)) {
+            if (statistics != null) {
+                statistics.incrementStalePops();
+            }
 
-        if (CLOSED.contains(currentNode)) {
             return;
         }
 
-        CLOSED.add(currentNode);
+        stateA.close(currentNode);
 
-        if (DISTANCEA.get(currentNode) +
-                heuristicFunction.estimateDistanceBetween(currentNode,
-                                                          targetNodeId)
-                >= bestPathLength
+        if (stateA.getDistance(currentNode) +
+                estimateToTarget(currentNode)
+                >= pruneLength
                 ||
-                DISTANCEA.get(currentNode) +
+                stateA.getDistance(currentNode) +
                 fB - 
-                heuristicFunction.estimateDistanceBetween(currentNode,
-                                                          sourceNodeId)
-                >= bestPathLength) {
+                estimateFromSource(currentNode)
+                >= pruneLength) {
             // Reject the 'currentNode'.
+            if (statistics != null) {
+                statistics.incrementRejectedNodes();
+            }
         } else {
             // Stabilize the 'currentNode'.
-            for (Integer childNode : graph.getChildrenOf(currentNode)) {
-                if (CLOSED.contains(childNode)) {
+            if (statistics != null) {
+                statistics.incrementExpandedNodes();
+            }
+
+            childCursor.reset(currentNode);
+
+            while (childCursor.next()) {
+                int childNode = childCursor.getNode();
+
+                if (stateA.isClosed(childNode)) {
+                    continue;
+                }
+
+                if (queryIndex != null && 
+                        !queryIndex.mayLieOnPath(sourceNodeId, 
+                                                 childNode, 
+                                                 targetNodeId)) {
                     continue;
                 }
 
                 double tentativeDistance
-                        = DISTANCEA.get(currentNode)
-                        + weightFunction.get(currentNode, childNode);
-
-                if (!DISTANCEA.containsKey(childNode)
-                        || 
-                        DISTANCEA.get(childNode) > tentativeDistance) {
-                    DISTANCEA.put(childNode, tentativeDistance);
-                    PARENTSA.put(childNode, currentNode);
-                    HeapEntry e
-                            = new HeapEntry(
-                                    childNode,
-                                    tentativeDistance
-                                    + heuristicFunction
-                                    .estimateDistanceBetween(childNode,
-                                                             targetNodeId));
-                    OPENA.add(e);
-
-                    if (DISTANCEB.containsKey(childNode)) {
+                        = stateA.getDistance(currentNode)
+                        + childCursor.getWeight();
+
+                if (stateA.getDistance(childNode) > tentativeDistance) {
+                    stateA.setDistance(childNode, tentativeDistance);
+                    stateA.setParent(childNode, currentNode);
+
+                    if (statistics != null) {
+                        statistics.incrementHeapPushes();
+                    }
+
+                    OPENA.insertOrDecreaseKey(
+                            childNode,
+                            tentativeDistance
+                            + estimateToTarget(childNode));
+
+                    if (stateB.hasDistance(childNode)) {
                         double pathLength = tentativeDistance
-                                + DISTANCEB.get(childNode);
+                                + stateB.getDistance(childNode);
 
                         if (bestPathLength > pathLength) {
                             bestPathLength = pathLength;
+                            pruneLength = pathLength / suboptimalityWeight;
                             touchNode = childNode;
                         }
                     }
@@ -133,60 +346,84 @@ public final class NBAStarPathfinder extends AbstractPathfinder {
         }
 
         if (!OPENA.isEmpty()) {
-            fA = OPENA.peek().getDistance();
+            fA = OPENA.getMinimumPriority();
         }
     }
 
     private void expandInBackwardDirection() {
-        Integer currentNode = OPENB.remove().getNode();
+        int currentNode = OPENB.extractMinimum();
+
+        if (statistics != null) {
+            statistics.incrementHeapPops();
+        }
+
+        if (stateA.isClosed(currentNode)) {
+            if (statistics != null) {
+                statistics.incrementStalePops();
+            }
 
-        if (CLOSED.contains(currentNode)) {
             return;
         }
 
-        CLOSED.add(currentNode);
+        stateA.close(currentNode);
 
-        if (DISTANCEB.get(currentNode) +
-                heuristicFunction
-                .estimateDistanceBetween(currentNode,
-                                         sourceNodeId)
-                >= bestPathLength
+        if (stateB.getDistance(currentNode) +
+                estimateFromSource(currentNode)
+                >= pruneLength
                 || 
-                DISTANCEB.get(currentNode) +
+                stateB.getDistance(currentNode) +
                 fA -
-                heuristicFunction
-                .estimateDistanceBetween(currentNode, targetNodeId)
-                >= bestPathLength) {
+                estimateToTarget(currentNode)
+                >= pruneLength) {
             // Reject the node 'currentNode'.
+            if (statistics != null) {
+                statistics.incrementRejectedNodes();
+            }
         } else {
-            for (Integer parentNode : graph.getParentsOf(currentNode)) {
-                if (CLOSED.contains(parentNode)) {
+            if (statistics != null) {
+                statistics.incrementExpandedNodes();
+            }
+
+            parentCursor.reset(currentNode);
+
+            while (parentCursor.next()) {
+                int parentNode = parentCursor.getNode();
+
+                if (stateA.isClosed(parentNode)) {
+                    continue;
+                }
+
+                if (queryIndex != null && 
+                        !queryIndex.mayLieOnPath(sourceNodeId, 
+                                                 parentNode, 
+                                                 targetNodeId)) {
                     continue;
                 }
 
                 double tentativeDistance
-                        = DISTANCEB.get(currentNode)
-                        + weightFunction.get(parentNode, currentNode);
-
-                if (!DISTANCEB.containsKey(parentNode)
-                        || DISTANCEB.get(parentNode)
-                        > tentativeDistance) {
-                    DISTANCEB.put(parentNode, tentativeDistance);
-                    PARENTSB.put(parentNode, currentNode);
-                    HeapEntry e
-                            = new HeapEntry(parentNode,
-                                    tentativeDistance
-                                    + heuristicFunction
-                                    .estimateDistanceBetween(parentNode,
-                                                             targetNodeId));
-                    OPENB.add(e);
-
-                    if (DISTANCEA.containsKey(parentNode)) {
+                        = stateB.getDistance(currentNode)
+                        + parentCursor.getWeight();
+
+                if (stateB.getDistance(parentNode) > tentativeDistance) {
+                    stateB.setDistance(parentNode, tentativeDistance);
+                    stateB.setParent(parentNode, currentNode);
+
+                    if (statistics != null) {
+                        statistics.incrementHeapPushes();
+                    }
+
+                    OPENB.insertOrDecreaseKey(
+                            parentNode,
+                            tentativeDistance
+                            + estimateFromSource(parentNode));
+
+                    if (stateA.hasDistance(parentNode)) {
                         double pathLength = tentativeDistance
-                                + DISTANCEA.get(parentNode);
+                                + stateA.getDistance(parentNode);
 
                         if (bestPathLength > pathLength) {
                             bestPathLength = pathLength;
+                            pruneLength = pathLength / suboptimalityWeight;
                             touchNode = parentNode;
                         }
                     }
@@ -195,35 +432,55 @@ public final class NBAStarPathfinder extends AbstractPathfinder {
         }
 
         if (!OPENB.isEmpty()) {
-            fB = OPENB.peek().getDistance();
+            fB = OPENB.getMinimumPriority();
         }
     }
 
-    private void init(Integer sourceNodeId, Integer targetNodeId) {
-        OPENA.clear();
-        OPENB.clear();
-        PARENTSA.clear();
-        PARENTSB.clear();
-        DISTANCEA.clear();
-        DISTANCEB.clear();
-        CLOSED.clear();
+    private double estimateToTarget(int nodeId) {
+        return heuristicCache == null ?
+               heuristicFunction.estimateDistanceBetween(nodeId, 
+                                                         targetNodeId) :
+               heuristicCache.estimateToTarget(nodeId);
+    }
 
-        double totalDistance
-                = heuristicFunction.estimateDistanceBetween(sourceNodeId,
-                        targetNodeId);
+    private double estimateFromSource(int nodeId) {
+        return heuristicCache == null ?
+               heuristicFunction.estimateDistanceBetween(sourceNodeId, 
+                                                         nodeId) :
+               heuristicCache.estimateFromSource(nodeId);
+    }
+
+    private void init(int sourceNodeId, int targetNodeId) {
+        OPENA.clear(weightedGraph.getNodeIdBound());
+        OPENB.clear(weightedGraph.getNodeIdBound());
+        stateA.reset(weightedGraph.getNodeIdBound());
+        stateB.reset(weightedGraph.getNodeIdBound());
+
+        if (heuristicCache != null) {
+            heuristicCache.reset(sourceNodeId, 
+                                 targetNodeId,
+                                 weightedGraph.getNodeIdBound());
+        }
+
+        this.sourceNodeId = sourceNodeId;
+        this.targetNodeId = targetNodeId;
+
+        double totalDistance = estimateToTarget(sourceNodeId);
 
         fA = totalDistance;
         fB = totalDistance;
         bestPathLength = Double.MAX_VALUE;
+        pruneLength = Double.MAX_VALUE;
         touchNode = null;
-        this.sourceNodeId = sourceNodeId;
-        this.targetNodeId = targetNodeId;
 
-        OPENA.add(new HeapEntry(sourceNodeId, fA));
-        OPENB.add(new HeapEntry(targetNodeId, fB));
-        PARENTSA.put(sourceNodeId, null);
-        PARENTSB.put(targetNodeId, null);
-        DISTANCEA.put(sourceNodeId, 0.0);
-        DISTANCEB.put(targetNodeId, 0.0);
+        OPENA.insertOrDecreaseKey(sourceNodeId, fA);
+        OPENB.insertOrDecreaseKey(targetNodeId, fB);
+        stateA.setDistance(sourceNodeId, 0.0);
+        stateB.setDistance(targetNodeId, 0.0);
+
+        if (statistics != null) {
+            statistics.incrementHeapPushes();
+            statistics.incrementHeapPushes();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.Objects;
+import net.coderodde.graph.GridGraph;
+import net.coderodde.graph.pathfinding.HeuristicFunction;
+
+/**
+ * This class implements the octile distance between two cells of a
+ * {@link GridGraph}: the length of a shortest path on the open grid, that is,
+ * <tt>max(|dx|, |dy|) + (sqrt(2) - 1) * min(|dx|, |dy|)</tt>. It is
+ * consistent, and exact in the absence of obstacles.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class OctileHeuristicFunction implements HeuristicFunction {
+
+    private static final double DIAGONAL_SURPLUS =
+            GridGraph.DIAGONAL_WEIGHT - 1.0;
+
+    private final int width;
+
+    public OctileHeuristicFunction(GridGraph grid) {
+        this.width = Objects.requireNonNull(grid, "The input grid is null.")
+                            .getWidth();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public double estimateDistanceBetween(int nodeId1, int nodeId2) {
+        int dx = Math.abs(nodeId1 % width - nodeId2 % width);
+        int dy = Math.abs(nodeId1 / width - nodeId2 / width);
+        return octileDistance(dx, dy);
+    }
+
+    static double octileDistance(int dx, int dy) {
+        return dx > dy ?
+               dx + DIAGONAL_SURPLUS * dy :
+               dy + DIAGONAL_SURPLUS * dx;
+    }
+}
@@ -0,0 +1,434 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import net.coderodde.graph.ArcCursor;
+import net.coderodde.graph.DirectedGraph;
+import net.coderodde.graph.DirectedGraphWeightFunction;
+import net.coderodde.graph.WeightedDirectedGraph;
+import net.coderodde.graph.pathfinding.AbstractPathfinder;
+import net.coderodde.graph.pathfinding.HeuristicFunction;
+import net.coderodde.graph.pathfinding.SearchStatistics;
+
+/**
+ * This class implements the parallel variant of NBA* (PNBA*): the forward 
+ * search runs in the calling thread and the backward search runs 
+ * concurrently in a worker thread. The two sides share only the length of 
+ * the best path found so far together with its meeting node, their current
+ * minimum f-values, their tentative distances and the closed set; all of 
+ * these are published via lock-free atomics.
+ * <p>
+ * The node IDs must be non-negative and dense. The heuristic function is 
+ * called from both threads, so it must be safe for concurrent use.
+ * <p>
+ * <b>This class is not thread-safe.</b> If you need it in different threads,
+ * make sure each thread has its own object of this class.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class ParallelNBAStarPathfinder extends AbstractPathfinder {
+
+    private static final ExecutorService DEFAULT_EXECUTOR =
+            Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, 
+                                           "PNBA* backward search");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private static final int NO_PARENT = -1;
+
+    /**
+     * Describes the best path found so far: the forward search tree path to
+     * {@code forwardNode} followed by the backward search tree path from 
+     * {@code backwardNode}. The two nodes are equal unless the frontiers met
+     * on an arc.
+     */
+    private static final class Meeting {
+
+        final double pathLength;
+        final int forwardNode;
+        final int backwardNode;
+
+        Meeting(double pathLength, int forwardNode, int backwardNode) {
+            this.pathLength = pathLength;
+            this.forwardNode = forwardNode;
+            this.backwardNode = backwardNode;
+        }
+    }
+
+    private static final Meeting NO_MEETING = 
+            new Meeting(Double.POSITIVE_INFINITY, NO_PARENT, NO_PARENT);
+
+    private final HeuristicFunction heuristicFunction;
+    private final ExecutorService executor;
+    private final Side sideA;
+    private final Side sideB;
+    private final AtomicReference<Meeting> meeting = 
+            new AtomicReference<>(NO_MEETING);
+    private AtomicIntegerArray closedStamp = new AtomicIntegerArray(0);
+    private volatile boolean finished;
+    private int generation;
+    private int sourceNodeId;
+    private int targetNodeId;
+
+    public ParallelNBAStarPathfinder(
+            DirectedGraph graph,
+            DirectedGraphWeightFunction weightFunction,
+            HeuristicFunction heuristicFunction) {
+        super(graph, weightFunction);
+        this.heuristicFunction = 
+                Objects.requireNonNull(heuristicFunction,
+                                       "The input heuristic function is null.");
+        this.executor = DEFAULT_EXECUTOR;
+        this.sideA = new Side(true, childCursor);
+        this.sideB = new Side(false, parentCursor);
+    }
+
+    public ParallelNBAStarPathfinder(WeightedDirectedGraph graph,
+                                     HeuristicFunction heuristicFunction) {
+        this(graph, heuristicFunction, DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * Constructs a pathfinder running its backward searches in 
+     * {@code executor}.
+     * 
+     * @param graph             the graph to search.
+     * @param heuristicFunction the heuristic function.
+     * @param executor          the executor for the backward searches.
+     */
+    public ParallelNBAStarPathfinder(WeightedDirectedGraph graph,
+                                     HeuristicFunction heuristicFunction,
+                                     ExecutorService executor) {
+        super(graph);
+        this.heuristicFunction = 
+                Objects.requireNonNull(heuristicFunction,
+                                       "The input heuristic function is null.");
+        this.executor = Objects.requireNonNull(executor, 
+                                               "The input executor is null.");
+        this.sideA = new Side(true, childCursor);
+        this.sideB = new Side(false, parentCursor);
+    }
+
+    @Override
+    public List<Integer> search(int sourceNodeId, int targetNodeId) {
+        if (sourceNodeId == targetNodeId) {
+            pathCost = 0.0;
+            return new ArrayList<>(Arrays.asList(sourceNodeId));
+        }
+
+        init(sourceNodeId, targetNodeId);
+        Future<?> backwardSearch = executor.submit(sideB::run);
+
+        try {
+            sideA.run();
+        } catch (RuntimeException | Error ex) {
+            // The backward search must stop writing to the sides before the
+            // next query initializes them:
+            finished = true;
+
+            try {
+                awaitBackwardSearch(backwardSearch);
+            } catch (RuntimeException suppressed) {
+                ex.addSuppressed(suppressed);
+            }
+
+            throw ex;
+        }
+
+        finished = true;
+        awaitBackwardSearch(backwardSearch);
+
+        if (statistics != null) {
+            statistics.add(sideA.statistics);
+            statistics.add(sideB.statistics);
+        }
+
+        Meeting bestMeeting = meeting.get();
+
+        if (bestMeeting.forwardNode == NO_PARENT) {
+            return Collections.<Integer>emptyList();
+        }
+
+        pathCost = bestMeeting.pathLength;
+
+        List<Integer> path = new ArrayList<>();
+        int currentNode = bestMeeting.forwardNode;
+
+        while (currentNode != NO_PARENT) {
+            path.add(currentNode);
+            currentNode = sideA.parent[currentNode];
+        }
+
+        Collections.<Integer>reverse(path);
+        currentNode = bestMeeting.forwardNode == bestMeeting.backwardNode ?
+                      sideB.parent[bestMeeting.backwardNode] :
+                      bestMeeting.backwardNode;
+
+        while (currentNode != NO_PARENT) {
+            path.add(currentNode);
+            currentNode = sideB.parent[currentNode];
+        }
+
+        return path;
+    }
+
+    private static void awaitBackwardSearch(Future<?> backwardSearch) {
+        try {
+            backwardSearch.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(
+                    "Interrupted while waiting for the backward search.", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("The backward search failed.", 
+                                            ex.getCause());
+        }
+    }
+
+    private void init(int sourceNodeId, int targetNodeId) {
+        int nodeIdBound = weightedGraph.getNodeIdBound();
+
+        if (nodeIdBound > closedStamp.length()
+                || generation == Integer.MAX_VALUE) {
+            closedStamp = new AtomicIntegerArray(nodeIdBound);
+            sideA.allocate(nodeIdBound);
+            sideB.allocate(nodeIdBound);
+            generation = 0;
+        }
+
+        generation++;
+        finished = false;
+        meeting.set(NO_MEETING);
+        this.sourceNodeId = sourceNodeId;
+        this.targetNodeId = targetNodeId;
+
+        double totalDistance = 
+                heuristicFunction.estimateDistanceBetween(sourceNodeId,
+                                                          targetNodeId);
+        sideA.init(sourceNodeId, totalDistance, nodeIdBound);
+        sideB.init(targetNodeId, totalDistance, nodeIdBound);
+    }
+
+    private void updateBestPath(double pathLength, 
+                                int forwardNode, 
+                                int backwardNode) {
+        Meeting current = meeting.get();
+
+        while (pathLength < current.pathLength) {
+            if (meeting.compareAndSet(current, 
+                                      new Meeting(pathLength,
+                                                  forwardNode, 
+                                                  backwardNode))) {
+                return;
+            }
+
+            current = meeting.get();
+        }
+    }
+
+    /**
+     * Tries to close {@code nodeId} for the current query.
+     * 
+     * @return {@code true} if this call closed the node.
+     */
+    private boolean tryClose(int nodeId) {
+        while (true) {
+            int stamp = closedStamp.get(nodeId);
+
+            if (stamp == generation) {
+                return false;
+            }
+
+            if (closedStamp.compareAndSet(nodeId, stamp, generation)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Holds the state of one search direction. Only the thread running a side
+     * writes to it; the opposite side reads its distances and its f-value.
+     */
+    private final class Side {
+
+        private final boolean forward;
+        private final ArcCursor cursor;
+        private IndexedDaryHeap open = new IndexedDaryHeap(0);
+        private AtomicLongArray distance = new AtomicLongArray(0);
+        private AtomicIntegerArray distanceStamp = new AtomicIntegerArray(0);
+        private int[] parent = new int[0];
+        private volatile double f;
+
+        // The counters of this side, merged into the statistics of the 
+        // pathfinder after the search; null if statistics are disabled.
+        private SearchStatistics statistics;
+
+        Side(boolean forward, ArcCursor cursor) {
+            this.forward = forward;
+            this.cursor = cursor;
+        }
+
+        void allocate(int nodeIdBound) {
+            open = new IndexedDaryHeap(nodeIdBound);
+            distance = new AtomicLongArray(nodeIdBound);
+            distanceStamp = new AtomicIntegerArray(nodeIdBound);
+            parent = new int[nodeIdBound];
+        }
+
+        void init(int rootNodeId, double f, int nodeIdBound) {
+            if (ParallelNBAStarPathfinder.this.statistics == null) {
+                statistics = null;
+            } else if (statistics == null) {
+                statistics = new SearchStatistics();
+            } else {
+                statistics.reset();
+            }
+
+            open.clear(nodeIdBound);
+            setDistance(rootNodeId, 0.0, NO_PARENT);
+            open.insertOrDecreaseKey(rootNodeId, f);
+            this.f = f;
+
+            if (statistics != null) {
+                statistics.incrementHeapPushes();
+            }
+        }
+
+        double getDistance(int nodeId) {
+            return distanceStamp.get(nodeId) == generation ?
+                   Double.longBitsToDouble(distance.get(nodeId)) :
+                   Double.POSITIVE_INFINITY;
+        }
+
+        /**
+         * Writes the distance before the stamp, so that a reader that sees the
+         * current stamp also sees a distance of the current query.
+         */
+        void setDistance(int nodeId, double distance, int parentNodeId) {
+            parent[nodeId] = parentNodeId;
+            this.distance.set(nodeId, Double.doubleToRawLongBits(distance));
+            distanceStamp.set(nodeId, generation);
+        }
+
+        void run() {
+            Side opposite = forward ? sideB : sideA;
+
+            while (!finished && !open.isEmpty()) {
+                expand(opposite);
+            }
+
+            finished = true;
+        }
+
+        private void expand(Side opposite) {
+            int currentNode = open.extractMinimum();
+
+            if (statistics != null) {
+                statistics.incrementHeapPops();
+            }
+
+            if (tryClose(currentNode)) {
+                double currentDistance = getDistance(currentNode);
+                double bestPathLength = meeting.get().pathLength;
+
+                if (currentDistance + estimateToGoal(currentNode)
+                        >= bestPathLength
+                        ||
+                        currentDistance + 
+                        opposite.f -
+                        opposite.estimateToGoal(currentNode)
+                        >= bestPathLength) {
+                    // Reject the 'currentNode'.
+                    if (statistics != null) {
+                        statistics.incrementRejectedNodes();
+                    }
+                } else {
+                    stabilize(currentNode, currentDistance, opposite);
+                }
+            } else if (statistics != null) {
+                statistics.incrementStalePops();
+            }
+
+            if (!open.isEmpty()) {
+                f = open.getMinimumPriority();
+            }
+        }
+
+        private void stabilize(int currentNode, 
+                               double currentDistance,
+                               Side opposite) {
+            if (statistics != null) {
+                statistics.incrementExpandedNodes();
+            }
+
+            cursor.reset(currentNode);
+
+            while (cursor.next()) {
+                int nextNode = cursor.getNode();
+                double tentativeDistance = 
+                        currentDistance + cursor.getWeight();
+
+                if (closedStamp.get(nextNode) == generation) {
+                    // The opposite side may have closed 'nextNode' while this
+                    // side was closing 'currentNode'; then neither side 
+                    // relaxes the arc between them, so the path over the arc
+                    // is accounted for here. Closed distances are final.
+                    double oppositeDistance = opposite.getDistance(nextNode);
+
+                    if (oppositeDistance != Double.POSITIVE_INFINITY) {
+                        updateBestPath(tentativeDistance + oppositeDistance,
+                                       forward ? currentNode : nextNode,
+                                       forward ? nextNode : currentNode);
+                    }
+
+                    continue;
+                }
+
+                if (getDistance(nextNode) > tentativeDistance) {
+                    setDistance(nextNode, tentativeDistance, currentNode);
+
+                    if (statistics != null) {
+                        statistics.incrementHeapPushes();
+                    }
+
+                    open.insertOrDecreaseKey(
+                            nextNode, 
+                            tentativeDistance + estimateToGoal(nextNode));
+
+                    // The stamp above is written before the opposite stamp 
+                    // is read, so at least one of two racing sides sees the
+                    // other one's distance.
+                    double oppositeDistance = opposite.getDistance(nextNode);
+
+                    if (oppositeDistance != Double.POSITIVE_INFINITY) {
+                        updateBestPath(tentativeDistance + oppositeDistance,
+                                       nextNode, 
+                                       nextNode);
+                    }
+                }
+            }
+        }
+
+        private double estimateToGoal(int nodeId) {
+            return forward ?
+                   heuristicFunction.estimateDistanceBetween(nodeId, 
+                                                             targetNodeId) :
+                   heuristicFunction.estimateDistanceBetween(sourceNodeId, 
+                                                             nodeId);
+        }
+    }
+}
@@ -1,84 +1,356 @@
 package net.coderodde.graph.pathfinding.support;
- 
-import java.util.ArrayList;
+
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
- 
+
+/**
+ * This class implements a dynamic discrete probability distribution over
+ * integer elements. The weights are kept in a Fenwick tree over the element
+ * slots, so that adding, updating and removing an element as well as
+ * sampling one run in {@code O(log n)} time. A distribution that no longer
+ * changes may be frozen into an {@link AliasSampler} that draws in constant
+ * time.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Apr 7, 2022)
+ */
 final class ProbabilityDistribution {
- 
-    private static final class Entry {
- 
-        private final Integer element;
-        private double weight;
- 
-        Entry(Integer element, double weight) {
-            this.element = element;
-            this.weight = weight;
-        }
- 
-        Integer getElement() {
-            return element;
-        }
- 
-        double getWeight() {
-            return weight;
-        }
- 
-        void setWeight(double weight) {
-            this.weight = weight;
-        }
-    }
- 
-    private final List<Entry> storage = new ArrayList<>();
-    private final Map<Integer, Entry> map = new HashMap<>();
-    private Random random;
-    private double totalWeight;
-    
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    // Maps each element to its slot.
+    private final Map<Integer, Integer> slotMap = new HashMap<>();
+    private final Random random;
+
+    // 'elements[i]' and 'weights[i]' describe the slot 'i'; 'tree' is the
+    // one-based Fenwick tree over 'weights'. Only the first 'size' slots are
+    // in use.
+    private int[] elements = new int[DEFAULT_CAPACITY];
+    private double[] weights = new double[DEFAULT_CAPACITY];
+    private double[] tree = new double[DEFAULT_CAPACITY + 1];
+    private int size;
+
     ProbabilityDistribution() {
         this(new Random());
     }
- 
+
     ProbabilityDistribution(Random random) {
-        this.random = random;
+        this.random = Objects.requireNonNull(random,
+                                             "The input random is null.");
     }
- 
+
+    /**
+     * Adds {@code weight} to the weight of {@code element}, adding the
+     * element if it is not yet in this distribution.
+     *
+     * @param element the element.
+     * @param weight  the non-negative weight to add.
+     * @return {@code true}.
+     */
     boolean addElement(Integer element, double weight) {
-        Entry entry = map.get(element);
- 
-        if (entry != null) {
-            entry.setWeight(entry.getWeight() + weight);
+        checkWeight(weight);
+        Integer slot = slotMap.get(element);
+
+        if (slot != null) {
+            weights[slot] += weight;
+            add(slot, weight);
         } else {
-            entry = new Entry(element, weight);
-            map.put(element, entry);
-            storage.add(entry);
+            append(element, weight);
         }
- 
-        totalWeight += weight;
+
         return true;
     }
- 
+
+    /**
+     * Sets the weight of {@code element}, adding the element if it is not yet
+     * in this distribution.
+     *
+     * @param element the element.
+     * @param weight  the non-negative weight.
+     */
+    void setWeight(Integer element, double weight) {
+        checkWeight(weight);
+        Integer slot = slotMap.get(element);
+
+        if (slot != null) {
+            add(slot, weight - weights[slot]);
+            weights[slot] = weight;
+        } else {
+            append(element, weight);
+        }
+    }
+
+    /**
+     * Returns the weight of {@code element}.
+     *
+     * @param element the element.
+     * @return the weight, or zero if the element is not in this distribution.
+     */
+    double getWeight(Integer element) {
+        Integer slot = slotMap.get(element);
+        return slot == null ? 0.0 : weights[slot];
+    }
+
+    /**
+     * Removes {@code element} from this distribution. The last slot is moved
+     * into the slot of the removed element.
+     *
+     * @param element the element to remove.
+     * @return {@code true} if the element was in this distribution.
+     */
+    boolean removeElement(Integer element) {
+        Integer slot = slotMap.remove(element);
+
+        if (slot == null) {
+            return false;
+        }
+
+        int last = size - 1;
+
+        if (slot != last) {
+            add(slot, weights[last] - weights[slot]);
+            elements[slot] = elements[last];
+            weights[slot] = weights[last];
+            slotMap.put(elements[slot], slot);
+        }
+
+        // Zeroing the last slot keeps the tree nodes below 'size' exact:
+        add(last, -weights[last]);
+        size--;
+        return true;
+    }
+
+    boolean containsElement(Integer element) {
+        return slotMap.containsKey(element);
+    }
+
+    /**
+     * Samples an element with probability proportional to its weight. If all
+     * the weights are zero, samples an element uniformly at random.
+     *
+     * @return a sampled element.
+     * @throws IllegalStateException if this distribution is empty.
+     */
     Integer sampleElement() {
+        checkNotEmpty();
+        double totalWeight = getTotalWeight();
+
+        if (totalWeight <= 0.0) {
+            return elements[random.nextInt(size)];
+        }
+
         double value = random.nextDouble() * totalWeight;
-        int distributionSize = storage.size();
- 
-        for (int i = 0; i < distributionSize; ++i) {
-            Entry entry = storage.get(i);
-            double currentWeight = entry.getWeight();
- 
-            if (value < currentWeight) {
-                return entry.getElement();
+        int position = 0;
+
+        // Descend the tree to the first slot whose prefix sum exceeds
+        // 'value':
+        for (int step = Integer.highestOneBit(size); step > 0; step >>>= 1) {
+            int next = position + step;
+
+            if (next <= size && tree[next] <= value) {
+                value -= tree[next];
+                position = next;
             }
- 
-            value -= currentWeight;
         }
-        
-        // Should not happen often:
-        return storage.get(random.nextInt(storage.size())).element;
+
+        // Rounding may push 'value' past the total weight:
+        return elements[Math.min(position, size - 1)];
+    }
+
+    /**
+     * Freezes the current weights into an alias sampler. Later changes to
+     * this distribution do not affect the returned sampler.
+     *
+     * @return an alias sampler sharing the random number generator of this
+     *         distribution.
+     * @throws IllegalStateException if this distribution is empty.
+     */
+    AliasSampler toAliasSampler() {
+        checkNotEmpty();
+        return new AliasSampler(Arrays.copyOf(elements, size),
+                                Arrays.copyOf(weights, size),
+                                random);
+    }
+
+    /**
+     * Returns the element in the slot {@code slot}. The slots range from zero
+     * to {@code size() - 1} and are stable until an element is removed.
+     *
+     * @param slot the slot.
+     * @return the element in the slot.
+     */
+    int getElementAt(int slot) {
+        if (slot < 0 || slot >= size) {
+            throw new IndexOutOfBoundsException(
+                    "The slot " + slot + " is not within [0, " + size + ").");
+        }
+
+        return elements[slot];
+    }
+
+    /**
+     * Removes all the elements, keeping the allocated capacity.
+     */
+    void clear() {
+        slotMap.clear();
+        size = 0;
+    }
+
+    double getTotalWeight() {
+        return prefixSum(size);
+    }
+
+    int size() {
+        return size;
     }
-    
+
     boolean isEmpty() {
-        return storage.isEmpty();
+        return size == 0;
+    }
+
+    private void append(Integer element, double weight) {
+        if (size == elements.length) {
+            int capacity = 2 * size;
+            elements = Arrays.copyOf(elements, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+            tree = Arrays.copyOf(tree, capacity + 1);
+        }
+
+        int index = size + 1;
+        elements[size] = element;
+        weights[size] = weight;
+        slotMap.put(element, size);
+
+        // The tree node 'index' covers the slots from
+        // 'index - lowbit(index)' up to 'index - 1', all but the last of
+        // which are already in place:
+        tree[index] = weight +
+                      prefixSum(size) -
+                      prefixSum(index - (index & -index));
+        size++;
+    }
+
+    private void add(int slot, double delta) {
+        for (int i = slot + 1; i <= size; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private double prefixSum(int slots) {
+        double sum = 0.0;
+
+        for (int i = slots; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+
+        return sum;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new IllegalStateException("The distribution is empty.");
+        }
+    }
+
+    private static void checkWeight(double weight) {
+        if (!(weight >= 0.0) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException(
+                    "The weight is not a non-negative finite number: " +
+                    weight + ".");
+        }
+    }
+
+    /**
+     * This class implements the alias method of Walker, in the numerically
+     * stable formulation of Vose, for sampling a fixed distribution in
+     * constant time after linear preprocessing.
+     */
+    static final class AliasSampler {
+
+        private final int[] elements;
+        private final double[] probabilities;
+        private final int[] aliases;
+        private final Random random;
+
+        AliasSampler(int[] elements, double[] weights, Random random) {
+            int n = elements.length;
+            double totalWeight = 0.0;
+
+            for (double weight : weights) {
+                totalWeight += weight;
+            }
+
+            this.elements = elements;
+            this.probabilities = new double[n];
+            this.aliases = new int[n];
+            this.random = random;
+
+            if (totalWeight <= 0.0) {
+                // Fall back to the uniform distribution:
+                Arrays.fill(probabilities, 1.0);
+                return;
+            }
+
+            // 'small' grows from the front and 'large' from the back of the
+            // same work array:
+            double[] scaled = new double[n];
+            int[] work = new int[n];
+            int smallSize = 0;
+            int largeBegin = n;
+
+            for (int i = 0; i < n; ++i) {
+                scaled[i] = weights[i] * n / totalWeight;
+
+                if (scaled[i] < 1.0) {
+                    work[smallSize++] = i;
+                } else {
+                    work[--largeBegin] = i;
+                }
+            }
+
+            while (smallSize > 0 && largeBegin < n) {
+                int small = work[--smallSize];
+                int large = work[largeBegin++];
+                probabilities[small] = scaled[small];
+                aliases[small] = large;
+                scaled[large] += scaled[small] - 1.0;
+
+                if (scaled[large] < 1.0) {
+                    work[smallSize++] = large;
+                } else {
+                    work[--largeBegin] = large;
+                }
+            }
+
+            // The leftovers are 1.0 up to rounding:
+            while (smallSize > 0) {
+                probabilities[work[--smallSize]] = 1.0;
+            }
+
+            while (largeBegin < n) {
+                probabilities[work[largeBegin++]] = 1.0;
+            }
+        }
+
+        /**
+         * Samples an element with probability proportional to its weight at
+         * the time this sampler was created.
+         *
+         * @return a sampled element.
+         */
+        int sampleElement() {
+            int column = random.nextInt(elements.length);
+            return random.nextDouble() < probabilities[column] ?
+                   elements[column] :
+                   elements[aliases[column]];
+        }
+
+        int size() {
+            return elements.length;
+        }
     }
-}
\ No newline at end of file
+}
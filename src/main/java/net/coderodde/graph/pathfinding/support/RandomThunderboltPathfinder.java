@@ -7,6 +7,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import net.coderodde.graph.DirectedGraph;
+import net.coderodde.graph.DirectedGraphView;
+import net.coderodde.graph.WeightedDirectedGraph;
 import net.coderodde.graph.pathfinding.AbstractPathfinder;
 import net.coderodde.graph.pathfinding.HeuristicFunction;
 
@@ -20,11 +22,17 @@ import net.coderodde.graph.pathfinding.HeuristicFunction;
 public final class RandomThunderboltPathfinder extends AbstractPathfinder {
     
     private final HeuristicFunction heuristicFunction;
-    private final DirectedGraph graph;
     
     public RandomThunderboltPathfinder(DirectedGraph graph,
                                        HeuristicFunction heuristicFunction) {
-        this.graph = Objects.requireNonNull(graph, "The input graph is null.");
+        this(new DirectedGraphView(
+                Objects.requireNonNull(graph, "The input graph is null.")),
+             heuristicFunction);
+    }
+    
+    public RandomThunderboltPathfinder(WeightedDirectedGraph graph,
+                                       HeuristicFunction heuristicFunction) {
+        super(graph);
         this.heuristicFunction = 
                 Objects.requireNonNull(
                         heuristicFunction, 
@@ -67,6 +75,10 @@ public final class RandomThunderboltPathfinder extends AbstractPathfinder {
             currentNodeId = nextNodeId;
         }
         
+        // The greedy descent gives no guarantee on the path cost. (An empty
+        // result, on the other hand, is exact: the backtracking visits every
+        // node reachable from the source before giving up.)
+        pathLowerBound = 0.0;
         return path;
     }
     
@@ -74,26 +86,26 @@ public final class RandomThunderboltPathfinder extends AbstractPathfinder {
         step(Integer currentNodeId, 
              Integer targetNodeId,
              Set<Integer> settledNodes) {
-            
-        Set<Integer> children = graph.getChildrenOf(currentNodeId);
         
-        if (children == null || children.isEmpty()) {
+        if (!weightedGraph.containsNode(currentNodeId)) {
             // Should not happen but is possible.
             return null;
         }
         
-        return getMinimizingNode(children, settledNodes, targetNodeId);
+        childCursor.reset(currentNodeId);
+        return getMinimizingNode(settledNodes, targetNodeId);
     }
         
     private Integer 
         getMinimizingNode(
-                Set<Integer> children,
                 Set<Integer> settledNodes,
                 Integer targetNodeId) {
         double minimizingCost = Double.POSITIVE_INFINITY;
         Integer minimizingNodeId = null;
         
-        for (Integer childNodeId : children) {
+        while (childCursor.next()) {
+            int childNodeId = childCursor.getNode();
+            
             if (settledNodes.contains(childNodeId)) {
                 continue;
             }
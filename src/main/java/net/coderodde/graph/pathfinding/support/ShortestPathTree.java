@@ -0,0 +1,96 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.Arrays;
+import net.coderodde.graph.ArcCursor;
+import net.coderodde.graph.WeightedDirectedGraph;
+
+/**
+ * This class computes a complete single-source shortest path tree with
+ * Dijkstra's algorithm over dense node IDs. It is used by preprocessing 
+ * routines that need all distances from (or to) a node.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+final class ShortestPathTree {
+
+    static final int NO_PARENT = -1;
+
+    /**
+     * Distance of each node from the root; infinite if not reachable.
+     */
+    final double[] distance;
+
+    /**
+     * The parent of each node in the tree; {@code NO_PARENT} for the root and
+     * for the unreachable nodes.
+     */
+    final int[] parent;
+
+    /**
+     * The reached nodes in the order they were settled.
+     */
+    final int[] settleOrder;
+
+    /**
+     * The number of reached nodes.
+     */
+    final int settledNodes;
+
+    /**
+     * Computes the shortest path tree of {@code rootNodeId}.
+     * 
+     * @param graph      the graph.
+     * @param rootNodeId the root of the tree.
+     * @param forward    if {@code true}, computes distances from the root 
+     *                   following outgoing arcs; otherwise, computes 
+     *                   distances to the root following incoming arcs.
+     */
+    ShortestPathTree(WeightedDirectedGraph graph, 
+                     int rootNodeId, 
+                     boolean forward) {
+        int nodeIdBound = graph.getNodeIdBound();
+        ArcCursor cursor = forward ? 
+                           graph.newChildCursor() : 
+                           graph.newParentCursor();
+        IndexedDaryHeap open = new IndexedDaryHeap(nodeIdBound);
+        boolean[] closed = new boolean[nodeIdBound];
+        int settled = 0;
+
+        distance = new double[nodeIdBound];
+        parent = new int[nodeIdBound];
+        settleOrder = new int[nodeIdBound];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        Arrays.fill(parent, NO_PARENT);
+
+        distance[rootNodeId] = 0.0;
+        open.insertOrDecreaseKey(rootNodeId, 0.0);
+
+        while (!open.isEmpty()) {
+            int currentNodeId = open.extractMinimum();
+            closed[currentNodeId] = true;
+            settleOrder[settled++] = currentNodeId;
+            cursor.reset(currentNodeId);
+
+            while (cursor.next()) {
+                int nextNodeId = cursor.getNode();
+
+                if (closed[nextNodeId]) {
+                    continue;
+                }
+
+                double tentativeDistance = 
+                        distance[currentNodeId] + cursor.getWeight();
+
+                if (distance[nextNodeId] > tentativeDistance) {
+                    distance[nextNodeId] = tentativeDistance;
+                    parent[nextNodeId] = currentNodeId;
+                    open.insertOrDecreaseKey(nextNodeId, tentativeDistance);
+                }
+            }
+        }
+
+        settledNodes = settled;
+    }
+}
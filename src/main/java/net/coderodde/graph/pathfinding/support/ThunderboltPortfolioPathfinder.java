@@ -0,0 +1,492 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import net.coderodde.graph.ArcCursor;
+import net.coderodde.graph.DirectedGraph;
+import net.coderodde.graph.DirectedGraphWeightFunction;
+import net.coderodde.graph.WeightedDirectedGraph;
+import net.coderodde.graph.pathfinding.AbstractPathfinder;
+import net.coderodde.graph.pathfinding.HeuristicFunction;
+import net.coderodde.graph.pathfinding.SearchStatistics;
+
+/**
+ * This class implements a portfolio of randomized "Thunderbolt" runs. Like
+ * {@link RandomThunderboltPathfinder}, each run descends from the source
+ * towards the target and backtracks from dead ends; instead of always taking
+ * the child closest to the target, however, it samples the next node with
+ * probability proportional to <tt>(minimum score / score)^greediness</tt>,
+ * where the score of a child is the arc weight plus the heuristic estimate
+ * to the target. The first run of each search is the deterministic greedy
+ * descent, so the portfolio never does worse than a single Thunderbolt.
+ * <p>
+ * The runs are spread over the worker threads of an executor, each run with
+ * its own seeded random number generator. The workers share the cost of the
+ * best path found so far, and a run whose cost plus the heuristic estimate
+ * reaches that bound is abandoned. A search ends when all the restarts have
+ * run or the time budget is spent, whichever comes first, and returns the
+ * best path found. The returned path carries no optimality guarantee.
+ * Cancelling an asynchronous search stops all the workers.
+ * <p>
+ * The heuristic function is called from several threads, so it must be safe
+ * for concurrent use.
+ * <p>
+ * <b>This class is not thread-safe.</b> If you need it in different threads,
+ * make sure each thread has its own object of this class.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @since 1.6 (Oct 18, 2026)
+ */
+public final class ThunderboltPortfolioPathfinder extends AbstractPathfinder {
+
+    private static final int RESTARTS_PER_THREAD = 4;
+    private static final int DEADLINE_CHECK_INTERVAL = 64;
+    private static final double DEFAULT_GREEDINESS = 8.0;
+
+    /**
+     * The best path found so far and its cost.
+     */
+    private static final class BestPath {
+
+        final double cost;
+        final int[] path;
+
+        BestPath(double cost, int[] path) {
+            this.cost = cost;
+            this.path = path;
+        }
+    }
+
+    private static final BestPath NO_PATH =
+            new BestPath(Double.POSITIVE_INFINITY, null);
+
+    private final HeuristicFunction heuristicFunction;
+    private final Executor executor;
+    private final int parallelism;
+    private int restarts;
+    private long timeBudgetNanos = Long.MAX_VALUE;
+    private double greediness = DEFAULT_GREEDINESS;
+    private long seed = new Random().nextLong();
+
+    public ThunderboltPortfolioPathfinder(
+            DirectedGraph graph,
+            DirectedGraphWeightFunction weightFunction,
+            HeuristicFunction heuristicFunction) {
+        super(graph, weightFunction);
+        this.heuristicFunction =
+                Objects.requireNonNull(heuristicFunction,
+                                       "The input heuristic function is null.");
+        this.executor = ForkJoinPool.commonPool();
+        this.parallelism = ForkJoinPool.commonPool().getParallelism();
+        this.restarts = RESTARTS_PER_THREAD * parallelism;
+    }
+
+    /**
+     * Constructs a portfolio running in the common fork/join pool.
+     *
+     * @param graph             the graph to search.
+     * @param heuristicFunction the heuristic function.
+     */
+    public ThunderboltPortfolioPathfinder(WeightedDirectedGraph graph,
+                                          HeuristicFunction heuristicFunction) {
+        this(graph, heuristicFunction, ForkJoinPool.commonPool());
+    }
+
+    public ThunderboltPortfolioPathfinder(WeightedDirectedGraph graph,
+                                          HeuristicFunction heuristicFunction,
+                                          ForkJoinPool pool) {
+        this(graph, heuristicFunction, pool, pool.getParallelism());
+    }
+
+    /**
+     * Constructs a portfolio running in {@code executor}.
+     *
+     * @param graph             the graph to search.
+     * @param heuristicFunction the heuristic function.
+     * @param executor          the executor to run the workers in.
+     * @param parallelism       the number of workers to run.
+     */
+    public ThunderboltPortfolioPathfinder(WeightedDirectedGraph graph,
+                                          HeuristicFunction heuristicFunction,
+                                          Executor executor,
+                                          int parallelism) {
+        super(graph);
+        this.heuristicFunction =
+                Objects.requireNonNull(heuristicFunction,
+                                       "The input heuristic function is null.");
+        this.executor = Objects.requireNonNull(executor,
+                                               "The input executor is null.");
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "The parallelism is less than 1: " + parallelism + ".");
+        }
+
+        this.parallelism = parallelism;
+        this.restarts = RESTARTS_PER_THREAD * parallelism;
+    }
+
+    /**
+     * Sets the number of runs per search. Defaults to four runs per worker.
+     *
+     * @param restarts the number of runs.
+     */
+    public void setRestarts(int restarts) {
+        if (restarts < 1) {
+            throw new IllegalArgumentException(
+                    "The number of restarts is less than 1: " + restarts +
+                    ".");
+        }
+
+        this.restarts = restarts;
+    }
+
+    /**
+     * Limits the running time of each search. The runs in progress when the
+     * budget is spent are abandoned, and the best path completed so far is
+     * returned.
+     *
+     * @param budget the time budget, or {@code Long.MAX_VALUE} for no budget.
+     * @param unit   the unit of {@code budget}.
+     */
+    public void setTimeBudget(long budget, TimeUnit unit) {
+        Objects.requireNonNull(unit, "The input time unit is null.");
+
+        if (budget < 1L) {
+            throw new IllegalArgumentException(
+                    "The time budget is less than 1: " + budget + ".");
+        }
+
+        timeBudgetNanos = budget == Long.MAX_VALUE ?
+                          Long.MAX_VALUE :
+                          unit.toNanos(budget);
+    }
+
+    /**
+     * Sets how strongly the sampling prefers the children with low scores.
+     * The larger the greediness, the closer each run is to the greedy
+     * descent.
+     *
+     * @param greediness the positive exponent of the score ratios.
+     */
+    public void setGreediness(double greediness) {
+        if (!(greediness > 0.0) || Double.isInfinite(greediness)) {
+            throw new IllegalArgumentException(
+                    "The greediness is not a positive finite number: " +
+                    greediness + ".");
+        }
+
+        this.greediness = greediness;
+    }
+
+    /**
+     * Sets the seed the random number generators of the runs are derived
+     * from. With a fixed seed and no time budget, the same runs are made for
+     * the same query.
+     *
+     * @param seed the seed.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public List<Integer> search(int sourceNodeId, int targetNodeId) {
+        if (sourceNodeId == targetNodeId) {
+            pathCost = 0.0;
+            return new ArrayList<>(Arrays.asList(sourceNodeId));
+        }
+
+        long deadline = timeBudgetNanos == Long.MAX_VALUE ?
+                        Long.MAX_VALUE :
+                        System.nanoTime() + timeBudgetNanos;
+        AtomicReference<BestPath> bestPath = new AtomicReference<>(NO_PATH);
+        AtomicInteger nextRun = new AtomicInteger();
+        Runnable abortCheck = captureAbortCheck();
+        int workers = Math.min(parallelism, restarts);
+        Worker[] workerArray = new Worker[workers];
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[workers];
+
+        for (int i = 0; i < workers; ++i) {
+            workerArray[i] = new Worker(sourceNodeId,
+                                        targetNodeId,
+                                        deadline,
+                                        bestPath,
+                                        nextRun,
+                                        abortCheck);
+            futures[i] = CompletableFuture.runAsync(workerArray[i], executor);
+        }
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException ex) {
+            // Rethrows the abort of an asynchronous search as is:
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+
+            throw ex;
+        }
+
+        if (statistics != null) {
+            for (Worker worker : workerArray) {
+                statistics.add(worker.workerStatistics);
+            }
+        }
+
+        BestPath best = bestPath.get();
+
+        if (best.path == null) {
+            return new ArrayList<>();
+        }
+
+        List<Integer> path = new ArrayList<>(best.path.length);
+
+        for (int node : best.path) {
+            path.add(node);
+        }
+
+        pathCost = best.cost;
+        // No guarantee on the path cost:
+        pathLowerBound = 0.0;
+        return path;
+    }
+
+    /**
+     * Runs restarts until none are left, the deadline passes or the
+     * asynchronous search is aborted.
+     */
+    private final class Worker implements Runnable {
+
+        private final int sourceNodeId;
+        private final int targetNodeId;
+        private final long deadline;
+        private final AtomicReference<BestPath> bestPath;
+        private final AtomicInteger nextRun;
+        private final Runnable abortCheck;
+        private final ArcCursor cursor = weightedGraph.newChildCursor();
+        private final Set<Integer> settledNodes = new HashSet<>();
+        private final SearchStatistics workerStatistics =
+                statistics != null ? new SearchStatistics() : null;
+        private final Random random = new Random();
+        private final ProbabilityDistribution distribution =
+                new ProbabilityDistribution(random);
+        private int[] pathNodes = new int[16];
+        private double[] pathCosts = new double[16];
+        private int stepsUntilDeadlineCheck = DEADLINE_CHECK_INTERVAL;
+        private boolean expired;
+
+        Worker(int sourceNodeId,
+               int targetNodeId,
+               long deadline,
+               AtomicReference<BestPath> bestPath,
+               AtomicInteger nextRun,
+               Runnable abortCheck) {
+            this.sourceNodeId = sourceNodeId;
+            this.targetNodeId = targetNodeId;
+            this.deadline = deadline;
+            this.bestPath = bestPath;
+            this.nextRun = nextRun;
+            this.abortCheck = abortCheck;
+        }
+
+        @Override
+        public void run() {
+            int run;
+
+            while (!expired && (run = nextRun.getAndIncrement()) < restarts) {
+                random.setSeed(seed + run * 0x9E3779B97F4A7C15L);
+                runOnce(run == 0);
+            }
+        }
+
+        private void runOnce(boolean greedy) {
+            settledNodes.clear();
+            settledNodes.add(sourceNodeId);
+            pathNodes[0] = sourceNodeId;
+            pathCosts[0] = 0.0;
+            int length = 1;
+
+            while (length > 0) {
+                if (--stepsUntilDeadlineCheck == 0) {
+                    stepsUntilDeadlineCheck = DEADLINE_CHECK_INTERVAL;
+                    abortCheck.run();
+
+                    if (deadline != Long.MAX_VALUE &&
+                            System.nanoTime() - deadline >= 0L) {
+                        expired = true;
+                        return;
+                    }
+                }
+
+                int currentNodeId = pathNodes[length - 1];
+                double cost = pathCosts[length - 1];
+
+                if (currentNodeId == targetNodeId) {
+                    offer(cost, length);
+                    return;
+                }
+
+                if (cost + heuristicFunction.estimateDistanceBetween(
+                        currentNodeId,
+                        targetNodeId) >= bestPath.get().cost) {
+                    // This run cannot beat the best path any more:
+                    return;
+                }
+
+                if (workerStatistics != null) {
+                    workerStatistics.incrementExpandedNodes();
+                }
+
+                int nextNodeId = greedy ?
+                                 minimizingChild(currentNodeId) :
+                                 sampleChild(currentNodeId);
+
+                if (nextNodeId < 0) {
+                    // A dead end; backtrack:
+                    length--;
+                    continue;
+                }
+
+                if (length == pathNodes.length) {
+                    pathNodes = Arrays.copyOf(pathNodes, 2 * length);
+                    pathCosts = Arrays.copyOf(pathCosts, 2 * length);
+                }
+
+                settledNodes.add(nextNodeId);
+                pathNodes[length] = nextNodeId;
+                pathCosts[length] = cost + arcWeight(currentNodeId,
+                                                     nextNodeId);
+                length++;
+            }
+        }
+
+        private int minimizingChild(int nodeId) {
+            double minimumEstimate = Double.POSITIVE_INFINITY;
+            int minimizingNodeId = -1;
+            cursor.reset(nodeId);
+
+            while (cursor.next()) {
+                int childNodeId = cursor.getNode();
+
+                if (settledNodes.contains(childNodeId)) {
+                    continue;
+                }
+
+                double estimate =
+                        heuristicFunction.estimateDistanceBetween(
+                                childNodeId,
+                                targetNodeId);
+
+                if (minimumEstimate > estimate) {
+                    minimumEstimate = estimate;
+                    minimizingNodeId = childNodeId;
+                }
+            }
+
+            return minimizingNodeId;
+        }
+
+        private int sampleChild(int nodeId) {
+            distribution.clear();
+            double minimumScore = Double.POSITIVE_INFINITY;
+            cursor.reset(nodeId);
+
+            while (cursor.next()) {
+                int childNodeId = cursor.getNode();
+
+                if (settledNodes.contains(childNodeId)) {
+                    continue;
+                }
+
+                if (childNodeId == targetNodeId) {
+                    return childNodeId;
+                }
+
+                double score =
+                        cursor.getWeight() +
+                        heuristicFunction.estimateDistanceBetween(
+                                childNodeId,
+                                targetNodeId);
+
+                // Keep the best score per child; the weights are set below:
+                if (!distribution.containsElement(childNodeId) ||
+                        distribution.getWeight(childNodeId) > score) {
+                    distribution.setWeight(childNodeId, score);
+                }
+
+                minimumScore = Math.min(minimumScore, score);
+            }
+
+            if (distribution.isEmpty()) {
+                return -1;
+            }
+
+            if (minimumScore == 0.0) {
+                // Favor the zero-score children exclusively:
+                for (int i = 0; i < distribution.size(); ++i) {
+                    int element = distribution.getElementAt(i);
+                    double score = distribution.getWeight(element);
+                    distribution.setWeight(element, score == 0.0 ? 1.0 : 0.0);
+                }
+            } else {
+                for (int i = 0; i < distribution.size(); ++i) {
+                    int element = distribution.getElementAt(i);
+                    double score = distribution.getWeight(element);
+                    distribution.setWeight(
+                            element,
+                            Math.pow(minimumScore / score, greediness));
+                }
+            }
+
+            return distribution.sampleElement();
+        }
+
+        private double arcWeight(int tailNodeId, int headNodeId) {
+            double weight = Double.POSITIVE_INFINITY;
+            cursor.reset(tailNodeId);
+
+            while (cursor.next()) {
+                if (cursor.getNode() == headNodeId) {
+                    weight = Math.min(weight, cursor.getWeight());
+                }
+            }
+
+            return weight;
+        }
+
+        private void offer(double cost, int length) {
+            BestPath candidate = null;
+
+            while (true) {
+                BestPath current = bestPath.get();
+
+                if (current.cost <= cost) {
+                    return;
+                }
+
+                if (candidate == null) {
+                    candidate = new BestPath(cost,
+                                             Arrays.copyOf(pathNodes, length));
+                }
+
+                if (bestPath.compareAndSet(current, candidate)) {
+                    return;
+                }
+            }
+        }
+    }
+}
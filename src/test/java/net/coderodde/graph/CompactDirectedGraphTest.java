@@ -0,0 +1,214 @@
+package net.coderodde.graph;
+
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.coderodde.graph.pathfinding.AbstractPathfinder;
+import net.coderodde.graph.pathfinding.DirectedGraphNodeCoordinates;
+import net.coderodde.graph.pathfinding.HeuristicFunction;
+import net.coderodde.graph.pathfinding.support.AStarPathfinder;
+import net.coderodde.graph.pathfinding.support.BidirectionalDijkstraPathfinder;
+import net.coderodde.graph.pathfinding.support.DijkstraPathfinder;
+import net.coderodde.graph.pathfinding.support.EuclideanHeuristicFunction;
+import net.coderodde.graph.pathfinding.support.NBAStarPathfinder;
+import net.coderodde.graph.pathfinding.support.RandomThunderboltPathfinder;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class CompactDirectedGraphTest {
+
+    private static final int NODES = 300;
+    private static final int ARCS = 1200;
+    private static final int QUERIES = 30;
+    
+    @Test
+    public void testFreeze() {
+        DirectedGraph graph = new DirectedGraph();
+        DirectedGraphWeightFunction weightFunction = 
+                new DirectedGraphWeightFunction();
+        
+        graph.addNode(0);
+        graph.addNode(1);
+        graph.addNode(3);
+        graph.addArc(0, 1);
+        graph.addArc(0, 3);
+        graph.addArc(3, 1);
+        weightFunction.put(0, 1, 1.0);
+        weightFunction.put(0, 3, 2.0);
+        weightFunction.put(3, 1, 3.0);
+        
+        CompactDirectedGraph compactGraph = 
+                CompactDirectedGraph.freeze(graph, weightFunction);
+        
+        assertEquals(4, compactGraph.getNodeIdBound());
+        assertEquals(3, compactGraph.getNumberOfArcs());
+        assertTrue(compactGraph.containsNode(0));
+        assertTrue(compactGraph.containsNode(1));
+        assertFalse(compactGraph.containsNode(2));
+        assertTrue(compactGraph.containsNode(3));
+        assertFalse(compactGraph.containsNode(4));
+        
+        assertEquals(2, compactGraph.getChildArcEnd(0) - 
+                        compactGraph.getChildArcBegin(0));
+        assertEquals(2, compactGraph.getParentArcEnd(1) - 
+                        compactGraph.getParentArcBegin(1));
+        
+        ArcCursor cursor = compactGraph.newParentCursor();
+        cursor.reset(1);
+        double weightSum = 0.0;
+        
+        while (cursor.next()) {
+            weightSum += cursor.getWeight();
+            
+            if (cursor.getNode() == 3) {
+                assertEquals(3.0, cursor.getWeight(), 0.0);
+            }
+        }
+        
+        assertEquals(4.0, weightSum, 0.0);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testFreezeThrowsOnNegativeNodeId() {
+        DirectedGraph graph = new DirectedGraph();
+        graph.addNode(-1);
+        CompactDirectedGraph.freeze(graph, new DirectedGraphWeightFunction());
+    }
+    
+    @Test
+    public void testFreezeThrowsOnInvalidWeight() {
+        DirectedGraph graph = new DirectedGraph();
+        graph.addNode(0);
+        graph.addNode(1);
+        graph.addArc(0, 1);
+        
+        for (double weight : new double[]{ -1.0, Double.NaN }) {
+            // The weight function rejects such weights unless overridden:
+            DirectedGraphWeightFunction weightFunction = 
+                    new DirectedGraphWeightFunction() {
+                @Override
+                public double get(int tailNodeId, int headNodeId) {
+                    return weight;
+                }
+            };
+            
+            try {
+                CompactDirectedGraph.freeze(graph, weightFunction);
+                fail();
+            } catch (IllegalArgumentException ex) {
+            }
+        }
+    }
+    
+    @Test
+    public void testPathfindersAgreeOnBothBackends() {
+        Random random = new Random(13L);
+        DirectedGraph graph = new DirectedGraph();
+        DirectedGraphNodeCoordinates coordinates = 
+                new DirectedGraphNodeCoordinates();
+        DirectedGraphWeightFunction weightFunction = 
+                new DirectedGraphWeightFunction();
+        
+        for (int id = 0; id < NODES; ++id) {
+            graph.addNode(id);
+            coordinates.put(id, new Point2D.Double(1000.0 * random.nextDouble(),
+                                                   1000.0 * random.nextDouble()));
+        }
+        
+        for (int i = 0; i < ARCS; ++i) {
+            int tailNodeId = random.nextInt(NODES);
+            int headNodeId = random.nextInt(NODES);
+            graph.addArc(tailNodeId, headNodeId);
+            weightFunction.put(
+                    tailNodeId, 
+                    headNodeId,
+                    1.1 * coordinates.get(tailNodeId)
+                                     .distance(coordinates.get(headNodeId)));
+        }
+        
+        CompactDirectedGraph compactGraph = 
+                CompactDirectedGraph.freeze(graph, weightFunction);
+        HeuristicFunction hf = new EuclideanHeuristicFunction(coordinates);
+        
+        AbstractPathfinder referenceFinder = 
+                new DijkstraPathfinder(graph, weightFunction);
+        
+        List<AbstractPathfinder> finders = new ArrayList<>();
+        finders.add(new AStarPathfinder(graph, weightFunction, hf));
+        finders.add(new BidirectionalDijkstraPathfinder(graph, weightFunction));
+        finders.add(new NBAStarPathfinder(graph, weightFunction, hf));
+        finders.add(new AStarPathfinder(compactGraph, hf));
+        finders.add(new DijkstraPathfinder(compactGraph));
+        finders.add(new BidirectionalDijkstraPathfinder(compactGraph));
+        finders.add(new NBAStarPathfinder(compactGraph, hf));
+        
+        AStarPathfinder denseAStar = new AStarPathfinder(compactGraph, hf);
+        DijkstraPathfinder denseDijkstra = new DijkstraPathfinder(graph, 
+                                                                  weightFunction);
+        BidirectionalDijkstraPathfinder denseBidirectionalDijkstra = 
+                new BidirectionalDijkstraPathfinder(compactGraph);
+        NBAStarPathfinder denseNBAStar = new NBAStarPathfinder(graph, 
+                                                               weightFunction, 
+                                                               hf);
+        denseAStar.setDenseSearchState(true);
+        denseDijkstra.setDenseSearchState(true);
+        denseBidirectionalDijkstra.setDenseSearchState(true);
+        denseNBAStar.setDenseSearchState(true);
+        denseAStar.setIndexedHeap(true);
+        denseDijkstra.setIndexedHeap(true);
+        denseBidirectionalDijkstra.setIndexedHeap(true);
+        denseNBAStar.setIndexedHeap(true);
+        finders.add(denseAStar);
+        finders.add(denseDijkstra);
+        finders.add(denseBidirectionalDijkstra);
+        finders.add(denseNBAStar);
+        
+        NBAStarPathfinder indexedHeapNBAStar = 
+                new NBAStarPathfinder(compactGraph, hf);
+        indexedHeapNBAStar.setIndexedHeap(true);
+        finders.add(indexedHeapNBAStar);
+        
+        AbstractPathfinder thunderbolt = 
+                new RandomThunderboltPathfinder(compactGraph, hf);
+        
+        for (int i = 0; i < QUERIES; ++i) {
+            int sourceNodeId = random.nextInt(NODES);
+            int targetNodeId = random.nextInt(NODES);
+            List<Integer> referencePath = 
+                    referenceFinder.search(sourceNodeId, targetNodeId);
+            double referenceLength = 
+                    getPathLength(referencePath, weightFunction);
+            
+            for (AbstractPathfinder finder : finders) {
+                List<Integer> path = finder.search(sourceNodeId, targetNodeId);
+                assertEquals(referencePath.isEmpty(), path.isEmpty());
+                assertEquals(referenceLength,
+                             getPathLength(path, weightFunction),
+                             1e-9);
+            }
+            
+            List<Integer> thunderboltPath = 
+                    thunderbolt.search(sourceNodeId, targetNodeId);
+            
+            if (referencePath.isEmpty()) {
+                assertTrue(thunderboltPath.isEmpty());
+            } else if (!thunderboltPath.isEmpty()) {
+                assertTrue(getPathLength(thunderboltPath, weightFunction) >= 
+                           referenceLength - 1e-9);
+            }
+        }
+    }
+    
+    private static double getPathLength(
+            List<Integer> path,
+            DirectedGraphWeightFunction weightFunction) {
+        double pathLength = 0.0;
+        
+        for (int i = 0; i < path.size() - 1; ++i) {
+            pathLength += weightFunction.get(path.get(i), path.get(i + 1));
+        }
+        
+        return pathLength;
+    }
+}
@@ -0,0 +1,244 @@
+package net.coderodde.graph;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import net.coderodde.graph.pathfinding.SearchResult;
+import net.coderodde.graph.pathfinding.SnapshotPathfinder;
+import net.coderodde.graph.pathfinding.support.DijkstraPathfinder;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class VersionedDirectedGraphTest {
+
+    private static final int NODES = 1000;
+    private static final int ARCS = 5000;
+    private static final int QUERIES = 200;
+
+    @Test
+    public void testSnapshotsAreIsolatedAndShareStructure() {
+        Random random = new Random(7L);
+        DirectedGraph graph = new DirectedGraph();
+        DirectedGraphWeightFunction weightFunction =
+                new DirectedGraphWeightFunction();
+
+        for (int i = 0; i < NODES; ++i) {
+            graph.addNode(i);
+        }
+
+        for (int i = 0; i < ARCS; ++i) {
+            int tail = random.nextInt(NODES);
+            int head = random.nextInt(NODES);
+            graph.addArc(tail, head);
+            weightFunction.put(tail, head, random.nextDouble());
+        }
+
+        VersionedDirectedGraph versionedGraph =
+                new VersionedDirectedGraph(graph, weightFunction);
+        VersionedDirectedGraph.Snapshot snapshot1 =
+                versionedGraph.getSnapshot();
+        DijkstraPathfinder expectedFinder =
+                new DijkstraPathfinder(graph, weightFunction);
+        DijkstraPathfinder finder1 = new DijkstraPathfinder(snapshot1);
+
+        assertEquals(1L, snapshot1.getVersion());
+        assertEquals(NODES, snapshot1.getNumberOfNodes());
+
+        for (int i = 0; i < QUERIES; ++i) {
+            int source = random.nextInt(NODES);
+            int target = random.nextInt(NODES);
+            assertEquals(
+                    expectedFinder.searchWithResult(source, target).getCost(),
+                    finder1.searchWithResult(source, target).getCost(),
+                    1e-9);
+        }
+
+        int tail = graph.getNodeList().stream()
+                        .filter(node -> !graph.getChildrenOf(node).isEmpty())
+                        .findFirst()
+                        .get();
+        int head = graph.getChildrenOf(tail).iterator().next();
+        double weight = weightFunction.get(tail, head);
+        int arcs = snapshot1.getNumberOfArcs();
+
+        VersionedDirectedGraph.Snapshot snapshot2 =
+                versionedGraph.update(batch -> {
+                    batch.putArc(tail, head, weight + 1.0);
+                    batch.addNode(NODES + 500);
+                    batch.putArc(tail, NODES + 500, 2.0);
+                });
+
+        assertEquals(2L, snapshot2.getVersion());
+        assertEquals(weight, snapshot1.getWeight(tail, head), 0.0);
+        assertEquals(weight + 1.0, snapshot2.getWeight(tail, head), 0.0);
+        assertFalse(snapshot1.containsNode(NODES + 500));
+        assertTrue(snapshot2.containsNode(NODES + 500));
+        assertEquals(arcs, snapshot1.getNumberOfArcs());
+        assertEquals(arcs + 1, snapshot2.getNumberOfArcs());
+        assertEquals(NODES + 501, snapshot2.getNodeIdBound());
+
+        // Only the pages of 'tail' and the new node are copied:
+        int tailPage = tail >>> VersionedDirectedGraph.PAGE_SHIFT;
+        int headPage = head >>> VersionedDirectedGraph.PAGE_SHIFT;
+        int newPage = (NODES + 500) >>> VersionedDirectedGraph.PAGE_SHIFT;
+        int pages = snapshot1.childPages.length;
+
+        for (int i = 0; i < pages; ++i) {
+            if (i != tailPage && i != newPage) {
+                assertSame(snapshot1.childPages[i], snapshot2.childPages[i]);
+            }
+
+            if (i != headPage && i != newPage) {
+                assertSame(snapshot1.parentPages[i], snapshot2.parentPages[i]);
+            }
+        }
+
+        VersionedDirectedGraph.Snapshot snapshot3 =
+                versionedGraph.update(batch -> {
+                    assertTrue(batch.removeArc(tail, head));
+                    assertFalse(batch.removeArc(tail, head));
+                });
+
+        assertTrue(Double.isNaN(snapshot3.getWeight(tail, head)));
+        assertEquals(weight + 1.0, snapshot2.getWeight(tail, head), 0.0);
+        assertEquals(arcs, snapshot3.getNumberOfArcs());
+    }
+
+    @Test
+    public void testSearchesSeeConsistentSnapshotsUnderUpdates()
+            throws InterruptedException {
+        Random random = new Random(13L);
+        VersionedDirectedGraph versionedGraph = new VersionedDirectedGraph();
+        int[] tails = new int[ARCS];
+        int[] heads = new int[ARCS];
+
+        versionedGraph.update(batch -> {
+            for (int i = 0; i < NODES; ++i) {
+                batch.addNode(i);
+            }
+
+            for (int i = 0; i < ARCS; ++i) {
+                tails[i] = random.nextInt(NODES);
+                heads[i] = random.nextInt(NODES);
+                batch.putArc(tails[i], heads[i], 1.0);
+            }
+        });
+
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            Random writerRandom = new Random(1L);
+
+            try {
+                while (!stop.get()) {
+                    versionedGraph.update(batch -> {
+                        for (int i = 0; i < 100; ++i) {
+                            int arc = writerRandom.nextInt(ARCS);
+                            batch.putArc(tails[arc],
+                                         heads[arc],
+                                         writerRandom.nextDouble());
+                        }
+                    });
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+
+        VersionedDirectedGraph.Reader reader = versionedGraph.newReader();
+        SnapshotPathfinder finder =
+                new SnapshotPathfinder(new DijkstraPathfinder(reader), reader);
+        writer.start();
+
+        try {
+            for (int i = 0; i < QUERIES; ++i) {
+                int source = random.nextInt(NODES);
+                int target = random.nextInt(NODES);
+                SearchResult result = finder.searchWithResult(source, target);
+                DijkstraPathfinder reference =
+                        new DijkstraPathfinder(finder.getSnapshot());
+
+                assertEquals(reference.searchWithResult(source, target)
+                                      .getCost(),
+                             result.getCost(),
+                             1e-9);
+            }
+        } finally {
+            stop.set(true);
+            writer.join();
+        }
+
+        assertNull(failure.get());
+    }
+
+    @Test
+    public void testBatchEditsHubNodeInPlace() {
+        VersionedDirectedGraph versionedGraph = new VersionedDirectedGraph();
+        versionedGraph.update(batch -> {
+            for (int i = 0; i < NODES; ++i) {
+                batch.addNode(i);
+            }
+
+            batch.putArc(0, 1, 5.0);
+        });
+
+        VersionedDirectedGraph.Snapshot snapshot1 =
+                versionedGraph.getSnapshot();
+
+        // Grow, reweigh and shrink the lists of the hub node 0 in one batch:
+        VersionedDirectedGraph.Snapshot snapshot2 =
+                versionedGraph.update(batch -> {
+            for (int i = 1; i < NODES; ++i) {
+                batch.putArc(0, i, i);
+            }
+
+            for (int i = 1; i < NODES; ++i) {
+                batch.putArc(i, 0, 1.0);
+            }
+
+            batch.putArc(0, 1, 0.5);
+
+            for (int i = 2; i < NODES; i += 2) {
+                assertTrue(batch.removeArc(0, i));
+            }
+
+            assertFalse(batch.removeArc(0, 2));
+        });
+
+        assertEquals(1, snapshot1.getNumberOfArcs());
+        assertEquals(5.0, snapshot1.getWeight(0, 1), 0.0);
+        assertEquals(NODES / 2 + NODES - 1, snapshot2.getNumberOfArcs());
+        assertEquals(0.5, snapshot2.getWeight(0, 1), 0.0);
+        assertEquals(3.0, snapshot2.getWeight(0, 3), 0.0);
+        assertTrue(Double.isNaN(snapshot2.getWeight(0, 2)));
+
+        ArcCursor cursor = snapshot2.newChildCursor();
+        cursor.reset(0);
+        int arcs = 0;
+
+        while (cursor.next()) {
+            assertEquals(1, cursor.getNode() % 2);
+            arcs++;
+        }
+
+        assertEquals(NODES / 2, arcs);
+        cursor = snapshot2.newParentCursor();
+        cursor.reset(0);
+        arcs = 0;
+
+        while (cursor.next()) {
+            arcs++;
+        }
+
+        assertEquals(NODES - 1, arcs);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testThrowsOnPublishedBatch() {
+        VersionedDirectedGraph versionedGraph = new VersionedDirectedGraph();
+        AtomicReference<VersionedDirectedGraph.Batch> leaked =
+                new AtomicReference<>();
+        versionedGraph.update(leaked::set);
+        leaked.get().addNode(0);
+    }
+}
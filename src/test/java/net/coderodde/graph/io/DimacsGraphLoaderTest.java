@@ -0,0 +1,157 @@
+package net.coderodde.graph.io;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import net.coderodde.graph.ArcCursor;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.DirectedGraph;
+import net.coderodde.graph.DirectedGraphWeightFunction;
+import net.coderodde.graph.pathfinding.DirectedGraphNodeCoordinates;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public class DimacsGraphLoaderTest {
+    
+    private static final int NODES = 200;
+    private static final int ARCS = 3000;
+    
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    
+    @Test
+    public void testLoadsManySmallChunks() throws IOException {
+        Random random = new Random(7L);
+        int[] tails = new int[ARCS];
+        int[] heads = new int[ARCS];
+        int[] weights = new int[ARCS];
+        StringBuilder gr = new StringBuilder();
+        StringBuilder co = new StringBuilder();
+        
+        gr.append("c A random graph\nc\np sp ")
+          .append(NODES).append(' ').append(ARCS).append('\n');
+        co.append("c Coordinates\np aux sp co ").append(NODES).append('\n');
+        
+        for (int i = 0; i < ARCS; ++i) {
+            tails[i] = 1 + random.nextInt(NODES);
+            heads[i] = 1 + random.nextInt(NODES);
+            weights[i] = random.nextInt(10000);
+            gr.append("a ").append(tails[i]).append(' ').append(heads[i])
+              .append(' ').append(weights[i]).append('\n');
+        }
+        
+        for (int nodeId = 1; nodeId <= NODES; ++nodeId) {
+            co.append("v ").append(nodeId).append(' ')
+              .append(-nodeId * 1000).append(' ').append(nodeId)
+              .append(nodeId % 2 == 0 ? "\r\n" : "\n");
+        }
+        
+        Path grFile = folder.newFile("graph.gr").toPath();
+        Path coFile = folder.newFile("graph.co").toPath();
+        Files.write(grFile, gr.toString().getBytes(StandardCharsets.US_ASCII));
+        Files.write(coFile, co.toString().getBytes(StandardCharsets.US_ASCII));
+        
+        // A high parallelism makes the chunks a few hundred bytes long.
+        DimacsGraphLoader loader = 
+                new DimacsGraphLoader(ForkJoinPool.commonPool(), 32);
+        CompactDirectedGraph graph = loader.loadGraph(grFile);
+        
+        assertEquals(NODES + 1, graph.getNodeIdBound());
+        assertEquals(ARCS, graph.getNumberOfArcs());
+        
+        double[][] expectedWeights = new double[NODES + 1][NODES + 1];
+        int[][] expectedArcs = new int[NODES + 1][NODES + 1];
+        
+        for (int i = 0; i < ARCS; ++i) {
+            expectedArcs[tails[i]][heads[i]]++;
+            expectedWeights[tails[i]][heads[i]] += weights[i];
+        }
+        
+        ArcCursor cursor = graph.newChildCursor();
+        
+        for (int nodeId = 0; nodeId <= NODES; ++nodeId) {
+            cursor.reset(nodeId);
+            
+            while (cursor.next()) {
+                expectedArcs[nodeId][cursor.getNode()]--;
+                expectedWeights[nodeId][cursor.getNode()] -= 
+                        cursor.getWeight();
+            }
+            
+            for (int headNodeId = 0; headNodeId <= NODES; ++headNodeId) {
+                assertEquals(0, expectedArcs[nodeId][headNodeId]);
+                assertEquals(0.0, expectedWeights[nodeId][headNodeId], 0.0);
+            }
+        }
+        
+        double[] xs = new double[NODES + 1];
+        double[] ys = new double[NODES + 1];
+        loader.loadCoordinates(coFile, xs, ys);
+        
+        for (int nodeId = 1; nodeId <= NODES; ++nodeId) {
+            assertEquals(-nodeId * 1000.0, xs[nodeId], 0.0);
+            assertEquals(nodeId, ys[nodeId], 0.0);
+        }
+        
+        DirectedGraph directedGraph = new DirectedGraph();
+        DirectedGraphWeightFunction weightFunction = 
+                new DirectedGraphWeightFunction();
+        DirectedGraphNodeCoordinates coordinates = 
+                new DirectedGraphNodeCoordinates();
+        loader.loadGraph(grFile, directedGraph, weightFunction);
+        loader.loadCoordinates(coFile, NODES, coordinates);
+        
+        assertEquals(NODES, directedGraph.getNodeList().size());
+        assertEquals(-7000.0, coordinates.get(7).x, 0.0);
+        
+        for (int i = 0; i < ARCS; ++i) {
+            assertTrue(weightFunction.get(tails[i], heads[i]) <= weights[i]);
+        }
+    }
+    
+    @Test
+    public void testParsesDecimalsLikeParseDouble() throws IOException {
+        String[] numbers = {
+            "0.1", "0.3", "123.456", "-0.7", "-0.0", "42", "1e-3", "-2.5E2",
+            "0.30000000000000004", "9007199254740993", 
+            "123456789012345678901.25", "0.0000000000000000000000001"
+        };
+        StringBuilder co = new StringBuilder("p aux sp co ");
+        co.append(numbers.length).append('\n');
+        
+        for (int i = 0; i < numbers.length; ++i) {
+            co.append("v ").append(i + 1).append(' ').append(numbers[i])
+              .append(' ').append(numbers[numbers.length - 1 - i])
+              .append('\n');
+        }
+        
+        Path coFile = folder.newFile("decimals.co").toPath();
+        Files.write(coFile, co.toString().getBytes(StandardCharsets.US_ASCII));
+        double[] xs = new double[numbers.length + 1];
+        double[] ys = new double[numbers.length + 1];
+        new DimacsGraphLoader().loadCoordinates(coFile, xs, ys);
+        
+        for (int i = 0; i < numbers.length; ++i) {
+            assertEquals(Double.parseDouble(numbers[i]), xs[i + 1], 0.0);
+            assertEquals(Double.parseDouble(numbers[numbers.length - 1 - i]), 
+                         ys[i + 1], 
+                         0.0);
+        }
+        
+        assertEquals(Double.doubleToLongBits(-0.0), 
+                     Double.doubleToLongBits(xs[5]));
+    }
+    
+    @Test(expected = IOException.class)
+    public void testRejectsMalformedLine() throws IOException {
+        Path grFile = folder.newFile("bad.gr").toPath();
+        Files.write(grFile, 
+                    "p sp 2 1\na 1 x 3\n".getBytes(StandardCharsets.US_ASCII));
+        new DimacsGraphLoader().loadGraph(grFile);
+    }
+}
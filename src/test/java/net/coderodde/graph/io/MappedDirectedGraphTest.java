@@ -0,0 +1,108 @@
+package net.coderodde.graph.io;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.Random;
+import net.coderodde.graph.ArcCursor;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.pathfinding.support.DijkstraPathfinder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public class MappedDirectedGraphTest {
+    
+    private static final int NODES = 500;
+    private static final int ARCS = 2000;
+    
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    
+    @Test
+    public void testRoundTrip() throws IOException {
+        Random random = new Random(9L);
+        CompactDirectedGraph graph = createGraph(random);
+        double[] xs = new double[NODES];
+        double[] ys = new double[NODES];
+        
+        for (int i = 0; i < NODES; ++i) {
+            xs[i] = random.nextDouble();
+            ys[i] = random.nextDouble();
+        }
+        
+        Path file = folder.newFile("graph.bin").toPath();
+        BinaryGraphWriter.write(graph, xs, ys, file);
+        MappedDirectedGraph mappedGraph = MappedDirectedGraph.open(file, true);
+        
+        assertEquals(graph.getNodeIdBound(), mappedGraph.getNodeIdBound());
+        assertEquals(graph.getNumberOfArcs(), mappedGraph.getNumberOfArcs());
+        assertTrue(mappedGraph.hasCoordinates());
+        assertFalse(mappedGraph.containsNode(NODES));
+        
+        ArcCursor expectedCursor = graph.newParentCursor();
+        ArcCursor cursor = mappedGraph.newParentCursor();
+        
+        for (int nodeId = 0; nodeId < NODES; ++nodeId) {
+            assertTrue(mappedGraph.containsNode(nodeId));
+            assertEquals(xs[nodeId], mappedGraph.getX(nodeId), 0.0);
+            assertEquals(ys[nodeId], mappedGraph.getY(nodeId), 0.0);
+            expectedCursor.reset(nodeId);
+            cursor.reset(nodeId);
+            
+            while (expectedCursor.next()) {
+                assertTrue(cursor.next());
+                assertEquals(expectedCursor.getNode(), cursor.getNode());
+                assertEquals(expectedCursor.getWeight(), 
+                             cursor.getWeight(), 
+                             0.0);
+            }
+            
+            assertFalse(cursor.next());
+        }
+        
+        DijkstraPathfinder expectedFinder = new DijkstraPathfinder(graph);
+        DijkstraPathfinder finder = new DijkstraPathfinder(mappedGraph);
+        
+        for (int i = 0; i < 50; ++i) {
+            int sourceNodeId = random.nextInt(NODES);
+            int targetNodeId = random.nextInt(NODES);
+            assertEquals(expectedFinder.search(sourceNodeId, targetNodeId),
+                         finder.search(sourceNodeId, targetNodeId));
+        }
+    }
+    
+    @Test
+    public void testDetectsCorruption() throws IOException {
+        Path file = folder.newFile("graph.bin").toPath();
+        BinaryGraphWriter.write(createGraph(new Random(1L)), null, null, file);
+        assertFalse(MappedDirectedGraph.open(file, true).hasCoordinates());
+        
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(raf.length() - 3);
+            raf.write(raf.read() ^ 0xFF);
+        }
+        
+        try {
+            MappedDirectedGraph.open(file, true);
+            fail("The corruption was not detected.");
+        } catch (IOException ex) {
+            // Expected.
+        }
+    }
+    
+    private static CompactDirectedGraph createGraph(Random random) {
+        int[] tails = new int[ARCS];
+        int[] heads = new int[ARCS];
+        double[] weights = new double[ARCS];
+        
+        for (int i = 0; i < ARCS; ++i) {
+            tails[i] = random.nextInt(NODES);
+            heads[i] = random.nextInt(NODES);
+            weights[i] = random.nextDouble();
+        }
+        
+        return CompactDirectedGraph.fromArcs(NODES, tails, heads, weights, ARCS);
+    }
+}
@@ -0,0 +1,223 @@
+package net.coderodde.graph.pathfinding;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.pathfinding.support.AStarPathfinder;
+import net.coderodde.graph.pathfinding.support.BidirectionalDijkstraPathfinder;
+import net.coderodde.graph.pathfinding.support.DijkstraPathfinder;
+import net.coderodde.graph.pathfinding.support.NBAStarPathfinder;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class AsyncSearchTest {
+
+    private static final int WIDTH = 100;
+    private static final int GRID_NODES = WIDTH * WIDTH;
+
+    /**
+     * Two disjoint grids, so that a query from one to the other explores
+     * both of them before failing.
+     */
+    private static final CompactDirectedGraph GRAPH = twoGrids();
+
+    @Test
+    public void testCompletesLikeSynchronousSearch() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            NBAStarPathfinder finder =
+                    new NBAStarPathfinder(GRAPH, (node1, node2) -> 0.0);
+            double expected = new DijkstraPathfinder(GRAPH)
+                    .searchWithResult(0, GRID_NODES - 1).getCost();
+            SearchResult result =
+                    finder.searchAsync(0, GRID_NODES - 1, executor)
+                          .get(10L, TimeUnit.SECONDS);
+            assertEquals(expected, result.getCost(), 1e-9);
+            assertFalse(finder.searchAsync(0, GRID_NODES, executor)
+                              .get(10L, TimeUnit.SECONDS)
+                              .hasPath());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testCancellationStopsTheSearch() throws Exception {
+        assertCancellationStopsTheSearch(
+                hf -> new AStarPathfinder(GRAPH, hf));
+        assertCancellationStopsTheSearch(
+                hf -> new NBAStarPathfinder(GRAPH, hf));
+    }
+
+    private static void assertCancellationStopsTheSearch(
+            Function<HeuristicFunction, AbstractPathfinder> factory)
+            throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch proceed = new CountDownLatch(1);
+            AtomicInteger calls = new AtomicInteger();
+            AbstractPathfinder finder = factory.apply((node1, node2) -> {
+                if (calls.incrementAndGet() == 1) {
+                    started.countDown();
+                    await(proceed);
+                }
+
+                return 0.0;
+            });
+
+            CompletableFuture<SearchResult> future =
+                    finder.searchAsync(0, GRID_NODES, executor);
+            started.await();
+            assertTrue(future.cancel(true));
+            proceed.countDown();
+
+            // The worker is free again long before the search would end:
+            executor.submit(() -> { }).get(10L, TimeUnit.SECONDS);
+            assertTrue(calls.get() < GRID_NODES);
+            assertTrue(future.isCancelled());
+
+            try {
+                future.get();
+                fail();
+            } catch (CancellationException ex) {
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testDeadlineExpires() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            AbstractPathfinder[] finders = {
+                new AStarPathfinder(GRAPH, sleepingOnce()),
+                new BidirectionalDijkstraPathfinder(GRAPH),
+                new NBAStarPathfinder(GRAPH, sleepingOnce()),
+                new DijkstraPathfinder(GRAPH),
+            };
+
+            for (AbstractPathfinder finder : finders) {
+                long timeout = finder instanceof BidirectionalDijkstraPathfinder
+                               || finder instanceof DijkstraPathfinder ?
+                               0L : 20L;
+                CompletableFuture<SearchResult> future =
+                        finder.searchAsync(0,
+                                           GRID_NODES,
+                                           executor,
+                                           timeout,
+                                           TimeUnit.MILLISECONDS);
+
+                try {
+                    future.get(10L, TimeUnit.SECONDS);
+                    fail(finder.getClass().getSimpleName());
+                } catch (ExecutionException ex) {
+                    assertTrue(ex.getCause() instanceof TimeoutException);
+                }
+
+                // The pathfinder is reusable after a timeout:
+                assertTrue(finder.searchWithResult(0, 1).hasPath());
+            }
+
+            PathfinderPool pool =
+                    new PathfinderPool(() -> new NBAStarPathfinder(
+                            GRAPH,
+                            sleepingOnce()),
+                                       1);
+
+            try {
+                pool.searchAsync(0,
+                                 GRID_NODES,
+                                 executor,
+                                 20L,
+                                 TimeUnit.MILLISECONDS)
+                    .get(10L, TimeUnit.SECONDS);
+                fail();
+            } catch (ExecutionException ex) {
+                assertTrue(ex.getCause() instanceof TimeoutException);
+            }
+
+            assertEquals(0, pool.getBorrowedPathfinders());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Returns a heuristic that sleeps past the deadline on its first call.
+     */
+    private static HeuristicFunction sleepingOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        return (node1, node2) -> {
+            if (calls.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(50L);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            return 0.0;
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static CompactDirectedGraph twoGrids() {
+        int arcsPerGrid = 4 * WIDTH * (WIDTH - 1);
+        int[] tails = new int[2 * arcsPerGrid];
+        int[] heads = new int[2 * arcsPerGrid];
+        double[] weights = new double[2 * arcsPerGrid];
+        int arcs = 0;
+
+        for (int grid = 0; grid < 2; ++grid) {
+            int offset = grid * GRID_NODES;
+
+            for (int y = 0; y < WIDTH; ++y) {
+                for (int x = 0; x < WIDTH; ++x) {
+                    int node = offset + y * WIDTH + x;
+
+                    if (x + 1 < WIDTH) {
+                        tails[arcs] = node;
+                        heads[arcs++] = node + 1;
+                        tails[arcs] = node + 1;
+                        heads[arcs++] = node;
+                    }
+
+                    if (y + 1 < WIDTH) {
+                        tails[arcs] = node;
+                        heads[arcs++] = node + WIDTH;
+                        tails[arcs] = node + WIDTH;
+                        heads[arcs++] = node;
+                    }
+                }
+            }
+        }
+
+        Arrays.fill(weights, 1.0);
+        return CompactDirectedGraph.fromArcs(2 * GRID_NODES,
+                                             tails,
+                                             heads,
+                                             weights,
+                                             arcs);
+    }
+}
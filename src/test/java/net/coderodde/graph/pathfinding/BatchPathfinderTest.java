@@ -0,0 +1,75 @@
+package net.coderodde.graph.pathfinding;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.pathfinding.support.DijkstraPathfinder;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class BatchPathfinderTest {
+    
+    private static final int NODES = 500;
+    private static final int ARCS = 2000;
+    private static final int QUERIES = 1000;
+    
+    @Test
+    public void testSearchAllKeepsInputOrder() {
+        Random random = new Random(3L);
+        int[] tails = new int[ARCS];
+        int[] heads = new int[ARCS];
+        double[] weights = new double[ARCS];
+        
+        for (int i = 0; i < ARCS; ++i) {
+            tails[i] = random.nextInt(NODES);
+            heads[i] = random.nextInt(NODES);
+            weights[i] = random.nextDouble();
+        }
+        
+        CompactDirectedGraph graph = 
+                CompactDirectedGraph.fromArcs(NODES, tails, heads, weights, ARCS);
+        int[] sourceNodeIds = new int[QUERIES];
+        int[] targetNodeIds = new int[QUERIES];
+        
+        for (int i = 0; i < QUERIES; ++i) {
+            sourceNodeIds[i] = random.nextInt(NODES);
+            targetNodeIds[i] = random.nextInt(NODES);
+        }
+        
+        ForkJoinPool pool = new ForkJoinPool(4);
+        
+        try {
+            BatchPathfinder batchPathfinder = 
+                    new BatchPathfinder(() -> new DijkstraPathfinder(graph), 
+                                        pool);
+            List<List<Integer>> paths = 
+                    batchPathfinder.searchAll(sourceNodeIds, targetNodeIds);
+            DijkstraPathfinder referenceFinder = new DijkstraPathfinder(graph);
+            
+            assertEquals(QUERIES, paths.size());
+            
+            for (int i = 0; i < QUERIES; ++i) {
+                assertEquals(
+                        referenceFinder.search(sourceNodeIds[i], 
+                                               targetNodeIds[i]),
+                        paths.get(i));
+            }
+            
+            AtomicInteger counter = new AtomicInteger();
+            batchPathfinder.searchAll(sourceNodeIds, 
+                                      targetNodeIds,
+                                      (queryIndex, path) -> 
+                                              counter.incrementAndGet());
+            assertEquals(QUERIES, counter.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnLengthMismatch() {
+        new BatchPathfinder(() -> null).searchAll(new int[2], new int[3]);
+    }
+}
@@ -0,0 +1,154 @@
+package net.coderodde.graph.pathfinding;
+
+import java.util.Arrays;
+import java.util.List;
+import net.coderodde.graph.DirectedGraph;
+import net.coderodde.graph.DirectedGraphWeightFunction;
+import net.coderodde.graph.pathfinding.support.DijkstraPathfinder;
+import net.coderodde.graph.pathfinding.support.NBAStarPathfinder;
+import net.coderodde.graph.pathfinding.support.ZeroHeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class CachingPathfinderTest {
+
+    @Test
+    public void testCachesAndInvalidatesOnEdits() {
+        DirectedGraph graph = new DirectedGraph();
+        DirectedGraphWeightFunction weightFunction =
+                new DirectedGraphWeightFunction();
+
+        for (int i = 0; i < 4; ++i) {
+            graph.addNode(i);
+        }
+
+        graph.addArc(0, 1);
+        graph.addArc(1, 2);
+        weightFunction.put(0, 1, 1.0);
+        weightFunction.put(1, 2, 1.0);
+
+        PathCache cache = new PathCache(16);
+        CachingPathfinder finder =
+                new CachingPathfinder(
+                        new DijkstraPathfinder(graph, weightFunction),
+                        graph,
+                        weightFunction,
+                        cache);
+
+        assertEquals(Arrays.asList(0, 1, 2), finder.search(0, 2));
+        assertEquals(0L, cache.getHits());
+        assertEquals(1L, cache.getMisses());
+
+        SearchResult result = finder.searchWithResult(0, 2);
+        assertEquals(Arrays.asList(0, 1, 2), result.getPath());
+        assertEquals(2.0, result.getCost(), 0.0);
+        assertEquals(1L, cache.getHits());
+
+        // The returned path is a copy:
+        List<Integer> path = finder.search(0, 2);
+        path.clear();
+        assertEquals(Arrays.asList(0, 1, 2), finder.search(0, 2));
+
+        // Putting the same weight again is not a modification:
+        weightFunction.put(0, 1, 1.0);
+        finder.search(0, 2);
+        assertEquals(0L, cache.getInvalidations());
+
+        graph.addArc(0, 2);
+        weightFunction.put(0, 2, 1.5);
+        assertEquals(Arrays.asList(0, 2), finder.search(0, 2));
+        assertEquals(1L, cache.getInvalidations());
+
+        weightFunction.put(0, 2, 3.0);
+        assertEquals(Arrays.asList(0, 1, 2), finder.search(0, 2));
+
+        assertTrue(finder.search(2, 0).isEmpty());
+        assertTrue(finder.search(2, 0).isEmpty());
+        assertEquals(Double.POSITIVE_INFINITY,
+                     finder.searchWithResult(2, 0).getCost(),
+                     0.0);
+
+        assertEquals(2L, cache.getInvalidations());
+
+        // Adding a present node is not a modification:
+        long hits = cache.getHits();
+        graph.addNode(3);
+        assertTrue(finder.search(2, 0).isEmpty());
+        assertEquals(hits + 1, cache.getHits());
+    }
+
+    @Test
+    public void testDoesNotCacheBudgetLimitedResults() {
+        DirectedGraph graph = new DirectedGraph();
+        DirectedGraphWeightFunction weightFunction =
+                new DirectedGraphWeightFunction();
+        graph.addNode(0);
+
+        for (int i = 1; i < 10; ++i) {
+            graph.addNode(i);
+            graph.addArc(i - 1, i);
+            weightFunction.put(i - 1, i, 1.0);
+        }
+
+        NBAStarPathfinder delegate =
+                new NBAStarPathfinder(graph,
+                                      weightFunction,
+                                      new ZeroHeuristicFunction());
+        PathCache cache = new PathCache(16);
+        CachingPathfinder finder =
+                new CachingPathfinder(delegate, graph, weightFunction, cache);
+
+        delegate.setExpansionBudget(1L);
+        SearchResult result = finder.searchWithResult(0, 9);
+        assertFalse(result.hasPath());
+        assertFalse(result.isOptimal());
+
+        delegate.setExpansionBudget(Long.MAX_VALUE);
+        result = finder.searchWithResult(0, 9);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9),
+                     result.getPath());
+        assertEquals(9.0, result.getCost(), 0.0);
+        assertEquals(0L, cache.getHits());
+        assertEquals(2L, cache.getMisses());
+
+        assertEquals(9.0, finder.searchWithResult(0, 9).getCost(), 0.0);
+        assertEquals(1L, cache.getHits());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        DirectedGraph graph = new DirectedGraph();
+        DirectedGraphWeightFunction weightFunction =
+                new DirectedGraphWeightFunction();
+
+        for (int i = 0; i < 10; ++i) {
+            graph.addNode(i);
+        }
+
+        PathCache cache = new PathCache(3, 1);
+        CachingPathfinder finder =
+                new CachingPathfinder(
+                        new DijkstraPathfinder(graph, weightFunction),
+                        graph,
+                        weightFunction,
+                        cache);
+
+        finder.search(0, 1);
+        finder.search(0, 2);
+        finder.search(0, 3);
+        finder.search(0, 1); // Hit; (0, 2) is now the least recently used.
+        finder.search(0, 4); // Evicts (0, 2).
+
+        assertEquals(1L, cache.getHits());
+        assertEquals(1L, cache.getEvictions());
+        assertEquals(3, cache.size());
+
+        finder.search(0, 1);
+        finder.search(0, 3);
+        finder.search(0, 4);
+        assertEquals(4L, cache.getHits());
+
+        finder.search(0, 2);
+        assertEquals(5L, cache.getMisses());
+    }
+}
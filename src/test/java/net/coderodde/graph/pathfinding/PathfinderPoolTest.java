@@ -0,0 +1,85 @@
+package net.coderodde.graph.pathfinding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.pathfinding.support.DijkstraPathfinder;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class PathfinderPoolTest {
+
+    private static final int NODES = 300;
+    private static final int ARCS = 1200;
+    private static final int THREADS = 6;
+    private static final int QUERIES_PER_THREAD = 50;
+    private static final int MAXIMUM_SIZE = 2;
+
+    @Test
+    public void testCapsInstancesAndReusesThem() throws InterruptedException {
+        Random random = new Random(23L);
+        int[] tails = new int[ARCS];
+        int[] heads = new int[ARCS];
+        double[] weights = new double[ARCS];
+
+        for (int i = 0; i < ARCS; ++i) {
+            tails[i] = random.nextInt(NODES);
+            heads[i] = random.nextInt(NODES);
+            weights[i] = random.nextDouble();
+        }
+
+        CompactDirectedGraph graph =
+                CompactDirectedGraph.fromArcs(NODES, tails, heads, weights, ARCS);
+        PathfinderPool pool =
+                new PathfinderPool(() -> new DijkstraPathfinder(graph),
+                                   MAXIMUM_SIZE);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; ++t) {
+            long seed = t;
+            threads.add(new Thread(() -> {
+                Random threadRandom = new Random(seed);
+                DijkstraPathfinder reference = new DijkstraPathfinder(graph);
+
+                try {
+                    for (int i = 0; i < QUERIES_PER_THREAD; ++i) {
+                        int source = threadRandom.nextInt(NODES);
+                        int target = threadRandom.nextInt(NODES);
+                        assertEquals(reference.search(source, target),
+                                     pool.search(source, target));
+                    }
+                } catch (Throwable ex) {
+                    failure.set(ex);
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertNull(failure.get());
+        assertTrue(pool.getCreatedPathfinders() <= MAXIMUM_SIZE);
+        assertTrue(pool.getPeakBorrowedPathfinders() <= MAXIMUM_SIZE);
+        assertEquals(0, pool.getBorrowedPathfinders());
+        assertEquals(THREADS * QUERIES_PER_THREAD, pool.getBorrows());
+
+        AbstractPathfinder pathfinder1 = pool.borrow();
+        AbstractPathfinder pathfinder2 = pool.borrow();
+        assertNotSame(pathfinder1, pathfinder2);
+        assertNull(pool.tryBorrow(1L, TimeUnit.MILLISECONDS));
+        pool.release(pathfinder2);
+        assertSame(pathfinder2, pool.borrow());
+        pool.release(pathfinder1);
+        pool.release(pathfinder2);
+        assertEquals(MAXIMUM_SIZE, pool.getCreatedPathfinders());
+    }
+}
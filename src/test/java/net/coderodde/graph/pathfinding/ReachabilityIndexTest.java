@@ -0,0 +1,210 @@
+package net.coderodde.graph.pathfinding;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Random;
+import net.coderodde.graph.ArcCursor;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.DirectedGraph;
+import net.coderodde.graph.DirectedGraphView;
+import net.coderodde.graph.DirectedGraphWeightFunction;
+import net.coderodde.graph.WeightedDirectedGraph;
+import net.coderodde.graph.pathfinding.support.AStarPathfinder;
+import net.coderodde.graph.pathfinding.support.BidirectionalDijkstraPathfinder;
+import net.coderodde.graph.pathfinding.support.DijkstraPathfinder;
+import net.coderodde.graph.pathfinding.support.NBAStarPathfinder;
+import net.coderodde.graph.pathfinding.support.ZeroHeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ReachabilityIndexTest {
+
+    private static final int NODES = 600;
+    private static final int ARCS = 900;
+
+    @Test
+    public void testComponentsOfCycleAndTail() {
+        // 0 -> 1 -> 2 -> 0 is a cycle, and 3 hangs off it:
+        CompactDirectedGraph graph =
+                CompactDirectedGraph.fromArcs(4,
+                                              new int[]{ 0, 1, 2, 2 },
+                                              new int[]{ 1, 2, 0, 3 },
+                                              new double[]{ 1, 1, 1, 1 },
+                                              4);
+        ReachabilityIndex index = ReachabilityIndex.build(graph);
+        assertEquals(2, index.getNumberOfComponents());
+        assertEquals(index.getComponent(0), index.getComponent(2));
+        assertNotEquals(index.getComponent(0), index.getComponent(3));
+        assertTrue(index.isReachable(1, 3));
+        assertFalse(index.isReachable(3, 1));
+        assertEquals(-1, index.getComponent(4));
+        assertFalse(index.isReachable(0, 4));
+    }
+
+    @Test
+    public void testMatchesBreadthFirstSearch() {
+        CompactDirectedGraph graph = createGraph(new Random(61L));
+        boolean[][] expected = new boolean[NODES][];
+
+        for (int source = 0; source < NODES; ++source) {
+            expected[source] = breadthFirstSearch(graph, source);
+        }
+
+        // With the transitive closure, and with the labels and the search:
+        for (int closureLimit : new int[]{ ReachabilityIndex.CLOSURE_LIMIT,
+                                           0 }) {
+            ReachabilityIndex index =
+                    ReachabilityIndex.build(graph, closureLimit);
+
+            for (int source = 0; source < NODES; ++source) {
+                for (int target = 0; target < NODES; ++target) {
+                    assertEquals(expected[source][target],
+                                 index.isReachable(source, target));
+                }
+            }
+
+            Random random = new Random(67L);
+
+            for (int query = 0; query < 2000; ++query) {
+                int source = random.nextInt(NODES);
+                int node = random.nextInt(NODES);
+                int target = random.nextInt(NODES);
+                boolean onPath = expected[source][node] &&
+                                 expected[node][target];
+
+                if (onPath) {
+                    assertTrue(index.mayLieOnPath(source, node, target));
+                } else if (closureLimit > 0) {
+                    assertFalse(index.mayLieOnPath(source, node, target));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPathfindersUseIndex() {
+        CompactDirectedGraph graph = createGraph(new Random(71L));
+        ReachabilityIndex index = ReachabilityIndex.build(graph);
+        HeuristicFunction hf = new ZeroHeuristicFunction();
+        DijkstraPathfinder dijkstra = new DijkstraPathfinder(graph);
+        AbstractPathfinder[] finders = {
+            new AStarPathfinder(graph, hf),
+            new BidirectionalDijkstraPathfinder(graph),
+            new NBAStarPathfinder(graph, hf),
+        };
+
+        for (AbstractPathfinder finder : finders) {
+            finder.setStatisticsEnabled(true);
+            Random random = new Random(73L);
+            long plainExpansions = 0L;
+            long indexedExpansions = 0L;
+
+            for (int query = 0; query < 200; ++query) {
+                int source = random.nextInt(NODES);
+                int target = random.nextInt(NODES);
+                double expected =
+                        dijkstra.searchWithResult(source, target).getCost();
+
+                finder.setReachabilityIndex(null);
+                SearchResult plain = finder.searchWithResult(source, target);
+                finder.setReachabilityIndex(index);
+                SearchResult indexed = finder.searchWithResult(source, target);
+
+                assertEquals(expected, plain.getCost(), 1e-9);
+                assertEquals(expected, indexed.getCost(), 1e-9);
+                plainExpansions += plain.getStatistics().getExpandedNodes();
+                indexedExpansions +=
+                        indexed.getStatistics().getExpandedNodes();
+            }
+
+            assertTrue(indexedExpansions < plainExpansions);
+        }
+    }
+
+    @Test
+    public void testDijkstraUsesIndex() {
+        // 0 -> 1 -> 2 -> 0 is a cycle, and 3 leads into it:
+        CompactDirectedGraph graph =
+                CompactDirectedGraph.fromArcs(4,
+                                              new int[]{ 0, 1, 2, 3 },
+                                              new int[]{ 1, 2, 0, 0 },
+                                              new double[]{ 1, 1, 1, 1 },
+                                              4);
+        DijkstraPathfinder finder = new DijkstraPathfinder(graph);
+        finder.setStatisticsEnabled(true);
+        assertEquals(3L,
+                     finder.searchWithResult(0, 3)
+                           .getStatistics()
+                           .getExpandedNodes());
+
+        finder.setReachabilityIndex(ReachabilityIndex.build(graph));
+        SearchResult result = finder.searchWithResult(0, 3);
+        assertFalse(result.hasPath());
+        assertEquals(0L, result.getStatistics().getExpandedNodes());
+    }
+
+    @Test
+    public void testIgnoresStaleIndex() {
+        DirectedGraph graph = new DirectedGraph();
+        DirectedGraphWeightFunction weightFunction =
+                new DirectedGraphWeightFunction();
+
+        for (int i = 0; i < 3; ++i) {
+            graph.addNode(i);
+        }
+
+        graph.addArc(0, 1);
+        weightFunction.put(0, 1, 1.0);
+
+        AStarPathfinder finder =
+                new AStarPathfinder(graph,
+                                    weightFunction,
+                                    new ZeroHeuristicFunction());
+        ReachabilityIndex index =
+                ReachabilityIndex.build(
+                        new DirectedGraphView(graph, weightFunction));
+        finder.setReachabilityIndex(index);
+        assertTrue(finder.search(0, 2).isEmpty());
+
+        graph.addArc(1, 2);
+        weightFunction.put(1, 2, 1.0);
+        assertEquals(Arrays.asList(0, 1, 2), finder.search(0, 2));
+    }
+
+    private static CompactDirectedGraph createGraph(Random random) {
+        int[] tails = new int[ARCS];
+        int[] heads = new int[ARCS];
+        double[] weights = new double[ARCS];
+
+        for (int i = 0; i < ARCS; ++i) {
+            tails[i] = random.nextInt(NODES);
+            heads[i] = random.nextInt(NODES);
+            weights[i] = 1.0 + random.nextDouble();
+        }
+
+        return CompactDirectedGraph.fromArcs(NODES, tails, heads, weights, ARCS);
+    }
+
+    private static boolean[] breadthFirstSearch(WeightedDirectedGraph graph,
+                                                int source) {
+        boolean[] visited = new boolean[graph.getNodeIdBound()];
+        Deque<Integer> queue = new ArrayDeque<>();
+        ArcCursor cursor = graph.newChildCursor();
+        visited[source] = true;
+        queue.add(source);
+
+        while (!queue.isEmpty()) {
+            cursor.reset(queue.remove());
+
+            while (cursor.next()) {
+                if (!visited[cursor.getNode()]) {
+                    visited[cursor.getNode()] = true;
+                    queue.add(cursor.getNode());
+                }
+            }
+        }
+
+        return visited;
+    }
+}
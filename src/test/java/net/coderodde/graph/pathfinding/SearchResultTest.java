@@ -0,0 +1,70 @@
+package net.coderodde.graph.pathfinding;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.pathfinding.support.BidirectionalDijkstraPathfinder;
+import net.coderodde.graph.pathfinding.support.ContractionHierarchyBuilder;
+import net.coderodde.graph.pathfinding.support.ContractionHierarchyPathfinder;
+import net.coderodde.graph.pathfinding.support.DijkstraPathfinder;
+import net.coderodde.graph.pathfinding.support.NBAStarPathfinder;
+import net.coderodde.graph.pathfinding.support.ParallelNBAStarPathfinder;
+import net.coderodde.graph.pathfinding.support.ZeroHeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class SearchResultTest {
+    
+    private static final int NODES = 300;
+    private static final int ARCS = 1200;
+    private static final int QUERIES = 50;
+    
+    @Test
+    public void testCostsAndStatistics() {
+        Random random = new Random(2L);
+        CompactDirectedGraph graph = 
+                TestGraphs.randomGraph(NODES, ARCS, random);
+        List<AbstractPathfinder> finders = Arrays.asList(
+                new DijkstraPathfinder(graph),
+                new BidirectionalDijkstraPathfinder(graph),
+                new NBAStarPathfinder(graph, new ZeroHeuristicFunction()),
+                new ParallelNBAStarPathfinder(graph, 
+                                              new ZeroHeuristicFunction()),
+                new ContractionHierarchyPathfinder(
+                        new ContractionHierarchyBuilder(graph).build()));
+        
+        for (AbstractPathfinder finder : finders) {
+            finder.setStatisticsEnabled(true);
+        }
+        
+        for (int i = 0; i < QUERIES; ++i) {
+            int sourceNodeId = random.nextInt(NODES);
+            int targetNodeId = random.nextInt(NODES);
+            
+            for (AbstractPathfinder finder : finders) {
+                SearchResult result = finder.searchWithResult(sourceNodeId, 
+                                                              targetNodeId);
+                SearchStatistics statistics = result.getStatistics();
+                
+                assertNotNull(statistics);
+                assertTrue(statistics.getHeapPops() <= 
+                           statistics.getHeapPushes());
+                assertTrue(statistics.getDurationNanos() > 0L);
+                
+                TestGraphs.assertPathCost(graph, 
+                                          result, 
+                                          sourceNodeId, 
+                                          targetNodeId);
+                
+                if (sourceNodeId != targetNodeId) {
+                    assertTrue(statistics.getHeapPops() > 0L);
+                }
+            }
+        }
+        
+        AbstractPathfinder finder = finders.get(0);
+        finder.setStatisticsEnabled(false);
+        assertNull(finder.searchWithResult(0, 1).getStatistics());
+    }
+}
@@ -0,0 +1,128 @@
+package net.coderodde.graph.pathfinding;
+
+import java.util.List;
+import java.util.Random;
+import net.coderodde.graph.ArcCursor;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.WeightedDirectedGraph;
+import net.coderodde.graph.pathfinding.support.DenseEuclideanHeuristicFunction;
+import static org.junit.Assert.*;
+
+/**
+ * The random graphs and the path checks shared by the pathfinder tests.
+ */
+public final class TestGraphs {
+
+    private TestGraphs() {}
+
+    /**
+     * Creates a graph with {@code arcs} arcs between random nodes in
+     * <tt>[0, nodes)</tt>, weighted uniformly in <tt>[0, 1)</tt>.
+     *
+     * @param nodes  the number of nodes.
+     * @param arcs   the number of arcs.
+     * @param random the random number generator.
+     * @return the random graph.
+     */
+    public static CompactDirectedGraph randomGraph(int nodes,
+                                                   int arcs,
+                                                   Random random) {
+        int[] tails = new int[arcs];
+        int[] heads = new int[arcs];
+        double[] weights = new double[arcs];
+
+        for (int i = 0; i < arcs; ++i) {
+            tails[i] = random.nextInt(nodes);
+            heads[i] = random.nextInt(nodes);
+            weights[i] = random.nextDouble();
+        }
+
+        return CompactDirectedGraph.fromArcs(nodes, tails, heads, weights, arcs);
+    }
+
+    /**
+     * Places {@code nodes} nodes in the unit square, storing their positions
+     * in {@code coordinates}, and creates a graph with {@code arcs} arcs
+     * between random nodes. Each arc weighs the Euclidean distance between
+     * its end nodes times a factor drawn uniformly from
+     * <tt>[1, 1 + maximumStretch)</tt>, so that the Euclidean heuristic is
+     * consistent.
+     *
+     * @param nodes          the number of nodes.
+     * @param arcs           the number of arcs.
+     * @param maximumStretch the bound on the excess of the weight factors.
+     * @param coordinates    the coordinates to fill.
+     * @param random         the random number generator.
+     * @return the random graph.
+     */
+    public static CompactDirectedGraph
+        randomGeometricGraph(int nodes,
+                             int arcs,
+                             double maximumStretch,
+                             DenseNodeCoordinates coordinates,
+                             Random random) {
+        for (int i = 0; i < nodes; ++i) {
+            coordinates.put(i, random.nextDouble(), random.nextDouble());
+        }
+
+        HeuristicFunction distance =
+                new DenseEuclideanHeuristicFunction(coordinates);
+        int[] tails = new int[arcs];
+        int[] heads = new int[arcs];
+        double[] weights = new double[arcs];
+
+        for (int i = 0; i < arcs; ++i) {
+            tails[i] = random.nextInt(nodes);
+            heads[i] = random.nextInt(nodes);
+            weights[i] = (1.0 + maximumStretch * random.nextDouble()) *
+                         distance.estimateDistanceBetween(tails[i], heads[i]);
+        }
+
+        return CompactDirectedGraph.fromArcs(nodes, tails, heads, weights, arcs);
+    }
+
+    /**
+     * Asserts that the path of {@code result}, if any, leads from
+     * {@code sourceNodeId} to {@code targetNodeId} along arcs of
+     * {@code graph} and costs {@link SearchResult#getCost()}, taking the
+     * lightest arc between each two consecutive nodes.
+     *
+     * @param graph        the searched graph.
+     * @param result       the search result.
+     * @param sourceNodeId the source node of the search.
+     * @param targetNodeId the target node of the search.
+     */
+    public static void assertPathCost(WeightedDirectedGraph graph,
+                                      SearchResult result,
+                                      int sourceNodeId,
+                                      int targetNodeId) {
+        if (!result.hasPath()) {
+            assertEquals(Double.POSITIVE_INFINITY, result.getCost(), 0.0);
+            return;
+        }
+
+        List<Integer> path = result.getPath();
+        ArcCursor cursor = graph.newChildCursor();
+        double cost = 0.0;
+        assertEquals(sourceNodeId, (int) path.get(0));
+        assertEquals(targetNodeId, (int) path.get(path.size() - 1));
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            double arcWeight = Double.POSITIVE_INFINITY;
+            cursor.reset(path.get(i));
+
+            while (cursor.next()) {
+                if (cursor.getNode() == path.get(i + 1)) {
+                    arcWeight = Math.min(arcWeight, cursor.getWeight());
+                }
+            }
+
+            assertTrue("No arc (" + path.get(i) + ", " + path.get(i + 1) +
+                       ").",
+                       arcWeight < Double.POSITIVE_INFINITY);
+            cost += arcWeight;
+        }
+
+        assertEquals(result.getCost(), cost, 1e-9);
+    }
+}
@@ -0,0 +1,80 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.pathfinding.DenseNodeCoordinates;
+import net.coderodde.graph.pathfinding.HeuristicFunction;
+import net.coderodde.graph.pathfinding.SearchResult;
+import net.coderodde.graph.pathfinding.TestGraphs;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class AnytimeNBAStarTest {
+
+    private static final int NODES = 2000;
+    private static final int ARCS = 10000;
+    private static final int QUERIES = 60;
+
+    @Test
+    public void testBudgetedSearchReportsValidLowerBound() {
+        Random random = new Random(29L);
+        DenseNodeCoordinates coordinates = new DenseNodeCoordinates(NODES);
+        CompactDirectedGraph graph =
+                TestGraphs.randomGeometricGraph(NODES,
+                                                ARCS,
+                                                0.5,
+                                                coordinates,
+                                                random);
+        HeuristicFunction hf = new DenseEuclideanHeuristicFunction(coordinates);
+        DijkstraPathfinder dijkstra = new DijkstraPathfinder(graph);
+        int[] budgets = { 1, 5, 20, 100, 400, Integer.MAX_VALUE };
+        int gapsSeen = 0;
+
+        for (boolean indexed : new boolean[]{ false, true }) {
+            for (int budget : budgets) {
+                NBAStarPathfinder finder = new NBAStarPathfinder(graph, hf);
+                finder.setIndexedHeap(indexed);
+                finder.setDenseSearchState(indexed);
+                finder.setExpansionBudget(budget);
+
+                for (int i = 0; i < QUERIES; ++i) {
+                    int source = random.nextInt(NODES);
+                    int target = random.nextInt(NODES);
+                    double optimum = dijkstra.searchWithResult(source, target)
+                                             .getCost();
+                    SearchResult result = finder.searchWithResult(source,
+                                                                  target);
+
+                    assertTrue(result.getLowerBound() <= optimum + 1e-9);
+                    assertTrue(result.getCost() >= optimum - 1e-9);
+                    assertTrue(result.getOptimalityGap() >= 0.0);
+
+                    TestGraphs.assertPathCost(graph, result, source, target);
+
+                    if (budget == Integer.MAX_VALUE) {
+                        assertTrue(result.isOptimal());
+                        assertEquals(optimum, result.getCost(), 1e-9);
+                    } else if (result.hasPath() && !result.isOptimal()) {
+                        gapsSeen++;
+                    }
+                }
+            }
+        }
+
+        assertTrue(gapsSeen > 0);
+
+        NBAStarPathfinder finder = new NBAStarPathfinder(graph, hf);
+        finder.setTimeBudget(1L, TimeUnit.NANOSECONDS);
+
+        for (int i = 0; i < QUERIES; ++i) {
+            int source = random.nextInt(NODES);
+            int target = random.nextInt(NODES);
+            double optimum = dijkstra.searchWithResult(source, target)
+                                     .getCost();
+            SearchResult result = finder.searchWithResult(source, target);
+            assertTrue(result.getLowerBound() <= optimum + 1e-9);
+            assertTrue(result.getCost() >= optimum - 1e-9);
+        }
+    }
+}
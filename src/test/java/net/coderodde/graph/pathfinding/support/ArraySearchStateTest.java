@@ -0,0 +1,70 @@
+package net.coderodde.graph.pathfinding.support;
+
+import net.coderodde.graph.pathfinding.SearchState;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ArraySearchStateTest {
+    
+    @Test
+    public void testResetForgetsPreviousQuery() {
+        ArraySearchState state = new ArraySearchState(4);
+        state.reset(4);
+        
+        state.setDistance(0, 0.0);
+        state.setDistance(1, 2.0);
+        state.setParent(1, 0);
+        state.close(0);
+        
+        assertTrue(state.hasDistance(1));
+        assertEquals(2.0, state.getDistance(1), 0.0);
+        assertFalse(state.hasParent(0));
+        assertTrue(state.hasParent(1));
+        assertEquals(0, state.getParent(1));
+        assertTrue(state.isClosed(0));
+        assertFalse(state.isClosed(1));
+        assertTrue(state.hasDistance(0));
+        
+        state.reset(4);
+        
+        for (int nodeId = 0; nodeId < 4; ++nodeId) {
+            assertFalse(state.hasDistance(nodeId));
+            assertFalse(state.hasParent(nodeId));
+            assertFalse(state.isClosed(nodeId));
+            assertEquals(Double.POSITIVE_INFINITY, 
+                         state.getDistance(nodeId),
+                         0.0);
+        }
+    }
+    
+    @Test
+    public void testNodeWithoutDistanceHasNoDistance() {
+        // Both search states agree on the nodes closed or given a parent
+        // without a distance:
+        for (SearchState state : new SearchState[]{ new ArraySearchState(4),
+                                                    new HashSearchState() }) {
+            state.reset(4);
+            state.close(0);
+            state.setParent(1, 0);
+            state.setDistance(2, 3.0);
+            state.close(2);
+            
+            assertFalse(state.hasDistance(0));
+            assertFalse(state.hasDistance(1));
+            assertTrue(state.hasDistance(2));
+            assertEquals(Double.POSITIVE_INFINITY, state.getDistance(0), 0.0);
+            assertEquals(Double.POSITIVE_INFINITY, state.getDistance(1), 0.0);
+            assertEquals(3.0, state.getDistance(2), 0.0);
+            assertTrue(state.isClosed(0));
+            assertTrue(state.isClosed(2));
+        }
+    }
+    
+    @Test
+    public void testResetGrowsCapacity() {
+        ArraySearchState state = new ArraySearchState(2);
+        state.reset(10);
+        state.setDistance(9, 1.0);
+        assertEquals(1.0, state.getDistance(9), 0.0);
+    }
+}
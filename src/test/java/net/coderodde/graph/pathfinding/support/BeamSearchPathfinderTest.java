@@ -0,0 +1,137 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.Random;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.pathfinding.DenseNodeCoordinates;
+import net.coderodde.graph.pathfinding.HeuristicFunction;
+import net.coderodde.graph.pathfinding.SearchResult;
+import net.coderodde.graph.pathfinding.TestGraphs;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class BeamSearchPathfinderTest {
+
+    private static final int NODES = 2000;
+    private static final int ARCS = 7000;
+    private static final int QUERIES = 200;
+
+    private final Random random = new Random(43L);
+    private final DenseNodeCoordinates coordinates =
+            new DenseNodeCoordinates(NODES);
+    private final HeuristicFunction hf =
+            new DenseEuclideanHeuristicFunction(coordinates);
+    private final CompactDirectedGraph graph =
+            TestGraphs.randomGeometricGraph(NODES,
+                                            ARCS,
+                                            1.0,
+                                            coordinates,
+                                            random);
+    private final int[] sources = new int[QUERIES];
+    private final int[] targets = new int[QUERIES];
+    private final double[] optima = new double[QUERIES];
+
+    {
+        DijkstraPathfinder dijkstra = new DijkstraPathfinder(graph);
+
+        for (int i = 0; i < QUERIES; ++i) {
+            sources[i] = random.nextInt(NODES);
+            targets[i] = random.nextInt(NODES);
+            optima[i] = dijkstra.searchWithResult(sources[i], targets[i])
+                                .getCost();
+        }
+    }
+
+    @Test
+    public void testWideningFindsMorePaths() {
+        BeamSearchPathfinder narrow = new BeamSearchPathfinder(graph, hf, 1);
+        BeamSearchPathfinder widening = new BeamSearchPathfinder(graph, hf, 1);
+        narrow.setMaximumBeamWidth(1);
+        widening.setMaximumBeamWidth(NODES);
+        int narrowPaths = 0;
+        int reachable = 0;
+
+        for (int i = 0; i < QUERIES; ++i) {
+            SearchResult narrowResult = narrow.searchWithResult(sources[i],
+                                                                targets[i]);
+            SearchResult wideningResult =
+                    widening.searchWithResult(sources[i], targets[i]);
+            assertValid(narrowResult, i);
+            assertValid(wideningResult, i);
+
+            // A beam as wide as the graph never drops a node:
+            assertEquals(Double.isInfinite(optima[i]),
+                         !wideningResult.hasPath());
+
+            if (narrowResult.hasPath()) {
+                narrowPaths++;
+            }
+
+            if (!Double.isInfinite(optima[i])) {
+                reachable++;
+            }
+        }
+
+        assertTrue(narrowPaths < reachable);
+    }
+
+    @Test
+    public void testWiderBeamsFindShorterPaths() {
+        double previousTotal = Double.POSITIVE_INFINITY;
+
+        for (int width : new int[]{ 2, 16, NODES }) {
+            BeamSearchPathfinder finder =
+                    new BeamSearchPathfinder(graph, hf, width);
+            finder.setMaximumBeamWidth(NODES);
+            double total = 0.0;
+
+            for (int i = 0; i < QUERIES; ++i) {
+                SearchResult result = finder.searchWithResult(sources[i],
+                                                              targets[i]);
+                assertValid(result, i);
+
+                if (result.hasPath()) {
+                    total += result.getCost() / optima[i];
+                }
+            }
+
+            assertTrue(total <= previousTotal);
+            previousTotal = total;
+        }
+    }
+
+    @Test
+    public void testNodeBudget() {
+        BeamSearchPathfinder finder = new BeamSearchPathfinder(graph, hf, 8);
+        finder.setNodeBudget(2);
+        int paths = 0;
+
+        for (int i = 0; i < QUERIES; ++i) {
+            SearchResult result = finder.searchWithResult(sources[i],
+                                                          targets[i]);
+            assertValid(result, i);
+
+            if (result.hasPath()) {
+                paths++;
+                assertTrue(result.getPath().size() <= 3);
+            }
+        }
+
+        assertTrue(paths < QUERIES);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnMaximumWidthBelowWidth() {
+        new BeamSearchPathfinder(graph, hf, 8).setMaximumBeamWidth(7);
+    }
+
+    private void assertValid(SearchResult result, int query) {
+        TestGraphs.assertPathCost(graph,
+                                  result,
+                                  sources[query],
+                                  targets[query]);
+
+        if (result.hasPath()) {
+            assertTrue(result.getCost() >= optima[query] - 1e-9);
+        }
+    }
+}
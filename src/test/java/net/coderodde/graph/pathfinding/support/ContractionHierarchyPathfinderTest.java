@@ -0,0 +1,70 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.pathfinding.SearchResult;
+import net.coderodde.graph.pathfinding.TestGraphs;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ContractionHierarchyPathfinderTest {
+    
+    private static final int NODES = 1000;
+    private static final int ARCS = 3000;
+    private static final int QUERIES = 300;
+    
+    @Test
+    public void testAgreesWithDijkstra() {
+        CompactDirectedGraph graph = 
+                TestGraphs.randomGraph(NODES, ARCS, new Random(3L));
+        ContractionHierarchy hierarchy = 
+                new ContractionHierarchyBuilder(graph).build();
+        
+        for (int nodeId = 0; nodeId < NODES; ++nodeId) {
+            assertTrue(hierarchy.getRank(nodeId) >= 0);
+        }
+        
+        checkQueries(graph, hierarchy, new Random(4L));
+    }
+    
+    @Test
+    public void testAgreesWithDijkstraOnTinyWitnessSearches() {
+        CompactDirectedGraph graph = 
+                TestGraphs.randomGraph(NODES, ARCS, new Random(5L));
+        ForkJoinPool pool = new ForkJoinPool(1);
+        
+        try {
+            ContractionHierarchyBuilder builder = 
+                    new ContractionHierarchyBuilder(graph, pool);
+            builder.setWitnessSearchLimit(1);
+            checkQueries(graph, builder.build(), new Random(6L));
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    private static void checkQueries(CompactDirectedGraph graph,
+                                     ContractionHierarchy hierarchy,
+                                     Random random) {
+        DijkstraPathfinder dijkstra = new DijkstraPathfinder(graph);
+        ContractionHierarchyPathfinder finder = 
+                new ContractionHierarchyPathfinder(hierarchy);
+        
+        for (int i = 0; i < QUERIES; ++i) {
+            int sourceNodeId = random.nextInt(NODES);
+            int targetNodeId = random.nextInt(NODES);
+            SearchResult result = finder.searchWithResult(sourceNodeId,
+                                                          targetNodeId);
+            
+            assertEquals(dijkstra.searchWithResult(sourceNodeId, targetNodeId)
+                                 .getCost(),
+                         result.getCost(),
+                         1e-9);
+            TestGraphs.assertPathCost(graph, 
+                                      result, 
+                                      sourceNodeId, 
+                                      targetNodeId);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.awt.geom.Point2D;
+import java.util.Random;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.DirectedGraph;
+import net.coderodde.graph.DirectedGraphWeightFunction;
+import net.coderodde.graph.pathfinding.DenseNodeCoordinates;
+import net.coderodde.graph.pathfinding.DirectedGraphNodeCoordinates;
+import net.coderodde.graph.pathfinding.HeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class DenseEuclideanHeuristicFunctionTest {
+
+    private static final int NODES = 300;
+    private static final int ARCS = 1500;
+    private static final int QUERIES = 50;
+
+    @Test
+    public void testAgreesWithHashBasedHeuristic() {
+        Random random = new Random(3L);
+        DirectedGraph graph = new DirectedGraph();
+        DirectedGraphWeightFunction weightFunction =
+                new DirectedGraphWeightFunction();
+        DirectedGraphNodeCoordinates coordinates =
+                new DirectedGraphNodeCoordinates();
+
+        for (int i = 0; i < NODES; ++i) {
+            graph.addNode(i);
+            coordinates.put(i, new Point2D.Double(1000.0 * random.nextDouble(),
+                                                  1000.0 * random.nextDouble()));
+        }
+
+        for (int i = 0; i < ARCS; ++i) {
+            int tail = random.nextInt(NODES);
+            int head = random.nextInt(NODES);
+            graph.addArc(tail, head);
+            weightFunction.put(tail,
+                               head,
+                               1.2 * coordinates.get(tail)
+                                                .distance(coordinates.get(head)));
+        }
+
+        DenseNodeCoordinates dense =
+                DenseNodeCoordinates.copyOf(graph, coordinates);
+        HeuristicFunction expected =
+                new EuclideanHeuristicFunction(coordinates);
+        HeuristicFunction euclidean =
+                new DenseEuclideanHeuristicFunction(dense);
+        HeuristicFunction chebyshev =
+                new DenseChebyshevHeuristicFunction(dense);
+        HeuristicFunction manhattan =
+                new DenseManhattanHeuristicFunction(dense);
+
+        assertEquals(NODES, dense.getNodeIdBound());
+
+        for (int i = 0; i < NODES; ++i) {
+            int node1 = random.nextInt(NODES);
+            int node2 = random.nextInt(NODES);
+            double distance = expected.estimateDistanceBetween(node1, node2);
+
+            assertEquals(distance,
+                         euclidean.estimateDistanceBetween(node1, node2),
+                         1e-9);
+            assertTrue(chebyshev.estimateDistanceBetween(node1, node2)
+                       <= distance + 1e-9);
+            assertTrue(manhattan.estimateDistanceBetween(node1, node2)
+                       >= distance - 1e-9);
+        }
+
+        CompactDirectedGraph compactGraph =
+                CompactDirectedGraph.freeze(graph, weightFunction);
+        DijkstraPathfinder dijkstra = new DijkstraPathfinder(compactGraph);
+        NBAStarPathfinder finder1 =
+                new NBAStarPathfinder(compactGraph,
+                                      new DenseEuclideanHeuristicFunction(
+                                              dense, 1.2));
+        NBAStarPathfinder finder2 =
+                new NBAStarPathfinder(compactGraph, chebyshev);
+
+        for (int i = 0; i < QUERIES; ++i) {
+            int source = random.nextInt(NODES);
+            int target = random.nextInt(NODES);
+            double cost = dijkstra.searchWithResult(source, target).getCost();
+
+            assertEquals(cost,
+                         finder1.searchWithResult(source, target).getCost(),
+                         1e-9);
+            assertEquals(cost,
+                         finder2.searchWithResult(source, target).getCost(),
+                         1e-9);
+        }
+    }
+
+    @Test
+    public void testGrowsOnPut() {
+        DenseNodeCoordinates coordinates = new DenseNodeCoordinates(1);
+        coordinates.put(1000, 3.0, 4.0);
+        coordinates.put(2, -1.0, 0.5);
+
+        assertEquals(1001, coordinates.getNodeIdBound());
+        assertEquals(3.0, coordinates.getX(1000), 0.0);
+        assertEquals(4.0, coordinates.getY(1000), 0.0);
+        assertEquals(-1.0, coordinates.getX(2), 0.0);
+        assertEquals(0.5, coordinates.getY(2), 0.0);
+        assertEquals(5.0,
+                     new DenseEuclideanHeuristicFunction(coordinates)
+                             .estimateDistanceBetween(0, 1000),
+                     0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnMismatchingArrays() {
+        DenseNodeCoordinates.fromArrays(new double[2], new double[3]);
+    }
+}
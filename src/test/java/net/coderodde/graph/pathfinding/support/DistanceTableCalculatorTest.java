@@ -0,0 +1,59 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.Random;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.pathfinding.TestGraphs;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class DistanceTableCalculatorTest {
+    
+    private static final int NODES = 300;
+    private static final int ARCS = 900;
+    private static final int SOURCES = 20;
+    private static final int TARGETS = 25;
+    
+    @Test
+    public void testManyToManyAgreesWithDijkstra() {
+        Random random = new Random(11L);
+        CompactDirectedGraph graph =
+                TestGraphs.randomGraph(NODES, ARCS, random);
+        int[] sourceNodeIds = new int[SOURCES];
+        int[] targetNodeIds = new int[TARGETS];
+        
+        for (int i = 0; i < SOURCES; ++i) {
+            sourceNodeIds[i] = random.nextInt(NODES);
+        }
+        
+        for (int i = 0; i < TARGETS; ++i) {
+            targetNodeIds[i] = random.nextInt(NODES);
+        }
+        
+        // A duplicate target and a target equal to a source:
+        targetNodeIds[1] = targetNodeIds[0];
+        targetNodeIds[2] = sourceNodeIds[0];
+        
+        DistanceTableCalculator calculator = 
+                new DistanceTableCalculator(graph);
+        double[][] table = calculator.computeManyToMany(sourceNodeIds,
+                                                        targetNodeIds);
+        DijkstraPathfinder finder = new DijkstraPathfinder(graph);
+        
+        for (int i = 0; i < SOURCES; ++i) {
+            double[] row = calculator.computeOneToMany(sourceNodeIds[i], 
+                                                       targetNodeIds);
+            
+            for (int j = 0; j < TARGETS; ++j) {
+                double expected = 
+                        finder.searchWithResult(sourceNodeIds[i],
+                                                targetNodeIds[j])
+                              .getCost();
+                
+                assertEquals(expected, table[i][j], 1e-9);
+                assertEquals(expected, row[j], 1e-9);
+            }
+        }
+        
+        assertEquals(0.0, table[0][2], 0.0);
+    }
+}
@@ -0,0 +1,92 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class IndexedDaryHeapTest {
+    
+    private static final int NODES = 1000;
+    
+    @Test
+    public void testExtractsInPriorityOrder() {
+        Random random = new Random(7L);
+        
+        for (int degree = 2; degree <= 5; ++degree) {
+            IndexedDaryHeap heap = new IndexedDaryHeap(NODES, degree);
+            double[] priorities = new double[NODES];
+            
+            for (int nodeId = 0; nodeId < NODES; ++nodeId) {
+                priorities[nodeId] = random.nextDouble();
+                heap.insertOrDecreaseKey(nodeId, priorities[nodeId]);
+            }
+            
+            // Decrease about half of the keys and try to increase a few:
+            for (int i = 0; i < NODES / 2; ++i) {
+                int nodeId = random.nextInt(NODES);
+                double priority = priorities[nodeId] * random.nextDouble();
+                heap.insertOrDecreaseKey(nodeId, priority);
+                heap.insertOrDecreaseKey(nodeId, priority + 1.0);
+                priorities[nodeId] = priority;
+            }
+            
+            assertEquals(NODES, heap.size());
+            
+            double[] expected = priorities.clone();
+            Arrays.sort(expected);
+            
+            for (int i = 0; i < NODES; ++i) {
+                assertEquals(expected[i], heap.getMinimumPriority(), 0.0);
+                int nodeId = heap.extractMinimum();
+                assertEquals(expected[i], priorities[nodeId], 0.0);
+                assertFalse(heap.contains(nodeId));
+            }
+            
+            assertTrue(heap.isEmpty());
+        }
+    }
+    
+    @Test
+    public void testClear() {
+        IndexedDaryHeap heap = new IndexedDaryHeap(4);
+        heap.insertOrDecreaseKey(1, 2.0);
+        heap.insertOrDecreaseKey(3, 1.0);
+        heap.clear(8);
+        
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(1));
+        assertFalse(heap.contains(3));
+        
+        heap.insertOrDecreaseKey(7, 5.0);
+        heap.insertOrDecreaseKey(1, 6.0);
+        assertEquals(7, heap.extractMinimum());
+        assertEquals(1, heap.extractMinimum());
+    }
+    
+    @Test
+    public void testEmptyHeapHasNoMinimum() {
+        IndexedDaryHeap heap = new IndexedDaryHeap(4);
+        heap.insertOrDecreaseKey(2, 1.0);
+        heap.extractMinimum();
+        
+        try {
+            heap.getMinimumNode();
+            fail();
+        } catch (NoSuchElementException ex) {
+        }
+        
+        try {
+            heap.getMinimumPriority();
+            fail();
+        } catch (NoSuchElementException ex) {
+        }
+        
+        try {
+            heap.extractMinimum();
+            fail();
+        } catch (NoSuchElementException ex) {
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.Random;
+import net.coderodde.graph.ArcCursor;
+import net.coderodde.graph.GridGraph;
+import net.coderodde.graph.pathfinding.SearchResult;
+import net.coderodde.graph.pathfinding.TestGraphs;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class JumpPointSearchPathfinderTest {
+
+    @Test
+    public void testGridArcs() {
+        GridGraph grid = new GridGraph(3, 3);
+        grid.setBlocked(1, 0, true);
+        assertFalse(grid.containsNode(grid.getNodeId(1, 0)));
+        assertEquals(1L, grid.getModificationCount());
+
+        // (0, 0) may go down, but not diagonally past the blocked (1, 0):
+        ArcCursor cursor = grid.newChildCursor();
+        cursor.reset(grid.getNodeId(0, 0));
+        assertTrue(cursor.next());
+        assertEquals(grid.getNodeId(0, 1), cursor.getNode());
+        assertEquals(1.0, cursor.getWeight(), 0.0);
+        assertFalse(cursor.next());
+
+        cursor.reset(grid.getNodeId(1, 1));
+        int arcs = 0;
+        double totalWeight = 0.0;
+
+        while (cursor.next()) {
+            arcs++;
+            totalWeight += cursor.getWeight();
+        }
+
+        // Three straight arcs and the two lower diagonal ones:
+        assertEquals(5, arcs);
+        assertEquals(3.0 + 2.0 * GridGraph.DIAGONAL_WEIGHT, totalWeight, 1e-12);
+    }
+
+    @Test
+    public void testReturnsShortestPaths() {
+        Random random = new Random(47L);
+
+        for (double density : new double[]{ 0.0, 0.1, 0.25, 0.4 }) {
+            for (int trial = 0; trial < 10; ++trial) {
+                GridGraph grid = randomGrid(40, 30, density, random);
+                JumpPointSearchPathfinder jps =
+                        new JumpPointSearchPathfinder(grid);
+                AStarPathfinder astar =
+                        new AStarPathfinder(grid,
+                                            new OctileHeuristicFunction(grid));
+                astar.setDenseSearchState(true);
+
+                for (int query = 0; query < 30; ++query) {
+                    int source = random.nextInt(grid.getNodeIdBound());
+                    int target = random.nextInt(grid.getNodeIdBound());
+                    SearchResult result = jps.searchWithResult(source, target);
+                    assertEquals(astar.searchWithResult(source, target)
+                                      .getCost(),
+                                 result.getCost(),
+                                 1e-9);
+                    TestGraphs.assertPathCost(grid, result, source, target);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testExpandsFewerNodesThanAStarOnOpenGrid() {
+        Random random = new Random(53L);
+        GridGraph grid = randomGrid(200, 200, 0.05, random);
+        JumpPointSearchPathfinder jps = new JumpPointSearchPathfinder(grid);
+        AStarPathfinder astar =
+                new AStarPathfinder(grid, new OctileHeuristicFunction(grid));
+        astar.setDenseSearchState(true);
+        astar.setIndexedHeap(true);
+        jps.setStatisticsEnabled(true);
+        astar.setStatisticsEnabled(true);
+        long jpsExpansions = 0L;
+        long astarExpansions = 0L;
+
+        for (int query = 0; query < 50; ++query) {
+            int source = random.nextInt(grid.getNodeIdBound());
+            int target = random.nextInt(grid.getNodeIdBound());
+            SearchResult jpsResult = jps.searchWithResult(source, target);
+            SearchResult astarResult = astar.searchWithResult(source, target);
+            assertEquals(astarResult.getCost(), jpsResult.getCost(), 1e-9);
+            jpsExpansions += jpsResult.getStatistics().getExpandedNodes();
+            astarExpansions += astarResult.getStatistics().getExpandedNodes();
+        }
+
+        assertTrue(5L * jpsExpansions < astarExpansions);
+    }
+
+    private static GridGraph randomGrid(int width,
+                                        int height,
+                                        double density,
+                                        Random random) {
+        GridGraph grid = new GridGraph(width, height);
+
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                grid.setBlocked(x, y, random.nextDouble() < density);
+            }
+        }
+
+        return grid;
+    }
+}
@@ -0,0 +1,62 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.Random;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.pathfinding.SearchResult;
+import net.coderodde.graph.pathfinding.TestGraphs;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class LandmarkHeuristicFunctionTest {
+    
+    private static final int NODES = 400;
+    private static final int ARCS = 1600;
+    private static final int LANDMARKS = 6;
+    private static final int QUERIES = 60;
+    
+    @Test
+    public void testAllSelectionsYieldShortestPaths() {
+        Random random = new Random(5L);
+        CompactDirectedGraph graph =
+                TestGraphs.randomGraph(NODES, ARCS, random);
+        DijkstraPathfinder dijkstra = new DijkstraPathfinder(graph);
+        
+        for (LandmarkHeuristicFunction.Selection selection :
+                LandmarkHeuristicFunction.Selection.values()) {
+            LandmarkHeuristicFunction hf = 
+                    new LandmarkHeuristicFunction(graph, 
+                                                  LANDMARKS, 
+                                                  selection,
+                                                  new Random(1L));
+            assertEquals(LANDMARKS, hf.getLandmarks().length);
+            AStarPathfinder astar = new AStarPathfinder(graph, hf);
+            NBAStarPathfinder nbastar = new NBAStarPathfinder(graph, hf);
+            
+            for (int i = 0; i < QUERIES; ++i) {
+                int sourceNodeId = random.nextInt(NODES);
+                int targetNodeId = random.nextInt(NODES);
+                double expected = 
+                        dijkstra.searchWithResult(sourceNodeId, targetNodeId)
+                                .getCost();
+                SearchResult result1 = astar.searchWithResult(sourceNodeId,
+                                                              targetNodeId);
+                SearchResult result2 = nbastar.searchWithResult(sourceNodeId,
+                                                                targetNodeId);
+                
+                assertEquals(expected, result1.getCost(), 1e-9);
+                assertEquals(expected, result2.getCost(), 1e-9);
+                TestGraphs.assertPathCost(graph, 
+                                          result1, 
+                                          sourceNodeId, 
+                                          targetNodeId);
+                TestGraphs.assertPathCost(graph, 
+                                          result2, 
+                                          sourceNodeId, 
+                                          targetNodeId);
+                assertTrue(hf.estimateDistanceBetween(sourceNodeId, 
+                                                      targetNodeId)
+                           <= expected + 1e-9);
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.pathfinding.DenseNodeCoordinates;
+import net.coderodde.graph.pathfinding.HeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class NBAStarPathfinderTest {
+
+    private static final int NODES = 400;
+    private static final int ARCS = 2000;
+    private static final int QUERIES = 40;
+
+    @Test
+    public void testHeuristicCacheEvaluatesEachEstimateOnce() {
+        Random random = new Random(17L);
+        DenseNodeCoordinates coordinates = new DenseNodeCoordinates(NODES);
+
+        for (int i = 0; i < NODES; ++i) {
+            coordinates.put(i, random.nextDouble(), random.nextDouble());
+        }
+
+        HeuristicFunction euclidean =
+                new DenseEuclideanHeuristicFunction(coordinates);
+        int[] tails = new int[ARCS];
+        int[] heads = new int[ARCS];
+        double[] weights = new double[ARCS];
+
+        for (int i = 0; i < ARCS; ++i) {
+            tails[i] = random.nextInt(NODES);
+            heads[i] = random.nextInt(NODES);
+            weights[i] = 1.1 * euclidean.estimateDistanceBetween(tails[i],
+                                                                 heads[i]);
+        }
+
+        CompactDirectedGraph graph =
+                CompactDirectedGraph.fromArcs(NODES, tails, heads, weights, ARCS);
+        NBAStarPathfinder uncached = new NBAStarPathfinder(graph, euclidean);
+
+        for (boolean dense : new boolean[]{ false, true }) {
+            CountingHeuristicFunction counting =
+                    new CountingHeuristicFunction(euclidean);
+            NBAStarPathfinder cached = new NBAStarPathfinder(graph, counting);
+            cached.setHeuristicCache(true);
+            cached.setDenseSearchState(dense);
+
+            for (int i = 0; i < QUERIES; ++i) {
+                int source = random.nextInt(NODES);
+                int target = random.nextInt(NODES);
+                // h(source, target) is estimated once in each direction:
+                counting.clear(source, target);
+
+                assertEquals(uncached.searchWithResult(source, target)
+                                     .getCost(),
+                             cached.searchWithResult(source, target)
+                                   .getCost(),
+                             1e-9);
+                assertFalse(counting.repeated);
+            }
+        }
+    }
+
+    private static final class CountingHeuristicFunction
+            implements HeuristicFunction {
+
+        private final HeuristicFunction heuristicFunction;
+        private final Set<Long> evaluated = new HashSet<>();
+        private long exempted;
+        private boolean repeated;
+
+        CountingHeuristicFunction(HeuristicFunction heuristicFunction) {
+            this.heuristicFunction = heuristicFunction;
+        }
+
+        void clear(int sourceNodeId, int targetNodeId) {
+            evaluated.clear();
+            exempted = key(sourceNodeId, targetNodeId);
+            repeated = false;
+        }
+
+        @Override
+        public double estimateDistanceBetween(int nodeId1, int nodeId2) {
+            long key = key(nodeId1, nodeId2);
+
+            if (!evaluated.add(key) && key != exempted) {
+                repeated = true;
+            }
+
+            return heuristicFunction.estimateDistanceBetween(nodeId1, nodeId2);
+        }
+
+        private static long key(int nodeId1, int nodeId2) {
+            return ((long) nodeId1 << 32) | nodeId2;
+        }
+    }
+}
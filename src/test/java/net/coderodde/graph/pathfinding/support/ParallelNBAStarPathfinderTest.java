@@ -0,0 +1,134 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.pathfinding.DenseNodeCoordinates;
+import net.coderodde.graph.pathfinding.HeuristicFunction;
+import net.coderodde.graph.pathfinding.SearchResult;
+import net.coderodde.graph.pathfinding.TestGraphs;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ParallelNBAStarPathfinderTest {
+
+    private static final int GRAPHS = 20;
+    private static final int NODES = 400;
+    private static final int ARCS = 1600;
+    private static final int QUERIES = 50;
+
+    @Test
+    public void testAgreesWithDijkstra() {
+        Random random = new Random(5L);
+
+        for (int i = 0; i < GRAPHS; ++i) {
+            DenseNodeCoordinates coordinates = new DenseNodeCoordinates(NODES);
+            CompactDirectedGraph graph =
+                    TestGraphs.randomGeometricGraph(NODES,
+                                                    ARCS,
+                                                    0.2,
+                                                    coordinates,
+                                                    random);
+            HeuristicFunction hf =
+                    new DenseEuclideanHeuristicFunction(coordinates);
+            DijkstraPathfinder referenceFinder = new DijkstraPathfinder(graph);
+            ParallelNBAStarPathfinder finder =
+                    new ParallelNBAStarPathfinder(graph, hf);
+
+            for (int j = 0; j < QUERIES; ++j) {
+                int sourceNodeId = random.nextInt(NODES);
+                int targetNodeId = random.nextInt(NODES);
+                SearchResult result = finder.searchWithResult(sourceNodeId,
+                                                              targetNodeId);
+
+                assertEquals(referenceFinder.searchWithResult(sourceNodeId,
+                                                              targetNodeId)
+                                            .getCost(),
+                             result.getCost(),
+                             1e-9);
+                TestGraphs.assertPathCost(graph,
+                                          result,
+                                          sourceNodeId,
+                                          targetNodeId);
+            }
+        }
+    }
+
+    @Test
+    public void testForwardFailureAwaitsBackwardSearch() throws Exception {
+        Random random = new Random(7L);
+        DenseNodeCoordinates coordinates = new DenseNodeCoordinates(NODES);
+        CompactDirectedGraph graph =
+                TestGraphs.randomGeometricGraph(NODES,
+                                                ARCS,
+                                                0.2,
+                                                coordinates,
+                                                random);
+        HeuristicFunction hf = new DenseEuclideanHeuristicFunction(coordinates);
+        DijkstraPathfinder referenceFinder = new DijkstraPathfinder(graph);
+        int sourceNodeId;
+        int targetNodeId;
+
+        do {
+            sourceNodeId = random.nextInt(NODES);
+            targetNodeId = random.nextInt(NODES);
+        } while (sourceNodeId == targetNodeId ||
+                 referenceFinder.search(sourceNodeId, targetNodeId)
+                                .size() < 3);
+
+        Thread forwardThread = Thread.currentThread();
+        CountDownLatch backwardStarted = new CountDownLatch(1);
+        AtomicInteger forwardCalls = new AtomicInteger();
+        AtomicInteger backwardCallsInFlight = new AtomicInteger();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            ParallelNBAStarPathfinder finder = new ParallelNBAStarPathfinder(
+                    graph,
+                    (node1, node2) -> {
+                        if (Thread.currentThread() != forwardThread) {
+                            backwardCallsInFlight.incrementAndGet();
+                            backwardStarted.countDown();
+
+                            try {
+                                Thread.sleep(20L);
+                            } catch (InterruptedException ex) {
+                                Thread.currentThread().interrupt();
+                            }
+
+                            backwardCallsInFlight.decrementAndGet();
+                        } else if (forwardCalls.incrementAndGet() > 1) {
+                            // The first call comes from the initialization:
+                            await(backwardStarted);
+                            throw new IllegalStateException("Forward.");
+                        }
+
+                        return hf.estimateDistanceBetween(node1, node2);
+                    },
+                    executor);
+
+            try {
+                finder.search(sourceNodeId, targetNodeId);
+                fail();
+            } catch (IllegalStateException ex) {
+                assertEquals("Forward.", ex.getMessage());
+            }
+
+            assertEquals(0, backwardCallsInFlight.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10L, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ProbabilityDistributionTest {
+
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    public void testSamplesProportionallyToWeights() {
+        ProbabilityDistribution distribution =
+                new ProbabilityDistribution(new Random(3L));
+        distribution.addElement(10, 1.0);
+        distribution.addElement(20, 2.0);
+        distribution.addElement(30, 4.0);
+        distribution.addElement(40, 0.0);
+        distribution.addElement(10, 1.0);
+
+        assertEquals(8.0, distribution.getTotalWeight(), 1e-12);
+        int[] counts = sample(distribution, 10, 20, 30, 40);
+        assertEquals(0.25, counts[0] / (double) SAMPLES, 0.01);
+        assertEquals(0.25, counts[1] / (double) SAMPLES, 0.01);
+        assertEquals(0.50, counts[2] / (double) SAMPLES, 0.01);
+        assertEquals(0, counts[3]);
+    }
+
+    @Test
+    public void testUpdateAndRemove() {
+        ProbabilityDistribution distribution =
+                new ProbabilityDistribution(new Random(5L));
+
+        for (int i = 0; i < 100; ++i) {
+            distribution.addElement(i, 1.0);
+        }
+
+        for (int i = 0; i < 100; ++i) {
+            if (i != 7 && i != 42 && i != 99) {
+                assertTrue(distribution.removeElement(i));
+            }
+        }
+
+        assertFalse(distribution.removeElement(0));
+        assertEquals(3, distribution.size());
+        distribution.setWeight(7, 0.0);
+        distribution.setWeight(42, 1.0);
+        distribution.setWeight(99, 3.0);
+        assertEquals(4.0, distribution.getTotalWeight(), 1e-9);
+        assertEquals(3.0, distribution.getWeight(99), 0.0);
+
+        int[] counts = sample(distribution, 7, 42, 99);
+        assertEquals(0, counts[0]);
+        assertEquals(0.25, counts[1] / (double) SAMPLES, 0.01);
+        assertEquals(0.75, counts[2] / (double) SAMPLES, 0.01);
+
+        // Slots freed by removals are reused:
+        distribution.addElement(1000, 4.0);
+        counts = sample(distribution, 7, 42, 99, 1000);
+        assertEquals(0.125, counts[1] / (double) SAMPLES, 0.01);
+        assertEquals(0.375, counts[2] / (double) SAMPLES, 0.01);
+        assertEquals(0.5, counts[3] / (double) SAMPLES, 0.01);
+    }
+
+    @Test
+    public void testMatchesNaiveSumsUnderRandomOperations() {
+        Random random = new Random(11L);
+        ProbabilityDistribution distribution =
+                new ProbabilityDistribution(random);
+        Map<Integer, Double> expected = new HashMap<>();
+
+        for (int i = 0; i < 20_000; ++i) {
+            int element = random.nextInt(500);
+
+            switch (random.nextInt(3)) {
+                case 0:
+                    double weight = random.nextDouble();
+                    distribution.addElement(element, weight);
+                    expected.merge(element, weight, Double::sum);
+                    break;
+
+                case 1:
+                    weight = random.nextDouble();
+                    distribution.setWeight(element, weight);
+                    expected.put(element, weight);
+                    break;
+
+                default:
+                    assertEquals(expected.remove(element) != null,
+                                 distribution.removeElement(element));
+            }
+
+            assertEquals(expected.size(), distribution.size());
+
+            if (!expected.isEmpty()) {
+                assertTrue(expected.containsKey(
+                        distribution.sampleElement()));
+            }
+        }
+
+        double total = 0.0;
+
+        for (Map.Entry<Integer, Double> e : expected.entrySet()) {
+            assertEquals(e.getValue(), distribution.getWeight(e.getKey()), 0.0);
+            total += e.getValue();
+        }
+
+        assertEquals(total, distribution.getTotalWeight(), 1e-6);
+    }
+
+    @Test
+    public void testAliasSampler() {
+        ProbabilityDistribution distribution =
+                new ProbabilityDistribution(new Random(13L));
+        distribution.addElement(1, 0.5);
+        distribution.addElement(2, 0.0);
+        distribution.addElement(3, 1.5);
+        distribution.addElement(4, 2.0);
+        ProbabilityDistribution.AliasSampler sampler =
+                distribution.toAliasSampler();
+
+        // The sampler is a snapshot:
+        distribution.removeElement(4);
+        assertEquals(4, sampler.size());
+
+        int[] counts = new int[5];
+
+        for (int i = 0; i < SAMPLES; ++i) {
+            counts[sampler.sampleElement()]++;
+        }
+
+        assertEquals(0.125, counts[1] / (double) SAMPLES, 0.01);
+        assertEquals(0, counts[2]);
+        assertEquals(0.375, counts[3] / (double) SAMPLES, 0.01);
+        assertEquals(0.5, counts[4] / (double) SAMPLES, 0.01);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testThrowsOnSamplingEmptyDistribution() {
+        new ProbabilityDistribution().sampleElement();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnNegativeWeight() {
+        new ProbabilityDistribution().addElement(1, -1.0);
+    }
+
+    private static int[] sample(ProbabilityDistribution distribution,
+                                int... elements) {
+        int[] counts = new int[elements.length];
+
+        for (int i = 0; i < SAMPLES; ++i) {
+            int element = distribution.sampleElement();
+
+            for (int j = 0; j < elements.length; ++j) {
+                if (elements[j] == element) {
+                    counts[j]++;
+                }
+            }
+        }
+
+        return counts;
+    }
+}
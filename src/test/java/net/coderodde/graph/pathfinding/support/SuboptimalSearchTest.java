@@ -0,0 +1,140 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.Random;
+import java.util.function.DoubleFunction;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.pathfinding.AbstractPathfinder;
+import net.coderodde.graph.pathfinding.DenseNodeCoordinates;
+import net.coderodde.graph.pathfinding.HeuristicFunction;
+import net.coderodde.graph.pathfinding.SearchResult;
+import net.coderodde.graph.pathfinding.TestGraphs;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class SuboptimalSearchTest {
+
+    private static final int NODES = 2000;
+    private static final int ARCS = 10000;
+    private static final int QUERIES = 100;
+    private static final double[] EPSILONS = { 0.0, 0.1, 0.5, 1.0, 3.0 };
+
+    private final Random random = new Random(31L);
+    private final DenseNodeCoordinates coordinates =
+            new DenseNodeCoordinates(NODES);
+    private final HeuristicFunction hf =
+            new DenseEuclideanHeuristicFunction(coordinates);
+    private final CompactDirectedGraph graph =
+            TestGraphs.randomGeometricGraph(NODES,
+                                            ARCS,
+                                            0.5,
+                                            coordinates,
+                                            random);
+    private final int[] sources = new int[QUERIES];
+    private final int[] targets = new int[QUERIES];
+    private final double[] optima = new double[QUERIES];
+
+    {
+        DijkstraPathfinder dijkstra = new DijkstraPathfinder(graph);
+
+        for (int i = 0; i < QUERIES; ++i) {
+            sources[i] = random.nextInt(NODES);
+            targets[i] = random.nextInt(NODES);
+            optima[i] = dijkstra.searchWithResult(sources[i], targets[i])
+                                .getCost();
+        }
+    }
+
+    @Test
+    public void testAStar() {
+        assertBoundHolds(epsilon -> {
+            AStarPathfinder finder = new AStarPathfinder(graph, hf);
+            finder.setSuboptimality(epsilon);
+            return finder;
+        });
+    }
+
+    @Test
+    public void testNBAStar() {
+        assertBoundHolds(epsilon -> {
+            NBAStarPathfinder finder = new NBAStarPathfinder(graph, hf);
+            finder.setSuboptimality(epsilon);
+            return finder;
+        });
+
+        assertBoundHolds(epsilon -> {
+            NBAStarPathfinder finder = new NBAStarPathfinder(graph, hf);
+            finder.setDenseSearchState(true);
+            finder.setIndexedHeap(true);
+            finder.setSuboptimality(epsilon);
+            return finder;
+        });
+    }
+
+    @Test
+    public void testBidirectionalDijkstra() {
+        assertBoundHolds(epsilon -> {
+            BidirectionalDijkstraPathfinder finder =
+                    new BidirectionalDijkstraPathfinder(graph);
+            finder.setSuboptimality(epsilon);
+            return finder;
+        });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnNegativeEpsilon() {
+        new AStarPathfinder(graph, hf).setSuboptimality(-0.1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnNaNEpsilon() {
+        new NBAStarPathfinder(graph, hf).setSuboptimality(Double.NaN);
+    }
+
+    private void assertBoundHolds(
+            DoubleFunction<AbstractPathfinder> factory) {
+        long exactExpansions = 0L;
+        long relaxedExpansions = 0L;
+
+        for (double epsilon : EPSILONS) {
+            AbstractPathfinder finder = factory.apply(epsilon);
+            finder.setStatisticsEnabled(true);
+            long expansions = 0L;
+
+            for (int i = 0; i < QUERIES; ++i) {
+                SearchResult result = finder.searchWithResult(sources[i],
+                                                              targets[i]);
+                double optimum = optima[i];
+                assertEquals(Double.isInfinite(optimum), !result.hasPath());
+                expansions += result.getStatistics().getExpandedNodes();
+
+                TestGraphs.assertPathCost(graph,
+                                          result,
+                                          sources[i],
+                                          targets[i]);
+
+                if (!result.hasPath()) {
+                    continue;
+                }
+
+                assertTrue(result.getCost() >= optimum - 1e-9);
+                assertTrue(result.getCost() <=
+                           (1.0 + epsilon) * optimum + 1e-9);
+                assertTrue(result.getLowerBound() <= optimum + 1e-9);
+                assertTrue(result.getLowerBound() >=
+                           result.getCost() / (1.0 + epsilon) - 1e-9);
+
+                if (epsilon == 0.0) {
+                    assertTrue(result.isOptimal());
+                }
+            }
+
+            if (epsilon == 0.0) {
+                exactExpansions = expansions;
+            } else {
+                relaxedExpansions = expansions;
+            }
+        }
+
+        assertTrue(relaxedExpansions < exactExpansions);
+    }
+}
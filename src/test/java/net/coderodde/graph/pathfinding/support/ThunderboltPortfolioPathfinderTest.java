@@ -0,0 +1,143 @@
+package net.coderodde.graph.pathfinding.support;
+
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import net.coderodde.graph.CompactDirectedGraph;
+import net.coderodde.graph.pathfinding.DenseNodeCoordinates;
+import net.coderodde.graph.pathfinding.HeuristicFunction;
+import net.coderodde.graph.pathfinding.SearchResult;
+import net.coderodde.graph.pathfinding.TestGraphs;
+import org.junit.AfterClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ThunderboltPortfolioPathfinderTest {
+
+    private static final int NODES = 2000;
+    private static final int ARCS = 8000;
+    private static final int QUERIES = 50;
+
+    private static final ExecutorService EXECUTOR =
+            Executors.newFixedThreadPool(2);
+
+    private final Random random = new Random(37L);
+    private final DenseNodeCoordinates coordinates =
+            new DenseNodeCoordinates(NODES);
+    private final HeuristicFunction hf =
+            new DenseEuclideanHeuristicFunction(coordinates);
+    private final CompactDirectedGraph graph =
+            TestGraphs.randomGeometricGraph(NODES,
+                                            ARCS,
+                                            1.0,
+                                            coordinates,
+                                            random);
+
+    @AfterClass
+    public static void tearDownClass() {
+        EXECUTOR.shutdown();
+    }
+
+    @Test
+    public void testRestartsImproveOnGreedyDescent() {
+        DijkstraPathfinder dijkstra = new DijkstraPathfinder(graph);
+        ThunderboltPortfolioPathfinder greedy =
+                new ThunderboltPortfolioPathfinder(graph, hf, EXECUTOR, 2);
+        ThunderboltPortfolioPathfinder portfolio =
+                new ThunderboltPortfolioPathfinder(graph, hf, EXECUTOR, 2);
+        greedy.setRestarts(1);
+        portfolio.setRestarts(32);
+        portfolio.setSeed(41L);
+        double greedyCost = 0.0;
+        double portfolioCost = 0.0;
+        int improved = 0;
+
+        for (int i = 0; i < QUERIES; ++i) {
+            int source = random.nextInt(NODES);
+            int target = random.nextInt(NODES);
+            double optimum = dijkstra.searchWithResult(source, target)
+                                     .getCost();
+            SearchResult greedyResult = greedy.searchWithResult(source,
+                                                                target);
+            SearchResult portfolioResult =
+                    portfolio.searchWithResult(source, target);
+
+            // Each run backtracks through all of the reachable nodes, so
+            // without a time budget both find a path whenever one exists:
+            assertEquals(Double.isInfinite(optimum),
+                         !greedyResult.hasPath());
+            assertEquals(Double.isInfinite(optimum),
+                         !portfolioResult.hasPath());
+
+            if (!portfolioResult.hasPath()) {
+                continue;
+            }
+
+            TestGraphs.assertPathCost(graph, portfolioResult, source, target);
+            assertTrue(portfolioResult.getCost() >= optimum - 1e-9);
+            assertTrue(portfolioResult.getCost() <=
+                       greedyResult.getCost() + 1e-9);
+            assertEquals(0.0, portfolioResult.getLowerBound(), 0.0);
+            greedyCost += greedyResult.getCost();
+            portfolioCost += portfolioResult.getCost();
+
+            if (portfolioResult.getCost() < greedyResult.getCost() - 1e-9) {
+                improved++;
+            }
+        }
+
+        assertTrue(improved > 0);
+        assertTrue(portfolioCost < greedyCost);
+    }
+
+    @Test
+    public void testTimeBudget() {
+        ThunderboltPortfolioPathfinder portfolio =
+                new ThunderboltPortfolioPathfinder(graph, hf, EXECUTOR, 2);
+        portfolio.setRestarts(Integer.MAX_VALUE);
+        portfolio.setTimeBudget(50L, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        portfolio.search(0, 1);
+        long durationMillis = (System.nanoTime() - start) / 1_000_000L;
+        assertTrue(durationMillis < 5_000L);
+    }
+
+    @Test
+    public void testCancellationStopsTheWorkers() throws Exception {
+        ExecutorService callerExecutor = Executors.newSingleThreadExecutor();
+
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            ThunderboltPortfolioPathfinder portfolio =
+                    new ThunderboltPortfolioPathfinder(
+                            graph,
+                            (node1, node2) -> {
+                                started.countDown();
+                                return hf.estimateDistanceBetween(node1,
+                                                                  node2);
+                            },
+                            EXECUTOR,
+                            2);
+            portfolio.setRestarts(Integer.MAX_VALUE);
+            CompletableFuture<SearchResult> future =
+                    portfolio.searchAsync(0, 1, callerExecutor);
+            started.await();
+            assertTrue(future.cancel(true));
+
+            // Without a time budget, the workers would run forever unless
+            // they saw the cancellation:
+            EXECUTOR.submit(() -> { }).get(10L, TimeUnit.SECONDS);
+            callerExecutor.submit(() -> { }).get(10L, TimeUnit.SECONDS);
+        } finally {
+            callerExecutor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnZeroParallelism() {
+        new ThunderboltPortfolioPathfinder(graph, hf, EXECUTOR, 0);
+    }
+}